@@ -0,0 +1,62 @@
+--
+-- Checksum of the tag category definition files loaded at startup, to skip the categories that did not change
+--
+CREATE TABLE IF NOT EXISTS tag_category_checksum (
+    name VARCHAR(256) NOT NULL,         -- Name of the tag category
+    checksum VARCHAR(64) NOT NULL,      -- SHA-256 of the tag category definition file
+    PRIMARY KEY (name)
+);
+
+--
+-- Posts of a thread are stored as rows instead of being rewritten in the thread JSON for every post
+--
+CREATE TABLE IF NOT EXISTS thread_post (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    threadId VARCHAR(36) NOT NULL,
+    postTs VARCHAR(32) GENERATED ALWAYS AS (json ->> '$.postTs') STORED,
+    json JSON NOT NULL,
+    PRIMARY KEY (id),
+    INDEX thread_post_index (threadId, postTs)
+);
+
+ALTER TABLE thread_entity
+    ADD COLUMN threadTs VARCHAR(32) GENERATED ALWAYS AS (json ->> '$.threadTs') STORED,
+    ADD COLUMN postCount INT NOT NULL DEFAULT 0,
+    ADD INDEX thread_ts_index (threadTs, id);
+
+INSERT INTO thread_post(threadId, json)
+    SELECT thread_entity.id, posts.post FROM thread_entity,
+    JSON_TABLE(thread_entity.json, '$.posts[*]' COLUMNS (post JSON PATH '$')) posts;
+
+UPDATE thread_entity SET postCount = JSON_LENGTH(json, '$.posts'), json = JSON_REMOVE(json, '$.posts')
+    WHERE JSON_CONTAINS_PATH(json, 'one', '$.posts');
+
+--
+-- Activity timeline of each user, written when threads are created and entities change
+--
+CREATE TABLE IF NOT EXISTS user_timeline (
+    userId VARCHAR(36) NOT NULL,        -- User whose timeline the item is in
+    timestamp BIGINT NOT NULL,          -- Time of the item in milliseconds since epoch
+    itemId VARCHAR(36) NOT NULL,        -- Id of the thread or of the entity that changed
+    json JSON NOT NULL,                 -- Timeline item
+    PRIMARY KEY (userId, timestamp, itemId),
+    INDEX user_timeline_item_index (itemId)
+);
+
+--
+-- Tags of an entity and of its fields, such as the columns of a table, are read with a range scan on the target name
+--
+ALTER TABLE tag_usage ADD INDEX tag_usage_target_index (targetFQN);
+
+--
+-- Fingerprint of the last PUT request of each entity, so that sending the same request again skips the update
+--
+CREATE TABLE IF NOT EXISTS entity_fingerprint (
+    id VARCHAR(36) NOT NULL,            -- Id of the entity
+    fingerprint VARCHAR(64) NOT NULL,   -- SHA-256 of the entity type and of the request without server set fields
+    fullyQualifiedName VARCHAR(256) NOT NULL, -- Name of the entity, for removing the fingerprints when tags change
+    entityVersion DOUBLE NOT NULL,      -- Version of the entity after the request, the fingerprint is stale otherwise
+    PRIMARY KEY (id),
+    INDEX entity_fingerprint_index (fingerprint),
+    INDEX entity_fingerprint_name_index (fullyQualifiedName)
+);
@@ -0,0 +1,132 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.benchmarks;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import org.openmetadata.catalog.entity.data.Table;
+import org.openmetadata.catalog.entity.policies.accessControl.Rule;
+import org.openmetadata.catalog.entity.teams.User;
+import org.openmetadata.catalog.jdbi3.CollectionDAO;
+import org.openmetadata.catalog.type.Column;
+import org.openmetadata.catalog.type.ColumnConstraint;
+import org.openmetadata.catalog.type.ColumnDataType;
+import org.openmetadata.catalog.type.EntityReference;
+import org.openmetadata.catalog.type.MetadataOperation;
+import org.openmetadata.catalog.type.TableType;
+import org.openmetadata.catalog.type.TagLabel;
+import org.openmetadata.catalog.type.TagLabel.LabelType;
+import org.openmetadata.catalog.type.TagLabel.State;
+
+/** Entities shaped like the ones ingested from real databases, used as input by the benchmarks */
+public final class BenchmarkData {
+  private BenchmarkData() {}
+
+  /** Table with the given number of columns, each with a description and a couple of tags */
+  public static Table largeTable(int columnCount) {
+    String fqn = "benchmarkService.benchmarkDatabase.benchmarkTable";
+    List<Column> columns = new ArrayList<>(columnCount);
+    for (int i = 0; i < columnCount; i++) {
+      String name = "column" + i;
+      columns.add(
+          new Column()
+              .withName(name)
+              .withFullyQualifiedName(fqn + "." + name)
+              .withDataType(i % 2 == 0 ? ColumnDataType.VARCHAR : ColumnDataType.BIGINT)
+              .withDataLength(i % 2 == 0 ? 256 : null)
+              .withDataTypeDisplay(i % 2 == 0 ? "varchar(256)" : "bigint")
+              .withDescription("Description of column " + i + " as written by the data owner of the table")
+              .withConstraint(i == 0 ? ColumnConstraint.PRIMARY_KEY : ColumnConstraint.NULL)
+              .withOrdinalPosition(i)
+              .withTags(tags(i)));
+    }
+    return new Table()
+        .withId(UUID.randomUUID())
+        .withName("benchmarkTable")
+        .withFullyQualifiedName(fqn)
+        .withDescription("Table with " + columnCount + " columns")
+        .withTableType(TableType.Regular)
+        .withVersion(0.1)
+        .withUpdatedBy("admin")
+        .withUpdatedAt(new Date())
+        .withColumns(columns)
+        .withTags(tags(0));
+  }
+
+  /**
+   * Access control rules spread over all the operations, a few entity types, 100 tags and 50 roles. None of the rules
+   * match the teams of {@link #user(int)} so that evaluating the rules of an operation scans all of them.
+   */
+  public static List<Rule> rules(int ruleCount) {
+    String[] entityTypes = {null, "table", "topic", "dashboard", "pipeline"};
+    MetadataOperation[] operations = MetadataOperation.values();
+    List<Rule> rules = new ArrayList<>(ruleCount);
+    for (int i = 0; i < ruleCount; i++) {
+      rules.add(
+          new Rule()
+              .withName("rule" + i)
+              .withOperation(operations[i % operations.length])
+              .withEntityTypeAttr(entityTypes[i % entityTypes.length])
+              .withEntityTagAttr(i % 3 == 0 ? null : "Tag.Tag" + (i % 100))
+              .withUserRoleAttr("Role" + (i % 50))
+              .withAllow(i % 2 == 0)
+              .withPriority(i)
+              .withEnabled(true));
+    }
+    return rules;
+  }
+
+  /** User with the given number of teams, which are used as the roles of the user by the policy evaluator */
+  public static User user(int teamCount) {
+    List<EntityReference> teams = new ArrayList<>(teamCount);
+    for (int i = 0; i < teamCount; i++) {
+      teams.add(new EntityReference().withId(UUID.randomUUID()).withType("team").withName("Team" + i));
+    }
+    return new User().withId(UUID.randomUUID()).withName("benchmarkUser").withTeams(teams);
+  }
+
+  /**
+   * DAOs that are never called, for creating the repositories whose code is benchmarked without a database. Each DAO
+   * method returns a DAO of the same kind, or fails when it would run a statement.
+   */
+  public static CollectionDAO collectionDAO() {
+    return stub(CollectionDAO.class);
+  }
+
+  private static <T> T stub(Class<T> daoClass) {
+    InvocationHandler handler =
+        (proxy, method, args) -> {
+          if (method.getReturnType().isInterface()) {
+            return stub(method.getReturnType());
+          }
+          throw new UnsupportedOperationException("No database to run " + method.getName());
+        };
+    return daoClass.cast(Proxy.newProxyInstance(daoClass.getClassLoader(), new Class<?>[] {daoClass}, handler));
+  }
+
+  private static List<TagLabel> tags(int i) {
+    List<TagLabel> tags = new ArrayList<>();
+    tags.add(tag("PersonalData.Personal", LabelType.MANUAL));
+    tags.add(tag("Tier.Tier" + (i % 5 + 1), LabelType.DERIVED));
+    return tags;
+  }
+
+  private static TagLabel tag(String fqn, LabelType labelType) {
+    return new TagLabel().withTagFQN(fqn).withLabelType(labelType).withState(State.CONFIRMED);
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.openmetadata.catalog.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openmetadata.catalog.entity.data.Table;
+import org.openmetadata.catalog.jdbi3.EntityRepository;
+import org.openmetadata.catalog.jdbi3.TableRepository;
+import org.openmetadata.catalog.util.EntityUtil;
+
+/**
+ * Comparison of the columns of a table with the columns of the updated table, done for every PUT and PATCH of a table.
+ * One column out of ten is replaced by the update, so that both the added and the deleted columns are recorded. The
+ * columns are matched by looking up their keys, so the time taken grows linearly with the number of columns.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EntityUpdaterBenchmark {
+  @Param({"100", "1000", "2000"})
+  public int columns;
+
+  private TableRepository repository;
+  private Table original;
+  private Table updated;
+
+  @Setup
+  public void setup() {
+    repository = new TableRepository(BenchmarkData.collectionDAO());
+    original = BenchmarkData.largeTable(columns);
+    updated = BenchmarkData.largeTable(columns).withId(original.getId());
+    for (int i = 0; i < columns; i += 10) {
+      updated.getColumns().get(i).setName("replacedColumn" + i);
+    }
+  }
+
+  @Benchmark
+  public boolean recordListChange() throws JsonProcessingException {
+    EntityRepository<Table>.EntityUpdater updater = repository.getUpdater(original, updated, false);
+    return updater.recordListChange(
+        "columns",
+        original.getColumns(),
+        updated.getColumns(),
+        new ArrayList<>(),
+        new ArrayList<>(),
+        EntityUtil.columnKey);
+  }
+}
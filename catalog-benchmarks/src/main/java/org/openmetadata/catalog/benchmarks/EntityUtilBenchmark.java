@@ -0,0 +1,64 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.openmetadata.catalog.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openmetadata.catalog.type.TagLabel;
+import org.openmetadata.catalog.type.TagLabel.LabelType;
+import org.openmetadata.catalog.util.EntityUtil;
+
+/**
+ * Merging of the tags of an entity with the tags derived from them, done for the entity and each of its columns when
+ * the tags are updated. Half of the derived tags are already in the tags of the entity.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EntityUtilBenchmark {
+  @Param({"10", "100"})
+  public int tags;
+
+  private List<TagLabel> entityTags;
+  private List<TagLabel> derivedTags;
+
+  @Setup
+  public void setup() {
+    entityTags = new ArrayList<>(tags);
+    derivedTags = new ArrayList<>(tags);
+    for (int i = 0; i < tags; i++) {
+      entityTags.add(new TagLabel().withTagFQN("Tag.Tag" + i).withLabelType(LabelType.MANUAL));
+      derivedTags.add(new TagLabel().withTagFQN("Tag.Tag" + (i + tags / 2)).withLabelType(LabelType.MANUAL));
+    }
+  }
+
+  @Benchmark
+  public List<TagLabel> mergeTags() {
+    return EntityUtil.mergeTags(entityTags, derivedTags);
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr353.JSR353Module;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import javax.json.JsonPatch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openmetadata.catalog.entity.data.Table;
+import org.openmetadata.catalog.type.TagLabel;
+import org.openmetadata.catalog.util.JsonUtils;
+import org.openmetadata.catalog.util.RestUtil;
+
+/**
+ * Reading and writing of entity documents, which is done for every row read from or written to the database, and
+ * patching of entities, which is done for every PATCH request. The {@code baseline} benchmarks use a plain {@link
+ * ObjectMapper} configured like {@link JsonUtils} to tell the gain of the readers, writers and modules used by {@link
+ * JsonUtils}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonUtilsBenchmark {
+  @Param({"100", "1000"})
+  public int columns;
+
+  private Table table;
+  private String json;
+  private ObjectMapper baselineMapper;
+  private JsonPatch patch;
+
+  @Setup
+  public void setup() throws IOException {
+    table = BenchmarkData.largeTable(columns);
+    json = JsonUtils.pojoToJson(table);
+    baselineMapper = new ObjectMapper();
+    baselineMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    baselineMapper.setDateFormat(RestUtil.DATE_TIME_FORMAT);
+    baselineMapper.registerModule(new JSR353Module());
+
+    // Patch updating the description of one column out of ten and adding a tag to the table, as done from the UI
+    Table patched = JsonUtils.readValue(json, Table.class);
+    for (int i = 0; i < columns; i += 10) {
+      patched.getColumns().get(i).setDescription("Updated description of column " + i);
+    }
+    patched.getTags().add(new TagLabel().withTagFQN("PII.Sensitive"));
+    patch = JsonUtils.getJsonPatch(json, JsonUtils.pojoToJson(patched));
+  }
+
+  @Benchmark
+  public Table readValue() throws IOException {
+    return JsonUtils.readValue(json, Table.class);
+  }
+
+  @Benchmark
+  public String pojoToJson() throws IOException {
+    return JsonUtils.pojoToJson(table);
+  }
+
+  @Benchmark
+  public Table applyPatch() throws IOException {
+    return JsonUtils.applyPatch(table, patch, Table.class);
+  }
+
+  @Benchmark
+  public Table baselineReadValue() throws IOException {
+    return baselineMapper.readValue(json, Table.class);
+  }
+
+  @Benchmark
+  public String baselinePojoToJson() throws IOException {
+    return baselineMapper.writeValueAsString(table);
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.benchmarks;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.jeasy.rules.api.Facts;
+import org.jeasy.rules.api.Rules;
+import org.jeasy.rules.api.RulesEngine;
+import org.jeasy.rules.api.RulesEngineParameters;
+import org.jeasy.rules.core.DefaultRulesEngine;
+import org.jeasy.rules.core.RuleBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openmetadata.catalog.entity.data.Table;
+import org.openmetadata.catalog.entity.policies.accessControl.Rule;
+import org.openmetadata.catalog.entity.teams.User;
+import org.openmetadata.catalog.jdbi3.TableRepository.TableEntityInterface;
+import org.openmetadata.catalog.security.policyevaluator.PolicyEvaluator;
+import org.openmetadata.catalog.type.EntityReference;
+import org.openmetadata.catalog.type.MetadataOperation;
+import org.openmetadata.catalog.type.TagLabel;
+
+/**
+ * Access decision for a metadata operation, made on every request that changes an entity. The {@code baseline}
+ * benchmark evaluates the same rules with the easy-rules engine and reflection, as PolicyEvaluator used to.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PolicyEvaluatorBenchmark {
+  @Param({"10000"})
+  public int rules;
+
+  private User user;
+  private Table table;
+  private TableEntityInterface tableInterface;
+  private PolicyEvaluator policyEvaluator;
+  private Rules baselineRules;
+  private RulesEngine baselineEngine;
+
+  @Setup
+  public void setup() {
+    List<Rule> accessRules = BenchmarkData.rules(rules);
+    user = BenchmarkData.user(5);
+    table = BenchmarkData.largeTable(10);
+    tableInterface = new TableEntityInterface(table);
+    policyEvaluator = new PolicyEvaluator(accessRules);
+
+    baselineRules = new Rules();
+    accessRules.stream().map(PolicyEvaluatorBenchmark::baselineRule).forEach(baselineRules::register);
+    baselineEngine = new DefaultRulesEngine(new RulesEngineParameters().skipOnFirstAppliedRule(true));
+  }
+
+  @Benchmark
+  public boolean hasPermission() {
+    return policyEvaluator.hasPermission(user, tableInterface, MetadataOperation.UpdateTags);
+  }
+
+  @Benchmark
+  @SuppressWarnings("unchecked")
+  public boolean baselineHasPermission() throws ReflectiveOperationException {
+    Facts facts = new Facts();
+    facts.put("userRoles", user.getTeams().stream().map(EntityReference::getName).collect(Collectors.toList()));
+    List<TagLabel> tags = (List<TagLabel>) table.getClass().getMethod("getTags").invoke(table);
+    facts.put("entityTags", tags.stream().map(TagLabel::getTagFQN).collect(Collectors.toList()));
+    facts.put("entityType", table.getClass().getSimpleName().toLowerCase(Locale.ROOT));
+    facts.put("operation", MetadataOperation.UpdateTags);
+    facts.put("allow", false);
+    baselineEngine.fire(baselineRules, facts);
+    return facts.get("allow");
+  }
+
+  private static org.jeasy.rules.api.Rule baselineRule(Rule rule) {
+    return new RuleBuilder()
+        .name(rule.getName())
+        .priority(rule.getPriority())
+        .when(
+            facts -> {
+              List<String> entityTags = facts.get("entityTags");
+              String entityType = facts.get("entityType");
+              List<String> userRoles = facts.get("userRoles");
+              return rule.getOperation().equals(facts.get("operation"))
+                  && (rule.getEntityTagAttr() == null || entityTags.contains(rule.getEntityTagAttr()))
+                  && (rule.getEntityTypeAttr() == null || entityType.equals(rule.getEntityTypeAttr()))
+                  && (rule.getUserRoleAttr() == null || userRoles.contains(rule.getUserRoleAttr()));
+            })
+        .then(facts -> facts.put("allow", rule.getAllow()))
+        .build();
+  }
+}
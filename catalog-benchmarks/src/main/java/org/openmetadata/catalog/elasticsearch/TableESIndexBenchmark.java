@@ -0,0 +1,65 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.openmetadata.catalog.elasticsearch;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import java.util.concurrent.TimeUnit;
+import javax.ws.rs.core.Response.Status;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openmetadata.catalog.benchmarks.BenchmarkData;
+import org.openmetadata.catalog.entity.data.Table;
+import org.openmetadata.catalog.util.JsonUtils;
+
+/**
+ * Search document of a table, built for every change of a table. In the package of {@link TableESIndex}, which is not
+ * public.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TableESIndexBenchmark {
+  @Param({"100", "1000"})
+  public int columns;
+
+  private Table table;
+
+  @Setup
+  public void setup() {
+    table = BenchmarkData.largeTable(columns);
+  }
+
+  @Benchmark
+  public void build(Blackhole blackhole) {
+    blackhole.consume(TableESIndex.builder(table, Status.OK.getStatusCode()).build());
+  }
+
+  /** Document of a created table, written as JSON in the index request */
+  @Benchmark
+  public String buildJson() throws JsonProcessingException {
+    return JsonUtils.pojoToJson(TableESIndex.builder(table, Status.CREATED.getStatusCode()).build());
+  }
+}
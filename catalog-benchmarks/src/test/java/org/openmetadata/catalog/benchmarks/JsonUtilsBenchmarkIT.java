@@ -0,0 +1,54 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.benchmarks;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Regression budget of {@link JsonUtilsBenchmark}. Throughput is compared with the baseline measured in the same run
+ * rather than with absolute numbers, so that the budget holds on any hardware.
+ */
+class JsonUtilsBenchmarkIT {
+  /** Minimum throughput of JsonUtils relative to a plain ObjectMapper, leaving some room for the noise of a run */
+  private static final double BUDGET = 0.95;
+
+  @Test
+  void jsonUtils_withinBudget() throws RunnerException {
+    Options options =
+        new OptionsBuilder().include(JsonUtilsBenchmark.class.getName()).param("columns", "1000").build();
+    Map<String, Double> scores = new HashMap<>();
+    for (RunResult result : new Runner(options).run()) {
+      String benchmark = result.getParams().getBenchmark();
+      scores.put(benchmark.substring(benchmark.lastIndexOf('.') + 1), result.getPrimaryResult().getScore());
+    }
+    assertWithinBudget(scores, "readValue", "baselineReadValue");
+    assertWithinBudget(scores, "pojoToJson", "baselinePojoToJson");
+  }
+
+  private static void assertWithinBudget(Map<String, Double> scores, String benchmark, String baseline) {
+    double ratio = scores.get(benchmark) / scores.get(baseline);
+    assertTrue(
+        ratio >= BUDGET,
+        String.format("%s throughput is %.2f times the baseline, below the budget of %.2f", benchmark, ratio, BUDGET));
+  }
+}
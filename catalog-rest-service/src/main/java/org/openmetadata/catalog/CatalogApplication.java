@@ -13,6 +13,7 @@
 
 package org.openmetadata.catalog;
 
+import com.google.common.base.Stopwatch;
 import com.google.inject.Guice;
 import com.google.inject.Injector;
 import io.dropwizard.Application;
@@ -29,9 +30,12 @@ import io.dropwizard.setup.Bootstrap;
 import io.dropwizard.setup.Environment;
 import io.federecio.dropwizard.swagger.SwaggerBundle;
 import io.federecio.dropwizard.swagger.SwaggerBundleConfiguration;
+import io.prometheus.client.CollectorRegistry;
+import io.prometheus.client.dropwizard.DropwizardExports;
+import io.prometheus.client.exporter.MetricsServlet;
 import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.TimeUnit;
 import javax.ws.rs.container.ContainerRequestFilter;
-import javax.ws.rs.container.ContainerResponseFilter;
 import javax.ws.rs.core.Response;
 import lombok.SneakyThrows;
 import org.apache.commons.lang3.StringUtils;
@@ -39,13 +43,19 @@ import org.eclipse.jetty.servlet.ErrorPageErrorHandler;
 import org.glassfish.jersey.media.multipart.MultiPartFeature;
 import org.glassfish.jersey.server.ServerProperties;
 import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.statement.SqlStatements;
+import org.openmetadata.catalog.events.ClusterEventBus;
 import org.openmetadata.catalog.events.EventFilter;
+import org.openmetadata.catalog.events.EventHandler;
 import org.openmetadata.catalog.events.EventPubSub;
 import org.openmetadata.catalog.exception.CatalogGenericExceptionMapper;
 import org.openmetadata.catalog.exception.ConstraintViolationExceptionMapper;
 import org.openmetadata.catalog.exception.JsonMappingExceptionMapper;
+import org.openmetadata.catalog.jdbi3.QueryDiagnostics;
+import org.openmetadata.catalog.jdbi3.StatementMetrics;
 import org.openmetadata.catalog.module.CatalogModule;
 import org.openmetadata.catalog.resources.CollectionRegistry;
+import org.openmetadata.catalog.resources.QueryDiagnosticsFilter;
 import org.openmetadata.catalog.resources.config.ConfigResource;
 import org.openmetadata.catalog.resources.search.SearchResource;
 import org.openmetadata.catalog.security.AuthenticationConfiguration;
@@ -54,6 +64,7 @@ import org.openmetadata.catalog.security.AuthorizerConfiguration;
 import org.openmetadata.catalog.security.NoopAuthorizer;
 import org.openmetadata.catalog.security.NoopFilter;
 import org.openmetadata.catalog.security.auth.CatalogSecurityContextRequestFilter;
+import org.openmetadata.catalog.util.CatalogMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -71,17 +82,17 @@ public class CatalogApplication extends Application<CatalogApplicationConfig> {
     final JdbiFactory factory = new JdbiFactory();
     final Jdbi jdbi = factory.build(environment, catalogConfig.getDataSourceFactory(), "mysql3");
 
-    //    SqlLogger sqlLogger = new SqlLogger() {
-    //      @Override
-    //      public void logAfterExecution(StatementContext context) {
-    //        LOG.info("sql {}, parameters {}, timeTaken {} ms", context.getRenderedSql(),
-    //                context.getBinding().toString(), context.getElapsedTime(ChronoUnit.MILLIS));
-    //      }
-    //    };
-    //    jdbi.setSqlLogger(sqlLogger);
+    if (catalogConfig.getMetricsConfiguration().isEnabled()) {
+      registerMetrics(catalogConfig.getMetricsConfiguration(), environment, jdbi);
+    }
+    if (catalogConfig.getQueryDiagnosticsConfiguration().isEnabled()) {
+      registerQueryDiagnostics(catalogConfig.getQueryDiagnosticsConfiguration(), environment, jdbi);
+    }
 
     // Register Authorizer
+    Stopwatch stopwatch = Stopwatch.createStarted();
     registerAuthorizer(catalogConfig, environment, jdbi);
+    LOG.info("Registered authorizer in {} ms", stopwatch.elapsed(TimeUnit.MILLISECONDS));
 
     // Registering config api
     environment.jersey().register(new ConfigResource(catalogConfig));
@@ -101,11 +112,20 @@ public class CatalogApplication extends Application<CatalogApplicationConfig> {
     environment.jersey().register(new EarlyEofExceptionMapper());
     environment.jersey().register(JsonMappingExceptionMapper.class);
     environment.healthChecks().register("UserDatabaseCheck", new CatalogHealthCheck(catalogConfig, jdbi));
+    stopwatch.reset().start();
     registerResources(catalogConfig, environment, jdbi);
+    LOG.info("Registered resources in {} ms", stopwatch.elapsed(TimeUnit.MILLISECONDS));
 
     // Register Event Handler
-    registerEventFilter(catalogConfig, environment, jdbi);
     environment.lifecycle().manage(new ManagedShutdown());
+    registerEventFilter(catalogConfig, environment, jdbi);
+    if (authorizer instanceof Managed) {
+      // Started after the change event publisher for the authorizer to subscribe to the change events
+      environment.lifecycle().manage((Managed) authorizer);
+    }
+    if (catalogConfig.getClusterConfiguration().isEnabled()) {
+      registerClusterEventBus(catalogConfig.getClusterConfiguration(), environment, jdbi);
+    }
   }
 
   @SneakyThrows
@@ -130,6 +150,34 @@ public class CatalogApplication extends Application<CatalogApplicationConfig> {
     super.initialize(bootstrap);
   }
 
+  private void registerMetrics(MetricsConfiguration config, Environment environment, Jdbi jdbi) {
+    CatalogMetrics.initialize(environment.metrics());
+    jdbi.getConfig(SqlStatements.class).addCustomizer(new StatementMetrics());
+
+    // Export all the metrics of the server, including the JVM, Jetty and JDBI metrics, on the admin port
+    CollectorRegistry collectorRegistry = new CollectorRegistry();
+    collectorRegistry.register(new DropwizardExports(environment.metrics()));
+    environment
+        .admin()
+        .addServlet("prometheus", new MetricsServlet(collectorRegistry))
+        .addMapping(config.getPrometheusPath());
+  }
+
+  private void registerQueryDiagnostics(QueryDiagnosticsConfiguration config, Environment environment, Jdbi jdbi) {
+    jdbi.getConfig(SqlStatements.class).addCustomizer(new QueryDiagnostics(config));
+    environment.jersey().register(new QueryDiagnosticsFilter(config));
+  }
+
+  private void registerClusterEventBus(ClusterConfiguration config, Environment environment, Jdbi jdbi)
+      throws NoSuchMethodException, ClassNotFoundException, IllegalAccessException, InvocationTargetException,
+          InstantiationException {
+    ClusterEventBus bus =
+        ((Class<ClusterEventBus>) Class.forName(config.getClassName())).getConstructor().newInstance();
+    bus.init(config, jdbi);
+    environment.lifecycle().manage(bus);
+    LOG.info("Registered cluster event bus {}", config.getClassName());
+  }
+
   private void registerAuthorizer(CatalogApplicationConfig catalogConfig, Environment environment, Jdbi jdbi)
       throws NoSuchMethodException, ClassNotFoundException, IllegalAccessException, InvocationTargetException,
           InstantiationException {
@@ -161,8 +209,14 @@ public class CatalogApplication extends Application<CatalogApplicationConfig> {
 
   private void registerEventFilter(CatalogApplicationConfig catalogConfig, Environment environment, Jdbi jdbi) {
     if (catalogConfig.getEventHandlerConfiguration() != null) {
-      ContainerResponseFilter eventFilter = new EventFilter(catalogConfig, jdbi);
+      EventFilter eventFilter = new EventFilter(catalogConfig, jdbi);
       environment.jersey().register(eventFilter);
+      for (EventHandler eventHandler : eventFilter.getEventHandlers()) {
+        if (eventHandler instanceof Managed) {
+          // Started after the change event publisher for the handler to subscribe to the change events
+          environment.lifecycle().manage((Managed) eventHandler);
+        }
+      }
     }
   }
 
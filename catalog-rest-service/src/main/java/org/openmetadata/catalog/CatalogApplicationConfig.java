@@ -50,6 +50,15 @@ public class CatalogApplicationConfig extends Configuration {
   @JsonProperty("airflowConfiguration")
   private AirflowConfiguration airflowConfiguration;
 
+  @JsonProperty("metricsConfiguration")
+  private MetricsConfiguration metricsConfiguration = new MetricsConfiguration();
+
+  @JsonProperty("queryDiagnosticsConfiguration")
+  private QueryDiagnosticsConfiguration queryDiagnosticsConfiguration = new QueryDiagnosticsConfiguration();
+
+  @JsonProperty("clusterConfiguration")
+  private ClusterConfiguration clusterConfiguration = new ClusterConfiguration();
+
   public DataSourceFactory getDataSourceFactory() {
     return dataSourceFactory;
   }
@@ -98,6 +107,30 @@ public class CatalogApplicationConfig extends Configuration {
     this.airflowConfiguration = airflowConfiguration;
   }
 
+  public MetricsConfiguration getMetricsConfiguration() {
+    return metricsConfiguration;
+  }
+
+  public void setMetricsConfiguration(MetricsConfiguration metricsConfiguration) {
+    this.metricsConfiguration = metricsConfiguration;
+  }
+
+  public QueryDiagnosticsConfiguration getQueryDiagnosticsConfiguration() {
+    return queryDiagnosticsConfiguration;
+  }
+
+  public void setQueryDiagnosticsConfiguration(QueryDiagnosticsConfiguration queryDiagnosticsConfiguration) {
+    this.queryDiagnosticsConfiguration = queryDiagnosticsConfiguration;
+  }
+
+  public ClusterConfiguration getClusterConfiguration() {
+    return clusterConfiguration;
+  }
+
+  public void setClusterConfiguration(ClusterConfiguration clusterConfiguration) {
+    this.clusterConfiguration = clusterConfiguration;
+  }
+
   @Valid
   @NotNull
   @JsonProperty("health")
@@ -0,0 +1,70 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog;
+
+import com.google.common.base.Stopwatch;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs the work needed to bring up the catalog, such as loading the bundled tag categories and creating the Elastic
+ * Search indexes, in the background so that the server starts without waiting for it. {@link CatalogHealthCheck}
+ * reports the server as initializing until all the submitted tasks complete. Tasks must be idempotent as they run
+ * again on every start of every server.
+ */
+public final class CatalogBootstrap {
+  private static final Logger LOG = LoggerFactory.getLogger(CatalogBootstrap.class);
+  private static final ExecutorService EXECUTOR =
+      Executors.newFixedThreadPool(4, new ThreadFactoryBuilder().setNameFormat("bootstrap-%d").setDaemon(true).build());
+  private static final List<CompletableFuture<Void>> TASKS = new CopyOnWriteArrayList<>();
+
+  private CatalogBootstrap() {}
+
+  /** Run the task in the background. Failures are logged and don't prevent the server from becoming ready. */
+  public static void submit(String name, Callable<Void> task) {
+    TASKS.add(
+        CompletableFuture.runAsync(
+            () -> {
+              Stopwatch stopwatch = Stopwatch.createStarted();
+              try {
+                task.call();
+                LOG.info("Bootstrap of {} took {} ms", name, stopwatch.elapsed(TimeUnit.MILLISECONDS));
+              } catch (Exception e) {
+                LOG.warn("Bootstrap of {} failed", name, e);
+              }
+            },
+            EXECUTOR));
+  }
+
+  /** Returns true when all the bootstrap tasks submitted so far are complete */
+  public static boolean isComplete() {
+    return TASKS.stream().allMatch(CompletableFuture::isDone);
+  }
+
+  /** Wait for all the bootstrap tasks submitted so far to complete */
+  public static void awaitCompletion(long timeout, TimeUnit unit)
+      throws InterruptedException, ExecutionException, TimeoutException {
+    CompletableFuture.allOf(TASKS.toArray(new CompletableFuture[0])).get(timeout, unit);
+  }
+}
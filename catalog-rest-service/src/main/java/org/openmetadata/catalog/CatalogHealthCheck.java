@@ -35,6 +35,9 @@ public class CatalogHealthCheck extends HealthCheck {
 
   @Override
   protected Result check() throws Exception {
+    if (!CatalogBootstrap.isComplete()) {
+      return Result.unhealthy("initializing");
+    }
     try {
       userRepository.listAfter(null, fields, null, 1, null);
       return Result.healthy();
@@ -0,0 +1,60 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog;
+
+public class ClusterConfiguration {
+  /** Invalidate the caches of this server when entities are changed through the other servers sharing the database */
+  private boolean enabled = false;
+
+  /** Implementation of the cluster event bus broadcasting the cache invalidations */
+  private String className = "org.openmetadata.catalog.events.ChangeEventPollingBus";
+
+  /** Interval between two reads of the change events recorded by the servers of the cluster */
+  private long pollIntervalMs = 1000;
+
+  /** Change events are read again for this long after their time, in case they are recorded late */
+  private int overlapSeconds = 30;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public String getClassName() {
+    return className;
+  }
+
+  public void setClassName(String className) {
+    this.className = className;
+  }
+
+  public long getPollIntervalMs() {
+    return pollIntervalMs;
+  }
+
+  public void setPollIntervalMs(long pollIntervalMs) {
+    this.pollIntervalMs = pollIntervalMs;
+  }
+
+  public int getOverlapSeconds() {
+    return overlapSeconds;
+  }
+
+  public void setOverlapSeconds(int overlapSeconds) {
+    this.overlapSeconds = overlapSeconds;
+  }
+}
@@ -16,6 +16,7 @@ package org.openmetadata.catalog;
 import java.io.IOException;
 import java.net.URI;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -80,6 +81,12 @@ public final class Entity {
   public static final String INGESTION = "ingestion";
   public static final String WEBHOOK = "webhook";
 
+  //
+  // Tags
+  //
+  public static final String TAG_CATEGORY = "tagCategory";
+  public static final String TAG = "tag";
+
   private Entity() {}
 
   public static <T> void registerEntity(String entity, EntityDAO<T> dao, EntityRepository<T> entityRepository) {
@@ -146,12 +153,16 @@ public final class Entity {
     return entityRepository.getEntityInterface(entity);
   }
 
-  public static void deleteEntity(String entity, UUID entityId, boolean recursive) throws IOException {
-    EntityRepository<?> dao = ENTITY_REPOSITORY_MAP.get(entity);
+  public static EntityDAO<?> getEntityDAO(String entity) {
+    EntityDAO<?> dao = DAO_MAP.get(entity);
     if (dao == null) {
       throw EntityNotFoundException.byMessage(CatalogExceptionMessage.entityTypeNotFound(entity));
     }
-    dao.delete(entityId, recursive);
+    return dao;
+  }
+
+  public static Collection<EntityDAO<?>> getEntityDAOs() {
+    return Collections.unmodifiableCollection(DAO_MAP.values());
   }
 
   public static <T> String getEntityNameFromClass(Class<T> clz) {
@@ -0,0 +1,38 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog;
+
+public class MetricsConfiguration {
+  /** Record the hot path metrics and export all the metrics in Prometheus format on the admin port */
+  private boolean enabled = false;
+
+  /** Path of the Prometheus metrics on the admin port */
+  private String prometheusPath = "/prometheus";
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public String getPrometheusPath() {
+    return prometheusPath;
+  }
+
+  public void setPrometheusPath(String prometheusPath) {
+    this.prometheusPath = prometheusPath;
+  }
+}
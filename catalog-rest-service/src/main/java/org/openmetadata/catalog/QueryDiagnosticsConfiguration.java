@@ -0,0 +1,48 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.openmetadata.catalog;
+
+public class QueryDiagnosticsConfiguration {
+  /** Count the SQL statements run by each request and report the requests running too many or slow statements */
+  private boolean enabled = false;
+
+  /** Requests running more statements than this are reported, such as when a statement is run for each entity */
+  private int maxQueriesPerRequest = 100;
+
+  /** Statements taking longer than this are reported */
+  private long slowQueryThresholdMs = 500;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public int getMaxQueriesPerRequest() {
+    return maxQueriesPerRequest;
+  }
+
+  public void setMaxQueriesPerRequest(int maxQueriesPerRequest) {
+    this.maxQueriesPerRequest = maxQueriesPerRequest;
+  }
+
+  public long getSlowQueryThresholdMs() {
+    return slowQueryThresholdMs;
+  }
+
+  public void setSlowQueryThresholdMs(long slowQueryThresholdMs) {
+    this.slowQueryThresholdMs = slowQueryThresholdMs;
+  }
+}
@@ -16,24 +16,37 @@
 package org.openmetadata.catalog.elasticsearch;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.lmax.disruptor.BatchEventProcessor;
+import io.dropwizard.lifecycle.Managed;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import javax.ws.rs.container.ContainerRequestContext;
 import javax.ws.rs.container.ContainerResponseContext;
 import javax.ws.rs.core.Response;
 import org.elasticsearch.action.ActionListener;
+import org.elasticsearch.action.bulk.BulkRequest;
+import org.elasticsearch.action.bulk.BulkResponse;
+import org.elasticsearch.action.delete.DeleteRequest;
+import org.elasticsearch.action.support.IndicesOptions;
 import org.elasticsearch.action.update.UpdateRequest;
 import org.elasticsearch.action.update.UpdateResponse;
 import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.RestHighLevelClient;
 import org.elasticsearch.common.xcontent.XContentType;
+import org.elasticsearch.index.query.BoolQueryBuilder;
+import org.elasticsearch.index.query.QueryBuilders;
+import org.elasticsearch.index.reindex.BulkByScrollResponse;
+import org.elasticsearch.index.reindex.UpdateByQueryRequest;
 import org.elasticsearch.script.Script;
 import org.elasticsearch.script.ScriptType;
 import org.jdbi.v3.core.Jdbi;
 import org.openmetadata.catalog.CatalogApplicationConfig;
+import org.openmetadata.catalog.CatalogBootstrap;
 import org.openmetadata.catalog.ElasticSearchConfiguration;
 import org.openmetadata.catalog.Entity;
 import org.openmetadata.catalog.elasticsearch.ElasticSearchIndexDefinition.ElasticSearchIndexType;
@@ -42,19 +55,42 @@ import org.openmetadata.catalog.entity.data.Pipeline;
 import org.openmetadata.catalog.entity.data.Table;
 import org.openmetadata.catalog.entity.data.Topic;
 import org.openmetadata.catalog.events.EventHandler;
+import org.openmetadata.catalog.events.EventPubSub;
+import org.openmetadata.catalog.events.EventPubSub.ChangeEventHolder;
 import org.openmetadata.catalog.type.ChangeDescription;
 import org.openmetadata.catalog.type.ChangeEvent;
 import org.openmetadata.catalog.type.EntityReference;
+import org.openmetadata.catalog.type.EventType;
 import org.openmetadata.catalog.type.FieldChange;
+import org.openmetadata.catalog.util.CatalogMetrics;
 import org.openmetadata.catalog.util.ElasticSearchClientUtils;
 import org.openmetadata.catalog.util.JsonUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class ElasticSearchEventHandler implements EventHandler {
+public class ElasticSearchEventHandler implements EventHandler, Managed {
   private static final Logger LOG = LoggerFactory.getLogger(ElasticSearchEventHandler.class);
+  private static final Set<String> INDEXED_ENTITIES =
+      Set.of(Entity.TABLE, Entity.DASHBOARD, Entity.PIPELINE, Entity.TOPIC);
+
+  /** Entities whose names are labels of the indexed documents, renamed in them with an update by query */
+  private static final Set<String> TAG_ENTITIES = Set.of(Entity.TAG_CATEGORY, Entity.TAG);
+
+  /** Replace the renamed tag in the tags and the tier of a document, along with the tags under it */
+  private static final String RENAME_TAGS_SCRIPT =
+      "String prefix = params.originalFQN + '.'; "
+          + "if (ctx._source.tags != null) { "
+          + "for (int i = 0; i < ctx._source.tags.size(); i++) { "
+          + "String tag = ctx._source.tags[i]; "
+          + "if (tag == params.originalFQN || tag.startsWith(prefix)) { "
+          + "ctx._source.tags[i] = params.updatedFQN + tag.substring(params.originalFQN.length()); } } } "
+          + "String tier = ctx._source.tier; "
+          + "if (tier != null && (tier == params.originalFQN || tier.startsWith(prefix))) { "
+          + "ctx._source.tier = params.updatedFQN + tier.substring(params.originalFQN.length()); }";
+
   private RestHighLevelClient client;
   private ElasticSearchIndexDefinition esIndexDefinition;
+  private BatchEventProcessor<ChangeEventHolder> processor;
 
   private final ActionListener<UpdateResponse> listener =
       new ActionListener<>() {
@@ -69,11 +105,96 @@ public class ElasticSearchEventHandler implements EventHandler {
         }
       };
 
+  private final ActionListener<BulkResponse> deleteListener =
+      new ActionListener<>() {
+        @Override
+        public void onResponse(BulkResponse response) {
+          if (response.hasFailures()) {
+            LOG.warn("Failed to delete Elastic Search documents {}", response.buildFailureMessage());
+          } else {
+            LOG.info("Deleted {} Elastic Search documents in {}", response.getItems().length, response.getTook());
+          }
+        }
+
+        @Override
+        public void onFailure(Exception e) {
+          LOG.error("Failed to delete Elastic Search documents", e);
+        }
+      };
+
+  private final ActionListener<BulkByScrollResponse> bulkListener =
+      new ActionListener<>() {
+        @Override
+        public void onResponse(BulkByScrollResponse response) {
+          LOG.info("Updated {} Elastic Search documents in {}", response.getUpdated(), response.getTook());
+        }
+
+        @Override
+        public void onFailure(Exception e) {
+          LOG.error("Failed to update Elastic Search", e);
+        }
+      };
+
   public void init(CatalogApplicationConfig config, Jdbi jdbi) {
     ElasticSearchConfiguration esConfig = config.getElasticSearchConfiguration();
     this.client = ElasticSearchClientUtils.createElasticSearchClient(esConfig);
     esIndexDefinition = new ElasticSearchIndexDefinition(client);
-    esIndexDefinition.createIndexes();
+    CatalogBootstrap.submit(
+        "Elastic Search indexes",
+        () -> {
+          esIndexDefinition.createIndexes();
+          return null;
+        });
+  }
+
+  @Override
+  public void start() {
+    // Entities deleted along with their container and renamed tags are not updated by a request on the indexed entity
+    processor = EventPubSub.addEventHandler(this::onChangeEvent);
+  }
+
+  @Override
+  public void stop() {
+    if (processor != null) {
+      EventPubSub.removeProcessor(processor);
+    }
+  }
+
+  private void onChangeEvent(ChangeEventHolder changeEventHolder, long sequence, boolean endOfBatch) {
+    ChangeEvent changeEvent = changeEventHolder.get();
+    if (changeEvent.getEventType() == EventType.ENTITY_DELETED && changeEvent.getDeletedEntities() != null) {
+      deleteDocuments(changeEvent.getDeletedEntities());
+    } else if (changeEvent.getEventType() == EventType.ENTITY_UPDATED
+        && TAG_ENTITIES.contains(changeEvent.getEntityType())) {
+      renameTags(changeEvent.getChangeDescription());
+    }
+  }
+
+  /** Rename the tags in the indexed documents if the change of a tag category or a tag renamed it */
+  private void renameTags(ChangeDescription change) {
+    if (change == null || change.getFieldsUpdated() == null) {
+      return;
+    }
+    for (FieldChange fieldChange : change.getFieldsUpdated()) {
+      // A rename is recorded as a change of the fully qualified name, which is the name of a category
+      if (fieldChange.getName().equals("fullyQualifiedName")) {
+        renameTags((String) fieldChange.getOldValue(), (String) fieldChange.getNewValue());
+      }
+    }
+  }
+
+  /** Delete the documents of the indexed entities with a single bulk request */
+  private void deleteDocuments(List<EntityReference> entities) {
+    BulkRequest request = new BulkRequest();
+    for (EntityReference entity : entities) {
+      if (INDEXED_ENTITIES.contains(entity.getType())) {
+        ElasticSearchIndexType indexType = esIndexDefinition.getIndexMappingByEntityType(entity.getType());
+        request.add(new DeleteRequest(indexType.indexName, entity.getId().toString()));
+      }
+    }
+    if (request.numberOfActions() > 0) {
+      client.bulkAsync(request, RequestOptions.DEFAULT, timed(deleteListener, "deleteDocuments"));
+    }
   }
 
   public Void process(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
@@ -112,7 +233,7 @@ public class ElasticSearchEventHandler implements EventHandler {
           updateRequest = applyChangeEvent(changeEvent);
         }
         if (updateRequest != null) {
-          client.updateAsync(updateRequest, RequestOptions.DEFAULT, listener);
+          client.updateAsync(updateRequest, RequestOptions.DEFAULT, timed(listener, "update"));
         }
       }
     } catch (Exception e) {
@@ -121,6 +242,48 @@ public class ElasticSearchEventHandler implements EventHandler {
     return null;
   }
 
+  /** Rename a tag category or a tag in all the indexed documents with a single update by query */
+  private void renameTags(String originalFQN, String updatedFQN) {
+    BoolQueryBuilder query =
+        QueryBuilders.boolQuery()
+            .should(QueryBuilders.termQuery("tags", originalFQN))
+            .should(QueryBuilders.prefixQuery("tags", originalFQN + "."))
+            .should(QueryBuilders.termQuery("tier", originalFQN))
+            .should(QueryBuilders.prefixQuery("tier", originalFQN + "."));
+    Map<String, Object> params = new HashMap<>();
+    params.put("originalFQN", originalFQN);
+    params.put("updatedFQN", updatedFQN);
+    String[] indexes =
+        Arrays.stream(ElasticSearchIndexType.values()).map(type -> type.indexName).toArray(String[]::new);
+    UpdateByQueryRequest request = new UpdateByQueryRequest(indexes);
+    request.setQuery(query);
+    request.setScript(new Script(ScriptType.INLINE, "painless", RENAME_TAGS_SCRIPT, params));
+    request.setConflicts("proceed");
+    request.setIndicesOptions(IndicesOptions.lenientExpandOpen()); // Skip the indexes not created yet
+    client.updateByQueryAsync(request, RequestOptions.DEFAULT, timed(bulkListener, "renameTags"));
+  }
+
+  /** Record the latency of an Elastic Search request before handing its outcome to the listener */
+  private static <R> ActionListener<R> timed(ActionListener<R> listener, String operation) {
+    if (!CatalogMetrics.isEnabled()) {
+      return listener;
+    }
+    CatalogMetrics.Sample sample = CatalogMetrics.time(ElasticSearchEventHandler.class, operation);
+    return new ActionListener<>() {
+      @Override
+      public void onResponse(R response) {
+        sample.close();
+        listener.onResponse(response);
+      }
+
+      @Override
+      public void onFailure(Exception e) {
+        sample.close();
+        listener.onFailure(e);
+      }
+    };
+  }
+
   private UpdateRequest applyChangeEvent(ChangeEvent event) {
     String entityType = event.getEntityType();
     ElasticSearchIndexType esIndexType = esIndexDefinition.getIndexMappingByEntityType(entityType);
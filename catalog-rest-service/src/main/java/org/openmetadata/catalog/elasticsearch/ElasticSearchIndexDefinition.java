@@ -6,10 +6,10 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import javax.ws.rs.core.Response;
@@ -43,7 +43,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class ElasticSearchIndexDefinition {
-  final Map<ElasticSearchIndexType, ElasticSearchIndexStatus> elasticSearchIndexes = new HashMap<>();
+  // Updated by the bootstrap of the indexes in the background as well as by the event handler
+  final Map<ElasticSearchIndexType, ElasticSearchIndexStatus> elasticSearchIndexes = new ConcurrentHashMap<>();
   private final RestHighLevelClient client;
   private static final Logger LOG = LoggerFactory.getLogger(ElasticSearchIndexDefinition.class);
 
@@ -0,0 +1,64 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.events;
+
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Compact message broadcast by the {@link ClusterEventBus} for an entity changed by any server of the cluster, telling
+ * the caches holding the entity to drop it. It carries the entity and its version, not the change itself.
+ */
+public final class CacheInvalidation {
+  private final String eventType;
+  private final String entityType;
+  private final UUID entityId;
+  private final Double version;
+  private final Date dateTime;
+
+  public CacheInvalidation(String eventType, String entityType, UUID entityId, Double version, Date dateTime) {
+    this.eventType = eventType;
+    this.entityType = entityType;
+    this.entityId = entityId;
+    this.version = version;
+    this.dateTime = dateTime;
+  }
+
+  public String getEventType() {
+    return eventType;
+  }
+
+  public String getEntityType() {
+    return entityType;
+  }
+
+  public UUID getEntityId() {
+    return entityId;
+  }
+
+  /** Version of the entity after the change, or null for the entities without versions such as tags */
+  public Double getVersion() {
+    return version;
+  }
+
+  /** Time of the change event the invalidation is derived from */
+  public Date getDateTime() {
+    return dateTime;
+  }
+
+  @Override
+  public String toString() {
+    return eventType + ":" + entityType + ":" + entityId + ":" + version + ":" + dateTime.getTime();
+  }
+}
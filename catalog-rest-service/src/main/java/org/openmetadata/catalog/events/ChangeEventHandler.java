@@ -13,6 +13,9 @@
 
 package org.openmetadata.catalog.events;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import javax.ws.rs.container.ContainerRequestContext;
 import javax.ws.rs.container.ContainerResponseContext;
 import javax.ws.rs.core.Response.Status;
@@ -20,6 +23,7 @@ import org.jdbi.v3.core.Jdbi;
 import org.openmetadata.catalog.CatalogApplicationConfig;
 import org.openmetadata.catalog.Entity;
 import org.openmetadata.catalog.jdbi3.CollectionDAO;
+import org.openmetadata.catalog.jdbi3.FeedRepository;
 import org.openmetadata.catalog.type.ChangeEvent;
 import org.openmetadata.catalog.type.EventType;
 import org.openmetadata.catalog.util.EntityInterface;
@@ -31,9 +35,11 @@ import org.slf4j.LoggerFactory;
 public class ChangeEventHandler implements EventHandler {
   private static final Logger LOG = LoggerFactory.getLogger(ChangeEventHandler.class);
   private CollectionDAO dao;
+  private FeedRepository feedRepository;
 
   public void init(CatalogApplicationConfig config, Jdbi jdbi) {
     this.dao = jdbi.onDemand(CollectionDAO.class);
+    this.feedRepository = new FeedRepository(dao);
   }
 
   public Void process(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
@@ -47,12 +53,7 @@ public class ChangeEventHandler implements EventHandler {
             changeEvent.getEntityId(),
             changeEvent.getEventType(),
             changeEvent.getEntityType());
-        EventPubSub.publish(changeEvent);
-        if (changeEvent.getEntity() != null) {
-          changeEvent.setEntity(JsonUtils.pojoToJson(changeEvent.getEntity()));
-        }
-
-        dao.changeEventDAO().insert(JsonUtils.pojoToJson(changeEvent));
+        recordChangeEvents(dao, feedRepository, List.of(changeEvent));
       }
     } catch (Exception e) {
       LOG.error("Failed to capture change event for method {} due to ", method, e);
@@ -60,6 +61,50 @@ public class ChangeEventHandler implements EventHandler {
     return null;
   }
 
+  /**
+   * Record the change events of entities changed outside of a request, such as by a bulk import, the same way as the
+   * change events of the requests. The events are inserted as a single batch.
+   */
+  public static void recordChangeEvents(CollectionDAO dao, List<ChangeEvent> changeEvents) throws IOException {
+    recordChangeEvents(dao, new FeedRepository(dao), changeEvents);
+  }
+
+  /** Publish the change events, store them and add them to the timelines of the owners and followers */
+  private static void recordChangeEvents(
+      CollectionDAO dao, FeedRepository feedRepository, List<ChangeEvent> changeEvents) throws IOException {
+    publishChangeEvents(changeEvents);
+    storeChangeEvents(dao, feedRepository, changeEvents);
+  }
+
+  /** Publish the change events to the webhooks and other handlers of this server */
+  public static void publishChangeEvents(List<ChangeEvent> changeEvents) {
+    for (ChangeEvent changeEvent : changeEvents) {
+      EventPubSub.publish(changeEvent);
+    }
+  }
+
+  /**
+   * Store the change events as a single batch and add them to the timelines of the owners and followers. Called within
+   * a transaction, the events are stored with the changes they describe, and are published once it is committed.
+   */
+  public static void storeChangeEvents(CollectionDAO dao, FeedRepository feedRepository, List<ChangeEvent> changeEvents)
+      throws IOException {
+    List<String> jsons = new ArrayList<>(changeEvents.size());
+    for (ChangeEvent changeEvent : changeEvents) {
+      // The entity is stored as a JSON document, published events keep the entity itself
+      Object entity = changeEvent.getEntity();
+      if (entity != null) {
+        changeEvent.setEntity(JsonUtils.pojoToJson(entity));
+      }
+      jsons.add(JsonUtils.pojoToJson(changeEvent));
+      changeEvent.setEntity(entity);
+    }
+    dao.changeEventDAO().insertBatch(jsons);
+    for (ChangeEvent changeEvent : changeEvents) {
+      feedRepository.addToTimelines(changeEvent);
+    }
+  }
+
   public static ChangeEvent getChangeEvent(String method, ContainerResponseContext responseContext) {
     // GET operations don't produce change events
     if (method.equals("GET")) {
@@ -106,7 +151,7 @@ public class ChangeEventHandler implements EventHandler {
     return null;
   }
 
-  private static ChangeEvent getChangeEvent(EventType eventType, String entityType, EntityInterface entityInterface) {
+  public static ChangeEvent getChangeEvent(EventType eventType, String entityType, EntityInterface entityInterface) {
     return new ChangeEvent()
         .withEventType(eventType)
         .withEntityId(entityInterface.getId())
@@ -0,0 +1,109 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.events;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.text.DateFormat;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.jdbi.v3.core.Jdbi;
+import org.openmetadata.catalog.ClusterConfiguration;
+import org.openmetadata.catalog.jdbi3.CollectionDAO;
+import org.openmetadata.catalog.jdbi3.CollectionDAO.ChangeEventDAO;
+import org.openmetadata.catalog.util.RestUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Cluster bus reading the change events recorded by all the servers in the {@code change_event} table shared by the
+ * cluster, every {@code pollIntervalMs}. No other infrastructure than the database is needed.
+ *
+ * <p>The time of a change event is taken when the request starts, so an event may be recorded with a time earlier than
+ * events already read. Each poll reads the events again from {@code overlapSeconds} before the previous poll and skips
+ * the ones already delivered. An event recorded later than that after its time is missed, which is reported when an
+ * event is delivered with a lag close to the overlap.
+ */
+public class ChangeEventPollingBus extends ClusterEventBus {
+  private static final Logger LOG = LoggerFactory.getLogger(ChangeEventPollingBus.class);
+
+  private ChangeEventDAO dao;
+  private long pollIntervalMs;
+  private long overlapMs;
+  private ScheduledExecutorService executor;
+
+  /** Accessed only by the polling thread */
+  private final DateFormat dateTimeFormat = (DateFormat) RestUtil.DATE_TIME_FORMAT.clone();
+
+  private long startedAt;
+
+  /** Time of the previous poll */
+  private long lastPoll;
+
+  /** Time of the invalidations delivered within the overlap, by invalidation */
+  private final Map<String, Long> delivered = new HashMap<>();
+
+  @Override
+  public void init(ClusterConfiguration config, Jdbi jdbi) {
+    this.dao = jdbi.onDemand(CollectionDAO.class).changeEventDAO();
+    this.pollIntervalMs = config.getPollIntervalMs();
+    this.overlapMs = TimeUnit.SECONDS.toMillis(config.getOverlapSeconds());
+  }
+
+  @Override
+  public void start() {
+    startedAt = System.currentTimeMillis();
+    lastPoll = startedAt;
+    executor =
+        Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setNameFormat("cluster-event-bus").setDaemon(true).build());
+    executor.scheduleWithFixedDelay(this::poll, pollIntervalMs, pollIntervalMs, TimeUnit.MILLISECONDS);
+    LOG.info("Polling the change events of the cluster every {} ms", pollIntervalMs);
+  }
+
+  @Override
+  public void stop() throws InterruptedException {
+    if (executor != null) {
+      executor.shutdownNow();
+      executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+  }
+
+  void poll() {
+    try {
+      long now = System.currentTimeMillis();
+      long since = lastPoll - overlapMs;
+      List<CacheInvalidation> invalidations = dao.listInvalidations(dateTimeFormat.format(new Date(since)));
+      lastPoll = now;
+      for (CacheInvalidation invalidation : invalidations) {
+        long time = invalidation.getDateTime().getTime();
+        if (delivered.putIfAbsent(invalidation.toString(), time) == null) {
+          long lag = deliver(invalidation);
+          // The events recorded before the server started are old, but the caches were empty then
+          if (lag > overlapMs / 2 && time >= startedAt) {
+            LOG.warn("Cache invalidation {} delivered after {} ms, increase overlapSeconds", invalidation, lag);
+          }
+        }
+      }
+      delivered.values().removeIf(time -> time < since);
+    } catch (Exception e) {
+      // An exception would cancel the next polls
+      LOG.warn("Failed to poll the change events of the cluster", e);
+    }
+  }
+}
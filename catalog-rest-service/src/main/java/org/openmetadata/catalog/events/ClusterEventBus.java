@@ -0,0 +1,67 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.events;
+
+import com.codahale.metrics.MetricRegistry;
+import io.dropwizard.lifecycle.Managed;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import org.jdbi.v3.core.Jdbi;
+import org.openmetadata.catalog.ClusterConfiguration;
+import org.openmetadata.catalog.util.CatalogMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bus broadcasting a {@link CacheInvalidation} to every server of the cluster for each entity changed by any of them,
+ * so that the caches of a server, such as the users of the authorizer or the tag taxonomy, don't serve the entities
+ * changed through another server. {@link EventPubSub} only reaches the server recording the change.
+ *
+ * <p>Caches {@link #subscribe(Consumer)} once, whether a bus is configured or not. Invalidations may be delivered more
+ * than once, including for the changes made by the server itself, and subscribers must be idempotent. The delay from
+ * the change to the delivery is recorded in the {@code lag} histogram of this class in milliseconds.
+ */
+public abstract class ClusterEventBus implements Managed {
+  private static final Logger LOG = LoggerFactory.getLogger(ClusterEventBus.class);
+  private static final String LAG_METRIC = MetricRegistry.name(ClusterEventBus.class, "lag");
+  private static final String DELIVERED_METRIC = MetricRegistry.name(ClusterEventBus.class, "delivered");
+  private static final List<Consumer<CacheInvalidation>> SUBSCRIBERS = new CopyOnWriteArrayList<>();
+
+  public abstract void init(ClusterConfiguration config, Jdbi jdbi);
+
+  public static void subscribe(Consumer<CacheInvalidation> subscriber) {
+    SUBSCRIBERS.add(subscriber);
+  }
+
+  public static void unsubscribe(Consumer<CacheInvalidation> subscriber) {
+    SUBSCRIBERS.remove(subscriber);
+  }
+
+  /** Deliver an invalidation received from the cluster to all the subscribers, and return the lag in milliseconds */
+  protected static long deliver(CacheInvalidation invalidation) {
+    long lag = System.currentTimeMillis() - invalidation.getDateTime().getTime();
+    CatalogMetrics.update(LAG_METRIC, lag);
+    CatalogMetrics.increment(DELIVERED_METRIC, 1);
+    for (Consumer<CacheInvalidation> subscriber : SUBSCRIBERS) {
+      try {
+        subscriber.accept(invalidation);
+      } catch (Exception e) {
+        // A failing cache must not keep the other caches from being invalidated
+        LOG.warn("Failed to deliver cache invalidation {}", invalidation, e);
+      }
+    }
+    return lag;
+  }
+}
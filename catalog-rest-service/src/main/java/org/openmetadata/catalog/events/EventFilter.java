@@ -58,6 +58,10 @@ public class EventFilter implements ContainerResponseFilter {
     }
   }
 
+  public List<EventHandler> getEventHandlers() {
+    return eventHandlers;
+  }
+
   @Override
   public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
     int responseCode = responseContext.getStatus();
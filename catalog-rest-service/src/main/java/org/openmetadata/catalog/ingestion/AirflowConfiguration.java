@@ -25,6 +25,12 @@ public class AirflowConfiguration {
 
   private Integer timeout = 30;
 
+  /** Interval at which the status of the ingestions listed recently is refreshed from Airflow */
+  private Integer statusPollIntervalSeconds = 60;
+
+  /** Maximum number of status requests sent to Airflow at the same time */
+  private Integer statusFetchParallelism = 8;
+
   private String metadataApiEndpoint;
 
   private String authProvider;
@@ -61,6 +67,22 @@ public class AirflowConfiguration {
     this.timeout = timeout;
   }
 
+  public Integer getStatusPollIntervalSeconds() {
+    return statusPollIntervalSeconds;
+  }
+
+  public void setStatusPollIntervalSeconds(Integer statusPollIntervalSeconds) {
+    this.statusPollIntervalSeconds = statusPollIntervalSeconds;
+  }
+
+  public Integer getStatusFetchParallelism() {
+    return statusFetchParallelism;
+  }
+
+  public void setStatusFetchParallelism(Integer statusFetchParallelism) {
+    this.statusFetchParallelism = statusFetchParallelism;
+  }
+
   public String getMetadataApiEndpoint() {
     return metadataApiEndpoint;
   }
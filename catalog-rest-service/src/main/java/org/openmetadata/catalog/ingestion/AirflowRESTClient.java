@@ -13,7 +13,10 @@
 
 package org.openmetadata.catalog.ingestion;
 
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.exceptions.JWTDecodeException;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URL;
@@ -21,8 +24,14 @@ import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import javax.ws.rs.core.Response;
 import org.json.JSONObject;
 import org.openmetadata.catalog.CatalogApplicationConfig;
@@ -30,16 +39,34 @@ import org.openmetadata.catalog.exception.IngestionPipelineDeploymentException;
 import org.openmetadata.catalog.operations.workflows.Ingestion;
 import org.openmetadata.catalog.operations.workflows.IngestionStatus;
 import org.openmetadata.catalog.util.JsonUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class AirflowRESTClient {
+  private static final Logger LOG = LoggerFactory.getLogger(AirflowRESTClient.class);
+  private static final String authHeader = "Bearer %s";
+
+  /** Access tokens are renewed this long before they expire so that no request is sent with an expired token */
+  private static final Duration TOKEN_RENEWAL_MARGIN = Duration.ofSeconds(30);
+
+  /** Lifetime assumed for access tokens that don't carry an expiry */
+  private static final Duration DEFAULT_TOKEN_LIFETIME = Duration.ofMinutes(5);
+
   private final URL url;
   private final String username;
   private final String password;
   private final HttpClient client;
-  private static final String authHeader = "Bearer %s";
+  private final Duration timeout;
+  private final int statusFetchParallelism;
+
+  /** Login in progress or completed, shared by the requests so that Airflow is logged into once per token */
+  private CompletableFuture<AccessToken> login;
 
   public AirflowRESTClient(CatalogApplicationConfig config) {
-    AirflowConfiguration airflowConfig = config.getAirflowConfiguration();
+    this(config.getAirflowConfiguration());
+  }
+
+  public AirflowRESTClient(AirflowConfiguration airflowConfig) {
     try {
       this.url = new URL(airflowConfig.getApiEndpoint());
     } catch (MalformedURLException e) {
@@ -47,47 +74,95 @@ public class AirflowRESTClient {
     }
     this.username = airflowConfig.getUsername();
     this.password = airflowConfig.getPassword();
-    this.client =
-        HttpClient.newBuilder()
-            .version(HttpClient.Version.HTTP_1_1)
-            .connectTimeout(Duration.ofSeconds(airflowConfig.getTimeout()))
-            .build();
+    this.timeout = Duration.ofSeconds(airflowConfig.getTimeout());
+    this.statusFetchParallelism = airflowConfig.getStatusFetchParallelism();
+    this.client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).connectTimeout(timeout).build();
+  }
+
+  /** Returns the cached access token, logging into Airflow only when there is no token or it is about to expire */
+  private synchronized CompletableFuture<AccessToken> authenticate() {
+    if (login == null
+        || login.isCompletedExceptionally()
+        || (login.isDone() && login.join().expiresAt.isBefore(Instant.now()))) {
+      login = login();
+    }
+    return login;
+  }
+
+  /** Drops the given token after Airflow rejected it, unless it has already been replaced by another request */
+  private synchronized void invalidate(AccessToken token) {
+    if (login != null && login.isDone() && !login.isCompletedExceptionally() && login.join() == token) {
+      login = null;
+    }
   }
 
-  private String authenticate() throws InterruptedException, IOException {
+  private CompletableFuture<AccessToken> login() {
     String authEndpoint = "%s/api/v1/security/login";
     String url = String.format(authEndpoint, this.url);
     AirflowAuthRequest authRequest =
         AirflowAuthRequest.builder().username(this.username).password(this.password).build();
-    String authPayload = JsonUtils.pojoToJson(authRequest);
+    String authPayload;
+    try {
+      authPayload = JsonUtils.pojoToJson(authRequest);
+    } catch (IOException e) {
+      return CompletableFuture.failedFuture(e);
+    }
     HttpRequest request =
         HttpRequest.newBuilder(URI.create(url))
+            .timeout(timeout)
             .header("Content-Type", "application/json")
             .POST(HttpRequest.BodyPublishers.ofString(authPayload))
             .build();
-    HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
-    if (response.statusCode() == 200) {
-      AirflowAuthResponse authResponse = JsonUtils.readValue(response.body(), AirflowAuthResponse.class);
-      return authResponse.getAccessToken();
-    }
-    throw new RuntimeException("Failed to get access_token. Please check AirflowConfiguration username, password");
+    return client
+        .sendAsync(request, HttpResponse.BodyHandlers.ofString())
+        .thenApply(
+            response -> {
+              if (response.statusCode() == 200) {
+                AirflowAuthResponse authResponse = readValue(response.body(), AirflowAuthResponse.class);
+                return new AccessToken(authResponse.getAccessToken());
+              }
+              throw new RuntimeException(
+                  "Failed to get access_token. Please check AirflowConfiguration username, password");
+            });
+  }
+
+  /** Sends an authenticated POST request, logging in again and retrying once if Airflow rejects the cached token */
+  private CompletableFuture<HttpResponse<String>> post(String url, String payload) {
+    return post(url, payload, true);
+  }
+
+  private CompletableFuture<HttpResponse<String>> post(String url, String payload, boolean retryUnauthorized) {
+    return authenticate()
+        .thenCompose(
+            token -> {
+              HttpRequest request =
+                  HttpRequest.newBuilder(URI.create(url))
+                      .timeout(timeout)
+                      .header("Content-Type", "application/json")
+                      .header("Authorization", String.format(authHeader, token.value))
+                      .POST(HttpRequest.BodyPublishers.ofString(payload))
+                      .build();
+              return client
+                  .sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                  .thenCompose(
+                      response -> {
+                        boolean unauthorized = response.statusCode() == Response.Status.UNAUTHORIZED.getStatusCode();
+                        if (retryUnauthorized && unauthorized) {
+                          invalidate(token);
+                          return post(url, payload, false);
+                        }
+                        return CompletableFuture.completedFuture(response);
+                      });
+            });
   }
 
   public String deploy(Ingestion ingestion, CatalogApplicationConfig config) {
     try {
       IngestionPipeline pipeline = AirflowUtils.toIngestionPipeline(ingestion, config.getAirflowConfiguration());
-      String token = authenticate();
-      String authToken = String.format(this.authHeader, token);
       String pipelinePayload = JsonUtils.pojoToJson(pipeline);
       String deployEndPoint = "%s/rest_api/api?api=deploy_dag";
       String url = String.format(deployEndPoint, this.url);
-      HttpRequest request =
-          HttpRequest.newBuilder(URI.create(url))
-              .header("Content-Type", "application/json")
-              .header("Authorization", authToken)
-              .POST(HttpRequest.BodyPublishers.ofString(pipelinePayload))
-              .build();
-      HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+      HttpResponse<String> response = post(url, pipelinePayload).join();
       if (response.statusCode() == 200) {
         return response.body();
       }
@@ -96,25 +171,17 @@ public class AirflowRESTClient {
           "Failed to trigger IngestionPipeline",
           Response.Status.fromStatusCode(response.statusCode()));
     } catch (Exception e) {
-      throw IngestionPipelineDeploymentException.byMessage(ingestion.getName(), e.getMessage());
+      throw IngestionPipelineDeploymentException.byMessage(ingestion.getName(), unwrap(e).getMessage());
     }
   }
 
   public String runPipeline(String pipelineName) {
     try {
-      String token = authenticate();
-      String authToken = String.format(this.authHeader, token);
       String triggerEndPoint = "%s/rest_api/api?api=trigger_dag";
       String url = String.format(triggerEndPoint, this.url);
       JSONObject requestPayload = new JSONObject();
       requestPayload.put("workflow_name", pipelineName);
-      HttpRequest request =
-          HttpRequest.newBuilder(URI.create(url))
-              .header("Content-Type", "application/json")
-              .header("Authorization", authToken)
-              .POST(HttpRequest.BodyPublishers.ofString(requestPayload.toString()))
-              .build();
-      HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+      HttpResponse<String> response = post(url, requestPayload.toString()).join();
       if (response.statusCode() == 200) {
         return response.body();
       }
@@ -122,46 +189,114 @@ public class AirflowRESTClient {
       throw IngestionPipelineDeploymentException.byMessage(
           pipelineName, "Failed to trigger IngestionPipeline", Response.Status.fromStatusCode(response.statusCode()));
     } catch (Exception e) {
-      throw IngestionPipelineDeploymentException.byMessage(pipelineName, e.getMessage());
+      throw IngestionPipelineDeploymentException.byMessage(pipelineName, unwrap(e).getMessage());
     }
   }
 
   public Ingestion getStatus(Ingestion ingestion) {
     try {
-      String token = authenticate();
-      String authToken = String.format(this.authHeader, token);
-      String statusEndPoint = "%s/rest_api/api?api=list_run&dag_id=%s";
-      String url = String.format(statusEndPoint, this.url, ingestion.getName());
-      JSONObject requestPayload = new JSONObject();
-      HttpRequest request =
-          HttpRequest.newBuilder(URI.create(url))
-              .header("Content-Type", "application/json")
-              .header("Authorization", authToken)
-              .POST(HttpRequest.BodyPublishers.ofString(requestPayload.toString()))
-              .build();
-      HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
-      if (response.statusCode() == 200) {
-        AirflowListResponse airflowListResponse = JsonUtils.readValue(response.body(), AirflowListResponse.class);
-        ingestion.setNextExecutionDate(airflowListResponse.getNextRun());
-        List<IngestionStatus> statuses = new ArrayList<>();
-        for (AirflowDagRun dagRun : airflowListResponse.dagRuns) {
-          IngestionStatus ingestionStatus =
-              new IngestionStatus()
-                  .withState(dagRun.getState())
-                  .withStartDate(dagRun.getStartDate())
-                  .withEndDate(dagRun.getEndDate());
-          statuses.add(ingestionStatus);
+      return getStatusAsync(ingestion).join();
+    } catch (Exception e) {
+      throw IngestionPipelineDeploymentException.byMessage(ingestion.getName(), unwrap(e).getMessage());
+    }
+  }
+
+  /** Sets the next execution date and the runs of the ingestion reported by Airflow */
+  public CompletableFuture<Ingestion> getStatusAsync(Ingestion ingestion) {
+    String statusEndPoint = "%s/rest_api/api?api=list_run&dag_id=%s";
+    String url = String.format(statusEndPoint, this.url, ingestion.getName());
+    JSONObject requestPayload = new JSONObject();
+    return post(url, requestPayload.toString())
+        .thenApply(
+            response -> {
+              if (response.statusCode() == 200) {
+                AirflowListResponse airflowListResponse = readValue(response.body(), AirflowListResponse.class);
+                ingestion.setNextExecutionDate(airflowListResponse.getNextRun());
+                List<IngestionStatus> statuses = new ArrayList<>();
+                for (AirflowDagRun dagRun : airflowListResponse.dagRuns) {
+                  IngestionStatus ingestionStatus =
+                      new IngestionStatus()
+                          .withState(dagRun.getState())
+                          .withStartDate(dagRun.getStartDate())
+                          .withEndDate(dagRun.getEndDate());
+                  statuses.add(ingestionStatus);
+                }
+                ingestion.setIngestionStatuses(statuses);
+                return ingestion;
+              }
+
+              throw IngestionPipelineDeploymentException.byMessage(
+                  ingestion.getName(),
+                  "Failed to fetch ingestion pipeline runs",
+                  Response.Status.fromStatusCode(response.statusCode()));
+            });
+  }
+
+  /**
+   * Fetches the status of the ingestions concurrently, with at most {@code statusFetchParallelism} requests in flight.
+   * Failures are logged and the returned list contains only the ingestions whose status was fetched.
+   */
+  public CompletableFuture<List<Ingestion>> getStatuses(List<Ingestion> ingestions) {
+    Queue<Ingestion> pending = new ConcurrentLinkedQueue<>(ingestions);
+    Queue<Ingestion> fetched = new ConcurrentLinkedQueue<>();
+    int workers = Math.min(statusFetchParallelism, ingestions.size());
+    CompletableFuture<?>[] futures = new CompletableFuture<?>[workers];
+    for (int i = 0; i < workers; i++) {
+      futures[i] = fetchNext(pending, fetched);
+    }
+    return CompletableFuture.allOf(futures).thenApply(v -> new ArrayList<>(fetched));
+  }
+
+  /** Fetches the status of the pending ingestions one after the other */
+  private CompletableFuture<Void> fetchNext(Queue<Ingestion> pending, Queue<Ingestion> fetched) {
+    Ingestion ingestion = pending.poll();
+    if (ingestion == null) {
+      return CompletableFuture.completedFuture(null);
+    }
+    return getStatusAsync(ingestion)
+        .handle(
+            (result, e) -> {
+              if (e == null) {
+                fetched.add(result);
+              } else {
+                LOG.warn("Failed to fetch status for {} : {}", ingestion.getName(), unwrap(e).getMessage());
+              }
+              return null;
+            })
+        .thenCompose(v -> fetchNext(pending, fetched));
+  }
+
+  private static <T> T readValue(String json, Class<T> clz) {
+    try {
+      return JsonUtils.readValue(json, clz);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static Throwable unwrap(Throwable e) {
+    return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+  }
+
+  private static class AccessToken {
+    private final String value;
+    private final Instant expiresAt;
+
+    AccessToken(String value) {
+      this.value = value;
+      this.expiresAt = expiry(value).minus(TOKEN_RENEWAL_MARGIN);
+    }
+
+    private static Instant expiry(String token) {
+      try {
+        Date expiresAt = JWT.decode(token).getExpiresAt();
+        if (expiresAt != null) {
+          return expiresAt.toInstant();
         }
-        ingestion.setIngestionStatuses(statuses);
-        return ingestion;
+      } catch (JWTDecodeException e) {
+        LOG.debug("Airflow access token is not a JWT, assuming it expires in {}", DEFAULT_TOKEN_LIFETIME);
       }
-
-      throw IngestionPipelineDeploymentException.byMessage(
-          ingestion.getName(),
-          "Failed to fetch ingestion pipeline runs",
-          Response.Status.fromStatusCode(response.statusCode()));
-    } catch (Exception e) {
-      throw IngestionPipelineDeploymentException.byMessage(ingestion.getName(), e.getMessage());
+      return Instant.now().plus(DEFAULT_TOKEN_LIFETIME);
     }
   }
 }
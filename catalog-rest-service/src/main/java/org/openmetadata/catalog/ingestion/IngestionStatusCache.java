@@ -0,0 +1,147 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.ingestion;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.dropwizard.lifecycle.Managed;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.openmetadata.catalog.operations.workflows.Ingestion;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Latest status of the ingestions reported by Airflow. The status of an ingestion is fetched from Airflow the first
+ * time it is requested, and is then refreshed in the background so that listing ingestions doesn't wait on Airflow.
+ * Ingestions whose status has not been requested for {@link #IDLE_INTERVALS} poll intervals are no longer polled.
+ *
+ * <p>A request waits at most {@link #FIRST_FETCH_TIMEOUT_MILLIS} for the status of the ingestions it is the first to
+ * request. The ingestions whose status is not fetched by then, because Airflow is slow or fails, are returned and
+ * cached without status until the next poll, so that the following requests don't wait on Airflow again.
+ */
+public class IngestionStatusCache implements Managed {
+  private static final Logger LOG = LoggerFactory.getLogger(IngestionStatusCache.class);
+  private static final int IDLE_INTERVALS = 10;
+  private static final long FIRST_FETCH_TIMEOUT_MILLIS = 2000;
+
+  private final AirflowRESTClient client;
+  private final long pollIntervalSeconds;
+  private final long idleMillis;
+  private ScheduledExecutorService poller;
+
+  /** Ingestion carrying only the status fields, keyed by ingestion name which is also the Airflow DAG id */
+  private final Map<String, Ingestion> statuses = new ConcurrentHashMap<>();
+
+  /** Time at which the status of an ingestion was last requested, keyed by ingestion name */
+  private final Map<String, Long> lastRequested = new ConcurrentHashMap<>();
+
+  public IngestionStatusCache(AirflowRESTClient client, long pollIntervalSeconds) {
+    this.client = client;
+    this.pollIntervalSeconds = pollIntervalSeconds;
+    this.idleMillis = TimeUnit.SECONDS.toMillis(pollIntervalSeconds) * IDLE_INTERVALS;
+  }
+
+  @Override
+  public void start() {
+    poller =
+        Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setNameFormat("ingestion-status-poller").setDaemon(true).build());
+    poller.scheduleWithFixedDelay(this::refresh, pollIntervalSeconds, pollIntervalSeconds, TimeUnit.SECONDS);
+  }
+
+  @Override
+  public void stop() throws InterruptedException {
+    if (poller != null) {
+      poller.shutdownNow();
+      poller.awaitTermination(10, TimeUnit.SECONDS);
+    }
+  }
+
+  /**
+   * Sets the latest status of the ingestions. The status of the ingestions not in the cache yet is fetched
+   * concurrently, for at most {@link #FIRST_FETCH_TIMEOUT_MILLIS}, and then kept up to date by the poller.
+   */
+  public void addStatus(List<Ingestion> ingestions) {
+    long now = System.currentTimeMillis();
+    List<Ingestion> missing = new ArrayList<>();
+    for (Ingestion ingestion : ingestions) {
+      lastRequested.put(ingestion.getName(), now);
+      Ingestion status = statuses.putIfAbsent(ingestion.getName(), new Ingestion().withName(ingestion.getName()));
+      if (status == null) {
+        missing.add(ingestion);
+      } else {
+        applyStatus(ingestion, status);
+      }
+    }
+    if (missing.isEmpty()) {
+      return;
+    }
+    try {
+      client
+          .getStatuses(missing)
+          .thenAccept(fetched -> fetched.forEach(ingestion -> statuses.put(ingestion.getName(), statusOf(ingestion))))
+          .get(FIRST_FETCH_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      LOG.warn("Status of {} ingestions not fetched within {} ms", missing.size(), FIRST_FETCH_TIMEOUT_MILLIS);
+    } catch (ExecutionException e) {
+      LOG.warn("Failed to fetch the status of {} ingestions", missing.size(), e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    for (Ingestion ingestion : missing) {
+      applyStatus(ingestion, statuses.get(ingestion.getName()));
+    }
+  }
+
+  private void refresh() {
+    long idleSince = System.currentTimeMillis() - idleMillis;
+    lastRequested.entrySet().removeIf(entry -> entry.getValue() < idleSince);
+    statuses.keySet().retainAll(lastRequested.keySet());
+
+    List<Ingestion> polled = new ArrayList<>();
+    lastRequested.keySet().forEach(name -> polled.add(new Ingestion().withName(name)));
+    if (polled.isEmpty()) {
+      return;
+    }
+    try {
+      for (Ingestion ingestion : client.getStatuses(polled).join()) {
+        statuses.put(ingestion.getName(), ingestion);
+      }
+    } catch (Exception e) {
+      LOG.warn("Failed to refresh the status of {} ingestions", polled.size(), e);
+    }
+  }
+
+  private static void applyStatus(Ingestion ingestion, Ingestion status) {
+    if (status != null) {
+      ingestion
+          .withNextExecutionDate(status.getNextExecutionDate())
+          .withIngestionStatuses(status.getIngestionStatuses());
+    }
+  }
+
+  private static Ingestion statusOf(Ingestion ingestion) {
+    return new Ingestion()
+        .withName(ingestion.getName())
+        .withNextExecutionDate(ingestion.getNextExecutionDate())
+        .withIngestionStatuses(ingestion.getIngestionStatuses());
+  }
+}
@@ -0,0 +1,219 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.jdbi3;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.openmetadata.catalog.Entity;
+import org.openmetadata.catalog.events.ChangeEventHandler;
+import org.openmetadata.catalog.exception.CatalogExceptionMessage;
+import org.openmetadata.catalog.exception.EntityNotFoundException;
+import org.openmetadata.catalog.operations.DeleteJob;
+import org.openmetadata.catalog.operations.DeleteJobStatus;
+import org.openmetadata.catalog.type.ChangeEvent;
+import org.openmetadata.catalog.type.EntityReference;
+import org.openmetadata.catalog.type.EventType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Deletes the entities contained in an entity, such as the databases and tables of a database service, with set based
+ * updates instead of one entity at a time. The contained entities are found one level of the hierarchy at a time, and
+ * are soft deleted starting from the deepest level in transactions of {@link #CHUNK_SIZE} entities. A delete that fails
+ * never leaves an entity whose container is deleted, and deleting the entity again resumes with the entities that are
+ * not deleted yet. A single change event of the entity listing the deleted entities is recorded for each chunk. The
+ * deleted entities are removed from the timelines of the users, and from the search indexes on the change event.
+ *
+ * <p>Deletes submitted with {@link #submit(EntityRepository, EntityReference, String)} run in the background, one at a
+ * time. Their progress is reported by the server running them for the latest {@link #MAX_JOBS} jobs.
+ */
+public final class CascadeDelete {
+  private static final Logger LOG = LoggerFactory.getLogger(CascadeDelete.class);
+  static final int CHUNK_SIZE = 500;
+  private static final int MAX_JOBS = 100;
+
+  private static final ExecutorService EXECUTOR =
+      Executors.newSingleThreadExecutor(
+          new ThreadFactoryBuilder().setNameFormat("cascade-delete").setDaemon(true).build());
+
+  private static final Map<UUID, DeleteJob> JOBS =
+      Collections.synchronizedMap(
+          new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, DeleteJob> eldest) {
+              return size() > MAX_JOBS;
+            }
+          });
+
+  private final CollectionDAO daoCollection;
+  private final EntityReference entity;
+  private final String deletedBy;
+
+  /** Progress of the delete, updated while holding its lock */
+  private final DeleteJob job;
+
+  CascadeDelete(CollectionDAO daoCollection, EntityReference entity, String deletedBy) {
+    this.daoCollection = daoCollection;
+    this.entity = entity;
+    this.deletedBy = deletedBy;
+    this.job =
+        new DeleteJob()
+            .withId(UUID.randomUUID())
+            .withEntity(entity)
+            .withStatus(DeleteJobStatus.RUNNING)
+            .withDeleted(0)
+            .withStartedAt(new Date());
+  }
+
+  /** Delete the entity and the entities it contains in the background and return the job reporting the progress */
+  static DeleteJob submit(EntityRepository<?> repository, EntityReference entity, String deletedBy) {
+    CascadeDelete cascadeDelete = new CascadeDelete(repository.daoCollection, entity, deletedBy);
+    JOBS.put(cascadeDelete.job.getId(), cascadeDelete.job);
+    EXECUTOR.submit(() -> cascadeDelete.run(repository));
+    return copyOf(cascadeDelete.job);
+  }
+
+  public static DeleteJob getJob(UUID id) {
+    DeleteJob job = JOBS.get(id);
+    if (job == null) {
+      throw EntityNotFoundException.byMessage(CatalogExceptionMessage.entityNotFound("deleteJob", id));
+    }
+    return copyOf(job);
+  }
+
+  private void run(EntityRepository<?> repository) {
+    try {
+      deleteContained();
+      repository.delete(entity.getId(), false, deletedBy);
+      recordDeleted(null); // Recorded by the response of the request when the delete is not run in the background
+      synchronized (job) {
+        job.withStatus(DeleteJobStatus.COMPLETED).withEndedAt(new Date());
+      }
+    } catch (Exception e) {
+      LOG.error("Failed to delete {} {}", entity.getType(), entity.getId(), e);
+      synchronized (job) {
+        job.withStatus(DeleteJobStatus.FAILED).withError(e.getMessage()).withEndedAt(new Date());
+      }
+    }
+  }
+
+  /** Delete the entities contained in the entity, but not the entity itself, and return the number deleted */
+  int deleteContained() throws IOException {
+    List<Map<String, List<String>>> levels = findContained();
+    int total = levels.stream().flatMap(level -> level.values().stream()).mapToInt(List::size).sum();
+    synchronized (job) {
+      job.setTotal(total);
+    }
+    LOG.info("Deleting {} entities contained in {} {}", total, entity.getType(), entity.getId());
+    int deleted = 0;
+    for (int i = levels.size() - 1; i >= 0; i--) {
+      for (Map.Entry<String, List<String>> entry : levels.get(i).entrySet()) {
+        List<String> ids = entry.getValue();
+        for (int start = 0; start < ids.size(); start += CHUNK_SIZE) {
+          List<String> chunk = ids.subList(start, Math.min(start + CHUNK_SIZE, ids.size()));
+          deleteChunk(entry.getKey(), chunk);
+          deleted += chunk.size();
+          synchronized (job) {
+            job.setDeleted(deleted);
+          }
+        }
+      }
+    }
+    return deleted;
+  }
+
+  /** Ids of the contained entities grouped by entity type, for each level of the hierarchy below the entity */
+  private List<Map<String, List<String>>> findContained() {
+    List<Map<String, List<String>>> levels = new ArrayList<>();
+    Set<String> found = new HashSet<>();
+    List<String> parents = List.of(entity.getId().toString());
+    found.addAll(parents);
+    while (!parents.isEmpty()) {
+      Map<String, List<String>> level = new LinkedHashMap<>();
+      List<String> children = new ArrayList<>();
+      for (int start = 0; start < parents.size(); start += CHUNK_SIZE) {
+        List<String> chunk = parents.subList(start, Math.min(start + CHUNK_SIZE, parents.size()));
+        for (EntityReference ref : daoCollection.relationshipDAO().findTo(chunk, Relationship.CONTAINS.ordinal())) {
+          String id = ref.getId().toString();
+          if (found.add(id)) { // Guard against an entity contained more than once
+            level.computeIfAbsent(ref.getType(), type -> new ArrayList<>()).add(id);
+            children.add(id);
+          }
+        }
+      }
+      if (!level.isEmpty()) {
+        levels.add(level);
+      }
+      parents = children;
+    }
+    return levels;
+  }
+
+  private void deleteChunk(String entityType, List<String> ids) throws IOException {
+    EntityDAO<?> entityDAO = Entity.getEntityDAO(entityType);
+    daoCollection.inTransaction(
+        transaction -> {
+          entityDAO.softDelete(ids);
+          transaction.relationshipDAO().softDeleteAll(ids);
+          transaction.feedDAO().deleteTimelineItems(ids);
+          transaction.entityFingerprintDAO().delete(ids);
+          return null;
+        });
+
+    // The search indexes drop the documents of the deleted entities on this event
+    List<EntityReference> deletedEntities = new ArrayList<>(ids.size());
+    for (String id : ids) {
+      deletedEntities.add(new EntityReference().withId(UUID.fromString(id)).withType(entityType));
+    }
+    recordDeleted(deletedEntities);
+  }
+
+  /** Record the change event of the entity, or of the entities it contains when {@code deletedEntities} is set */
+  private void recordDeleted(List<EntityReference> deletedEntities) throws IOException {
+    ChangeEvent changeEvent =
+        new ChangeEvent()
+            .withEventType(EventType.ENTITY_DELETED)
+            .withEntityType(entity.getType())
+            .withEntityId(entity.getId())
+            .withUserName(deletedBy)
+            .withDateTime(new Date())
+            .withDeletedEntities(deletedEntities);
+    ChangeEventHandler.recordChangeEvents(daoCollection, List.of(changeEvent));
+  }
+
+  private static DeleteJob copyOf(DeleteJob job) {
+    synchronized (job) {
+      return new DeleteJob()
+          .withId(job.getId())
+          .withEntity(job.getEntity())
+          .withStatus(job.getStatus())
+          .withTotal(job.getTotal())
+          .withDeleted(job.getDeleted())
+          .withStartedAt(job.getStartedAt())
+          .withEndedAt(job.getEndedAt())
+          .withError(job.getError());
+    }
+  }
+}
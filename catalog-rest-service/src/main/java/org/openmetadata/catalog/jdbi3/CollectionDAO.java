@@ -15,9 +15,13 @@ package org.openmetadata.catalog.jdbi3;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.text.DateFormat;
+import java.text.ParseException;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Date;
 import java.util.List;
+import java.util.UUID;
 import org.jdbi.v3.core.mapper.RowMapper;
 import org.jdbi.v3.core.statement.StatementContext;
 import org.jdbi.v3.sqlobject.CreateSqlObject;
@@ -25,8 +29,11 @@ import org.jdbi.v3.sqlobject.config.RegisterRowMapper;
 import org.jdbi.v3.sqlobject.customizer.Bind;
 import org.jdbi.v3.sqlobject.customizer.BindList;
 import org.jdbi.v3.sqlobject.customizer.Define;
+import org.jdbi.v3.sqlobject.statement.SqlBatch;
 import org.jdbi.v3.sqlobject.statement.SqlQuery;
 import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+import org.jdbi.v3.sqlobject.transaction.Transaction;
+import org.jdbi.v3.sqlobject.transaction.Transactional;
 import org.openmetadata.catalog.entity.Bots;
 import org.openmetadata.catalog.entity.data.Chart;
 import org.openmetadata.catalog.entity.data.Dashboard;
@@ -47,6 +54,7 @@ import org.openmetadata.catalog.entity.services.StorageService;
 import org.openmetadata.catalog.entity.teams.Role;
 import org.openmetadata.catalog.entity.teams.Team;
 import org.openmetadata.catalog.entity.teams.User;
+import org.openmetadata.catalog.events.CacheInvalidation;
 import org.openmetadata.catalog.jdbi3.BotsRepository.BotsEntityInterface;
 import org.openmetadata.catalog.jdbi3.ChartRepository.ChartEntityInterface;
 import org.openmetadata.catalog.jdbi3.CollectionDAO.TagDAO.TagLabelMapper;
@@ -77,8 +85,9 @@ import org.openmetadata.catalog.type.UsageDetails;
 import org.openmetadata.catalog.type.UsageStats;
 import org.openmetadata.catalog.type.Webhook;
 import org.openmetadata.catalog.util.EntityUtil;
+import org.openmetadata.catalog.util.RestUtil;
 
-public interface CollectionDAO {
+public interface CollectionDAO extends Transactional<CollectionDAO> {
   @CreateSqlObject
   DatabaseDAO databaseDAO();
 
@@ -166,6 +175,9 @@ public interface CollectionDAO {
   @CreateSqlObject
   WebhookDAO webhookDAO();
 
+  @CreateSqlObject
+  EntityFingerprintDAO entityFingerprintDAO();
+
   interface DashboardDAO extends EntityDAO<Dashboard> {
     @Override
     default String getTableName() {
@@ -290,10 +302,16 @@ public interface CollectionDAO {
     String getExtension(@Bind("id") String id, @Bind("extension") String extension);
 
     @RegisterRowMapper(EntityVersionMapper.class)
+    @SqlQuery("SELECT extension, jsonSchema, json FROM entity_extension WHERE id = :id AND extension IN (<extensions>)")
+    List<EntityVersionPair> getEntityVersions(@Bind("id") String id, @BindList("extensions") List<String> extensions);
+
+    /** Get the versions of an entity without the JSON documents */
+    @RegisterRowMapper(EntityVersionHeaderMapper.class)
     @SqlQuery(
-        "SELECT extension, json FROM entity_extension WHERE id = :id AND extension "
+        "SELECT extension, jsonSchema FROM entity_extension WHERE id = :id AND extension "
             + "LIKE CONCAT (:extensionPrefix, '.%')")
-    List<EntityVersionPair> getEntityVersions(@Bind("id") String id, @Bind("extensionPrefix") String extensionPrefix);
+    List<EntityVersionPair> getEntityVersionHeaders(
+        @Bind("id") String id, @Bind("extensionPrefix") String extensionPrefix);
 
     @SqlQuery("SELECT json FROM entity_extension WHERE id = :id AND extension = :extension")
     String getEntityVersion(@Bind("id") String id, @Bind("extension") String extension);
@@ -301,18 +319,32 @@ public interface CollectionDAO {
 
   class EntityVersionPair {
     private final Double version;
+    private final boolean delta;
     private final String entityJson;
 
     public Double getVersion() {
       return version;
     }
 
+    /**
+     * When true, {@link #getEntityJson()} is a JSON patch that turns the nearest older full snapshot into this version
+     * instead of the full entity JSON document.
+     */
+    public boolean isDelta() {
+      return delta;
+    }
+
     public String getEntityJson() {
       return entityJson;
     }
 
     public EntityVersionPair(Double version, String json) {
+      this(version, false, json);
+    }
+
+    public EntityVersionPair(Double version, boolean delta, String json) {
       this.version = version;
+      this.delta = delta;
       this.entityJson = json;
     }
   }
@@ -321,7 +353,17 @@ public interface CollectionDAO {
     @Override
     public EntityVersionPair map(ResultSet rs, StatementContext ctx) throws SQLException {
       Double version = EntityUtil.getVersion(rs.getString("extension"));
-      return new EntityVersionPair(version, rs.getString("json"));
+      boolean delta = EntityUtil.VERSION_DELTA_SCHEMA.equals(rs.getString("jsonSchema"));
+      return new EntityVersionPair(version, delta, rs.getString("json"));
+    }
+  }
+
+  class EntityVersionHeaderMapper implements RowMapper<EntityVersionPair> {
+    @Override
+    public EntityVersionPair map(ResultSet rs, StatementContext ctx) throws SQLException {
+      Double version = EntityUtil.getVersion(rs.getString("extension"));
+      boolean delta = EntityUtil.VERSION_DELTA_SCHEMA.equals(rs.getString("jsonSchema"));
+      return new EntityVersionPair(version, delta, null);
     }
   }
 
@@ -347,6 +389,14 @@ public interface CollectionDAO {
     List<EntityReference> findTo(
         @Bind("fromId") String fromId, @Bind("fromEntity") String fromEntity, @Bind("relation") int relation);
 
+    // Entities related to any of the given entities, used for walking a level of the hierarchy at a time
+    @SqlQuery(
+        "SELECT toId, toEntity FROM entity_relationship "
+            + "WHERE fromId IN (<fromIds>) AND relation = :relation AND deleted = false "
+            + "ORDER BY toId")
+    @RegisterRowMapper(ToEntityReferenceMapper.class)
+    List<EntityReference> findTo(@BindList("fromIds") List<String> fromIds, @Bind("relation") int relation);
+
     @SqlQuery(
         "SELECT toId FROM entity_relationship "
             + "WHERE fromId = :fromId AND fromEntity = :fromEntity AND relation = :relation AND toEntity = :toEntity AND deleted = false "
@@ -382,6 +432,15 @@ public interface CollectionDAO {
         @Bind("relation") int relation,
         @Bind("fromEntity") String fromEntity);
 
+    // Entities related to any of the given entities, as [toId, fromId, fromEntity], for setting the fields of a batch
+    @SqlQuery(
+        "SELECT toId, fromId, fromEntity FROM entity_relationship "
+            + "WHERE toId IN (<toIds>) AND toEntity = :toEntity AND relation = :relation AND deleted = false "
+            + "ORDER BY toId, fromId")
+    @RegisterRowMapper(FromRelationMapper.class)
+    List<List<String>> findFrom(
+        @BindList("toIds") List<String> toIds, @Bind("toEntity") String toEntity, @Bind("relation") int relation);
+
     @SqlQuery(
         "SELECT fromId, fromEntity FROM entity_relationship "
             + "WHERE toId = :toId AND toEntity = :toEntity AND relation = :relation AND deleted =  false "
@@ -442,29 +501,155 @@ public interface CollectionDAO {
         @Bind("relation") int relation,
         @Bind("fromEntity") String fromEntity);
 
-    @SqlUpdate(
-        "DELETE from entity_relationship WHERE (toId = :id AND toEntity = :entity) OR "
-            + "(fromId = :id AND toEntity = :entity)")
-    void deleteAll(@Bind("id") String id, @Bind("entity") String entity);
+    // Relationships from and to an entity are removed with a statement each, so that each statement is an index lookup
+    // on fromIdx or toIdx instead of a scan of the table for the OR of both conditions
+    @SqlUpdate("DELETE FROM entity_relationship WHERE fromId = :id AND fromEntity = :entity")
+    void deleteAllFrom(@Bind("id") String id, @Bind("entity") String entity);
 
-    @SqlUpdate(
-        "UPDATE entity_relationship SET deleted = true WHERE (toId = :id AND toEntity = :entity) "
-            + "OR (fromId = :id AND fromEntity = :entity)")
-    void softDeleteAll(@Bind("id") String id, @Bind("entity") String entity);
+    @SqlUpdate("DELETE FROM entity_relationship WHERE toId = :id AND toEntity = :entity")
+    void deleteAllTo(@Bind("id") String id, @Bind("entity") String entity);
+
+    @SqlUpdate("UPDATE entity_relationship SET deleted = true WHERE fromId = :id AND fromEntity = :entity")
+    void softDeleteAllFrom(@Bind("id") String id, @Bind("entity") String entity);
+
+    @SqlUpdate("UPDATE entity_relationship SET deleted = true WHERE toId = :id AND toEntity = :entity")
+    void softDeleteAllTo(@Bind("id") String id, @Bind("entity") String entity);
+
+    @SqlUpdate("UPDATE entity_relationship SET deleted = true WHERE fromId IN (<ids>)")
+    void softDeleteAllFrom(@BindList("ids") List<String> ids);
+
+    @SqlUpdate("UPDATE entity_relationship SET deleted = true WHERE toId IN (<ids>)")
+    void softDeleteAllTo(@BindList("ids") List<String> ids);
+
+    @Transaction
+    default void deleteAll(String id, String entity) {
+      deleteAllFrom(id, entity);
+      deleteAllTo(id, entity);
+    }
+
+    @Transaction
+    default void softDeleteAll(String id, String entity) {
+      softDeleteAllFrom(id, entity);
+      softDeleteAllTo(id, entity);
+    }
+
+    /** Soft delete the relationships from and to any of the given entities, used for deleting entities in bulk */
+    @Transaction
+    default void softDeleteAll(List<String> ids) {
+      softDeleteAllFrom(ids);
+      softDeleteAllTo(ids);
+    }
+
+    class FromRelationMapper implements RowMapper<List<String>> {
+      @Override
+      public List<String> map(ResultSet rs, StatementContext ctx) throws SQLException {
+        return Arrays.asList(rs.getString("toId"), rs.getString("fromId"), rs.getString("fromEntity"));
+      }
+    }
   }
 
   interface FeedDAO {
-    @SqlUpdate("INSERT INTO thread_entity(json) VALUES (:json)")
+    // Posts are stored in thread_post and the post count of a thread is kept in its postCount column. Threads are
+    // returned with the post count set in the JSON and without their posts.
+    @SqlUpdate("INSERT INTO thread_entity(json, postCount) VALUES (:json, 0)")
     void insert(@Bind("json") String json);
 
-    @SqlQuery("SELECT json FROM thread_entity WHERE id = :id")
+    @SqlQuery("SELECT JSON_SET(json, '$.postCount', postCount) FROM thread_entity WHERE id = :id")
     String findById(@Bind("id") String id);
 
-    @SqlQuery("SELECT json FROM thread_entity")
-    List<String> list();
+    @SqlQuery("SELECT count(*) FROM thread_entity")
+    int listCount();
+
+    // Threads are listed latest first and paged by the key (threadTs, id)
+    @SqlQuery(
+        "SELECT JSON_SET(json, '$.postCount', postCount) FROM thread_entity "
+            + "ORDER BY threadTs DESC, id DESC LIMIT :limit")
+    List<String> list(@Bind("limit") int limit);
+
+    @SqlQuery(
+        "SELECT JSON_SET(json, '$.postCount', postCount) FROM thread_entity, "
+            + "(SELECT threadTs AS afterTs, id AS afterId FROM thread_entity WHERE id = :after) cursor_row "
+            + "WHERE threadTs < afterTs OR (threadTs = afterTs AND id < afterId) "
+            + "ORDER BY threadTs DESC, id DESC LIMIT :limit")
+    List<String> listAfter(@Bind("limit") int limit, @Bind("after") String after);
+
+    @SqlQuery(
+        "SELECT json FROM ("
+            + "SELECT threadTs, id, JSON_SET(json, '$.postCount', postCount) AS json FROM thread_entity, "
+            + "(SELECT threadTs AS beforeTs, id AS beforeId FROM thread_entity WHERE id = :before) cursor_row "
+            + "WHERE threadTs > beforeTs OR (threadTs = beforeTs AND id > beforeId) "
+            + "ORDER BY threadTs, id LIMIT :limit"
+            + ") first_rows ORDER BY threadTs DESC, id DESC")
+    List<String> listBefore(@Bind("limit") int limit, @Bind("before") String before);
+
+    @SqlQuery(
+        "SELECT JSON_SET(json, '$.postCount', postCount) FROM thread_entity WHERE id IN (<ids>) "
+            + "ORDER BY threadTs DESC, id DESC LIMIT :limit")
+    List<String> listByIds(@BindList("ids") List<String> ids, @Bind("limit") int limit);
 
-    @SqlUpdate("UPDATE thread_entity SET json = :json where id = :id")
-    void update(@Bind("id") String id, @Bind("json") String json);
+    @SqlQuery(
+        "SELECT JSON_SET(json, '$.postCount', postCount) FROM thread_entity, "
+            + "(SELECT threadTs AS afterTs, id AS afterId FROM thread_entity WHERE id = :after) cursor_row "
+            + "WHERE id IN (<ids>) AND (threadTs < afterTs OR (threadTs = afterTs AND id < afterId)) "
+            + "ORDER BY threadTs DESC, id DESC LIMIT :limit")
+    List<String> listAfterByIds(
+        @BindList("ids") List<String> ids, @Bind("limit") int limit, @Bind("after") String after);
+
+    @SqlQuery(
+        "SELECT json FROM ("
+            + "SELECT threadTs, id, JSON_SET(json, '$.postCount', postCount) AS json FROM thread_entity, "
+            + "(SELECT threadTs AS beforeTs, id AS beforeId FROM thread_entity WHERE id = :before) cursor_row "
+            + "WHERE id IN (<ids>) AND (threadTs > beforeTs OR (threadTs = beforeTs AND id > beforeId)) "
+            + "ORDER BY threadTs, id LIMIT :limit"
+            + ") first_rows ORDER BY threadTs DESC, id DESC")
+    List<String> listBeforeByIds(
+        @BindList("ids") List<String> ids, @Bind("limit") int limit, @Bind("before") String before);
+
+    @SqlUpdate("INSERT INTO thread_post(threadId, json) VALUES (:threadId, :json)")
+    void insertPost(@Bind("threadId") String threadId, @Bind("json") String json);
+
+    @SqlUpdate("UPDATE thread_entity SET postCount = postCount + 1 WHERE id = :id")
+    void incrementPostCount(@Bind("id") String id);
+
+    @SqlQuery("SELECT json FROM thread_post WHERE threadId = :threadId ORDER BY postTs, id")
+    List<String> listPosts(@Bind("threadId") String threadId);
+
+    @SqlQuery("SELECT threadId, json FROM thread_post WHERE threadId IN (<threadIds>) ORDER BY threadId, postTs, id")
+    @RegisterRowMapper(PostMapper.class)
+    List<List<String>> listPostsByThreadIds(@BindList("threadIds") List<String> threadIds);
+
+    @SqlBatch(
+        "INSERT IGNORE INTO user_timeline(userId, timestamp, itemId, json) "
+            + "VALUES (:userId, :timestamp, :itemId, :json)")
+    void insertTimelineItems(
+        @Bind("userId") List<String> userIds,
+        @Bind("timestamp") long timestamp,
+        @Bind("itemId") String itemId,
+        @Bind("json") List<String> jsons);
+
+    // Latest items first, paged by the primary key (userId, timestamp, itemId)
+    @SqlQuery(
+        "SELECT json FROM user_timeline WHERE userId = :userId "
+            + "AND (timestamp < :timestamp OR (timestamp = :timestamp AND itemId < :itemId)) "
+            + "ORDER BY timestamp DESC, itemId DESC LIMIT :limit")
+    List<String> listTimeline(
+        @Bind("userId") String userId,
+        @Bind("limit") int limit,
+        @Bind("timestamp") long timestamp,
+        @Bind("itemId") String itemId);
+
+    @SqlQuery("SELECT count(*) FROM user_timeline WHERE userId = :userId")
+    int listTimelineCount(@Bind("userId") String userId);
+
+    @SqlUpdate("DELETE FROM user_timeline WHERE itemId IN (<itemIds>)")
+    int deleteTimelineItems(@BindList("itemIds") List<String> itemIds);
+
+    class PostMapper implements RowMapper<List<String>> {
+      @Override
+      public List<String> map(ResultSet rs, StatementContext ctx) throws SQLException {
+        return Arrays.asList(rs.getString("threadId"), rs.getString("json"));
+      }
+    }
   }
 
   interface FieldRelationshipDAO {
@@ -652,6 +837,16 @@ public interface CollectionDAO {
     default EntityReference getEntityReference(MlModel entity) {
       return new MlModelEntityInterface(entity).getEntityReference();
     }
+
+    /** ML models with a feature or a feature source tagged under {@code prefix}, to be matched exactly by the caller */
+    default List<String> listWithFeatureTags(String prefix) {
+      return listWithFeatureTagsPattern(EntityUtil.escapeLikePattern(prefix));
+    }
+
+    @SqlQuery(
+        "SELECT json FROM ml_model_entity WHERE JSON_SEARCH(json, 'one', CONCAT(:prefixPattern, '%'), '!', "
+            + "'$.mlFeatures[*].tags[*].tagFQN', '$.mlFeatures[*].featureSources[*].tags[*].tagFQN') IS NOT NULL")
+    List<String> listWithFeatureTagsPattern(@Bind("prefixPattern") String prefixPattern);
   }
 
   interface PipelineDAO extends EntityDAO<Pipeline> {
@@ -674,6 +869,16 @@ public interface CollectionDAO {
     default EntityReference getEntityReference(Pipeline entity) {
       return new PipelineEntityInterface(entity).getEntityReference();
     }
+
+    /** Pipelines with a task tagged under {@code prefix}, to be matched exactly by the caller */
+    default List<String> listWithTaskTags(String prefix) {
+      return listWithTaskTagsPattern(EntityUtil.escapeLikePattern(prefix));
+    }
+
+    @SqlQuery(
+        "SELECT json FROM pipeline_entity WHERE JSON_SEARCH(json, 'one', CONCAT(:prefixPattern, '%'), '!', "
+            + "'$.tasks[*].tags[*].tagFQN') IS NOT NULL")
+    List<String> listWithTaskTagsPattern(@Bind("prefixPattern") String prefixPattern);
   }
 
   interface PipelineServiceDAO extends EntityDAO<PipelineService> {
@@ -881,9 +1086,23 @@ public interface CollectionDAO {
     @SqlUpdate("INSERT INTO tag_category (json) VALUES (:json)")
     void insertCategory(@Bind("json") String json);
 
+    @SqlUpdate("INSERT IGNORE INTO tag_category (json) VALUES (:json)")
+    void insertCategoryIfAbsent(@Bind("json") String json);
+
     @SqlUpdate("INSERT INTO tag(json) VALUES (:json)")
     void insertTag(@Bind("json") String json);
 
+    @SqlBatch("INSERT IGNORE INTO tag(json) VALUES (:json)")
+    void insertTagsIfAbsent(@Bind("json") List<String> jsons);
+
+    @SqlQuery("SELECT checksum FROM tag_category_checksum WHERE name = :name")
+    String getCategoryChecksum(@Bind("name") String name);
+
+    @SqlUpdate(
+        "INSERT INTO tag_category_checksum (name, checksum) VALUES (:name, :checksum) "
+            + "ON DUPLICATE KEY UPDATE checksum = :checksum")
+    void upsertCategoryChecksum(@Bind("name") String name, @Bind("checksum") String checksum);
+
     @SqlUpdate("UPDATE tag_category SET  json = :json where name = :name")
     void updateCategory(@Bind("name") String name, @Bind("json") String json);
 
@@ -893,8 +1112,54 @@ public interface CollectionDAO {
     @SqlQuery("SELECT json FROM tag_category ORDER BY name")
     List<String> listCategories();
 
-    @SqlQuery("SELECT json FROM tag WHERE fullyQualifiedName LIKE CONCAT(:fqnPrefix, '.%') ORDER BY fullyQualifiedName")
-    List<String> listChildrenTags(@Bind("fqnPrefix") String fqnPrefix);
+    @SqlQuery("SELECT json FROM tag ORDER BY fullyQualifiedName")
+    List<String> listAllTags();
+
+    /** Tags under the category or the tag {@code fqnPrefix} */
+    default List<String> listChildrenTags(String fqnPrefix) {
+      return listChildrenTagsByPattern(EntityUtil.escapeLikePattern(fqnPrefix));
+    }
+
+    @SqlQuery(
+        "SELECT json FROM tag WHERE fullyQualifiedName LIKE CONCAT(:fqnPattern, '.%') ESCAPE '!' "
+            + "ORDER BY fullyQualifiedName")
+    List<String> listChildrenTagsByPattern(@Bind("fqnPattern") String fqnPattern);
+
+    /** Rename the tags under the category or the tag {@code prefix}, whose name may contain LIKE wildcards */
+    default int renameChildrenTags(String prefix, String newPrefix) {
+      return renameChildrenTags(prefix, EntityUtil.escapeLikePattern(prefix), newPrefix);
+    }
+
+    @SqlUpdate(
+        "UPDATE tag SET json = JSON_SET(json, '$.fullyQualifiedName', "
+            + "CONCAT(:newPrefix, SUBSTRING(fullyQualifiedName, CHAR_LENGTH(:prefix) + 1))) "
+            + "WHERE fullyQualifiedName LIKE CONCAT(:prefixPattern, '.%') ESCAPE '!'")
+    int renameChildrenTags(
+        @Bind("prefix") String prefix,
+        @Bind("prefixPattern") String prefixPattern,
+        @Bind("newPrefix") String newPrefix);
+
+    default int renameTagUsage(String prefix, String newPrefix) {
+      return renameTagUsage(prefix, EntityUtil.escapeLikePattern(prefix), newPrefix);
+    }
+
+    @SqlUpdate(
+        "UPDATE tag_usage SET tagFQN = CONCAT(:newPrefix, SUBSTRING(tagFQN, CHAR_LENGTH(:prefix) + 1)) "
+            + "WHERE tagFQN = :prefix OR tagFQN LIKE CONCAT(:prefixPattern, '.%') ESCAPE '!'")
+    int renameTagUsage(
+        @Bind("prefix") String prefix,
+        @Bind("prefixPattern") String prefixPattern,
+        @Bind("newPrefix") String newPrefix);
+
+    /** Tags with an associated tag starting with {@code prefix}, which the caller must still match exactly */
+    default List<String> listTagsAssociatedWith(String prefix) {
+      return listTagsAssociatedWithPattern(EntityUtil.escapeLikePattern(prefix));
+    }
+
+    @SqlQuery(
+        "SELECT json FROM tag WHERE JSON_SEARCH(json, 'one', CONCAT(:prefixPattern, '%'), '!', '$.associatedTags') "
+            + "IS NOT NULL")
+    List<String> listTagsAssociatedWithPattern(@Bind("prefixPattern") String prefixPattern);
 
     @SqlQuery("SELECT json FROM tag_category WHERE name = :name")
     String findCategory(@Bind("name") String name);
@@ -919,14 +1184,49 @@ public interface CollectionDAO {
             + "JOIN tag t ON tu.tagFQN = t.fullyQualifiedName WHERE tu.targetFQN = :targetFQN ORDER BY tu.tagFQN")
     List<TagLabel> getTags(@Bind("targetFQN") String targetFQN);
 
+    /** Tags applied to the entity or field {@code fqnPrefix} and to the fields under it */
+    default List<TargetTagLabel> getTagsByTargetPrefix(String fqnPrefix) {
+      return getTagsByTargetPrefix(fqnPrefix, EntityUtil.escapeLikePattern(fqnPrefix));
+    }
+
+    @SqlQuery(
+        "SELECT targetFQN, tagFQN, labelType, state FROM tag_usage WHERE targetFQN = :fqnPrefix "
+            + "OR targetFQN LIKE CONCAT(:fqnPattern, '.%') ESCAPE '!' ORDER BY targetFQN, tagFQN")
+    @RegisterRowMapper(TargetTagLabelMapper.class)
+    List<TargetTagLabel> getTagsByTargetPrefix(
+        @Bind("fqnPrefix") String fqnPrefix, @Bind("fqnPattern") String fqnPattern);
+
+    @SqlQuery(
+        "SELECT targetFQN, tagFQN, labelType, state FROM tag_usage WHERE targetFQN IN (<targetFQNs>) "
+            + "ORDER BY targetFQN, tagFQN")
+    @RegisterRowMapper(TargetTagLabelMapper.class)
+    List<TargetTagLabel> getTagsByTargets(@BindList("targetFQNs") List<String> targetFQNs);
+
     @SqlQuery("SELECT COUNT(*) FROM tag_usage WHERE tagFQN LIKE CONCAT(:fqnPrefix, '%')")
     int getTagCount(@Bind("fqnPrefix") String fqnPrefix);
 
     @SqlUpdate("DELETE FROM tag_usage where targetFQN = :targetFQN")
     void deleteTags(@Bind("targetFQN") String targetFQN);
 
-    @SqlUpdate("DELETE FROM tag_usage where targetFQN LIKE CONCAT(:fqnPrefix, '%')")
-    void deleteTagsByPrefix(@Bind("fqnPrefix") String fqnPrefix);
+    /** Remove the tags applied to the entity or field {@code fqnPrefix} and to the fields under it */
+    default void deleteTagsByPrefix(String fqnPrefix) {
+      deleteTagsByPrefix(fqnPrefix, EntityUtil.escapeLikePattern(fqnPrefix));
+    }
+
+    @SqlUpdate(
+        "DELETE FROM tag_usage WHERE targetFQN = :fqnPrefix "
+            + "OR targetFQN LIKE CONCAT(:fqnPattern, '.%') ESCAPE '!'")
+    void deleteTagsByPrefix(@Bind("fqnPrefix") String fqnPrefix, @Bind("fqnPattern") String fqnPattern);
+
+    /** Entities and fields the tag {@code prefix} or the tags under it are applied to */
+    default List<String> listTargets(String prefix) {
+      return listTargets(prefix, EntityUtil.escapeLikePattern(prefix));
+    }
+
+    @SqlQuery(
+        "SELECT DISTINCT targetFQN FROM tag_usage "
+            + "WHERE tagFQN = :prefix OR tagFQN LIKE CONCAT(:prefixPattern, '.%') ESCAPE '!'")
+    List<String> listTargets(@Bind("prefix") String prefix, @Bind("prefixPattern") String prefixPattern);
 
     class TagLabelMapper implements RowMapper<TagLabel> {
       @Override
@@ -938,6 +1238,37 @@ public interface CollectionDAO {
             .withDescription(r.getString("description"));
       }
     }
+
+    /** Tag label applied to the entity or the field identified by a fully qualified name */
+    class TargetTagLabel {
+      private final String targetFQN;
+      private final TagLabel tagLabel;
+
+      public TargetTagLabel(String targetFQN, TagLabel tagLabel) {
+        this.targetFQN = targetFQN;
+        this.tagLabel = tagLabel;
+      }
+
+      public String getTargetFQN() {
+        return targetFQN;
+      }
+
+      public TagLabel getTagLabel() {
+        return tagLabel;
+      }
+    }
+
+    class TargetTagLabelMapper implements RowMapper<TargetTagLabel> {
+      @Override
+      public TargetTagLabel map(ResultSet r, StatementContext ctx) throws SQLException {
+        TagLabel tagLabel =
+            new TagLabel()
+                .withLabelType(TagLabel.LabelType.values()[r.getInt("labelType")])
+                .withState(TagLabel.State.values()[r.getInt("state")])
+                .withTagFQN(r.getString("tagFQN"));
+        return new TargetTagLabel(r.getString("targetFQN"), tagLabel);
+      }
+    }
   }
 
   interface RoleDAO extends EntityDAO<Role> {
@@ -1180,10 +1511,26 @@ public interface CollectionDAO {
         @Bind("relation") int relation);
   }
 
+  /**
+   * Fingerprints of the PUT requests that created or updated the entities, see {@link EntityRepository}. A fingerprint
+   * is valid as long as the entity keeps the version it was stored with. The fingerprints are also removed when the
+   * entities a request refers to, such as its tags or its owner, change without changing the entity.
+   */
+  interface EntityFingerprintDAO {
+    @SqlUpdate("DELETE FROM entity_fingerprint WHERE id IN (<ids>)")
+    int delete(@BindList("ids") List<String> ids);
+
+    @SqlUpdate("DELETE FROM entity_fingerprint WHERE fullyQualifiedName IN (<names>)")
+    int deleteByName(@BindList("names") List<String> names);
+  }
+
   interface ChangeEventDAO {
     @SqlUpdate("INSERT INTO change_event (json) VALUES (:json)")
     void insert(@Bind("json") String json);
 
+    @SqlBatch("INSERT INTO change_event (json) VALUES (:json)")
+    void insertBatch(@Bind("json") List<String> jsons);
+
     default List<String> list(String eventType, List<String> entityTypes, String dateTime) {
       if (entityTypes == null) {
         return Collections.emptyList();
@@ -1208,5 +1555,33 @@ public interface CollectionDAO {
             + "eventType = :eventType AND dateTime >= :dateTime "
             + "ORDER BY dateTime ASC")
     List<String> listWithoutEntityFilter(@Bind("eventType") String eventType, @Bind("dateTime") String dateTime);
+
+    /** Get the cache invalidations of the change events recorded since the given time, without the JSON documents */
+    @RegisterRowMapper(CacheInvalidationMapper.class)
+    @SqlQuery(
+        "SELECT eventType, entityType, json ->> '$.entityId' AS entityId, json ->> '$.currentVersion' AS version, "
+            + "json ->> '$.dateTime' AS eventTime FROM change_event WHERE dateTime >= :dateTime "
+            + "ORDER BY dateTime ASC")
+    List<CacheInvalidation> listInvalidations(@Bind("dateTime") String dateTime);
+
+    class CacheInvalidationMapper implements RowMapper<CacheInvalidation> {
+      @Override
+      public CacheInvalidation map(ResultSet rs, StatementContext ctx) throws SQLException {
+        String version = rs.getString("version");
+        String eventTime = rs.getString("eventTime");
+        try {
+          // The shared date format is not thread safe
+          Date dateTime = ((DateFormat) RestUtil.DATE_TIME_FORMAT.clone()).parse(eventTime);
+          return new CacheInvalidation(
+              rs.getString("eventType"),
+              rs.getString("entityType"),
+              UUID.fromString(rs.getString("entityId")),
+              version == null || version.equals("null") ? null : Double.valueOf(version),
+              dateTime);
+        } catch (ParseException e) {
+          throw new SQLException("Invalid change event time " + eventTime, e);
+        }
+      }
+    }
   }
 }
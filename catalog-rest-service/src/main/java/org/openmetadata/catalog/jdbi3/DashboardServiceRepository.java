@@ -87,11 +87,7 @@ public class DashboardServiceRepository extends EntityRepository<DashboardServic
 
   @Override
   public void storeEntity(DashboardService service, boolean update) throws IOException {
-    if (update) {
-      daoCollection.dashboardServiceDAO().update(service.getId(), JsonUtils.pojoToJson(service));
-    } else {
-      daoCollection.dashboardServiceDAO().insert(service);
-    }
+    store(service.getId(), service, update);
   }
 
   @Override
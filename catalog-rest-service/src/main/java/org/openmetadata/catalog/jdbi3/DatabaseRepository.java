@@ -34,7 +34,6 @@ import org.openmetadata.catalog.type.EntityReference;
 import org.openmetadata.catalog.util.EntityInterface;
 import org.openmetadata.catalog.util.EntityUtil;
 import org.openmetadata.catalog.util.EntityUtil.Fields;
-import org.openmetadata.catalog.util.JsonUtils;
 
 public class DatabaseRepository extends EntityRepository<Database> {
   private static final Fields DATABASE_UPDATE_FIELDS = new Fields(DatabaseResource.FIELD_LIST, "owner");
@@ -83,11 +82,7 @@ public class DatabaseRepository extends EntityRepository<Database> {
     // Don't store owner, database, href and tags as JSON. Build it on the fly based on relationships
     database.withOwner(null).withService(null).withHref(null);
 
-    if (update) {
-      daoCollection.databaseDAO().update(database.getId(), JsonUtils.pojoToJson(database));
-    } else {
-      daoCollection.databaseDAO().insert(database);
-    }
+    store(database.getId(), database, update);
 
     // Restore the relationships
     database.withOwner(owner).withService(service);
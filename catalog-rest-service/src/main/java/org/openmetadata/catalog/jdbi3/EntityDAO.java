@@ -17,12 +17,19 @@ import static org.openmetadata.catalog.exception.CatalogExceptionMessage.entityN
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import org.jdbi.v3.core.result.ResultIterable;
 import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.customizer.BindList;
 import org.jdbi.v3.sqlobject.customizer.Define;
+import org.jdbi.v3.sqlobject.customizer.FetchSize;
+import org.jdbi.v3.sqlobject.statement.SqlBatch;
 import org.jdbi.v3.sqlobject.statement.SqlQuery;
 import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+import org.jdbi.v3.sqlobject.transaction.Transaction;
 import org.openmetadata.catalog.Entity;
 import org.openmetadata.catalog.exception.CatalogExceptionMessage;
 import org.openmetadata.catalog.exception.EntityNotFoundException;
@@ -43,6 +50,9 @@ public interface EntityDAO<T> {
   @SqlUpdate("INSERT INTO <table> (json) VALUES (:json)")
   void insert(@Define("table") String table, @Bind("json") String json);
 
+  @SqlBatch("INSERT INTO <table> (json) VALUES (:json)")
+  void insertBatch(@Define("table") String table, @Bind("json") List<String> jsons);
+
   @SqlUpdate("UPDATE <table> SET  json = :json WHERE id = :id")
   void update(@Define("table") String table, @Bind("id") String id, @Bind("json") String json);
 
@@ -91,21 +101,74 @@ public interface EntityDAO<T> {
       @Bind("limit") int limit,
       @Bind("after") String after);
 
+  // MySQL driver streams the rows one at a time instead of reading all of them in memory only for this fetch size
+  @FetchSize(Integer.MIN_VALUE)
+  @SqlQuery("SELECT json FROM <table> WHERE deleted IS NOT TRUE ORDER BY <nameColumn>")
+  ResultIterable<String> listAll(@Define("table") String table, @Define("nameColumn") String nameColumn);
+
+  @SqlQuery("SELECT <nameColumn> FROM <table> WHERE <nameColumn> IN (<names>)")
+  List<String> findExistingNames(
+      @Define("table") String table,
+      @Define("nameColumn") String nameColumn,
+      @BindList("names") List<String> names);
+
+  @SqlQuery("SELECT json FROM <table> WHERE id IN (<ids>)")
+  List<String> findByIds(@Define("table") String table, @BindList("ids") List<String> ids);
+
   @SqlQuery("SELECT EXISTS (SELECT * FROM <table> WHERE id = :id)")
   boolean exists(@Define("table") String table, @Bind("id") String id);
 
   @SqlUpdate("DELETE FROM <table> WHERE id = :id")
   int delete(@Define("table") String table, @Bind("id") String id);
 
+  @SqlUpdate("UPDATE <table> SET json = JSON_SET(json, '$.deleted', true) WHERE id IN (<ids>) AND deleted IS NOT TRUE")
+  int softDelete(@Define("table") String table, @BindList("ids") List<String> ids);
+
+  @SqlQuery(
+      "SELECT e.json FROM entity_fingerprint f JOIN <table> e ON e.id = f.id WHERE f.fingerprint = :fingerprint "
+          + "AND f.entityVersion = e.json -> '$.version' AND e.deleted IS NOT TRUE LIMIT 1")
+  String findByFingerprint(@Define("table") String table, @Bind("fingerprint") String fingerprint);
+
+  @SqlUpdate(
+      "REPLACE INTO entity_fingerprint (id, fingerprint, fullyQualifiedName, entityVersion) "
+          + "VALUES (:id, :fingerprint, :fqn, :version)")
+  void upsertFingerprint(
+      @Bind("id") String id,
+      @Bind("fingerprint") String fingerprint,
+      @Bind("fqn") String fqn,
+      @Bind("version") Double version);
+
+  @SqlUpdate(
+      "DELETE f FROM entity_fingerprint f JOIN <table> e ON e.id = f.id "
+          + "WHERE e.deleted IS TRUE OR f.entityVersion <> e.json -> '$.version'")
+  int purgeFingerprints(@Define("table") String table);
+
   /** Default methods that interfaces with implementation. Don't override */
   default void insert(T entity) throws JsonProcessingException {
     insert(getTableName(), JsonUtils.pojoToJson(entity));
   }
 
+  default void insertBatch(List<String> jsons) {
+    insertBatch(getTableName(), jsons);
+  }
+
   default void update(UUID id, String json) {
     update(getTableName(), id.toString(), json);
   }
 
+  /** Entities {@code ids} read with a single query, by id. The ids of the entities that don't exist are left out */
+  default Map<UUID, T> findEntitiesByIds(List<String> ids) throws IOException {
+    Map<UUID, T> entities = new HashMap<>();
+    if (ids.isEmpty()) {
+      return entities;
+    }
+    for (String json : findByIds(getTableName(), ids)) {
+      T entity = JsonUtils.readValue(json, getEntityClass());
+      entities.put(getEntityReference(entity).getId(), entity);
+    }
+    return entities;
+  }
+
   default T findEntityById(UUID id) throws IOException {
     Class<T> clz = getEntityClass();
     String json = findById(getTableName(), id.toString());
@@ -150,6 +213,39 @@ public interface EntityDAO<T> {
     return findByName(getTableName(), getNameColumn(), fqn);
   }
 
+  /**
+   * Entity last created or updated by a PUT request with the given fingerprint, when the entity did not change since.
+   * Returns null otherwise.
+   */
+  default String findJsonByFingerprint(String fingerprint) {
+    return findByFingerprint(getTableName(), fingerprint);
+  }
+
+  /**
+   * Record the fingerprint of the PUT request that created or updated the entity, along with the version it produced.
+   * The fingerprint is stale once the entity has another version.
+   */
+  default void upsertFingerprint(UUID id, String fingerprint, String fqn, Double version) {
+    upsertFingerprint(id.toString(), fingerprint, fqn, version);
+  }
+
+  /** Remove the fingerprints of the entities that were soft deleted or updated since, which can't match anymore */
+  default int purgeFingerprints() {
+    return purgeFingerprints(getTableName());
+  }
+
+  /** Insert or update the entity along with the fingerprint of the PUT request that produced it */
+  @Transaction
+  default void storeWithFingerprint(
+      boolean update, UUID id, String json, String fingerprint, String fqn, Double version) {
+    if (update) {
+      update(getTableName(), id.toString(), json);
+    } else {
+      insert(getTableName(), json);
+    }
+    upsertFingerprint(id, fingerprint, fqn, version);
+  }
+
   default int listCount(String databaseFQN) {
     return listCount(getTableName(), getNameColumn(), databaseFQN);
   }
@@ -162,6 +258,15 @@ public interface EntityDAO<T> {
     return listAfter(getTableName(), getNameColumn(), databaseFQN, limit, after);
   }
 
+  default ResultIterable<String> listAll() {
+    return listAll(getTableName(), getNameColumn());
+  }
+
+  /** Names of the entities, including the deleted entities, that exist among the given names */
+  default List<String> findExistingNames(List<String> names) {
+    return findExistingNames(getTableName(), getNameColumn(), names);
+  }
+
   default boolean exists(UUID id) {
     return exists(getTableName(), id.toString());
   }
@@ -174,4 +279,9 @@ public interface EntityDAO<T> {
     }
     return rowsDeleted;
   }
+
+  /** Soft delete the entities with the given ids with a single statement and return the number of entities deleted */
+  default int softDelete(List<String> ids) {
+    return softDelete(getTableName(), ids);
+  }
 }
@@ -16,37 +16,68 @@ package org.openmetadata.catalog.jdbi3;
 import static org.openmetadata.catalog.util.EntityUtil.entityReferenceMatch;
 import static org.openmetadata.catalog.util.EntityUtil.objectMatch;
 
+import com.fasterxml.jackson.core.JsonPointer;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.hash.Hashing;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.UnsupportedEncodingException;
+import java.io.Writer;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
 import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import javax.json.JsonPatch;
+import javax.json.JsonValue;
+import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriInfo;
+import org.jdbi.v3.core.result.ResultIterator;
 import org.jdbi.v3.sqlobject.transaction.Transaction;
 import org.openmetadata.catalog.Entity;
 import org.openmetadata.catalog.entity.data.Table;
+import org.openmetadata.catalog.entity.teams.Team;
 import org.openmetadata.catalog.entity.teams.User;
 import org.openmetadata.catalog.exception.CatalogExceptionMessage;
+import org.openmetadata.catalog.events.ChangeEventHandler;
 import org.openmetadata.catalog.exception.EntityNotFoundException;
 import org.openmetadata.catalog.jdbi3.CollectionDAO.EntityVersionPair;
 import org.openmetadata.catalog.jdbi3.TableRepository.TableUpdater;
+import org.openmetadata.catalog.operations.DeleteJob;
+import org.openmetadata.catalog.resources.ExportParams;
+import org.openmetadata.catalog.resources.ImportParams;
 import org.openmetadata.catalog.type.ChangeDescription;
 import org.openmetadata.catalog.type.ChangeEvent;
 import org.openmetadata.catalog.type.EntityHistory;
 import org.openmetadata.catalog.type.EntityReference;
 import org.openmetadata.catalog.type.EventType;
 import org.openmetadata.catalog.type.FieldChange;
+import org.openmetadata.catalog.type.ImportResult;
 import org.openmetadata.catalog.type.TagLabel;
+import org.openmetadata.catalog.util.CatalogMetrics;
 import org.openmetadata.catalog.util.EntityInterface;
 import org.openmetadata.catalog.util.EntityUtil;
 import org.openmetadata.catalog.util.EntityUtil.Fields;
@@ -92,16 +123,43 @@ import org.slf4j.LoggerFactory;
  */
 public abstract class EntityRepository<T> {
   public static final Logger LOG = LoggerFactory.getLogger(EntityRepository.class);
+
+  /** A full snapshot is kept in the version history at least once every these many versions of an entity */
+  private static final int VERSION_SNAPSHOT_INTERVAL = 5;
+
+  /** Number of stored versions read at once when rebuilding the versions of an entity */
+  private static final int VERSION_BATCH_SIZE = 10;
+
+  /** Fields of an entity set by the server instead of the request creating or updating the entity */
+  private static final Set<String> SERVER_SET_FIELDS =
+      Set.of("id", "version", "updatedAt", "updatedBy", "href", "changeDescription");
+
   private final String collectionPath;
   private final Class<T> entityClass;
   private final String entityName;
   protected final EntityDAO<T> dao;
   protected final CollectionDAO daoCollection;
   protected boolean softDelete = true;
+
+  /**
+   * Skip a PUT request sent again when the entity did not change since the same request. Turned off for the entities
+   * with relationships that are updated by PUT and are also updated from the other end without a new version.
+   */
+  protected boolean skipUnchangedPut = true;
+
   protected final boolean supportsTags;
   protected final boolean supportsOwner;
   protected final boolean supportsFollower;
 
+  /** Documents of the entities being imported on this thread, inserted as a batch at the end of the transaction */
+  private final ThreadLocal<List<String>> pendingInserts = new ThreadLocal<>();
+
+  /** Owners, followers and tags of the batch of entities whose fields are being set on this thread */
+  private final ThreadLocal<BatchFields> batchFields = new ThreadLocal<>();
+
+  /** Fingerprint of the PUT request being processed on this thread, stored along with the entity it produces */
+  private final ThreadLocal<String> pendingFingerprint = new ThreadLocal<>();
+
   /** Fields that can be updated during PATCH operation */
   private final Fields patchFields;
 
@@ -199,70 +257,356 @@ public abstract class EntityRepository<T> {
 
   @Transaction
   public final T get(UriInfo uriInfo, String id, Fields fields) throws IOException, ParseException {
-    return withHref(uriInfo, setFields(dao.findEntityById(UUID.fromString(id)), fields));
+    try (CatalogMetrics.Sample ignored = time("get")) {
+      return withHref(uriInfo, timedSetFields(dao.findEntityById(UUID.fromString(id)), fields));
+    }
   }
 
   @Transaction
   public final T getByName(UriInfo uriInfo, String fqn, Fields fields) throws IOException, ParseException {
-    return withHref(uriInfo, setFields(dao.findEntityByName(fqn), fields));
+    try (CatalogMetrics.Sample ignored = time("getByName")) {
+      return withHref(uriInfo, timedSetFields(dao.findEntityByName(fqn), fields));
+    }
   }
 
   @Transaction
   public final ResultList<T> listAfter(UriInfo uriInfo, Fields fields, String fqnPrefix, int limitParam, String after)
       throws GeneralSecurityException, IOException, ParseException {
-    // forward scrolling, if after == null then first page is being asked
-    List<String> jsons =
-        dao.listAfter(fqnPrefix, limitParam + 1, after == null ? "" : CipherText.instance().decrypt(after));
-
-    List<T> entities = new ArrayList<>();
-    for (String json : jsons) {
-      T entity = withHref(uriInfo, setFields(JsonUtils.readValue(json, entityClass), fields));
-      entities.add(entity);
-    }
-    int total = dao.listCount(fqnPrefix);
-
-    String beforeCursor;
-    String afterCursor = null;
-    beforeCursor = after == null ? null : getFullyQualifiedName(entities.get(0));
-    if (entities.size() > limitParam) { // If extra result exists, then next page exists - return after cursor
-      entities.remove(limitParam);
-      afterCursor = getFullyQualifiedName(entities.get(limitParam - 1));
+    try (CatalogMetrics.Sample ignored = time("list")) {
+      // forward scrolling, if after == null then first page is being asked
+      List<String> jsons =
+          dao.listAfter(fqnPrefix, limitParam + 1, after == null ? "" : CipherText.instance().decrypt(after));
+
+      List<T> entities = new ArrayList<>();
+      for (String json : jsons) {
+        T entity = withHref(uriInfo, timedSetFields(JsonUtils.readValue(json, entityClass), fields));
+        entities.add(entity);
+      }
+      int total = dao.listCount(fqnPrefix);
+
+      String beforeCursor;
+      String afterCursor = null;
+      beforeCursor = after == null ? null : getFullyQualifiedName(entities.get(0));
+      if (entities.size() > limitParam) { // If extra result exists, then next page exists - return after cursor
+        entities.remove(limitParam);
+        afterCursor = getFullyQualifiedName(entities.get(limitParam - 1));
+      }
+      return getResultList(entities, beforeCursor, afterCursor, total);
     }
-    return getResultList(entities, beforeCursor, afterCursor, total);
   }
 
   @Transaction
   public final ResultList<T> listBefore(UriInfo uriInfo, Fields fields, String fqnPrefix, int limitParam, String before)
       throws IOException, GeneralSecurityException, ParseException {
-    // Reverse scrolling - Get one extra result used for computing before cursor
-    List<String> jsons = dao.listBefore(fqnPrefix, limitParam + 1, CipherText.instance().decrypt(before));
+    try (CatalogMetrics.Sample ignored = time("list")) {
+      // Reverse scrolling - Get one extra result used for computing before cursor
+      List<String> jsons = dao.listBefore(fqnPrefix, limitParam + 1, CipherText.instance().decrypt(before));
+
+      List<T> entities = new ArrayList<>();
+      for (String json : jsons) {
+        T entity = withHref(uriInfo, timedSetFields(JsonUtils.readValue(json, entityClass), fields));
+        entities.add(entity);
+      }
+      int total = dao.listCount(fqnPrefix);
 
-    List<T> entities = new ArrayList<>();
-    for (String json : jsons) {
-      T entity = withHref(uriInfo, setFields(JsonUtils.readValue(json, entityClass), fields));
-      entities.add(entity);
+      String beforeCursor = null;
+      String afterCursor;
+      if (entities.size() > limitParam) { // If extra result exists, then previous page exists - return before cursor
+        entities.remove(0);
+        beforeCursor = getFullyQualifiedName(entities.get(0));
+      }
+      afterCursor = getFullyQualifiedName(entities.get(entities.size() - 1));
+      return getResultList(entities, beforeCursor, afterCursor, total);
     }
-    int total = dao.listCount(fqnPrefix);
+  }
 
-    String beforeCursor = null;
-    String afterCursor;
-    if (entities.size() > limitParam) { // If extra result exists, then previous page exists - return before cursor
-      entities.remove(0);
-      beforeCursor = getFullyQualifiedName(entities.get(0));
+  /**
+   * Export all the entities as newline delimited JSON. Entities are streamed from the database and their fields are set
+   * {@code batchSize} entities at a time, so the memory used does not grow with the number of entities exported.
+   */
+  public final StreamingOutput export(UriInfo uriInfo, Fields fields, int batchSize) {
+    return output -> {
+      try {
+        exportEntities(uriInfo, fields, batchSize, output);
+      } catch (ParseException e) {
+        throw new IOException(e);
+      }
+    };
+  }
+
+  /** Response of the {@code GET .../export} endpoint of the collection, with the fields valid for the entity */
+  public final Response export(UriInfo uriInfo, List<String> validFields, ExportParams params) {
+    Fields fields = new Fields(validFields, params.getFields());
+    return Response.ok(export(uriInfo, fields, params.getBatchSize()), RestUtil.NDJSON_MEDIA_TYPE).build();
+  }
+
+  private void exportEntities(UriInfo uriInfo, Fields fields, int batchSize, OutputStream output)
+      throws IOException, ParseException {
+    Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+    try (ResultIterator<String> jsons = dao.listAll().iterator()) {
+      List<T> batch = new ArrayList<>(batchSize);
+      while (jsons.hasNext()) {
+        batch.add(JsonUtils.readValue(jsons.next(), entityClass));
+        if (batch.size() >= batchSize || !jsons.hasNext()) {
+          batchFields.set(getBatchFields(batch, fields));
+          try {
+            for (T entity : batch) {
+              writer.write(JsonUtils.pojoToJson(withHref(uriInfo, setFields(entity, fields))));
+              writer.write('\n');
+            }
+          } finally {
+            batchFields.remove();
+          }
+          writer.flush();
+          batch.clear();
+        }
+      }
     }
-    afterCursor = getFullyQualifiedName(entities.get(entities.size() - 1));
-    return getResultList(entities, beforeCursor, afterCursor, total);
+    writer.flush();
+  }
+
+  /**
+   * Read the owners, followers and tags of a batch of entities with a few queries for the whole batch. {@link
+   * #getOwner(Object)}, {@link #getFollowers(Object)} and {@link #getTags(String)} return them while the batch is set
+   * on this thread, instead of querying them for each entity.
+   */
+  private BatchFields getBatchFields(List<T> entities, Fields fields) throws IOException {
+    List<String> ids = new ArrayList<>(entities.size());
+    List<String> names = new ArrayList<>(entities.size());
+    for (T entity : entities) {
+      EntityInterface<T> entityInterface = getEntityInterface(entity);
+      ids.add(entityInterface.getId().toString());
+      names.add(entityInterface.getFullyQualifiedName());
+    }
+    BatchFields batch = new BatchFields();
+    if (supportsOwner && fields.contains("owner")) {
+      batch.owners = getOwners(ids);
+    }
+    if (supportsFollower && fields.contains("followers")) {
+      batch.followers = getFollowers(ids);
+    }
+    if (fields.contains("tags")) {
+      batch.tags = EntityUtil.getTagsByTargets(daoCollection.tagDAO(), names);
+    }
+    return batch;
+  }
+
+  private Map<UUID, EntityReference> getOwners(List<String> ids) throws IOException {
+    List<List<String>> relations =
+        daoCollection.relationshipDAO().findFrom(ids, entityName, Relationship.OWNS.ordinal());
+    List<String> userIds = new ArrayList<>();
+    List<String> teamIds = new ArrayList<>();
+    for (List<String> relation : relations) {
+      (Entity.USER.equalsIgnoreCase(relation.get(2)) ? userIds : teamIds).add(relation.get(1));
+    }
+    Map<UUID, User> users = daoCollection.userDAO().findEntitiesByIds(userIds);
+    Map<UUID, Team> teams = daoCollection.teamDAO().findEntitiesByIds(teamIds);
+
+    // Same owners as EntityUtil.populateOwner() for each entity
+    Map<UUID, EntityReference> owners = new HashMap<>();
+    for (List<String> relation : relations) {
+      UUID ownerId = UUID.fromString(relation.get(1));
+      EntityReference owner = new EntityReference().withId(ownerId).withType(relation.get(2));
+      if (owner.getType().equalsIgnoreCase(Entity.USER)) {
+        User user = users.get(ownerId);
+        if (user == null) {
+          throw EntityNotFoundException.byMessage(CatalogExceptionMessage.entityNotFound(Entity.USER, ownerId));
+        }
+        if (Boolean.TRUE.equals(user.getDeleted())) {
+          throw new IllegalArgumentException(CatalogExceptionMessage.deactivatedUser(ownerId));
+        }
+        owner.setName(user.getName());
+      } else if (owner.getType().equalsIgnoreCase(Entity.TEAM)) {
+        Team team = teams.get(ownerId);
+        if (team == null) {
+          throw EntityNotFoundException.byMessage(CatalogExceptionMessage.entityNotFound(Entity.TEAM, ownerId));
+        }
+        owner.withName(team.getName()).withDescription(team.getDescription());
+      } else {
+        throw new IllegalArgumentException(String.format("Invalid ownerType %s", owner.getType()));
+      }
+      owners.putIfAbsent(UUID.fromString(relation.get(0)), owner);
+    }
+    return owners;
+  }
+
+  private Map<UUID, List<EntityReference>> getFollowers(List<String> ids) throws IOException {
+    List<List<String>> relations =
+        daoCollection.relationshipDAO().findFrom(ids, entityName, Relationship.FOLLOWS.ordinal());
+    relations.removeIf(relation -> !Entity.USER.equals(relation.get(2)));
+    Map<UUID, User> users =
+        daoCollection
+            .userDAO()
+            .findEntitiesByIds(relations.stream().map(relation -> relation.get(1)).collect(Collectors.toList()));
+
+    // Same followers as EntityUtil.getFollowers() for each entity
+    Map<UUID, List<EntityReference>> followers = new HashMap<>();
+    for (List<String> relation : relations) {
+      UUID followerId = UUID.fromString(relation.get(1));
+      User user = users.get(followerId);
+      if (user == null) {
+        throw EntityNotFoundException.byMessage(CatalogExceptionMessage.entityNotFound(Entity.USER, followerId));
+      }
+      followers
+          .computeIfAbsent(UUID.fromString(relation.get(0)), id -> new ArrayList<>())
+          .add(new EntityReference().withName(user.getName()).withId(user.getId()).withType("user"));
+    }
+    return followers;
+  }
+
+  /**
+   * Import entities from newline delimited JSON as produced by {@link #export(UriInfo, Fields, int)}. Entities are
+   * partitioned by the hash of their fully qualified name and each partition is imported by a separate thread,
+   * {@code batchSize} entities per transaction with the entity documents written as a single JDBI batch. Entities that
+   * already exist are skipped, so an import that stopped on an error can be resumed by skipping the lines up to the
+   * returned checkpoint, or simply by importing the same input again.
+   */
+  public final ImportResult importEntities(
+      InputStream input, int skip, int batchSize, int parallelism, boolean skipEvents) throws IOException {
+    ImportResult result =
+        new ImportResult().withEntityType(entityName).withCheckpoint(skip).withCreated(0).withSkipped(0);
+    List<List<T>> partitions = new ArrayList<>(parallelism);
+    for (int i = 0; i < parallelism; i++) {
+      partitions.add(new ArrayList<>());
+    }
+    ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+    FeedRepository feedRepository = new FeedRepository(daoCollection);
+    try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+      int lineNumber = 0;
+      int pending = 0;
+      String json;
+      while ((json = reader.readLine()) != null) {
+        if (++lineNumber <= skip || json.isBlank()) {
+          continue;
+        }
+        T entity = JsonUtils.readValue(json, entityClass);
+        partitions.get(Math.floorMod(getFullyQualifiedName(entity).hashCode(), parallelism)).add(entity);
+        if (++pending == batchSize * parallelism) {
+          importPartitions(partitions, batchSize, skipEvents, feedRepository, executor, result);
+          result.setCheckpoint(lineNumber);
+          pending = 0;
+        }
+      }
+      importPartitions(partitions, batchSize, skipEvents, feedRepository, executor, result);
+      result.setCheckpoint(Math.max(lineNumber, skip));
+    } catch (ImportException e) {
+      LOG.error("Failed to import {} after line {}", entityName, result.getCheckpoint(), e.getCause());
+      result.setError(e.getCause().getMessage());
+    } finally {
+      executor.shutdown();
+    }
+    return result;
+  }
+
+  /** Import entities for the {@code POST .../import} endpoint of the collection */
+  public final ImportResult importEntities(InputStream input, ImportParams params) throws IOException {
+    return importEntities(
+        input, params.getSkip(), params.getBatchSize(), params.getParallelism(), params.isSkipEvents());
+  }
+
+  private void importPartitions(
+      List<List<T>> partitions,
+      int batchSize,
+      boolean skipEvents,
+      FeedRepository feedRepository,
+      ExecutorService executor,
+      ImportResult result)
+      throws ImportException {
+    List<Future<Integer>> futures = new ArrayList<>();
+    int total = 0;
+    for (List<T> partition : partitions) {
+      List<T> entities = new ArrayList<>(partition);
+      total += entities.size();
+      partition.clear();
+      futures.add(executor.submit(() -> importPartition(entities, batchSize, skipEvents, feedRepository)));
+    }
+
+    // Wait for all the partitions, even after a failure, so that no partition is still running when returning
+    int created = 0;
+    Throwable failure = null;
+    for (Future<Integer> future : futures) {
+      try {
+        created += future.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        failure = e;
+      } catch (ExecutionException e) {
+        failure = e.getCause();
+      }
+    }
+    result.setCreated(result.getCreated() + created);
+    if (failure != null) {
+      throw new ImportException(failure);
+    }
+    result.setSkipped(result.getSkipped() + total - created);
+  }
+
+  private int importPartition(List<T> entities, int batchSize, boolean skipEvents, FeedRepository feedRepository)
+      throws IOException {
+    int created = 0;
+    for (int i = 0; i < entities.size(); i += batchSize) {
+      List<T> batch = entities.subList(i, Math.min(i + batchSize, entities.size()));
+      List<ChangeEvent> changeEvents = new ArrayList<>();
+      List<T> createdEntities =
+          daoCollection.inTransaction(
+              transaction -> {
+                List<T> batchCreated = importBatch(batch);
+                if (!skipEvents && !batchCreated.isEmpty()) {
+                  // Stored with the entities, so that no entity is imported without its change event
+                  for (T entity : batchCreated) {
+                    changeEvents.add(
+                        ChangeEventHandler.getChangeEvent(
+                                EventType.ENTITY_CREATED, entityName, getEntityInterface(entity))
+                            .withEntity(entity));
+                  }
+                  ChangeEventHandler.storeChangeEvents(daoCollection, feedRepository, changeEvents);
+                }
+                return batchCreated;
+              });
+      ChangeEventHandler.publishChangeEvents(changeEvents);
+      created += createdEntities.size();
+    }
+    return created;
+  }
+
+  /**
+   * Create the entities that don't exist yet. Called within a transaction, where all the queries made on this thread
+   * join the transaction, and the entity documents are collected by {@link #store(UUID, Object, boolean)} to be written
+   * as a single batch.
+   */
+  private List<T> importBatch(List<T> batch) throws IOException {
+    List<String> names = batch.stream().map(this::getFullyQualifiedName).collect(Collectors.toList());
+    Set<String> existingNames = new HashSet<>(dao.findExistingNames(names));
+    List<T> created = new ArrayList<>();
+    List<String> jsons = new ArrayList<>();
+    pendingInserts.set(jsons);
+    try {
+      for (T entity : batch) {
+        if (!existingNames.contains(getFullyQualifiedName(entity))) {
+          prepare(entity);
+          createNewEntity(entity);
+          created.add(entity);
+        }
+      }
+    } finally {
+      pendingInserts.remove();
+    }
+    if (!jsons.isEmpty()) {
+      dao.insertBatch(jsons);
+    }
+    return created;
   }
 
   @Transaction
   public T getVersion(String id, String version) throws IOException, ParseException {
     Double requestedVersion = Double.parseDouble(version);
-    String extension = EntityUtil.getVersionExtension(entityName, requestedVersion);
 
     // Get previous version from version history
-    String json = daoCollection.entityExtensionDAO().getEntityVersion(id, extension);
-    if (json != null) {
-      return JsonUtils.readValue(json, entityClass);
+    List<EntityVersionPair> history = getVersionHistory(id);
+    for (int i = 0; i < history.size(); i++) {
+      if (history.get(i).getVersion().equals(requestedVersion)) {
+        return JsonUtils.readValue(buildVersions(id, history, i, i + 1).get(0), entityClass);
+      }
     }
     // If requested the latest version, return it from current version of the entity
     T entity = setFields(dao.findEntityById(UUID.fromString(id)), putFields);
@@ -276,14 +620,32 @@ public abstract class EntityRepository<T> {
 
   @Transaction
   public EntityHistory listVersions(String id) throws IOException, ParseException {
-    T latest = setFields(dao.findEntityById(UUID.fromString(id)), putFields);
-    String extensionPrefix = EntityUtil.getVersionExtensionPrefix(entityName);
-    List<EntityVersionPair> oldVersions = daoCollection.entityExtensionDAO().getEntityVersions(id, extensionPrefix);
-    oldVersions.sort(EntityUtil.compareVersion.reversed());
+    return listVersions(id, Integer.MAX_VALUE, null);
+  }
 
+  /**
+   * List versions of an entity ordered from the latest to the oldest. When {@code before} is null, the list starts
+   * with the current version of the entity. Otherwise, only versions older than {@code before} are listed. At most
+   * {@code limit} versions are returned.
+   */
+  @Transaction
+  public EntityHistory listVersions(String id, int limit, String before) throws IOException, ParseException {
+    T latest = setFields(dao.findEntityById(UUID.fromString(id)), putFields);
     final List<Object> allVersions = new ArrayList<>();
-    allVersions.add(JsonUtils.pojoToJson(latest));
-    oldVersions.forEach(version -> allVersions.add(version.getEntityJson()));
+    if (before == null) {
+      allVersions.add(JsonUtils.pojoToJson(latest));
+    }
+
+    List<EntityVersionPair> history = getVersionHistory(id);
+    int start = 0;
+    if (before != null) {
+      Double beforeVersion = Double.parseDouble(before);
+      while (start < history.size() && history.get(start).getVersion() >= beforeVersion) {
+        start++;
+      }
+    }
+    int end = (int) Math.min(history.size(), (long) start + limit - allVersions.size());
+    allVersions.addAll(buildVersions(id, history, start, end));
     return new EntityHistory().withEntityType(entityName).withVersions(allVersions);
   }
 
@@ -299,40 +661,92 @@ public abstract class EntityRepository<T> {
 
   @Transaction
   public final PutResponse<T> createOrUpdate(UriInfo uriInfo, T updated) throws IOException, ParseException {
-    prepare(updated);
-    T original = JsonUtils.readValue(dao.findJsonByFqn(getFullyQualifiedName(updated)), entityClass);
-    if (original == null) {
-      return new PutResponse<>(Status.CREATED, withHref(uriInfo, createNewEntity(updated)), RestUtil.ENTITY_CREATED);
+    try (CatalogMetrics.Sample ignored = time("createOrUpdate")) {
+      // Ingestion sends the same requests again and again. When the entity did not change since it was last created or
+      // updated by the same request, skip validating the request and comparing it with the stored entity.
+      String fingerprint = skipUnchangedPut ? getFingerprint(updated) : null;
+      if (fingerprint != null) {
+        T unchanged = JsonUtils.readValue(dao.findJsonByFingerprint(fingerprint), entityClass);
+        if (unchanged != null) {
+          return new PutResponse<>(Status.OK, withHref(uriInfo, noChange(unchanged)), RestUtil.ENTITY_NO_CHANGE);
+        }
+      }
+
+      // The fingerprint is written in the same transaction as the entity, see store()
+      pendingFingerprint.set(fingerprint);
+      try {
+        prepare(updated);
+        T original = JsonUtils.readValue(dao.findJsonByFqn(getFullyQualifiedName(updated)), entityClass);
+        if (original == null) {
+          T created = createNewEntity(updated);
+          return new PutResponse<>(Status.CREATED, withHref(uriInfo, created), RestUtil.ENTITY_CREATED);
+        }
+        // Get all the fields in the original entity that can be updated during PUT operation
+        timedSetFields(original, putFields);
+
+        // Update the attributes and relationships of an entity
+        EntityUpdater entityUpdater = getUpdater(original, updated, false);
+        entityUpdater.update();
+        if (pendingFingerprint.get() != null) {
+          // The entity did not change, the fingerprint is valid for its current version
+          EntityInterface<T> entityInterface = getEntityInterface(updated);
+          dao.upsertFingerprint(
+              entityInterface.getId(),
+              fingerprint,
+              entityInterface.getFullyQualifiedName(),
+              entityInterface.getVersion());
+        }
+        String change = entityUpdater.fieldsChanged() ? RestUtil.ENTITY_UPDATED : RestUtil.ENTITY_NO_CHANGE;
+        return new PutResponse<>(Status.OK, withHref(uriInfo, updated), change);
+      } finally {
+        pendingFingerprint.remove();
+      }
     }
-    // Get all the fields in the original entity that can be updated during PUT operation
-    setFields(original, putFields);
+  }
+
+  /**
+   * Fingerprint of an entity to create or update, from the entity type and the fields of the request. The fields set
+   * by the server, such as the id or the time of the update, are left out so that the same request sent again has the
+   * same fingerprint.
+   */
+  private String getFingerprint(T entity) throws JsonProcessingException {
+    Map<String, Object> fields = JsonUtils.getMap(entity);
+    fields.keySet().removeAll(SERVER_SET_FIELDS);
+    return Hashing.sha256().hashString(entityName + JsonUtils.pojoToJson(fields), StandardCharsets.UTF_8).toString();
+  }
 
-    // Update the attributes and relationships of an entity
-    EntityUpdater entityUpdater = getUpdater(original, updated, false);
-    entityUpdater.update();
-    String change = entityUpdater.fieldsChanged() ? RestUtil.ENTITY_UPDATED : RestUtil.ENTITY_NO_CHANGE;
-    return new PutResponse<>(Status.OK, withHref(uriInfo, updated), change);
+  /** Response to a PUT request that did not change the entity, with the same fields as when the entity is updated */
+  private T noChange(T stored) throws IOException, ParseException {
+    T entity = timedSetFields(stored, putFields);
+    EntityInterface<T> entityInterface = getEntityInterface(entity);
+    Double version = entityInterface.getVersion();
+    entityInterface.setChangeDescription(version, new ChangeDescription().withPreviousVersion(version));
+    return entity;
   }
 
   @Transaction
   public final PatchResponse<T> patch(UriInfo uriInfo, UUID id, String user, JsonPatch patch)
       throws IOException, ParseException {
-    // Get all the fields in the original entity that can be updated during PATCH operation
-    T original = setFields(dao.findEntityById(id), patchFields);
-
-    // Apply JSON patch to the original entity to get the updated entity
-    T updated = JsonUtils.applyPatch(original, patch, entityClass);
-    EntityInterface<T> updatedEntity = getEntityInterface(updated);
-    updatedEntity.setUpdateDetails(user, new Date());
-
-    prepare(updated);
-    restorePatchAttributes(original, updated);
-
-    // Update the attributes and relationships of an entity
-    EntityUpdater entityUpdater = getUpdater(original, updated, true);
-    entityUpdater.update();
-    String change = entityUpdater.fieldsChanged() ? RestUtil.ENTITY_UPDATED : RestUtil.ENTITY_NO_CHANGE;
-    return new PatchResponse<>(Status.OK, withHref(uriInfo, updated), change);
+    try (CatalogMetrics.Sample ignored = time("patch")) {
+      // Get all the fields in the original entity that can be updated during PATCH operation
+      T original = timedSetFields(dao.findEntityById(id), patchFields);
+
+      // Apply JSON patch to the original entity to get the updated entity and the paths changed by the patch
+      Set<String> changedPaths = new HashSet<>();
+      T updated = JsonUtils.applyPatch(original, patch, entityClass, changedPaths);
+      EntityInterface<T> updatedEntity = getEntityInterface(updated);
+      updatedEntity.setUpdateDetails(user, new Date());
+
+      prepare(updated);
+      restorePatchAttributes(original, updated);
+
+      // Update the attributes and relationships of an entity
+      EntityUpdater entityUpdater = getUpdater(original, updated, true);
+      entityUpdater.setChangedPaths(changedPaths);
+      entityUpdater.update();
+      String change = entityUpdater.fieldsChanged() ? RestUtil.ENTITY_UPDATED : RestUtil.ENTITY_NO_CHANGE;
+      return new PatchResponse<>(Status.OK, withHref(uriInfo, updated), change);
+    }
   }
 
   @Transaction
@@ -372,21 +786,31 @@ public abstract class EntityRepository<T> {
     return new PutResponse<>(added > 0 ? Status.CREATED : Status.OK, changeEvent, RestUtil.ENTITY_FIELDS_CHANGED);
   }
 
-  @Transaction
   public final void delete(UUID id, boolean recursive) throws IOException {
+    delete(id, recursive, null);
+  }
+
+  @Transaction
+  public final void delete(UUID id, boolean recursive, String deletedBy) throws IOException {
     // If an entity being deleted contains other children entities, it can't be deleted
     List<EntityReference> contains =
         daoCollection.relationshipDAO().findTo(id.toString(), entityName, Relationship.CONTAINS.ordinal());
 
+    // The PUT requests for the entities owned by the deleted entity must be validated again, see createOrUpdate()
+    List<String> fingerprintIds = new ArrayList<>();
+    fingerprintIds.add(id.toString());
+    daoCollection.relationshipDAO().findTo(id.toString(), entityName, Relationship.OWNS.ordinal()).stream()
+        .map(ref -> ref.getId().toString())
+        .forEach(fingerprintIds::add);
+    daoCollection.entityFingerprintDAO().delete(fingerprintIds);
+
     if (!contains.isEmpty()) {
       if (!recursive) {
         throw new IllegalArgumentException(entityName + " is not empty");
       }
       // Soft delete all the contained entities
-      for (EntityReference entityReference : contains) {
-        LOG.info("Recursively deleting {} {}", entityReference.getType(), entityReference.getId());
-        Entity.deleteEntity(entityReference.getType(), entityReference.getId(), recursive);
-      }
+      EntityReference entityReference = new EntityReference().withId(id).withType(entityName);
+      new CascadeDelete(daoCollection, entityReference, deletedBy).deleteContained();
     }
 
     if (softDelete) {
@@ -402,6 +826,15 @@ public abstract class EntityRepository<T> {
     daoCollection.relationshipDAO().deleteAll(id.toString(), entityName);
   }
 
+  /**
+   * Delete an entity and all the entities it contains in the background. Returns the job reporting the progress of the
+   * delete, see {@link CascadeDelete}.
+   */
+  public final DeleteJob deleteAsync(UUID id, String deletedBy) throws IOException {
+    EntityReference entityReference = dao.findEntityReferenceById(id);
+    return CascadeDelete.submit(this, entityReference, deletedBy);
+  }
+
   @Transaction
   public PutResponse<T> deleteFollower(String updatedBy, UUID entityId, UUID userId) throws IOException {
     T entity = dao.findEntityById(entityId);
@@ -449,9 +882,112 @@ public abstract class EntityRepository<T> {
     return entity;
   }
 
+  /** Get the version history of an entity without the stored JSON documents, ordered from the latest to the oldest */
+  private List<EntityVersionPair> getVersionHistory(String id) {
+    String extensionPrefix = EntityUtil.getVersionExtensionPrefix(entityName);
+    List<EntityVersionPair> history = daoCollection.entityExtensionDAO().getEntityVersionHeaders(id, extensionPrefix);
+    history.sort(EntityUtil.compareVersion.reversed());
+    return history;
+  }
+
+  /** Get the index in {@code history} of the full snapshot the version at {@code index} is rebuilt from */
+  private int getSnapshot(String id, List<EntityVersionPair> history, int index) {
+    int snapshot = index;
+    while (snapshot < history.size() && history.get(snapshot).isDelta()) {
+      snapshot++;
+    }
+    if (snapshot == history.size()) {
+      Double version = history.get(index).getVersion();
+      throw new IllegalStateException(
+          String.format("No snapshot in the history of %s %s for version %s", entityName, id, version));
+    }
+    return snapshot;
+  }
+
+  /**
+   * Build JSON documents of the versions in {@code history} from index {@code start} (inclusive) to {@code end}
+   * (exclusive). A version stored as a delta is rebuilt by applying it to the nearest older full snapshot. Stored
+   * versions are read in batches, with the snapshots they need, to keep the memory used independent of the length of
+   * the version history.
+   */
+  private List<String> buildVersions(String id, List<EntityVersionPair> history, int start, int end) {
+    List<String> versions = new ArrayList<>();
+    for (int batchStart = start; batchStart < end; batchStart += VERSION_BATCH_SIZE) {
+      int batchEnd = Math.min(end, batchStart + VERSION_BATCH_SIZE);
+      List<Integer> snapshots = new ArrayList<>();
+      List<String> extensions = new ArrayList<>();
+      for (int i = batchStart; i < batchEnd; i++) {
+        int snapshot = getSnapshot(id, history, i);
+        snapshots.add(snapshot);
+        for (int needed : List.of(i, snapshot)) {
+          String extension = EntityUtil.getVersionExtension(entityName, history.get(needed).getVersion());
+          if (!extensions.contains(extension)) {
+            extensions.add(extension);
+          }
+        }
+      }
+      Map<Double, EntityVersionPair> storedVersions = new HashMap<>();
+      daoCollection
+          .entityExtensionDAO()
+          .getEntityVersions(id, extensions)
+          .forEach(version -> storedVersions.put(version.getVersion(), version));
+
+      for (int i = batchStart; i < batchEnd; i++) {
+        EntityVersionPair version = storedVersions.get(history.get(i).getVersion());
+        if (version.isDelta()) {
+          EntityVersionPair snapshot = storedVersions.get(history.get(snapshots.get(i - batchStart)).getVersion());
+          JsonValue json = JsonUtils.readJson(snapshot.getEntityJson());
+          versions.add(JsonUtils.applyJsonPatch(json, version.getEntityJson()).toString());
+        } else {
+          versions.add(version.getEntityJson());
+        }
+      }
+    }
+    return versions;
+  }
+
+  /**
+   * Store an older version of an entity in the version history. The version is stored as a full snapshot when it is
+   * the first stored version of its major version, or when {@code VERSION_SNAPSHOT_INTERVAL} versions have been stored
+   * since the last snapshot. Otherwise it is stored as a JSON patch that turns the stored JSON of the last snapshot
+   * into the version, so any version is rebuilt from the snapshot and a single patch.
+   */
+  private void storeVersion(UUID id, Double version, String json) {
+    String entityId = id.toString();
+    String extension = EntityUtil.getVersionExtension(entityName, version);
+    List<EntityVersionPair> history = getVersionHistory(entityId);
+    if (history.isEmpty() || Math.floor(history.get(0).getVersion()) != Math.floor(version)) {
+      daoCollection.entityExtensionDAO().insert(entityId, extension, entityName, json);
+      return;
+    }
+    int snapshot = getSnapshot(entityId, history, 0);
+    if (snapshot + 1 >= VERSION_SNAPSHOT_INTERVAL) {
+      daoCollection.entityExtensionDAO().insert(entityId, extension, entityName, json);
+      return;
+    }
+    String snapshotExtension = EntityUtil.getVersionExtension(entityName, history.get(snapshot).getVersion());
+    String snapshotJson = daoCollection.entityExtensionDAO().getEntityVersion(entityId, snapshotExtension);
+    String delta = JsonUtils.getJsonPatch(snapshotJson, json).toJsonArray().toString();
+    daoCollection.entityExtensionDAO().insert(entityId, extension, EntityUtil.VERSION_DELTA_SCHEMA, delta);
+  }
+
   protected void store(UUID id, T entity, boolean update) throws JsonProcessingException {
-    if (update) {
+    String fingerprint = pendingFingerprint.get();
+    if (fingerprint != null) {
+      // Stored in a single transaction, a concurrent update can't leave the fingerprint valid for its version
+      pendingFingerprint.remove();
+      EntityInterface<T> entityInterface = getEntityInterface(entity);
+      dao.storeWithFingerprint(
+          update,
+          id,
+          JsonUtils.pojoToJson(entity),
+          fingerprint,
+          entityInterface.getFullyQualifiedName(),
+          entityInterface.getVersion());
+    } else if (update) {
       dao.update(id, JsonUtils.pojoToJson(entity));
+    } else if (pendingInserts.get() != null) {
+      pendingInserts.get().add(JsonUtils.pojoToJson(entity));
     } else {
       dao.insert(entity);
     }
@@ -459,6 +995,10 @@ public abstract class EntityRepository<T> {
 
   protected EntityReference getOwner(T entity) throws IOException {
     EntityInterface entityInterface = getEntityInterface(entity);
+    BatchFields batch = batchFields.get();
+    if (supportsOwner && batch != null && batch.owners != null) {
+      return batch.owners.get(entityInterface.getId());
+    }
     return supportsOwner && entity != null
         ? EntityUtil.populateOwner(
             entityInterface.getId(),
@@ -488,17 +1028,37 @@ public abstract class EntityRepository<T> {
   }
 
   protected List<TagLabel> getTags(String fqn) {
+    BatchFields batch = batchFields.get();
+    if (supportsOwner && batch != null && batch.tags != null) {
+      return batch.tags.getOrDefault(fqn, new ArrayList<>());
+    }
     return !supportsOwner ? null : daoCollection.tagDAO().getTags(fqn);
   }
 
   protected List<EntityReference> getFollowers(T entity) throws IOException {
     EntityInterface<T> entityInterface = getEntityInterface(entity);
+    BatchFields batch = batchFields.get();
+    if (supportsFollower && batch != null && batch.followers != null) {
+      return batch.followers.getOrDefault(entityInterface.getId(), new ArrayList<>());
+    }
     return !supportsFollower || entity == null
         ? null
         : EntityUtil.getFollowers(
             entityInterface.getId(), entityName, daoCollection.relationshipDAO(), daoCollection.userDAO());
   }
 
+  /** Start timing an operation on the entities of this repository */
+  private CatalogMetrics.Sample time(String operation) {
+    return CatalogMetrics.time(EntityRepository.class, entityName, operation);
+  }
+
+  /** Set the fields of an entity, timed for each entity type as the fields are set by each repository */
+  private T timedSetFields(T entity, Fields fields) throws IOException, ParseException {
+    try (CatalogMetrics.Sample ignored = time("setFields")) {
+      return setFields(entity, fields);
+    }
+  }
+
   public T withHref(UriInfo uriInfo, T entity) {
     if (uriInfo == null) {
       return entity;
@@ -527,6 +1087,7 @@ public abstract class EntityRepository<T> {
     protected final boolean patchOperation;
     protected final ChangeDescription changeDescription = new ChangeDescription();
     protected boolean majorVersionChange = false;
+    private Set<String> patchedFields; // Top level fields changed by PATCH. Null when all the fields are compared
 
     public EntityUpdater(T original, T updated, boolean patchOperation) {
       this.original = getEntityInterface(original);
@@ -534,13 +1095,34 @@ public abstract class EntityRepository<T> {
       this.patchOperation = patchOperation;
     }
 
+    /** Set the JSON pointer paths changed by a PATCH operation so that the fields not touched are not compared */
+    public final void setChangedPaths(Set<String> changedPaths) {
+      patchedFields = new HashSet<>();
+      for (String path : changedPaths) {
+        patchedFields.add(JsonPointer.compile(path).getMatchingProperty());
+      }
+    }
+
+    /** Returns true when the field may have changed and must be compared between original and updated entity */
+    protected final boolean isPatched(String fieldName) {
+      return patchedFields == null || patchedFields.contains(fieldName);
+    }
+
     /** Compare original and updated entities and perform updates. Update the entity version and track changes. */
     public final void update() throws IOException {
       updated.setId(original.getId());
-      updateDescription();
-      updateDisplayName();
-      updateOwner();
-      updateTags(updated.getFullyQualifiedName(), "tags", original.getTags(), updated.getTags());
+      if (isPatched("description")) {
+        updateDescription();
+      }
+      if (isPatched("displayName")) {
+        updateDisplayName();
+      }
+      if (isPatched("owner")) {
+        updateOwner();
+      }
+      if (isPatched("tags")) {
+        updateTags(updated.getFullyQualifiedName(), "tags", original.getTags(), updated.getTags());
+      }
       entitySpecificUpdate();
 
       // Store the updated entity
@@ -583,15 +1165,12 @@ public abstract class EntityRepository<T> {
 
     protected final void updateTags(String fqn, String fieldName, List<TagLabel> origTags, List<TagLabel> updatedTags)
         throws IOException {
-      // Remove current entity tags in the database. It will be added back later from the merged tag list.
       origTags = Optional.ofNullable(origTags).orElse(Collections.emptyList());
       updatedTags = Optional.ofNullable(updatedTags).orElse(Collections.emptyList());
       if (origTags.isEmpty() && updatedTags.isEmpty()) {
         return; // Nothing to update
       }
 
-      // Remove current entity tags in the database. It will be added back later from the merged tag list.
-      EntityUtil.removeTagsByPrefix(daoCollection.tagDAO(), fqn);
       if (!patchOperation) {
         // PUT operation merges tags in the request with what already exists
         List<TagLabel> mergedTags = EntityUtil.mergeTags(updatedTags, origTags);
@@ -601,9 +1180,13 @@ public abstract class EntityRepository<T> {
 
       List<TagLabel> addedTags = new ArrayList<>();
       List<TagLabel> deletedTags = new ArrayList<>();
-      recordListChange(fieldName, origTags, updatedTags, addedTags, deletedTags, EntityUtil.tagLabelMatch);
+      recordListChange(fieldName, origTags, updatedTags, addedTags, deletedTags, EntityUtil.tagLabelKey);
       updatedTags.sort(EntityUtil.compareTagLabel);
-      EntityUtil.applyTags(daoCollection.tagDAO(), updatedTags, fqn);
+      if (!EntityUtil.tagUsages(origTags).equals(EntityUtil.tagUsages(updatedTags))) {
+        // Replace the tags of the entity or field in the database only when they changed
+        EntityUtil.removeTags(daoCollection.tagDAO(), fqn);
+        EntityUtil.applyTags(daoCollection.tagDAO(), updatedTags, fqn);
+      }
     }
 
     public final boolean updateVersion(Double oldVersion) {
@@ -671,25 +1254,42 @@ public abstract class EntityRepository<T> {
         List<K> updatedList,
         List<K> addedItems,
         List<K> deletedItems,
-        BiPredicate<K, K> typeMatch)
+        Function<K, ?> matchKey)
         throws JsonProcessingException {
-      origList = Optional.ofNullable(origList).orElse(Collections.emptyList());
-      updatedList = Optional.ofNullable(updatedList).orElse(Collections.emptyList());
-      for (K stored : origList) {
-        // If an entry in the original list is not in updated list, then it is deleted during update
-        K updated = updatedList.stream().filter(c -> typeMatch.test(c, stored)).findAny().orElse(null);
-        if (updated == null) {
-          deletedItems.add(stored);
-        }
-      }
+      return recordListChange(
+          field, EntityUtil.indexByKey(origList, matchKey), updatedList, addedItems, deletedItems, matchKey);
+    }
 
+    /**
+     * Same as {@link #recordListChange(String, List, List, List, List, Function)} with the original list indexed with
+     * {@link EntityUtil#indexByKey(List, Function)}, so that the caller reuses the index to find the stored items
+     * matching the updated items.
+     */
+    public final <K> boolean recordListChange(
+        String field,
+        Map<Object, List<K>> origIndex,
+        List<K> updatedList,
+        List<K> addedItems,
+        List<K> deletedItems,
+        Function<K, ?> matchKey)
+        throws JsonProcessingException {
+      updatedList = Optional.ofNullable(updatedList).orElse(Collections.emptyList());
+      Set<Object> updatedKeys = new HashSet<>(updatedList.size() * 2);
       for (K updated : updatedList) {
+        Object key = matchKey.apply(updated);
+        updatedKeys.add(key);
         // If an entry in the updated list is not in original list, then it is added during update
-        K stored = origList.stream().filter(c -> typeMatch.test(c, updated)).findAny().orElse(null);
-        if (stored == null) { // New column added
+        if (!origIndex.containsKey(key)) {
           addedItems.add(updated);
         }
       }
+
+      for (Map.Entry<Object, List<K>> entry : origIndex.entrySet()) {
+        // If an entry in the original list is not in updated list, then it is deleted during update
+        if (!updatedKeys.contains(entry.getKey())) {
+          deletedItems.addAll(entry.getValue());
+        }
+      }
       if (!addedItems.isEmpty()) {
         FieldChange fieldChange = new FieldChange().withName(field).withNewValue(JsonUtils.pojoToJson(addedItems));
         changeDescription.getFieldsAdded().add(fieldChange);
@@ -704,10 +1304,7 @@ public abstract class EntityRepository<T> {
     public final void storeUpdate() throws IOException {
       if (updateVersion(original.getVersion())) { // Update changed the entity veresion
         // Store the old version
-        String extensionName = EntityUtil.getVersionExtension(entityName, original.getVersion());
-        daoCollection
-            .entityExtensionDAO()
-            .insert(original.getId().toString(), extensionName, entityName, JsonUtils.pojoToJson(original.getEntity()));
+        storeVersion(original.getId(), original.getVersion(), JsonUtils.pojoToJson(original.getEntity()));
 
         // Store the new version
         EntityRepository.this.storeEntity(updated.getEntity(), true);
@@ -716,4 +1313,18 @@ public abstract class EntityRepository<T> {
       }
     }
   }
+
+  /** Fields read for a whole batch of entities, null for the fields that were not requested */
+  private static class BatchFields {
+    private Map<UUID, EntityReference> owners;
+    private Map<UUID, List<EntityReference>> followers;
+    private Map<String, List<TagLabel>> tags;
+  }
+
+  /** Failure of one of the partitions of an import, carrying the exception that caused it */
+  private static class ImportException extends Exception {
+    ImportException(Throwable cause) {
+      super(cause);
+    }
+  }
 }
@@ -14,22 +14,32 @@
 package org.openmetadata.catalog.jdbi3;
 
 import java.io.IOException;
+import java.security.GeneralSecurityException;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import org.jdbi.v3.sqlobject.transaction.Transaction;
 import org.openmetadata.catalog.Entity;
 import org.openmetadata.catalog.entity.feed.Thread;
-import org.openmetadata.catalog.resources.feeds.FeedUtil;
+import org.openmetadata.catalog.exception.EntityNotFoundException;
 import org.openmetadata.catalog.resources.feeds.MessageParser;
 import org.openmetadata.catalog.resources.feeds.MessageParser.EntityLink;
 import org.openmetadata.catalog.resources.feeds.MessageParser.EntityLink.LinkType;
+import org.openmetadata.catalog.type.ChangeEvent;
 import org.openmetadata.catalog.type.EntityReference;
 import org.openmetadata.catalog.type.Post;
+import org.openmetadata.catalog.type.TimelineItem;
+import org.openmetadata.catalog.type.TimelineReason;
 import org.openmetadata.catalog.util.EntityUtil;
 import org.openmetadata.catalog.util.JsonUtils;
+import org.openmetadata.catalog.util.ResultList;
+import org.openmetadata.common.utils.CipherText;
 
 public class FeedRepository {
   private final CollectionDAO dao;
@@ -53,8 +63,13 @@ public class FeedRepository {
         EntityUtil.populateOwner(
             aboutRef.getId(), aboutRef.getType(), dao.relationshipDAO(), dao.userDAO(), dao.teamDAO());
 
-    // Insert a new thread
-    dao.feedDAO().insert(JsonUtils.pojoToJson(thread));
+    // Insert a new thread. Posts are stored as separate rows and not in the thread JSON
+    List<Post> posts = thread.getPosts();
+    dao.feedDAO().insert(JsonUtils.pojoToJson(thread.withPosts(null)));
+    for (Post post : posts) {
+      insertPost(thread.getId().toString(), post);
+    }
+    thread.withPosts(posts).withPostCount(posts.size());
 
     // Add relationship User -- created --> Thread relationship
     dao.relationshipDAO()
@@ -97,11 +112,126 @@ public class FeedRepository {
                         "thread",
                         Relationship.MENTIONED_IN.ordinal()));
 
+    addToTimelines(thread, fromUser, aboutRef, owner, mentions);
     return thread;
   }
 
+  /**
+   * Add the thread to the timelines of its author, of the users and teams mentioned in it, and of the owner and the
+   * followers of the entity it is about.
+   */
+  private void addToTimelines(
+      Thread thread, UUID fromUser, EntityReference aboutRef, EntityReference owner, List<EntityLink> mentions)
+      throws IOException {
+    Map<String, TimelineReason> recipients = new LinkedHashMap<>();
+    recipients.put(fromUser.toString(), TimelineReason.AUTHOR);
+    for (EntityLink mention : new LinkedHashSet<>(mentions)) {
+      if (mention.getEntityType().equals(Entity.USER) || mention.getEntityType().equals(Entity.TEAM)) {
+        try {
+          addRecipients(recipients, EntityUtil.validateEntityLink(mention), TimelineReason.MENTIONED);
+        } catch (EntityNotFoundException e) {
+          // Mentions of users or teams that don't exist are not resolved
+        }
+      }
+    }
+    addRecipients(recipients, owner, TimelineReason.OWNER);
+    addFollowers(recipients, aboutRef.getId().toString(), aboutRef.getType());
+
+    TimelineItem item = new TimelineItem().withTimestamp(thread.getThreadTs()).withThread(thread);
+    addToTimelines(recipients, item, thread.getId().toString());
+  }
+
+  /** Add the change event to the timelines of the owner and the followers of the entity that changed */
+  public void addToTimelines(ChangeEvent event) throws IOException {
+    if (event.getDeletedEntities() != null) {
+      return; // The entities deleted along with their container are removed from the timelines instead
+    }
+    String entityId = event.getEntityId().toString();
+    Map<String, TimelineReason> recipients = new LinkedHashMap<>();
+    List<EntityReference> owners =
+        dao.relationshipDAO().findFrom(entityId, event.getEntityType(), Relationship.OWNS.ordinal());
+    for (EntityReference owner : owners) {
+      addRecipients(recipients, owner, TimelineReason.OWNER);
+    }
+    addFollowers(recipients, entityId, event.getEntityType());
+
+    // The entity is left out as it is available from the entity collection
+    ChangeEvent timelineEvent =
+        new ChangeEvent()
+            .withEventType(event.getEventType())
+            .withEntityType(event.getEntityType())
+            .withEntityId(event.getEntityId())
+            .withPreviousVersion(event.getPreviousVersion())
+            .withCurrentVersion(event.getCurrentVersion())
+            .withUserName(event.getUserName())
+            .withDateTime(event.getDateTime())
+            .withChangeDescription(event.getChangeDescription());
+    TimelineItem item = new TimelineItem().withTimestamp(event.getDateTime()).withChangeEvent(timelineEvent);
+    addToTimelines(recipients, item, entityId);
+  }
+
+  private void addToTimelines(Map<String, TimelineReason> recipients, TimelineItem item, String itemId)
+      throws IOException {
+    if (recipients.isEmpty()) {
+      return;
+    }
+    List<String> userIds = new ArrayList<>(recipients.size());
+    List<String> jsons = new ArrayList<>(recipients.size());
+    for (Map.Entry<String, TimelineReason> recipient : recipients.entrySet()) {
+      userIds.add(recipient.getKey());
+      jsons.add(JsonUtils.pojoToJson(item.withReason(recipient.getValue())));
+    }
+    dao.feedDAO().insertTimelineItems(userIds, item.getTimestamp().getTime(), itemId, jsons);
+  }
+
+  /** Add the user, or the users of the team, unless they are already recipients for another reason */
+  private void addRecipients(Map<String, TimelineReason> recipients, EntityReference ref, TimelineReason reason) {
+    if (ref == null) {
+      return;
+    }
+    if (ref.getType().equals(Entity.USER)) {
+      recipients.putIfAbsent(ref.getId().toString(), reason);
+    } else if (ref.getType().equals(Entity.TEAM)) {
+      dao.relationshipDAO()
+          .findTo(ref.getId().toString(), Entity.TEAM, Relationship.HAS.ordinal(), Entity.USER)
+          .forEach(userId -> recipients.putIfAbsent(userId, reason));
+    }
+  }
+
+  private void addFollowers(Map<String, TimelineReason> recipients, String entityId, String entityType) {
+    dao.relationshipDAO()
+        .findFrom(entityId, entityType, Relationship.FOLLOWS.ordinal(), Entity.USER)
+        .forEach(userId -> recipients.putIfAbsent(userId, TimelineReason.FOLLOWER));
+  }
+
+  /** List the timeline of a user latest first, {@code limitParam} items at a time */
+  public ResultList<TimelineItem> listTimeline(String userId, int limitParam, String after)
+      throws IOException, GeneralSecurityException {
+    dao.userDAO().findEntityById(UUID.fromString(userId));
+    long timestamp = Long.MAX_VALUE;
+    String itemId = "";
+    if (after != null) {
+      String cursor = CipherText.instance().decrypt(after);
+      int separator = cursor.indexOf(':');
+      timestamp = Long.parseLong(cursor.substring(0, separator));
+      itemId = cursor.substring(separator + 1);
+    }
+    List<String> jsons = dao.feedDAO().listTimeline(userId, limitParam + 1, timestamp, itemId);
+    List<TimelineItem> items = JsonUtils.readObjects(jsons, TimelineItem.class);
+
+    String afterCursor = null;
+    if (items.size() > limitParam) { // If extra result exists, then next page exists - return after cursor
+      items.remove(limitParam);
+      TimelineItem last = items.get(limitParam - 1);
+      UUID lastId = last.getThread() != null ? last.getThread().getId() : last.getChangeEvent().getEntityId();
+      afterCursor = last.getTimestamp().getTime() + ":" + lastId;
+    }
+    return new ResultList<>(items, null, afterCursor, dao.feedDAO().listTimelineCount(userId));
+  }
+
   public Thread get(String id) throws IOException {
-    return EntityUtil.validate(id, dao.feedDAO().findById(id), Thread.class);
+    Thread thread = EntityUtil.validate(id, dao.feedDAO().findById(id), Thread.class);
+    return thread.withPosts(JsonUtils.readObjects(dao.feedDAO().listPosts(id), Post.class));
   }
 
   @Transaction
@@ -111,46 +241,113 @@ public class FeedRepository {
     dao.userDAO().findEntityById(fromUser);
 
     // Query 2 - Find the thread
-    Thread thread = EntityUtil.validate(id, dao.feedDAO().findById(id), Thread.class);
-    FeedUtil.addPost(thread, post);
+    Thread thread = get(id);
 
-    // TODO is rewriting entire json okay?
-    // Query 3 - update the JSON document for the feed
-    dao.feedDAO().update(id, JsonUtils.pojoToJson(thread));
+    // Query 3 - insert the post and increment the post count of the thread
+    post.setPostTs(new Date());
+    insertPost(id, post);
+    thread.getPosts().add(post);
+    thread.setPostCount(thread.getPostCount() + 1);
 
     // Query 4 - Add relation User -- repliedTo --> Thread
-    // Add relationship from thread to the user entity that is posting a reply
-    boolean relationAlreadyExists = false;
-    for (Post p : thread.getPosts()) {
-      if (p.getFrom().equals(post.getFrom())) {
-        relationAlreadyExists = true;
-        break;
-      }
-    }
-    if (!relationAlreadyExists) {
-      dao.relationshipDAO()
-          .insert(
-              post.getFrom().toString(),
-              thread.getId().toString(),
-              "user",
-              "thread",
-              Relationship.REPLIED_TO.ordinal());
-    }
+    // Add relationship from thread to the user entity that is posting a reply, if it doesn't already exist
+    dao.relationshipDAO()
+        .insert(
+            post.getFrom().toString(),
+            thread.getId().toString(),
+            "user",
+            "thread",
+            Relationship.REPLIED_TO.ordinal());
     return thread;
   }
 
+  private void insertPost(String threadId, Post post) throws IOException {
+    dao.feedDAO().insertPost(threadId, JsonUtils.pojoToJson(post));
+    dao.feedDAO().incrementPostCount(threadId);
+  }
+
+  /**
+   * List threads latest first, {@code limitParam} threads at a time. Threads are paged by their (threadTs, id) key,
+   * and the thread ids of an entity link are looked up before listing the threads with a single query.
+   */
   @Transaction
-  public List<Thread> listThreads(String link) throws IOException {
+  public ResultList<Thread> listThreads(String link, int limitParam, String before, String after)
+      throws IOException, GeneralSecurityException {
+    before = before == null ? null : CipherText.instance().decrypt(before);
+    after = after == null ? null : CipherText.instance().decrypt(after);
+
+    List<String> jsons;
+    int total;
     if (link == null) {
       // Not listing thread by data asset or user
-      return JsonUtils.readObjects(dao.feedDAO().list(), Thread.class);
+      if (before != null) {
+        jsons = dao.feedDAO().listBefore(limitParam + 1, before);
+      } else if (after != null) {
+        jsons = dao.feedDAO().listAfter(limitParam + 1, after);
+      } else {
+        jsons = dao.feedDAO().list(limitParam + 1);
+      }
+      total = dao.feedDAO().listCount();
+    } else {
+      List<String> threadIds = getThreadIds(link);
+      if (threadIds.isEmpty()) {
+        return new ResultList<>(new ArrayList<>(), null, null, 0);
+      }
+      if (before != null) {
+        jsons = dao.feedDAO().listBeforeByIds(threadIds, limitParam + 1, before);
+      } else if (after != null) {
+        jsons = dao.feedDAO().listAfterByIds(threadIds, limitParam + 1, after);
+      } else {
+        jsons = dao.feedDAO().listByIds(threadIds, limitParam + 1);
+      }
+      total = threadIds.size();
     }
+    List<Thread> threads = JsonUtils.readObjects(jsons, Thread.class);
+
+    String beforeCursor = null;
+    String afterCursor = null;
+    if (before != null) {
+      if (threads.size() > limitParam) { // If extra result exists, then previous page exists - return before cursor
+        threads.remove(0);
+        beforeCursor = threads.get(0).getId().toString();
+      }
+      afterCursor = threads.isEmpty() ? null : threads.get(threads.size() - 1).getId().toString();
+    } else {
+      beforeCursor = after == null || threads.isEmpty() ? null : threads.get(0).getId().toString();
+      if (threads.size() > limitParam) { // If extra result exists, then next page exists - return after cursor
+        threads.remove(limitParam);
+        afterCursor = threads.get(limitParam - 1).getId().toString();
+      }
+    }
+    setPosts(threads);
+    return new ResultList<>(threads, beforeCursor, afterCursor, total);
+  }
+
+  /** Set the posts of the threads with a single query */
+  private void setPosts(List<Thread> threads) throws IOException {
+    if (threads.isEmpty()) {
+      return;
+    }
+    Map<String, Thread> threadsById = new HashMap<>();
+    for (Thread thread : threads) {
+      threadsById.put(thread.getId().toString(), thread.withPosts(new ArrayList<>()));
+    }
+    List<List<String>> posts = dao.feedDAO().listPostsByThreadIds(new ArrayList<>(threadsById.keySet()));
+    for (List<String> post : posts) {
+      threadsById.get(post.get(0)).getPosts().add(JsonUtils.readValue(post.get(1), Post.class));
+    }
+  }
+
+  /** Unique ids of the threads that mention the entity of the link, or are about it or created by it */
+  private List<String> getThreadIds(String link) throws IOException {
     EntityLink entityLink = EntityLink.parse(link);
     if (entityLink.getLinkType() != LinkType.ENTITY) {
       throw new IllegalArgumentException("Only entity links of type <E#/{entityType}/{entityName}> is allowed");
     }
     EntityReference reference = EntityUtil.validateEntityLink(entityLink);
-    List<String> threadIds = new ArrayList<>();
+    // If an entity has multiple relationships (created, mentioned, repliedTo etc.) to the same thread
+    // Don't sent duplicated copies of the thread in response
+    Set<String> threadIds = new LinkedHashSet<>();
     List<List<String>> result =
         dao.fieldRelationshipDAO()
             .listToByPrefix(
@@ -180,16 +377,6 @@ public class FeedRepository {
                   Relationship.IS_ABOUT.ordinal());
       result.forEach(l -> threadIds.add(l.get(1)));
     }
-
-    List<Thread> threads = new ArrayList<>();
-    Set<String> uniqueValues = new HashSet<>();
-    for (String t : threadIds) {
-      // If an entity has multiple relationships (created, mentioned, repliedTo etc.) to the same thread
-      // Don't sent duplicated copies of the thread in response
-      if (uniqueValues.add(t)) {
-        threads.add(EntityUtil.validate(t, dao.feedDAO().findById(t), Thread.class));
-      }
-    }
-    return threads;
+    return new ArrayList<>(threadIds);
   }
 }
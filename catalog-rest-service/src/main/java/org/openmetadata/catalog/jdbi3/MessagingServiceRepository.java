@@ -20,6 +20,7 @@ import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Function;
 import org.openmetadata.catalog.Entity;
 import org.openmetadata.catalog.entity.services.MessagingService;
 import org.openmetadata.catalog.resources.services.messaging.MessagingServiceResource;
@@ -207,7 +208,7 @@ public class MessagingServiceRepository extends EntityRepository<MessagingServic
 
       List<String> addedBrokers = new ArrayList<>();
       List<String> deletedBrokers = new ArrayList<>();
-      recordListChange("brokers", origBrokers, updatedBrokers, addedBrokers, deletedBrokers, EntityUtil.stringMatch);
+      recordListChange("brokers", origBrokers, updatedBrokers, addedBrokers, deletedBrokers, Function.identity());
     }
   }
 }
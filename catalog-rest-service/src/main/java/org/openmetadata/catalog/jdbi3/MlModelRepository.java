@@ -14,8 +14,6 @@
 package org.openmetadata.catalog.jdbi3;
 
 import static org.openmetadata.catalog.util.EntityUtil.entityReferenceMatch;
-import static org.openmetadata.catalog.util.EntityUtil.mlFeatureMatch;
-import static org.openmetadata.catalog.util.EntityUtil.mlHyperParameterMatch;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import java.io.IOException;
@@ -24,6 +22,7 @@ import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Function;
 import org.jdbi.v3.sqlobject.transaction.Transaction;
 import org.openmetadata.catalog.Entity;
 import org.openmetadata.catalog.entity.data.MlModel;
@@ -406,7 +405,7 @@ public class MlModelRepository extends EntityRepository<MlModel> {
           updatedModel.getMlFeatures(),
           addedList,
           deletedList,
-          mlFeatureMatch);
+          Function.identity());
     }
 
     private void updateMlHyperParameters(MlModel origModel, MlModel updatedModel) throws JsonProcessingException {
@@ -418,7 +417,7 @@ public class MlModelRepository extends EntityRepository<MlModel> {
           updatedModel.getMlHyperParameters(),
           addedList,
           deletedList,
-          mlHyperParameterMatch);
+          Function.identity());
     }
 
     private void updateMlStore(MlModel origModel, MlModel updatedModel) throws JsonProcessingException {
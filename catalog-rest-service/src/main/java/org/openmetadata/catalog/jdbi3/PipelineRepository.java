@@ -332,7 +332,7 @@ public class PipelineRepository extends EntityRepository<Pipeline> {
 
       List<Task> added = new ArrayList<>();
       List<Task> deleted = new ArrayList<>();
-      recordListChange("tasks", origTasks, updatedTasks, added, deleted, EntityUtil.taskMatch);
+      recordListChange("tasks", origTasks, updatedTasks, added, deleted, EntityUtil.taskKey);
     }
   }
 }
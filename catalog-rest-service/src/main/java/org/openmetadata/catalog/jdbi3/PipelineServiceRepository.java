@@ -25,7 +25,6 @@ import org.openmetadata.catalog.type.EntityReference;
 import org.openmetadata.catalog.util.EntityInterface;
 import org.openmetadata.catalog.util.EntityUtil;
 import org.openmetadata.catalog.util.EntityUtil.Fields;
-import org.openmetadata.catalog.util.JsonUtils;
 
 public class PipelineServiceRepository extends EntityRepository<PipelineService> {
   public PipelineServiceRepository(CollectionDAO dao) {
@@ -64,11 +63,7 @@ public class PipelineServiceRepository extends EntityRepository<PipelineService>
 
   @Override
   public void storeEntity(PipelineService service, boolean update) throws IOException {
-    if (update) {
-      daoCollection.pipelineServiceDAO().update(service.getId(), JsonUtils.pojoToJson(service));
-    } else {
-      daoCollection.pipelineServiceDAO().insert(service);
-    }
+    store(service.getId(), service, update);
   }
 
   @Override
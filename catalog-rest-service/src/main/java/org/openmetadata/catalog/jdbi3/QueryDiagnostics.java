@@ -0,0 +1,134 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.openmetadata.catalog.jdbi3;
+
+import java.sql.PreparedStatement;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.jdbi.v3.core.extension.ExtensionMethod;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.core.statement.StatementCustomizer;
+import org.openmetadata.catalog.QueryDiagnosticsConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Counts the SQL statements run while serving a request, to catch requests running a statement for each entity or each
+ * field returned (N+1 queries) and statements slower than expected. Statements are counted for the thread serving the
+ * request, between {@link #startRequest()} and {@link #endRequest()}. Slow statements run by other threads, such as the
+ * background deletes, are logged as they complete.
+ *
+ * <p>Statements are grouped by fingerprint: the DAO method running the statement, or the SQL of the statements that are
+ * not run through a DAO.
+ */
+public class QueryDiagnostics implements StatementCustomizer {
+  private static final Logger LOG = LoggerFactory.getLogger(QueryDiagnostics.class);
+  private static final int MAX_SQL_FINGERPRINT = 100;
+  private static final int MAX_REPORTED_STATEMENTS = 10;
+  private static final ThreadLocal<RequestQueries> REQUEST_QUERIES = new ThreadLocal<>();
+
+  private final long slowQueryMicros;
+
+  public QueryDiagnostics(QueryDiagnosticsConfiguration config) {
+    this.slowQueryMicros = TimeUnit.MILLISECONDS.toMicros(config.getSlowQueryThresholdMs());
+  }
+
+  /** Start counting the statements run by the current thread for a request */
+  public static void startRequest() {
+    REQUEST_QUERIES.set(new RequestQueries());
+  }
+
+  /** Stop counting the statements run by the current thread and return them, or null if they were not counted */
+  public static RequestQueries endRequest() {
+    RequestQueries queries = REQUEST_QUERIES.get();
+    REQUEST_QUERIES.remove();
+    return queries;
+  }
+
+  @Override
+  public void afterExecution(PreparedStatement stmt, StatementContext ctx) {
+    long micros = ctx.getElapsedTime(ChronoUnit.MICROS);
+    boolean slow = micros >= slowQueryMicros;
+    RequestQueries queries = REQUEST_QUERIES.get();
+    if (queries != null) {
+      queries.add(fingerprint(ctx), micros, slow);
+    } else if (slow) {
+      LOG.warn("Slow statement {} took {} ms", fingerprint(ctx), toMillis(micros));
+    }
+  }
+
+  private static String fingerprint(StatementContext ctx) {
+    ExtensionMethod method = ctx.getExtensionMethod();
+    if (method != null) {
+      return method.getType().getSimpleName() + "." + method.getMethod().getName();
+    }
+    String sql = ctx.getRenderedSql().replaceAll("\\s+", " ").trim();
+    return sql.length() > MAX_SQL_FINGERPRINT ? sql.substring(0, MAX_SQL_FINGERPRINT) + "..." : sql;
+  }
+
+  private static String toMillis(long micros) {
+    return String.format("%.1f", micros / 1000.0);
+  }
+
+  /** Statements run for a request, with the number of times each one is run and the time they took */
+  public static class RequestQueries {
+    private final Map<String, StatementStats> statements = new LinkedHashMap<>();
+    private int count;
+    private long micros;
+    private boolean slow;
+
+    private void add(String fingerprint, long statementMicros, boolean slowStatement) {
+      StatementStats stats = statements.computeIfAbsent(fingerprint, f -> new StatementStats());
+      stats.count++;
+      stats.micros += statementMicros;
+      count++;
+      micros += statementMicros;
+      slow |= slowStatement;
+    }
+
+    public int getCount() {
+      return count;
+    }
+
+    /** True if a statement took longer than the slow query threshold */
+    public boolean hasSlowStatement() {
+      return slow;
+    }
+
+    /** One line for each of the statements that took the most time, with the number of times it ran */
+    public String report() {
+      List<Map.Entry<String, StatementStats>> entries = new ArrayList<>(statements.entrySet());
+      entries.sort((e1, e2) -> Long.compare(e2.getValue().micros, e1.getValue().micros));
+      StringBuilder report =
+          new StringBuilder().append(count).append(" statements in ").append(toMillis(micros)).append(" ms");
+      int reported = Math.min(MAX_REPORTED_STATEMENTS, entries.size());
+      for (Map.Entry<String, StatementStats> entry : entries.subList(0, reported)) {
+        StatementStats stats = entry.getValue();
+        report.append(String.format("%n  %5d x %8s ms %s", stats.count, toMillis(stats.micros), entry.getKey()));
+      }
+      if (entries.size() > reported) {
+        report.append(String.format("%n  ... %d other statements", entries.size() - reported));
+      }
+      return report.toString();
+    }
+  }
+
+  private static class StatementStats {
+    private int count;
+    private long micros;
+  }
+}
@@ -0,0 +1,43 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.jdbi3;
+
+import com.codahale.metrics.MetricRegistry;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import org.jdbi.v3.core.extension.ExtensionMethod;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.core.statement.StatementCustomizer;
+import org.openmetadata.catalog.util.CatalogMetrics;
+
+/**
+ * Records the number of rows changed by each DAO method in a histogram named after the method. The time taken by each
+ * DAO method is already recorded by the SQL logger that Dropwizard installs on {@link org.jdbi.v3.core.Jdbi}.
+ */
+public class StatementMetrics implements StatementCustomizer {
+  private static final String RAW_STATEMENT_ROWS = MetricRegistry.name("sql", "raw", "rows");
+
+  @Override
+  public void afterExecution(PreparedStatement stmt, StatementContext ctx) throws SQLException {
+    int rows = stmt.getUpdateCount(); // -1 for queries, whose rows are not known until they are read
+    if (rows >= 0) {
+      ExtensionMethod method = ctx.getExtensionMethod();
+      String name =
+          method == null
+              ? RAW_STATEMENT_ROWS
+              : MetricRegistry.name(method.getType(), method.getMethod().getName(), "rows");
+      CatalogMetrics.update(name, rows);
+    }
+  }
+}
@@ -33,7 +33,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.function.BiPredicate;
+import java.util.function.Function;
 import org.apache.commons.codec.binary.Hex;
 import org.jdbi.v3.sqlobject.transaction.Transaction;
 import org.openmetadata.catalog.Entity;
@@ -97,8 +97,13 @@ public class TableRepository extends EntityRepository<Table> {
     table.setFollowers(fields.contains("followers") ? getFollowers(table) : null);
     table.setUsageSummary(
         fields.contains("usageSummary") ? EntityUtil.getLatestUsage(daoCollection.usageDAO(), table.getId()) : null);
-    table.setTags(fields.contains("tags") ? getTags(table.getFullyQualifiedName()) : null);
-    getColumnTags(fields.contains("tags"), table.getColumns());
+    // Tags of the table and of all its columns are read together
+    Map<String, List<TagLabel>> tags =
+        fields.contains("tags")
+            ? EntityUtil.getTagsByTargetPrefix(daoCollection.tagDAO(), table.getFullyQualifiedName())
+            : null;
+    table.setTags(tags != null ? tags.getOrDefault(table.getFullyQualifiedName(), new ArrayList<>()) : null);
+    getColumnTags(tags, table.getColumns());
     table.setJoins(fields.contains("joins") ? getJoins(table) : null);
     table.setSampleData(fields.contains("sampleData") ? getSampleData(table) : null);
     table.setViewDefinition(fields.contains("viewDefinition") ? table.getViewDefinition() : null);
@@ -465,10 +470,10 @@ public class TableRepository extends EntityRepository<Table> {
     }
   }
 
-  private void getColumnTags(boolean setTags, List<Column> columns) {
+  private void getColumnTags(Map<String, List<TagLabel>> tags, List<Column> columns) {
     for (Column c : Optional.ofNullable(columns).orElse(Collections.emptyList())) {
-      c.setTags(setTags ? getTags(c.getFullyQualifiedName()) : null);
-      getColumnTags(setTags, c.getChildren());
+      c.setTags(tags != null ? tags.getOrDefault(c.getFullyQualifiedName(), new ArrayList<>()) : null);
+      getColumnTags(tags, c.getChildren());
     }
   }
 
@@ -825,7 +830,9 @@ public class TableRepository extends EntityRepository<Table> {
       Table updatedTable = updated.getEntity();
       recordChange("tableType", origTable.getTableType(), updatedTable.getTableType());
       updateConstraints(origTable, updatedTable);
-      updateColumns("columns", origTable.getColumns(), updated.getEntity().getColumns(), EntityUtil.columnMatch);
+      if (isPatched("columns")) {
+        updateColumns("columns", origTable.getColumns(), updated.getEntity().getColumns(), EntityUtil.columnKey);
+      }
     }
 
     private void updateConstraints(Table origTable, Table updatedTable) throws JsonProcessingException {
@@ -843,21 +850,23 @@ public class TableRepository extends EntityRepository<Table> {
       List<TableConstraint> added = new ArrayList<>();
       List<TableConstraint> deleted = new ArrayList<>();
       recordListChange(
-          "tableConstraints", origConstraints, updatedConstraints, added, deleted, EntityUtil.tableConstraintMatch);
+          "tableConstraints", origConstraints, updatedConstraints, added, deleted, EntityUtil.tableConstraintKey);
     }
 
     private void updateColumns(
         String fieldName,
         List<Column> origColumns,
         List<Column> updatedColumns,
-        BiPredicate<Column, Column> columnMatch)
+        Function<Column, Object> columnKey)
         throws IOException {
       List<Column> deletedColumns = new ArrayList<>();
       List<Column> addedColumns = new ArrayList<>();
-      recordListChange(fieldName, origColumns, updatedColumns, addedColumns, deletedColumns, columnMatch);
+      Map<Object, List<Column>> storedColumns = EntityUtil.indexByKey(origColumns, columnKey);
+      recordListChange(fieldName, storedColumns, updatedColumns, addedColumns, deletedColumns, columnKey);
 
-      // Delete tags related to deleted columns
-      deletedColumns.forEach(deleted -> EntityUtil.removeTags(daoCollection.tagDAO(), deleted.getFullyQualifiedName()));
+      // Delete tags related to deleted columns and their nested columns
+      deletedColumns.forEach(
+          deleted -> EntityUtil.removeTagsByPrefix(daoCollection.tagDAO(), deleted.getFullyQualifiedName()));
 
       // Add tags related to newly added columns
       for (Column added : addedColumns) {
@@ -867,10 +876,11 @@ public class TableRepository extends EntityRepository<Table> {
       // Carry forward the user generated metadata from existing columns to new columns
       for (Column updated : updatedColumns) {
         // Find stored column matching name, data type and ordinal position
-        Column stored = origColumns.stream().filter(c -> columnMatch.test(c, updated)).findAny().orElse(null);
-        if (stored == null) { // New column added
+        List<Column> matching = storedColumns.get(columnKey.apply(updated));
+        if (matching == null) { // New column added
           continue;
         }
+        Column stored = matching.get(0);
 
         updateColumnDescription(stored, updated);
         updateTags(
@@ -882,7 +892,7 @@ public class TableRepository extends EntityRepository<Table> {
 
         if (updated.getChildren() != null && stored.getChildren() != null) {
           String childrenFieldName = fieldName + "." + updated.getName();
-          updateColumns(childrenFieldName, stored.getChildren(), updated.getChildren(), columnMatch);
+          updateColumns(childrenFieldName, stored.getChildren(), updated.getChildren(), columnKey);
         }
       }
 
@@ -15,18 +15,36 @@ package org.openmetadata.catalog.jdbi3;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 import org.jdbi.v3.core.mapper.RowMapper;
 import org.jdbi.v3.sqlobject.transaction.Transaction;
+import org.openmetadata.catalog.Entity;
+import org.openmetadata.catalog.entity.data.MlModel;
+import org.openmetadata.catalog.entity.data.Pipeline;
+import org.openmetadata.catalog.events.ChangeEventHandler;
+import org.openmetadata.catalog.jdbi3.CollectionDAO.TagDAO;
 import org.openmetadata.catalog.resources.tags.TagResource;
+import org.openmetadata.catalog.type.ChangeDescription;
+import org.openmetadata.catalog.type.ChangeEvent;
+import org.openmetadata.catalog.type.EventType;
+import org.openmetadata.catalog.type.FieldChange;
+import org.openmetadata.catalog.type.MlFeature;
+import org.openmetadata.catalog.type.MlFeatureSource;
 import org.openmetadata.catalog.type.Tag;
 import org.openmetadata.catalog.type.TagCategory;
 import org.openmetadata.catalog.type.TagLabel;
+import org.openmetadata.catalog.type.Task;
 import org.openmetadata.catalog.util.EntityUtil;
 import org.openmetadata.catalog.util.EntityUtil.Fields;
 import org.openmetadata.catalog.util.JsonUtils;
@@ -41,33 +59,63 @@ public class TagRepository {
     this.dao = dao;
   }
 
-  /** Initialize a category one time when the service comes up for the first time */
+  /**
+   * Initialize a category from its definition file when the service comes up. Categories whose definition file has the
+   * same checksum as the last time it was loaded are skipped. Otherwise the category and the tags that don't exist yet
+   * are added, in a batch. Tags that already exist are kept as they are, even when their definition in the file has
+   * changed, as they may have been edited since. Servers starting at the same time may both add a missing category or
+   * tag, and only one of them is stored.
+   */
   @Transaction
-  public void initCategory(TagCategory category) throws JsonProcessingException {
+  public void initCategory(TagCategory category, String checksum) throws JsonProcessingException {
+    if (checksum.equals(dao.tagDAO().getCategoryChecksum(category.getName()))) {
+      TagResource.LOG.info("Tag category {} is already initialized", category.getName());
+      return;
+    }
     String json = dao.tagDAO().findCategory(category.getName());
     if (json == null) {
       TagResource.LOG.info("Tag category {} is not initialized", category.getName());
-      createCategoryInternal(category);
+      List<Tag> primaryTags = category.getChildren();
+      category.setChildren(null); // Children are not stored as json and are constructed on the fly
+      dao.tagDAO().insertCategoryIfAbsent(JsonUtils.pojoToJson(category));
+      category.setChildren(primaryTags);
+    }
 
-      // Only two levels of tag allowed under a category
-      for (Tag primaryTag : category.getChildren()) {
-        createTagInternal(category.getName(), primaryTag);
+    // Only two levels of tag allowed under a category
+    List<String> tagJsons = new ArrayList<>();
+    for (Tag primaryTag : Optional.ofNullable(category.getChildren()).orElse(Collections.emptyList())) {
+      List<Tag> secondaryTags = Optional.ofNullable(primaryTag.getChildren()).orElse(Collections.emptyList());
+      primaryTag.withChildren(null).setFullyQualifiedName(category.getName() + "." + primaryTag.getName());
+      tagJsons.add(JsonUtils.pojoToJson(primaryTag));
+      for (Tag secondaryTag : secondaryTags) {
+        String secondaryTagFQN = primaryTag.getFullyQualifiedName() + "." + secondaryTag.getName();
+        secondaryTag.withChildren(null).setFullyQualifiedName(secondaryTagFQN);
+        tagJsons.add(JsonUtils.pojoToJson(secondaryTag));
       }
-    } else {
-      TagResource.LOG.info("Tag category {} is already initialized", category.getName());
+      primaryTag.setChildren(secondaryTags);
     }
+    dao.tagDAO().insertTagsIfAbsent(tagJsons);
+    dao.tagDAO().upsertCategoryChecksum(category.getName(), checksum);
+    TagTaxonomy.invalidate();
+    TagResource.LOG.info("Initialized {} tags in tag category {}", tagJsons.size(), category.getName());
   }
 
   @Transaction
-  public TagCategory createCategory(TagCategory category) throws JsonProcessingException {
-    return createCategoryInternal(category);
+  public TagCategory createCategory(TagCategory category) throws IOException {
+    category = createCategoryInternal(category);
+    TagTaxonomy.invalidate();
+    recordChange(EventType.ENTITY_CREATED, Entity.TAG_CATEGORY, category.getName(), category.getUpdatedBy(), null);
+    return category;
   }
 
   @Transaction
   public Tag createPrimaryTag(String category, Tag tag) throws IOException {
     // Validate category
     EntityUtil.validate(category, dao.tagDAO().findCategory(category), TagCategory.class);
-    return createTagInternal(category, tag);
+    tag = createTagInternal(category, tag);
+    TagTaxonomy.invalidate();
+    recordChange(EventType.ENTITY_CREATED, Entity.TAG, tag.getFullyQualifiedName(), tag.getUpdatedBy(), null);
+    return tag;
   }
 
   @Transaction
@@ -78,7 +126,10 @@ public class TagRepository {
     String primaryTagFQN = category + "." + primaryTag;
     EntityUtil.validate(primaryTag, dao.tagDAO().findTag(primaryTagFQN), Tag.class);
 
-    return createTagInternal(primaryTagFQN, tag);
+    tag = createTagInternal(primaryTagFQN, tag);
+    TagTaxonomy.invalidate();
+    recordChange(EventType.ENTITY_CREATED, Entity.TAG, tag.getFullyQualifiedName(), tag.getUpdatedBy(), null);
+    return tag;
   }
 
   @Transaction
@@ -111,78 +162,230 @@ public class TagRepository {
   }
 
   @Transaction
-  public TagCategory updateCategory(String category, TagCategory updated) throws IOException {
+  public TagCategory updateCategory(String category, TagCategory updated, String updatedBy) throws IOException {
     // Validate category
     TagCategory original = EntityUtil.validate(category, dao.tagDAO().findCategory(category), TagCategory.class);
-    if (!original.getName().equals(updated.getName())) {
-      // Category name changed - update tag names starting from category and all the children tags
-      LOG.info("Tag category name changed from {} to {}", original.getName(), updated.getName());
-      updateChildrenTagNames(original.getName(), updated.getName());
-      original.setName(updated.getName());
+    boolean renamed = !original.getName().equals(updated.getName());
+    List<FieldChange> fieldsUpdated = new ArrayList<>();
+    if (renamed) {
+      fieldsUpdated.add(fieldChange("fullyQualifiedName", category, updated.getName()));
+    }
+    if (!Objects.equals(original.getDescription(), updated.getDescription())) {
+      fieldsUpdated.add(fieldChange("description", original.getDescription(), updated.getDescription()));
+    }
+    if (!Objects.equals(original.getCategoryType(), updated.getCategoryType())) {
+      fieldsUpdated.add(fieldChange("categoryType", original.getCategoryType(), updated.getCategoryType()));
     }
+    original.setName(updated.getName());
     original.setDescription(updated.getDescription());
     original.setCategoryType(updated.getCategoryType());
-    dao.tagDAO().updateCategory(category, JsonUtils.pojoToJson(original));
+    dao.inTransaction(
+        transaction -> {
+          if (renamed) {
+            // Category name changed - update tag names starting from category and all the children tags
+            LOG.info("Tag category name changed from {} to {}", category, updated.getName());
+            renameTags(transaction, category, updated.getName());
+          }
+          transaction.tagDAO().updateCategory(category, JsonUtils.pojoToJson(original));
+          return null;
+        });
+    TagTaxonomy.invalidate();
+    if (!fieldsUpdated.isEmpty()) {
+      recordChange(EventType.ENTITY_UPDATED, Entity.TAG_CATEGORY, updated.getName(), updatedBy, fieldsUpdated);
+    }
 
     // Populate response fields
     return populateCategoryTags(original, null);
   }
 
   @Transaction
-  public Tag updatePrimaryTag(String categoryName, String primaryTag, Tag updated) throws IOException {
+  public Tag updatePrimaryTag(String categoryName, String primaryTag, Tag updated, String updatedBy)
+      throws IOException {
     // Validate categoryName
     EntityUtil.validate(categoryName, dao.tagDAO().findCategory(categoryName), TagCategory.class);
-    return updateTag(categoryName, primaryTag, updated);
+    return updateTag(categoryName, primaryTag, updated, updatedBy);
   }
 
   @Transaction
-  public Tag updateSecondaryTag(String categoryName, String primaryTag, String secondaryTag, Tag updated)
-      throws IOException {
+  public Tag updateSecondaryTag(
+      String categoryName, String primaryTag, String secondaryTag, Tag updated, String updatedBy) throws IOException {
     // Validate categoryName
     EntityUtil.validate(categoryName, dao.tagDAO().findCategory(categoryName), TagCategory.class);
     String fqnPrefix = categoryName + "." + primaryTag;
-    return updateTag(fqnPrefix, secondaryTag, updated);
+    return updateTag(fqnPrefix, secondaryTag, updated, updatedBy);
   }
 
-  private Tag updateTag(String fqnPrefix, String tagName, Tag updated) throws IOException {
+  private Tag updateTag(String fqnPrefix, String tagName, Tag updated, String updatedBy) throws IOException {
     // Validate tag that needs to be updated exists
     String originalFQN = fqnPrefix + "." + tagName;
     Tag original = EntityUtil.validate(originalFQN, dao.tagDAO().findTag(originalFQN), Tag.class);
-
-    if (!original.getName().equals(updated.getName())) {
-      // Tag name changed
-      LOG.info("Tag name changed from {} to {}", original.getName(), updated.getName());
-      String updatedFQN = fqnPrefix + "." + updated.getName();
-      updateChildrenTagNames(originalFQN, updatedFQN);
-      original.withName(updated.getName()).withFullyQualifiedName(updatedFQN);
+    String updatedFQN = fqnPrefix + "." + updated.getName();
+    boolean renamed = !original.getName().equals(updated.getName());
+    List<FieldChange> fieldsUpdated = new ArrayList<>();
+    if (renamed) {
+      fieldsUpdated.add(fieldChange("fullyQualifiedName", originalFQN, updatedFQN));
+    }
+    if (!Objects.equals(original.getDescription(), updated.getDescription())) {
+      fieldsUpdated.add(fieldChange("description", original.getDescription(), updated.getDescription()));
+    }
+    boolean associatedTagsChanged = !Objects.equals(original.getAssociatedTags(), updated.getAssociatedTags());
+    if (associatedTagsChanged) {
+      fieldsUpdated.add(fieldChange("associatedTags", original.getAssociatedTags(), updated.getAssociatedTags()));
+    }
+    original
+        .withName(updated.getName())
+        .withFullyQualifiedName(updatedFQN)
+        .withDescription(updated.getDescription())
+        .withAssociatedTags(updated.getAssociatedTags());
+    dao.inTransaction(
+        transaction -> {
+          transaction.tagDAO().updateTag(originalFQN, JsonUtils.pojoToJson(original));
+          if (renamed) {
+            // Tag name changed
+            LOG.info("Tag name changed from {} to {}", originalFQN, updatedFQN);
+            renameTags(transaction, originalFQN, updatedFQN);
+          } else if (associatedTagsChanged) {
+            // The tags derived from the associated tags are applied when the entities are created or updated
+            removeFingerprints(transaction, originalFQN, Collections.emptyList());
+          }
+          return null;
+        });
+    TagTaxonomy.invalidate();
+    if (!fieldsUpdated.isEmpty()) {
+      recordChange(EventType.ENTITY_UPDATED, Entity.TAG, updatedFQN, updatedBy, fieldsUpdated);
     }
-    original.withDescription(updated.getDescription()).withAssociatedTags(updated.getAssociatedTags());
-    dao.tagDAO().updateTag(originalFQN, JsonUtils.pojoToJson(original));
 
     // Populate children
     return populateChildrenTags(original, null);
   }
 
   /**
-   * Replace category name: prefix = cat1 and newPrefix = cat2 replaces the FQN of all the children tags of a category
-   * from cat1.primaryTag1.secondaryTag1 to cat2.primaryTag1.secondaryTag1
-   *
-   * <p>Replace primary tag name: Prefix = cat1.primaryTag1 and newPrefix = cat1.primaryTag2 replaces the FQN of all the
-   * children tags from cat1.primaryTag1.secondaryTag1 to cat2.primaryTag2.secondaryTag1
+   * Rename all the tags under a category or a tag with set based updates, instead of a query per tag. Renaming category
+   * cat1 to cat2 renames cat1.primaryTag1.secondaryTag1 to cat2.primaryTag1.secondaryTag1, and renaming primary tag
+   * cat1.primaryTag1 to cat1.primaryTag2 renames cat1.primaryTag1.secondaryTag1 to cat1.primaryTag2.secondaryTag1. The
+   * tags applied to entities, the associated tags of other tags and the tags stored inline in the features of ML models
+   * and the tasks of pipelines are renamed along with the tags.
    */
-  private void updateChildrenTagNames(String prefix, String newPrefix) throws IOException {
-    // Update the fully qualified names of all the primary and secondary tags
-    List<String> groupJsons = dao.tagDAO().listChildrenTags(prefix);
+  private static void renameTags(CollectionDAO transaction, String prefix, String newPrefix) throws IOException {
+    TagDAO tagDAO = transaction.tagDAO();
+    int tagCount = tagDAO.renameChildrenTags(prefix, newPrefix);
+    int usageCount = tagDAO.renameTagUsage(prefix, newPrefix);
 
-    for (String json : groupJsons) {
+    // JSON_SEARCH also matches tags starting with the prefix, such as cat10 for cat1, which are left unchanged here
+    for (String json : tagDAO.listTagsAssociatedWith(prefix)) {
       Tag tag = JsonUtils.readValue(json, Tag.class);
-      String oldFQN = tag.getFullyQualifiedName();
-      String newFQN = oldFQN.replace(prefix, newPrefix);
-      LOG.info("Replacing tag fqn from {} to {}", oldFQN, newFQN);
-      tag.setFullyQualifiedName(oldFQN.replace(prefix, newPrefix));
-      dao.tagDAO().updateTag(oldFQN, JsonUtils.pojoToJson(tag));
-      updateChildrenTagNames(oldFQN, newFQN);
+      List<String> associatedTags = new ArrayList<>();
+      for (String fqn : tag.getAssociatedTags()) {
+        associatedTags.add(renameTag(fqn, prefix, newPrefix));
+      }
+      if (!associatedTags.equals(tag.getAssociatedTags())) {
+        tagDAO.updateTag(tag.getFullyQualifiedName(), JsonUtils.pojoToJson(tag.withAssociatedTags(associatedTags)));
+      }
+    }
+
+    // Features and tasks are not entities and their tags are stored in the json of the ML model or the pipeline
+    List<String> updatedIds = new ArrayList<>();
+    for (String json : transaction.mlModelDAO().listWithFeatureTags(prefix)) {
+      MlModel mlModel = JsonUtils.readValue(json, MlModel.class);
+      boolean changed = false;
+      for (MlFeature feature : Optional.ofNullable(mlModel.getMlFeatures()).orElse(Collections.emptyList())) {
+        changed |= renameTagLabels(feature.getTags(), prefix, newPrefix);
+        for (MlFeatureSource source :
+            Optional.ofNullable(feature.getFeatureSources()).orElse(Collections.emptyList())) {
+          changed |= renameTagLabels(source.getTags(), prefix, newPrefix);
+        }
+      }
+      if (changed) {
+        transaction.mlModelDAO().update(mlModel.getId(), JsonUtils.pojoToJson(mlModel));
+        updatedIds.add(mlModel.getId().toString());
+      }
     }
+    for (String json : transaction.pipelineDAO().listWithTaskTags(prefix)) {
+      Pipeline pipeline = JsonUtils.readValue(json, Pipeline.class);
+      boolean changed = false;
+      for (Task task : Optional.ofNullable(pipeline.getTasks()).orElse(Collections.emptyList())) {
+        changed |= renameTagLabels(task.getTags(), prefix, newPrefix);
+      }
+      if (changed) {
+        transaction.pipelineDAO().update(pipeline.getId(), JsonUtils.pojoToJson(pipeline));
+        updatedIds.add(pipeline.getId().toString());
+      }
+    }
+    LOG.info(
+        "Renamed {} children tags, {} tag usages and the inline tags of {} entities from {} to {}",
+        tagCount,
+        usageCount,
+        updatedIds.size(),
+        prefix,
+        newPrefix);
+    removeFingerprints(transaction, newPrefix, updatedIds);
+  }
+
+  /**
+   * Remove the fingerprints of the entities the tags under {@code prefix} are applied to and of the entities {@code
+   * ids}, so that the next PUT requests for them are processed again instead of being skipped as unchanged, see {@link
+   * EntityRepository#createOrUpdate}.
+   */
+  private static void removeFingerprints(CollectionDAO transaction, String prefix, List<String> ids) {
+    // A tag is applied to an entity or to one of its fields, whose name starts with the name of the entity
+    Set<String> names = new HashSet<>();
+    for (String target : transaction.tagDAO().listTargets(prefix)) {
+      for (int i = target.indexOf('.'); i >= 0; i = target.indexOf('.', i + 1)) {
+        names.add(target.substring(0, i));
+      }
+      names.add(target);
+    }
+    List<String> nameList = new ArrayList<>(names);
+    for (int start = 0; start < nameList.size(); start += CascadeDelete.CHUNK_SIZE) {
+      List<String> chunk = nameList.subList(start, Math.min(start + CascadeDelete.CHUNK_SIZE, nameList.size()));
+      transaction.entityFingerprintDAO().deleteByName(chunk);
+    }
+    if (!ids.isEmpty()) {
+      transaction.entityFingerprintDAO().delete(ids);
+    }
+  }
+
+  /** Rename the tag {@code fqn} if it is the tag {@code prefix} or a tag under it */
+  private static String renameTag(String fqn, String prefix, String newPrefix) {
+    boolean underPrefix = fqn.equals(prefix) || fqn.startsWith(prefix + ".");
+    return underPrefix ? newPrefix + fqn.substring(prefix.length()) : fqn;
+  }
+
+  /** Rename the tag labels under {@code prefix} in place, and return true if any of them was renamed */
+  private static boolean renameTagLabels(List<TagLabel> tagLabels, String prefix, String newPrefix) {
+    boolean renamed = false;
+    for (TagLabel tagLabel : Optional.ofNullable(tagLabels).orElse(Collections.emptyList())) {
+      String fqn = renameTag(tagLabel.getTagFQN(), prefix, newPrefix);
+      if (!fqn.equals(tagLabel.getTagFQN())) {
+        tagLabel.setTagFQN(fqn);
+        renamed = true;
+      }
+    }
+    return renamed;
+  }
+
+  private static FieldChange fieldChange(String name, Object oldValue, Object newValue) {
+    return new FieldChange().withName(name).withOldValue(oldValue).withNewValue(newValue);
+  }
+
+  /**
+   * Record a change event for a category or a tag, which other servers read to reload their tags. A rename is recorded
+   * with a single event for the category or the tag along with all the tags under it, its fullyQualifiedName field
+   * change being used to rename the tags in the search indexes.
+   */
+  private void recordChange(
+      EventType eventType, String entityType, String fqn, String userName, List<FieldChange> fieldsUpdated)
+      throws IOException {
+    ChangeEvent changeEvent =
+        new ChangeEvent()
+            .withEventType(eventType)
+            .withEntityType(entityType)
+            .withEntityId(UUID.nameUUIDFromBytes(fqn.getBytes(StandardCharsets.UTF_8)))
+            .withUserName(userName)
+            .withDateTime(new Date())
+            .withChangeDescription(
+                fieldsUpdated == null ? null : new ChangeDescription().withFieldsUpdated(fieldsUpdated));
+    ChangeEventHandler.recordChangeEvents(dao, List.of(changeEvent));
   }
 
   private TagCategory createCategoryInternal(TagCategory category) throws JsonProcessingException {
@@ -215,25 +418,28 @@ public class TagRepository {
   // Populate TagCategory with children details
   private TagCategory populateCategoryTags(TagCategory category, Fields fields) throws IOException {
     // Get tags under that match category prefix
-    List<String> groupJsons = dao.tagDAO().listChildrenTags(category.getName());
+    TagTaxonomy taxonomy = TagTaxonomy.get(dao.tagDAO());
+    List<String> groupJsons = taxonomy.listChildrenTags(category.getName());
 
     List<Tag> tagList = new ArrayList<>();
     for (String json : groupJsons) {
       Tag tag = setFields(JsonUtils.readValue(json, Tag.class), fields);
-      tagList.add(populateChildrenTags(tag, fields));
+      tagList.add(populateChildrenTags(taxonomy, tag, fields));
     }
     return category.withChildren(tagList.isEmpty() ? null : tagList);
   }
 
   // Populate the children tags for a given tag
   private Tag populateChildrenTags(Tag tag, Fields fields) throws IOException {
-    List<String> tagJsons = dao.tagDAO().listChildrenTags(tag.getFullyQualifiedName());
+    return populateChildrenTags(TagTaxonomy.get(dao.tagDAO()), tag, fields);
+  }
 
+  private Tag populateChildrenTags(TagTaxonomy taxonomy, Tag tag, Fields fields) throws IOException {
     // Get tags under the given tag
     List<Tag> tagList = new ArrayList<>();
-    for (String json : Optional.ofNullable(tagJsons).orElse(Collections.emptyList())) {
+    for (String json : taxonomy.listChildrenTags(tag.getFullyQualifiedName())) {
       Tag childTag = setFields(JsonUtils.readValue(json, Tag.class), fields);
-      tagList.add(populateChildrenTags(childTag, fields));
+      tagList.add(populateChildrenTags(taxonomy, childTag, fields));
     }
     return tag.withChildren(!tagList.isEmpty() ? tagList : null);
   }
@@ -0,0 +1,237 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.jdbi3;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.openmetadata.catalog.Entity;
+import org.openmetadata.catalog.events.ClusterEventBus;
+import org.openmetadata.catalog.exception.CatalogExceptionMessage;
+import org.openmetadata.catalog.exception.EntityNotFoundException;
+import org.openmetadata.catalog.jdbi3.CollectionDAO.TagDAO;
+import org.openmetadata.catalog.type.Tag;
+import org.openmetadata.catalog.type.TagCategory;
+import org.openmetadata.catalog.type.TagLabel;
+import org.openmetadata.catalog.type.TagLabel.LabelType;
+import org.openmetadata.catalog.util.JsonUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Immutable snapshot of all the tag categories and tags. Tags are validated and the tags derived from the associated
+ * tags of a tag are computed with hash lookups instead of a query per tag. The derived tags of each tag are the closure
+ * of its associated tags, that is the associated tags, their associated tags, and so on.
+ *
+ * <p>The snapshot is loaded on first use and replaced after {@link #invalidate()} is called on a tag or tag category
+ * change, including the changes broadcast by the {@link ClusterEventBus} for the other servers. A tag that is not in
+ * the snapshot is looked up in the database before being reported as not found, in case it was added by another server
+ * and the change is not delivered yet.
+ */
+public final class TagTaxonomy {
+  private static final Logger LOG = LoggerFactory.getLogger(TagTaxonomy.class);
+  private static final AtomicLong GENERATION = new AtomicLong();
+  private static final AtomicReference<TagTaxonomy> SNAPSHOT = new AtomicReference<>();
+
+  static {
+    ClusterEventBus.subscribe(
+        invalidation -> {
+          if (Entity.TAG.equals(invalidation.getEntityType())
+              || Entity.TAG_CATEGORY.equals(invalidation.getEntityType())) {
+            invalidate();
+          }
+        });
+  }
+
+  private final long generation;
+
+  /** JSON of the categories without children, ordered by category name */
+  private final Map<String, String> categories;
+
+  /** JSON of the tags without children, by fully qualified name */
+  private final Map<String, String> tags;
+
+  /** Description of the tags, by fully qualified name */
+  private final Map<String, String> descriptions;
+
+  /** Fully qualified names of the tags under a category or a tag, ordered by name */
+  private final Map<String, List<String>> children;
+
+  /** Closure of the associated tags of each tag that has associated tags */
+  private final Map<String, List<DerivedTag>> derivedTags;
+
+  private TagTaxonomy(long generation, List<String> categoryJsons, List<String> tagJsons) throws IOException {
+    this.generation = generation;
+    Map<String, String> categoryMap = new LinkedHashMap<>();
+    for (String json : categoryJsons) {
+      categoryMap.put(JsonUtils.readValue(json, TagCategory.class).getName(), json);
+    }
+
+    Map<String, Tag> tagMap = new HashMap<>();
+    Map<String, String> tagJsonMap = new HashMap<>();
+    Map<String, String> descriptionMap = new HashMap<>();
+    Map<String, List<String>> childMap = new HashMap<>();
+    for (String json : tagJsons) { // Ordered by fully qualified name
+      Tag tag = JsonUtils.readValue(json, Tag.class);
+      String fqn = tag.getFullyQualifiedName();
+      tagMap.put(fqn, tag);
+      tagJsonMap.put(fqn, json);
+      descriptionMap.put(fqn, tag.getDescription());
+      // Like listChildrenTags, a tag is listed under the category and under each of its ancestor tags
+      for (int i = fqn.indexOf('.'); i > 0; i = fqn.indexOf('.', i + 1)) {
+        childMap.computeIfAbsent(fqn.substring(0, i), p -> new ArrayList<>()).add(fqn);
+      }
+    }
+
+    Map<String, List<DerivedTag>> derivedMap = new HashMap<>();
+    for (Tag tag : tagMap.values()) {
+      if (tag.getAssociatedTags() != null && !tag.getAssociatedTags().isEmpty()) {
+        derivedMap.put(tag.getFullyQualifiedName(), closure(tag, tagMap));
+      }
+    }
+
+    this.categories = Collections.unmodifiableMap(categoryMap);
+    this.tags = Collections.unmodifiableMap(tagJsonMap);
+    this.descriptions = Collections.unmodifiableMap(descriptionMap);
+    childMap.replaceAll((parent, list) -> Collections.unmodifiableList(list));
+    this.children = Collections.unmodifiableMap(childMap);
+    this.derivedTags = Collections.unmodifiableMap(derivedMap);
+  }
+
+  /** Associated tags reachable from the tag, breadth first, excluding the tag itself */
+  private static List<DerivedTag> closure(Tag tag, Map<String, Tag> tagMap) {
+    Set<String> visited = new LinkedHashSet<>();
+    Deque<String> pending = new ArrayDeque<>(tag.getAssociatedTags());
+    while (!pending.isEmpty()) {
+      String fqn = pending.poll();
+      if (fqn.equals(tag.getFullyQualifiedName()) || !visited.add(fqn)) {
+        continue;
+      }
+      Tag associated = tagMap.get(fqn);
+      if (associated != null && associated.getAssociatedTags() != null) {
+        pending.addAll(associated.getAssociatedTags());
+      }
+    }
+    List<DerivedTag> closure = new ArrayList<>(visited.size());
+    for (String fqn : visited) {
+      Tag associated = tagMap.get(fqn);
+      // An associated tag that doesn't exist is reported when the tag is used, like an unknown tag
+      closure.add(new DerivedTag(fqn, associated == null ? null : associated.getDescription(), associated != null));
+    }
+    return Collections.unmodifiableList(closure);
+  }
+
+  /** Current snapshot, loaded from the database if there is none or the tags changed since it was loaded */
+  public static TagTaxonomy get(TagDAO dao) {
+    TagTaxonomy current = SNAPSHOT.get();
+    long generation = GENERATION.get();
+    if (current != null && current.generation == generation) {
+      return current;
+    }
+    TagTaxonomy loaded;
+    try {
+      loaded = new TagTaxonomy(generation, dao.listCategories(), dao.listAllTags());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    LOG.info("Loaded {} tag categories and {} tags", loaded.categories.size(), loaded.tags.size());
+    // Never replace a snapshot with one loaded before it
+    return SNAPSHOT.accumulateAndGet(
+        loaded, (cur, next) -> cur == null || next.generation >= cur.generation ? next : cur);
+  }
+
+  /** Discard the snapshot after a tag or a tag category is added or changed */
+  public static void invalidate() {
+    GENERATION.incrementAndGet();
+  }
+
+  /** Returns true if the tag exists, reloading the snapshot if the tag was added after the snapshot was loaded */
+  public static boolean tagExists(TagDAO dao, String fqn) {
+    if (get(dao).tags.containsKey(fqn)) {
+      return true;
+    }
+    if (dao.tagExists(fqn)) {
+      invalidate();
+      return get(dao).tags.containsKey(fqn);
+    }
+    return false;
+  }
+
+  public List<String> listCategories() {
+    return new ArrayList<>(categories.values());
+  }
+
+  public String findCategory(String name) {
+    return categories.get(name);
+  }
+
+  public String findTag(String fqn) {
+    return tags.get(fqn);
+  }
+
+  public String getDescription(String fqn) {
+    return descriptions.get(fqn);
+  }
+
+  /** JSON of the tags under a category or a tag, ordered by fully qualified name */
+  public List<String> listChildrenTags(String parent) {
+    List<String> childTags = new ArrayList<>();
+    for (String fqn : children.getOrDefault(parent, Collections.emptyList())) {
+      childTags.add(tags.get(fqn));
+    }
+    return childTags;
+  }
+
+  /** Tags derived from the given tag label, with the state of the label */
+  public List<TagLabel> getDerivedTags(TagLabel tagLabel) {
+    List<DerivedTag> closure = derivedTags.getOrDefault(tagLabel.getTagFQN(), Collections.emptyList());
+    List<TagLabel> labels = new ArrayList<>(closure.size());
+    for (DerivedTag derivedTag : closure) {
+      if (!derivedTag.exists) {
+        throw EntityNotFoundException.byMessage(
+            CatalogExceptionMessage.entityNotFound(Tag.class.getSimpleName(), derivedTag.fqn));
+      }
+      labels.add(
+          new TagLabel()
+              .withTagFQN(derivedTag.fqn)
+              .withState(tagLabel.getState())
+              .withDescription(derivedTag.description)
+              .withLabelType(LabelType.DERIVED));
+    }
+    return labels;
+  }
+
+  private static final class DerivedTag {
+    private final String fqn;
+    private final String description;
+    private final boolean exists;
+
+    private DerivedTag(String fqn, String description, boolean exists) {
+      this.fqn = fqn;
+      this.description = description;
+      this.exists = exists;
+    }
+  }
+}
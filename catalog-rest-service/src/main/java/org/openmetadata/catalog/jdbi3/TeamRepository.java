@@ -14,7 +14,7 @@
 package org.openmetadata.catalog.jdbi3;
 
 import static org.openmetadata.catalog.jdbi3.Relationship.OWNS;
-import static org.openmetadata.catalog.util.EntityUtil.entityReferenceMatch;
+import static org.openmetadata.catalog.util.EntityUtil.entityReferenceKey;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import java.io.IOException;
@@ -51,6 +51,8 @@ public class TeamRepository extends EntityRepository<Team> {
         false,
         false,
         false);
+    // Users of a team are also updated by adding and removing the teams of a user
+    skipUnchangedPut = false;
   }
 
   public List<EntityReference> getUsers(List<UUID> userIds) {
@@ -271,7 +273,7 @@ public class TeamRepository extends EntityRepository<Team> {
 
       List<EntityReference> added = new ArrayList<>();
       List<EntityReference> deleted = new ArrayList<>();
-      if (recordListChange("users", origUsers, updatedUsers, added, deleted, entityReferenceMatch)) {
+      if (recordListChange("users", origUsers, updatedUsers, added, deleted, entityReferenceKey)) {
         // Remove users from original and add users from updated
         daoCollection
             .relationshipDAO()
@@ -20,6 +20,7 @@ import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Function;
 import org.jdbi.v3.sqlobject.transaction.Transaction;
 import org.openmetadata.catalog.Entity;
 import org.openmetadata.catalog.entity.data.Topic;
@@ -314,7 +315,7 @@ public class TopicRepository extends EntityRepository<Topic> {
           updatedTopic.getCleanupPolicies(),
           added,
           deleted,
-          CleanupPolicy::equals);
+          Function.identity());
     }
   }
 }
@@ -56,6 +56,8 @@ public class UserRepository extends EntityRepository<User> {
         false,
         false,
         false);
+    // Teams of a user are also updated by adding and removing the users of a team
+    skipUnchangedPut = false;
   }
 
   @Override
@@ -334,7 +336,7 @@ public class UserRepository extends EntityRepository<User> {
 
       List<EntityReference> added = new ArrayList<>();
       List<EntityReference> deleted = new ArrayList<>();
-      recordListChange("roles", origRoles, updatedRoles, added, deleted, EntityUtil.entityReferenceMatch);
+      recordListChange("roles", origRoles, updatedRoles, added, deleted, EntityUtil.entityReferenceKey);
     }
 
     private void updateTeams(User origUser, User updatedUser) throws JsonProcessingException {
@@ -350,7 +352,7 @@ public class UserRepository extends EntityRepository<User> {
 
       List<EntityReference> added = new ArrayList<>();
       List<EntityReference> deleted = new ArrayList<>();
-      recordListChange("teams", origTeams, updatedTeams, added, deleted, EntityUtil.entityReferenceMatch);
+      recordListChange("teams", origTeams, updatedTeams, added, deleted, EntityUtil.entityReferenceKey);
     }
   }
 }
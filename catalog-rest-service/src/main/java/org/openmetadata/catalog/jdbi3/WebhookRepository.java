@@ -15,6 +15,7 @@ package org.openmetadata.catalog.jdbi3;
 
 import static org.openmetadata.catalog.util.EntityUtil.failureDetailsMatch;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.lmax.disruptor.BatchEventProcessor;
 import com.lmax.disruptor.EventHandler;
 import com.lmax.disruptor.LifecycleAware;
@@ -26,9 +27,12 @@ import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import javax.ws.rs.ProcessingException;
 import javax.ws.rs.client.Client;
@@ -38,6 +42,8 @@ import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import org.jdbi.v3.sqlobject.transaction.Transaction;
 import org.openmetadata.catalog.Entity;
+import org.openmetadata.catalog.events.CacheInvalidation;
+import org.openmetadata.catalog.events.ChangeEventHandler;
 import org.openmetadata.catalog.events.EventPubSub;
 import org.openmetadata.catalog.events.EventPubSub.ChangeEventHolder;
 import org.openmetadata.catalog.resources.events.EventResource.ChangeEventList;
@@ -50,8 +56,10 @@ import org.openmetadata.catalog.type.EventType;
 import org.openmetadata.catalog.type.FailureDetails;
 import org.openmetadata.catalog.type.Webhook;
 import org.openmetadata.catalog.type.Webhook.Status;
+import org.openmetadata.catalog.util.CatalogMetrics;
 import org.openmetadata.catalog.util.EntityInterface;
 import org.openmetadata.catalog.util.EntityUtil.Fields;
+import org.openmetadata.catalog.util.JsonUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -59,6 +67,11 @@ public class WebhookRepository extends EntityRepository<Webhook> {
   public static final Logger LOG = LoggerFactory.getLogger(WebhookRepository.class);
   private static final ConcurrentHashMap<UUID, WebhookPublisher> webhookPublisherMap = new ConcurrentHashMap<>();
 
+  /** Applies the webhook changes of the cluster in order, off the bus thread as stopping a publisher blocks */
+  private final ExecutorService clusterChangeExecutor =
+      Executors.newSingleThreadExecutor(
+          new ThreadFactoryBuilder().setNameFormat("webhook-cluster-changes").setDaemon(true).build());
+
   public WebhookRepository(CollectionDAO dao) {
     super(
         WebhookResource.COLLECTION_PATH,
@@ -161,9 +174,62 @@ public class WebhookRepository extends EntityRepository<Webhook> {
     webhookPublisherMap.remove(id);
   }
 
+  /** Delete the webhook and record the change event that stops its publisher on the other servers of the cluster */
   @Transaction
-  public boolean delete(String id) {
-    return daoCollection.webhookDAO().delete(UUID.fromString(id)) > 0;
+  public boolean delete(String id, String deletedBy) throws IOException {
+    UUID webhookId = UUID.fromString(id);
+    if (daoCollection.webhookDAO().delete(webhookId) == 0) {
+      return false;
+    }
+    ChangeEvent changeEvent =
+        new ChangeEvent()
+            .withEventType(EventType.ENTITY_DELETED)
+            .withEntityType(Entity.WEBHOOK)
+            .withEntityId(webhookId)
+            .withUserName(deletedBy)
+            .withDateTime(new Date());
+    ChangeEventHandler.recordChangeEvents(daoCollection, List.of(changeEvent));
+    return true;
+  }
+
+  /**
+   * Apply a webhook change made through another server of the cluster to the publisher of this server. Change events
+   * are only published to the webhook publishers of the server recording them, so each server runs a publisher for each
+   * enabled webhook.
+   */
+  public void applyClusterChange(CacheInvalidation invalidation) {
+    if (Entity.WEBHOOK.equals(invalidation.getEntityType())) {
+      UUID id = invalidation.getEntityId();
+      clusterChangeExecutor.execute(() -> applyWebhookChange(id));
+    }
+  }
+
+  private void applyWebhookChange(UUID id) {
+    try {
+      String json = daoCollection.webhookDAO().findJsonById(id.toString());
+      if (json == null) {
+        deleteWebhookPublisher(id);
+        return;
+      }
+      Webhook webhook = JsonUtils.readValue(json, Webhook.class);
+      WebhookPublisher publisher = getPublisher(id);
+      if (publisher != null
+          && Objects.equals(publisher.getWebhook().getVersion(), webhook.getVersion())
+          && Objects.equals(publisher.getWebhook().getEnabled(), webhook.getEnabled())) {
+        return; // Already applied, such as for a change made through this server
+      }
+      updateWebhookPublisher(webhook);
+    } catch (IOException e) {
+      LOG.warn("Failed to apply the change of webhook {}", id, e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /** Stop applying the webhook changes of the cluster, when the server stops */
+  public void stopClusterChanges() throws InterruptedException {
+    clusterChangeExecutor.shutdownNow();
+    clusterChangeExecutor.awaitTermination(10, TimeUnit.SECONDS);
   }
 
   public static class WebhookEntityInterface implements EntityInterface<Webhook> {
@@ -339,7 +405,10 @@ public class WebhookRepository extends EntityRepository<Webhook> {
       ChangeEventList list = new ChangeEventList(batch, null, null, batch.size());
       long attemptTime = System.currentTimeMillis();
       try {
-        Response response = target.post(javax.ws.rs.client.Entity.entity(list, MediaType.APPLICATION_JSON));
+        Response response;
+        try (CatalogMetrics.Sample ignored = CatalogMetrics.time(WebhookRepository.class, "webhook", "post")) {
+          response = target.post(javax.ws.rs.client.Entity.entity(list, MediaType.APPLICATION_JSON));
+        }
         LOG.info(
             "Webhook {}:{}:{} received response {}",
             webhook.getName(),
@@ -386,6 +455,7 @@ public class WebhookRepository extends EntityRepository<Webhook> {
 
     public synchronized void updateWebhook(Webhook updatedWebhook) {
       currentBackoffTime = BACKOFF_NORMAL;
+      webhook.setVersion(updatedWebhook.getVersion());
       webhook.setTimeout(updatedWebhook.getTimeout());
       webhook.setBatchSize(updatedWebhook.getBatchSize());
       webhook.setEndpoint(updatedWebhook.getEndpoint());
@@ -13,29 +13,46 @@
 
 package org.openmetadata.catalog.resources;
 
+import com.google.common.base.Stopwatch;
+import io.dropwizard.lifecycle.Managed;
 import io.dropwizard.setup.Environment;
 import io.swagger.annotations.Api;
+import java.io.BufferedReader;
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Enumeration;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import javax.ws.rs.Path;
 import javax.ws.rs.core.UriInfo;
 import org.jdbi.v3.core.Jdbi;
 import org.openmetadata.catalog.CatalogApplicationConfig;
+import org.openmetadata.catalog.Entity;
 import org.openmetadata.catalog.jdbi3.CollectionDAO;
+import org.openmetadata.catalog.jdbi3.EntityDAO;
 import org.openmetadata.catalog.security.Authorizer;
 import org.openmetadata.catalog.type.CollectionDescriptor;
 import org.openmetadata.catalog.type.CollectionInfo;
 import org.openmetadata.catalog.util.RestUtil;
+import org.openmetadata.common.processor.CollectionIndexProcessor;
 import org.reflections.Reflections;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -47,6 +64,7 @@ import org.slf4j.LoggerFactory;
  */
 public final class CollectionRegistry {
   private static final Logger LOG = LoggerFactory.getLogger(CollectionRegistry.class);
+  private static final int INIT_THREADS = 4;
   private static CollectionRegistry instance = null;
 
   /** Map of collection endpoint path to collection details */
@@ -119,20 +137,57 @@ public final class CollectionRegistry {
   /** Register resources from CollectionRegistry */
   public void registerResources(
       Jdbi jdbi, Environment environment, CatalogApplicationConfig config, Authorizer authorizer) {
-    // Build list of ResourceDescriptors
-    for (Map.Entry<String, CollectionDetails> e : collectionMap.entrySet()) {
-      CollectionDetails details = e.getValue();
+    // All the resources share the same on-demand DAO, which opens a handle only for the duration of each call
+    CollectionDAO daoObject = jdbi.onDemand(CollectionDAO.class);
+    Objects.requireNonNull(daoObject, "CollectionDAO must not be null");
+
+    // Create the resources one at a time, as creating repositories registers the entities in static maps
+    Stopwatch stopwatch = Stopwatch.createStarted();
+    List<Object> resources = new ArrayList<>();
+    for (CollectionDetails details : collectionMap.values()) {
       String resourceClass = details.resourceClass;
       try {
-        CollectionDAO daoObject = jdbi.onDemand(CollectionDAO.class);
-        Objects.requireNonNull(daoObject, "CollectionDAO must not be null");
-        Object resource = createResource(daoObject, resourceClass, config, authorizer);
-        environment.jersey().register(resource);
-        LOG.info("Registering {}", resourceClass);
+        resources.add(createResource(daoObject, resourceClass, authorizer));
       } catch (Exception ex) {
         LOG.warn("Failed to create resource for class {} {}", resourceClass, ex);
       }
     }
+    LOG.info("Created {} resources in {} ms", resources.size(), stopwatch.elapsed(TimeUnit.MILLISECONDS));
+
+    // Resources are independent of each other and are initialized in parallel
+    stopwatch.reset().start();
+    ExecutorService executor = Executors.newFixedThreadPool(INIT_THREADS);
+    try {
+      CompletableFuture.allOf(
+              resources.stream()
+                  .map(resource -> CompletableFuture.runAsync(() -> initializeResource(resource, config), executor))
+                  .toArray(CompletableFuture[]::new))
+          .join();
+    } finally {
+      executor.shutdown();
+    }
+    LOG.info("Initialized resources in {} ms", stopwatch.elapsed(TimeUnit.MILLISECONDS));
+
+    // The fingerprints of the PUT requests made stale by the updates and deletes since the last start are not needed
+    stopwatch.reset().start();
+    int purged = 0;
+    for (EntityDAO<?> entityDAO : Entity.getEntityDAOs()) {
+      try {
+        purged += entityDAO.purgeFingerprints();
+      } catch (Exception ex) {
+        LOG.warn("Failed to purge the fingerprints of {}", entityDAO.getTableName(), ex);
+      }
+    }
+    LOG.info("Purged {} stale fingerprints in {} ms", purged, stopwatch.elapsed(TimeUnit.MILLISECONDS));
+
+    for (Object resource : resources) {
+      environment.jersey().register(resource);
+      if (resource instanceof Managed) {
+        // Resources running background tasks, such as pollers, are started and stopped with the application
+        environment.lifecycle().manage((Managed) resource);
+      }
+      LOG.info("Registering {}", resource.getClass().getName());
+    }
 
     // Now add test resources
     testResources.forEach(
@@ -167,43 +222,86 @@ public final class CollectionRegistry {
     return new CollectionDetails(cd, cl.getCanonicalName());
   }
 
-  /** Compile a list of REST collection based on Resource classes marked with {@code Collection} annotation */
+  /**
+   * Compile a list of REST collection based on Resource classes marked with {@code Collection} annotation. The classes
+   * are listed in an index generated at compile time by {@link CollectionIndexProcessor}. The classpath is scanned
+   * only when the index is not found, such as when the classes are compiled without annotation processing, or when it
+   * is stale and lists a class that is missing or no longer a collection.
+   */
   private static List<CollectionDetails> getCollections() {
-    Reflections reflections = new Reflections("org.openmetadata.catalog.resources");
+    Stopwatch stopwatch = Stopwatch.createStarted();
+    Set<Class<?>> collectionClasses = loadCollectionIndex();
+    if (collectionClasses.isEmpty()) {
+      LOG.warn("Collection index {} not found or stale, scanning the classpath", CollectionIndexProcessor.INDEX_FILE);
+      Reflections reflections = new Reflections("org.openmetadata.catalog.resources");
+      collectionClasses = reflections.getTypesAnnotatedWith(Collection.class);
+    }
 
-    // Get classes marked with @Collection annotation
-    Set<Class<?>> collectionClasses = reflections.getTypesAnnotatedWith(Collection.class);
     List<CollectionDetails> collections = new ArrayList<>();
     for (Class<?> cl : collectionClasses) {
       CollectionDetails cd = getCollection(cl);
       collections.add(cd);
     }
+    LOG.info("Found {} collections in {} ms", collections.size(), stopwatch.elapsed(TimeUnit.MILLISECONDS));
     return collections;
   }
 
+  private static Set<Class<?>> loadCollectionIndex() {
+    Set<Class<?>> collectionClasses = new LinkedHashSet<>();
+    try {
+      ClassLoader classLoader = CollectionRegistry.class.getClassLoader();
+      Enumeration<URL> indexFiles = classLoader.getResources(CollectionIndexProcessor.INDEX_FILE);
+      while (indexFiles.hasMoreElements()) {
+        try (BufferedReader reader =
+            new BufferedReader(new InputStreamReader(indexFiles.nextElement().openStream(), StandardCharsets.UTF_8))) {
+          for (String className : reader.lines().collect(Collectors.toList())) {
+            if (!className.isBlank()) {
+              Class<?> collectionClass = Class.forName(className.trim(), false, classLoader);
+              if (!collectionClass.isAnnotationPresent(Collection.class)) {
+                LOG.warn("Class {} listed in collection index is not a collection", className);
+                return Collections.emptySet();
+              }
+              collectionClasses.add(collectionClass);
+            }
+          }
+        }
+      }
+    } catch (IOException | ClassNotFoundException ex) {
+      LOG.warn("Failed to load collection index {}", CollectionIndexProcessor.INDEX_FILE, ex);
+      collectionClasses.clear();
+    }
+    return collectionClasses;
+  }
+
   /** Create a resource class based on dependencies declared in @Collection annotation */
-  private static Object createResource(
-      CollectionDAO daoObject, String resourceClass, CatalogApplicationConfig config, Authorizer authorizer)
+  private static Object createResource(CollectionDAO daoObject, String resourceClass, Authorizer authorizer)
       throws ClassNotFoundException, NoSuchMethodException, IllegalAccessException, InvocationTargetException,
           InstantiationException {
-    Object resource;
     Class<?> clz = Class.forName(resourceClass);
 
     // Create the resource identified by resourceClass
     try {
-      resource = clz.getDeclaredConstructor(CollectionDAO.class, Authorizer.class).newInstance(daoObject, authorizer);
+      return clz.getDeclaredConstructor(CollectionDAO.class, Authorizer.class).newInstance(daoObject, authorizer);
     } catch (NoSuchMethodException ex) {
-      resource = Class.forName(resourceClass).getConstructor().newInstance();
+      return clz.getConstructor().newInstance();
     }
+  }
 
-    // Call initialize method, if it exists
+  /** Call initialize method of the resource, if it exists */
+  private static void initializeResource(Object resource, CatalogApplicationConfig config) {
+    Method initializeMethod;
+    try {
+      initializeMethod = resource.getClass().getMethod("initialize", CatalogApplicationConfig.class);
+    } catch (NoSuchMethodException ignored) {
+      return; // Method does not exist and initialize is not called
+    }
+    Stopwatch stopwatch = Stopwatch.createStarted();
     try {
-      Method initializeMethod = resource.getClass().getMethod("initialize", CatalogApplicationConfig.class);
       initializeMethod.invoke(resource, config);
-    } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException ignored) {
-      // Method does not exist and initialize is not called
+    } catch (IllegalAccessException | InvocationTargetException ex) {
+      LOG.warn("Failed to initialize resource {}", resource.getClass().getName(), ex);
     }
-    return resource;
+    LOG.info("Initialized {} in {} ms", resource.getClass().getName(), stopwatch.elapsed(TimeUnit.MILLISECONDS));
   }
 
   public static class CollectionDetails {
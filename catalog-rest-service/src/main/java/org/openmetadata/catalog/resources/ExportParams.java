@@ -0,0 +1,45 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.resources;
+
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Schema;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.ws.rs.DefaultValue;
+import javax.ws.rs.QueryParam;
+
+/** Query params of the {@code GET .../export} endpoints of all the entities */
+public class ExportParams {
+  @Parameter(
+      description = "Fields requested in the exported entities, the same as the fields of a GET",
+      schema = @Schema(type = "string"))
+  @QueryParam("fields")
+  private String fields;
+
+  @Parameter(description = "Number of entities whose fields are set at a time. (1 to 1000, default = 100)")
+  @DefaultValue("100")
+  @Min(1)
+  @Max(1000)
+  @QueryParam("batchSize")
+  private int batchSize;
+
+  public String getFields() {
+    return fields;
+  }
+
+  public int getBatchSize() {
+    return batchSize;
+  }
+}
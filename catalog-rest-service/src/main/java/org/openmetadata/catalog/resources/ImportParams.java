@@ -0,0 +1,64 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.resources;
+
+import io.swagger.v3.oas.annotations.Parameter;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.ws.rs.DefaultValue;
+import javax.ws.rs.QueryParam;
+
+/** Query params of the {@code POST .../import} endpoints of all the entities */
+public class ImportParams {
+  @Parameter(description = "Number of lines of the input to skip, such as the checkpoint of a failed import")
+  @DefaultValue("0")
+  @Min(0)
+  @QueryParam("skip")
+  private int skip;
+
+  @Parameter(description = "Number of entities created per transaction. (1 to 10000, default = 100)")
+  @DefaultValue("100")
+  @Min(1)
+  @Max(10000)
+  @QueryParam("batchSize")
+  private int batchSize;
+
+  @Parameter(description = "Number of threads creating the entities. (1 to 32, default = 4)")
+  @DefaultValue("4")
+  @Min(1)
+  @Max(32)
+  @QueryParam("parallelism")
+  private int parallelism;
+
+  @Parameter(description = "Don't record change events for the created entities")
+  @DefaultValue("false")
+  @QueryParam("skipEvents")
+  private boolean skipEvents;
+
+  public int getSkip() {
+    return skip;
+  }
+
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  public int getParallelism() {
+    return parallelism;
+  }
+
+  public boolean isSkipEvents() {
+    return skipEvents;
+  }
+}
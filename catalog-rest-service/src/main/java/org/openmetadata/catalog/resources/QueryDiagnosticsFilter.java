@@ -0,0 +1,59 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.openmetadata.catalog.resources;
+
+import javax.annotation.Priority;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.ext.Provider;
+import org.openmetadata.catalog.QueryDiagnosticsConfiguration;
+import org.openmetadata.catalog.jdbi3.QueryDiagnostics;
+import org.openmetadata.catalog.jdbi3.QueryDiagnostics.RequestQueries;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Returns the number of SQL statements run by a request in the {@link #QUERY_COUNT_HEADER} header, and logs the
+ * statements of the requests running more statements than expected or a slow statement.
+ */
+@Provider
+@Priority(1) // First request filter and last response filter, to count the statements run by the other filters
+public class QueryDiagnosticsFilter implements ContainerRequestFilter, ContainerResponseFilter {
+  private static final Logger LOG = LoggerFactory.getLogger(QueryDiagnosticsFilter.class);
+  public static final String QUERY_COUNT_HEADER = "X-OM-Query-Count";
+
+  private final int maxQueriesPerRequest;
+
+  public QueryDiagnosticsFilter(QueryDiagnosticsConfiguration config) {
+    this.maxQueriesPerRequest = config.getMaxQueriesPerRequest();
+  }
+
+  @Override
+  public void filter(ContainerRequestContext requestContext) {
+    QueryDiagnostics.startRequest();
+  }
+
+  @Override
+  public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+    RequestQueries queries = QueryDiagnostics.endRequest();
+    if (queries == null) { // Request not matched to a resource
+      return;
+    }
+    responseContext.getHeaders().putSingle(QUERY_COUNT_HEADER, queries.getCount());
+    if (queries.getCount() > maxQueriesPerRequest || queries.hasSlowStatement()) {
+      LOG.warn("{} {} ran {}", requestContext.getMethod(), requestContext.getUriInfo().getPath(), queries.report());
+    }
+  }
+}
@@ -0,0 +1,43 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.resources;
+
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Schema;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.ws.rs.DefaultValue;
+import javax.ws.rs.QueryParam;
+
+/** Query params paging the {@code GET .../{id}/versions} endpoints of all the entities, from the latest version */
+public class VersionsParams {
+  @Parameter(description = "Limit the number of versions returned. (1 to 1000, default = 10)")
+  @DefaultValue("10")
+  @Min(1)
+  @Max(1000)
+  @QueryParam("limit")
+  private int limit;
+
+  @Parameter(description = "Returns versions older than this version", schema = @Schema(type = "string"))
+  @QueryParam("before")
+  private String before;
+
+  public int getLimit() {
+    return limit;
+  }
+
+  public String getBefore() {
+    return before;
+  }
+}
@@ -24,6 +24,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
 import java.security.GeneralSecurityException;
 import java.text.ParseException;
@@ -37,6 +38,7 @@ import javax.json.JsonPatch;
 import javax.validation.Valid;
 import javax.validation.constraints.Max;
 import javax.validation.constraints.Min;
+import javax.ws.rs.BeanParam;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
 import javax.ws.rs.DefaultValue;
@@ -60,9 +62,13 @@ import org.openmetadata.catalog.jdbi3.ChartRepository;
 import org.openmetadata.catalog.jdbi3.ChartRepository.ChartEntityInterface;
 import org.openmetadata.catalog.jdbi3.CollectionDAO;
 import org.openmetadata.catalog.resources.Collection;
+import org.openmetadata.catalog.resources.ExportParams;
+import org.openmetadata.catalog.resources.ImportParams;
+import org.openmetadata.catalog.resources.VersionsParams;
 import org.openmetadata.catalog.security.Authorizer;
 import org.openmetadata.catalog.security.SecurityUtil;
 import org.openmetadata.catalog.type.EntityHistory;
+import org.openmetadata.catalog.type.ImportResult;
 import org.openmetadata.catalog.util.EntityUtil.Fields;
 import org.openmetadata.catalog.util.RestUtil;
 import org.openmetadata.catalog.util.RestUtil.PatchResponse;
@@ -178,9 +184,50 @@ public class ChartResource {
   public EntityHistory listVersions(
       @Context UriInfo uriInfo,
       @Context SecurityContext securityContext,
-      @Parameter(description = "Chart Id", schema = @Schema(type = "string")) @PathParam("id") String id)
+      @Parameter(description = "Chart Id", schema = @Schema(type = "string")) @PathParam("id") String id,
+      @Valid @BeanParam VersionsParams versionsParams)
       throws IOException, ParseException {
-    return dao.listVersions(id);
+    return dao.listVersions(id, versionsParams.getLimit(), versionsParams.getBefore());
+  }
+
+  @GET
+  @Path("/export")
+  @Produces(RestUtil.NDJSON_MEDIA_TYPE)
+  @Operation(
+      summary = "Export charts",
+      tags = "charts",
+      description = "Export all the charts as newline delimited JSON, one chart per line.",
+      responses = {@ApiResponse(responseCode = "200", description = "Charts as newline delimited JSON")})
+  public Response export(
+      @Context UriInfo uriInfo,
+      @Context SecurityContext securityContext,
+      @Valid @BeanParam ExportParams exportParams) {
+    return dao.export(uriInfo, FIELD_LIST, exportParams);
+  }
+
+  @POST
+  @Path("/import")
+  @Consumes(RestUtil.NDJSON_MEDIA_TYPE)
+  @Operation(
+      summary = "Import charts",
+      tags = "charts",
+      description =
+          "Import charts from newline delimited JSON as produced by the export of charts. Existing charts are skipped, "
+              + "so a failed import is resumed from the checkpoint in the result.",
+      responses = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Result of the import",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ImportResult.class)))
+      })
+  public ImportResult importEntities(
+      @Context UriInfo uriInfo,
+      @Context SecurityContext securityContext,
+      @Valid @BeanParam ImportParams importParams,
+      InputStream input)
+      throws IOException {
+    SecurityUtil.checkAdminOrBotRole(authorizer, securityContext);
+    return dao.importEntities(input, importParams);
   }
 
   @GET
@@ -24,6 +24,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
 import java.security.GeneralSecurityException;
 import java.text.ParseException;
@@ -37,6 +38,7 @@ import javax.json.JsonPatch;
 import javax.validation.Valid;
 import javax.validation.constraints.Max;
 import javax.validation.constraints.Min;
+import javax.ws.rs.BeanParam;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
 import javax.ws.rs.DefaultValue;
@@ -60,10 +62,14 @@ import org.openmetadata.catalog.jdbi3.CollectionDAO;
 import org.openmetadata.catalog.jdbi3.DatabaseRepository;
 import org.openmetadata.catalog.jdbi3.DatabaseRepository.DatabaseEntityInterface;
 import org.openmetadata.catalog.resources.Collection;
+import org.openmetadata.catalog.resources.ExportParams;
+import org.openmetadata.catalog.resources.ImportParams;
+import org.openmetadata.catalog.resources.VersionsParams;
 import org.openmetadata.catalog.security.Authorizer;
 import org.openmetadata.catalog.security.SecurityUtil;
 import org.openmetadata.catalog.type.EntityHistory;
 import org.openmetadata.catalog.type.EntityReference;
+import org.openmetadata.catalog.type.ImportResult;
 import org.openmetadata.catalog.util.EntityUtil.Fields;
 import org.openmetadata.catalog.util.RestUtil;
 import org.openmetadata.catalog.util.RestUtil.PatchResponse;
@@ -193,9 +199,50 @@ public class DatabaseResource {
   public EntityHistory listVersions(
       @Context UriInfo uriInfo,
       @Context SecurityContext securityContext,
-      @Parameter(description = "database Id", schema = @Schema(type = "string")) @PathParam("id") String id)
+      @Parameter(description = "database Id", schema = @Schema(type = "string")) @PathParam("id") String id,
+      @Valid @BeanParam VersionsParams versionsParams)
       throws IOException, ParseException {
-    return dao.listVersions(id);
+    return dao.listVersions(id, versionsParams.getLimit(), versionsParams.getBefore());
+  }
+
+  @GET
+  @Path("/export")
+  @Produces(RestUtil.NDJSON_MEDIA_TYPE)
+  @Operation(
+      summary = "Export databases",
+      tags = "databases",
+      description = "Export all the databases as newline delimited JSON, one database per line.",
+      responses = {@ApiResponse(responseCode = "200", description = "Databases as newline delimited JSON")})
+  public Response export(
+      @Context UriInfo uriInfo,
+      @Context SecurityContext securityContext,
+      @Valid @BeanParam ExportParams exportParams) {
+    return dao.export(uriInfo, FIELD_LIST, exportParams);
+  }
+
+  @POST
+  @Path("/import")
+  @Consumes(RestUtil.NDJSON_MEDIA_TYPE)
+  @Operation(
+      summary = "Import databases",
+      tags = "databases",
+      description =
+          "Import databases from newline delimited JSON as produced by the export of databases. Existing databases are "
+              + "skipped, so a failed import is resumed from the checkpoint in the result.",
+      responses = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Result of the import",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ImportResult.class)))
+      })
+  public ImportResult importEntities(
+      @Context UriInfo uriInfo,
+      @Context SecurityContext securityContext,
+      @Valid @BeanParam ImportParams importParams,
+      InputStream input)
+      throws IOException {
+    SecurityUtil.checkAdminOrBotRole(authorizer, securityContext);
+    return dao.importEntities(input, importParams);
   }
 
   @GET
@@ -378,17 +425,30 @@ public class DatabaseResource {
       description = "Delete a database by `id`. Database can only be deleted if it has no tables.",
       responses = {
         @ApiResponse(responseCode = "200", description = "OK"),
+        @ApiResponse(responseCode = "202", description = "Delete job running in the background"),
         @ApiResponse(responseCode = "404", description = "Database for instance {id} is not found")
       })
   public Response delete(
       @Context UriInfo uriInfo,
+      @Context SecurityContext securityContext,
       @Parameter(description = "Recursively delete this entity and it's children. (Default `false`)")
           @DefaultValue("false")
           @QueryParam("recursive")
           boolean recursive,
+      @Parameter(
+              description =
+                  "Delete the children in the background and return the delete job, whose progress is reported by "
+                      + "`operations/v1/deleteJobs/{jobId}`. Applies only to a recursive delete. (Default `false`)")
+          @DefaultValue("false")
+          @QueryParam("async")
+          boolean async,
       @PathParam("id") String id)
       throws IOException {
-    dao.delete(UUID.fromString(id), recursive);
+    String deletedBy = securityContext.getUserPrincipal().getName();
+    if (recursive && async) {
+      return Response.accepted(dao.deleteAsync(UUID.fromString(id), deletedBy)).build();
+    }
+    dao.delete(UUID.fromString(id), recursive, deletedBy);
     return Response.ok().build();
   }
 
@@ -14,6 +14,7 @@
 package org.openmetadata.catalog.resources.events;
 
 import com.google.inject.Inject;
+import io.dropwizard.lifecycle.Managed;
 import io.swagger.annotations.Api;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -21,6 +22,7 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
 import java.security.GeneralSecurityException;
 import java.text.ParseException;
@@ -28,9 +30,11 @@ import java.util.Date;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Consumer;
 import javax.validation.Valid;
 import javax.validation.constraints.Max;
 import javax.validation.constraints.Min;
+import javax.ws.rs.BeanParam;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
 import javax.ws.rs.DefaultValue;
@@ -47,13 +51,19 @@ import javax.ws.rs.core.Response;
 import javax.ws.rs.core.SecurityContext;
 import javax.ws.rs.core.UriInfo;
 import org.openmetadata.catalog.api.events.CreateWebhook;
+import org.openmetadata.catalog.events.CacheInvalidation;
+import org.openmetadata.catalog.events.ClusterEventBus;
 import org.openmetadata.catalog.jdbi3.CollectionDAO;
 import org.openmetadata.catalog.jdbi3.WebhookRepository;
 import org.openmetadata.catalog.resources.Collection;
+import org.openmetadata.catalog.resources.ExportParams;
+import org.openmetadata.catalog.resources.ImportParams;
+import org.openmetadata.catalog.resources.VersionsParams;
 import org.openmetadata.catalog.security.Authorizer;
 import org.openmetadata.catalog.security.SecurityUtil;
 import org.openmetadata.catalog.type.ChangeEvent;
 import org.openmetadata.catalog.type.EntityHistory;
+import org.openmetadata.catalog.type.ImportResult;
 import org.openmetadata.catalog.type.Webhook;
 import org.openmetadata.catalog.type.Webhook.Status;
 import org.openmetadata.catalog.util.EntityUtil.Fields;
@@ -66,10 +76,11 @@ import org.openmetadata.catalog.util.ResultList;
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_JSON)
 @Collection(name = "webhook")
-public class WebhookResource {
+public class WebhookResource implements Managed {
   public static final String COLLECTION_PATH = "v1/webhook/";
   private final WebhookRepository dao;
   private final Authorizer authorizer;
+  private final Consumer<CacheInvalidation> clusterChangeSubscriber;
 
   public static class WebhookList extends ResultList<Webhook> {
 
@@ -87,6 +98,19 @@ public class WebhookResource {
     Objects.requireNonNull(dao, "ChangeEventRepository must not be null");
     this.dao = new WebhookRepository(dao);
     this.authorizer = authorizer;
+    this.clusterChangeSubscriber = this.dao::applyClusterChange;
+    ClusterEventBus.subscribe(clusterChangeSubscriber);
+  }
+
+  @Override
+  public void start() {
+    // Webhook changes of the cluster are applied as soon as the resource is created
+  }
+
+  @Override
+  public void stop() throws InterruptedException {
+    ClusterEventBus.unsubscribe(clusterChangeSubscriber);
+    dao.stopClusterChanges();
   }
 
   @GET
@@ -127,6 +151,46 @@ public class WebhookResource {
     return webhooks;
   }
 
+  @GET
+  @Path("/export")
+  @Produces(RestUtil.NDJSON_MEDIA_TYPE)
+  @Operation(
+      summary = "Export webhooks",
+      tags = "webhook",
+      description = "Export all the webhooks as newline delimited JSON, one webhook per line.",
+      responses = {@ApiResponse(responseCode = "200", description = "Webhooks as newline delimited JSON")})
+  public Response export(
+      @Context UriInfo uriInfo,
+      @Context SecurityContext securityContext,
+      @Valid @BeanParam ExportParams exportParams) {
+    return dao.export(uriInfo, FIELD_LIST, exportParams);
+  }
+
+  @POST
+  @Path("/import")
+  @Consumes(RestUtil.NDJSON_MEDIA_TYPE)
+  @Operation(
+      summary = "Import webhooks",
+      tags = "webhook",
+      description =
+          "Import webhooks from newline delimited JSON as produced by the export of webhooks. Existing webhooks are "
+              + "skipped, so a failed import is resumed from the checkpoint in the result.",
+      responses = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Result of the import",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ImportResult.class)))
+      })
+  public ImportResult importEntities(
+      @Context UriInfo uriInfo,
+      @Context SecurityContext securityContext,
+      @Valid @BeanParam ImportParams importParams,
+      InputStream input)
+      throws IOException {
+    SecurityUtil.checkAdminOrBotRole(authorizer, securityContext);
+    return dao.importEntities(input, importParams);
+  }
+
   @GET
   @Path("/{id}")
   @Valid
@@ -184,9 +248,10 @@ public class WebhookResource {
   public EntityHistory listVersions(
       @Context UriInfo uriInfo,
       @Context SecurityContext securityContext,
-      @Parameter(description = "webhook Id", schema = @Schema(type = "string")) @PathParam("id") String id)
+      @Parameter(description = "webhook Id", schema = @Schema(type = "string")) @PathParam("id") String id,
+      @Valid @BeanParam VersionsParams versionsParams)
       throws IOException, ParseException {
-    return dao.listVersions(id);
+    return dao.listVersions(id, versionsParams.getLimit(), versionsParams.getBefore());
   }
 
   @GET
@@ -281,9 +346,10 @@ public class WebhookResource {
       })
   public Response deleteWebhook(
       @Context UriInfo uriInfo,
+      @Context SecurityContext securityContext,
       @Parameter(description = "webhook Id", schema = @Schema(type = "string")) @PathParam("id") String id)
       throws IOException, GeneralSecurityException, ParseException, InterruptedException {
-    dao.delete(id);
+    dao.delete(id, securityContext.getUserPrincipal().getName());
     dao.deleteWebhookPublisher(UUID.fromString(id));
     return Response.ok().build();
   }
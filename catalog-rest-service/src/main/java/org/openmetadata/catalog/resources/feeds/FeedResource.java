@@ -21,12 +21,17 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.security.GeneralSecurityException;
 import java.util.Date;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
 import javax.ws.rs.Consumes;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
@@ -44,6 +49,7 @@ import org.openmetadata.catalog.jdbi3.FeedRepository;
 import org.openmetadata.catalog.resources.Collection;
 import org.openmetadata.catalog.security.Authorizer;
 import org.openmetadata.catalog.type.Post;
+import org.openmetadata.catalog.type.TimelineItem;
 import org.openmetadata.catalog.util.RestUtil;
 import org.openmetadata.catalog.util.ResultList;
 
@@ -77,31 +83,91 @@ public class FeedResource {
     @SuppressWarnings("unused") // Used for deserialization
     ThreadList() {}
 
-    ThreadList(List<Thread> data) {
-      super(data);
+    ThreadList(List<Thread> data, String beforeCursor, String afterCursor, int total)
+        throws GeneralSecurityException, UnsupportedEncodingException {
+      super(data, beforeCursor, afterCursor, total);
     }
   }
 
+  static class TimelineList extends ResultList<TimelineItem> {
+    @SuppressWarnings("unused") // Used for deserialization
+    TimelineList() {}
+  }
+
   @GET
   @Operation(
       summary = "List threads",
       tags = "feeds",
-      description = "Get a list of threads, optionally filtered by `entityLink`.",
+      description =
+          "Get a list of threads, optionally filtered by `entityLink`. Threads are listed latest first. Use cursor "
+              + "based pagination to limit the number entries in the list using `limit` and `before` or `after` query "
+              + "params.",
       responses = {
         @ApiResponse(
             responseCode = "200",
             description = "List of threads",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ThreadList.class)))
       })
-  public ThreadList list(
+  public ResultList<Thread> list(
       @Context UriInfo uriInfo,
       @Parameter(
               description = "Filter threads by entity link",
               schema = @Schema(type = "string", example = "<E#/{entityType}/{entityId}>"))
           @QueryParam("entity")
-          String entityLink)
-      throws IOException {
-    return new ThreadList(addHref(uriInfo, dao.listThreads(entityLink)));
+          String entityLink,
+      @Parameter(description = "Limit the number threads returned. (1 to 1000000, default = 10)")
+          @DefaultValue("10")
+          @Min(1)
+          @Max(1000000)
+          @QueryParam("limit")
+          int limitParam,
+      @Parameter(description = "Returns list of threads before this cursor", schema = @Schema(type = "string"))
+          @QueryParam("before")
+          String before,
+      @Parameter(description = "Returns list of threads after this cursor", schema = @Schema(type = "string"))
+          @QueryParam("after")
+          String after)
+      throws IOException, GeneralSecurityException {
+    RestUtil.validateCursors(before, after);
+    ResultList<Thread> threads = dao.listThreads(entityLink, limitParam, before, after);
+    addHref(uriInfo, threads.getData());
+    return threads;
+  }
+
+  @GET
+  @Path("/timeline/{userId}")
+  @Operation(
+      summary = "List the timeline of a user",
+      tags = "feeds",
+      description =
+          "Get the activity timeline of a user, latest first. The timeline has the threads the user started or is "
+              + "mentioned in, and the threads about and the changes to the entities the user owns or follows. Use "
+              + "`limit` and the `after` cursor to page through the timeline.",
+      responses = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Timeline of the user",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = TimelineList.class))),
+        @ApiResponse(responseCode = "404", description = "User for instance {userId} is not found")
+      })
+  public ResultList<TimelineItem> listTimeline(
+      @Context UriInfo uriInfo,
+      @Parameter(description = "User id", schema = @Schema(type = "string")) @PathParam("userId") String userId,
+      @Parameter(description = "Limit the number timeline items returned. (1 to 1000, default = 10)")
+          @DefaultValue("10")
+          @Min(1)
+          @Max(1000)
+          @QueryParam("limit")
+          int limitParam,
+      @Parameter(description = "Returns the timeline items after this cursor", schema = @Schema(type = "string"))
+          @QueryParam("after")
+          String after)
+      throws IOException, GeneralSecurityException {
+    ResultList<TimelineItem> items = dao.listTimeline(userId, limitParam, after);
+    items.getData().stream()
+        .filter(item -> item.getThread() != null)
+        .forEach(item -> addHref(uriInfo, item.getThread()));
+    return items;
   }
 
   @GET
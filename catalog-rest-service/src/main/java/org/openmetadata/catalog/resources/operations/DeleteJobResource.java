@@ -0,0 +1,58 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.resources.operations;
+
+import io.swagger.annotations.Api;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import java.util.UUID;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import org.openmetadata.catalog.jdbi3.CascadeDelete;
+import org.openmetadata.catalog.operations.DeleteJob;
+import org.openmetadata.catalog.resources.Collection;
+
+@Path("operations/v1/deleteJobs")
+@Api(value = "Delete jobs", tags = "Delete jobs")
+@Produces(MediaType.APPLICATION_JSON)
+@Consumes(MediaType.APPLICATION_JSON)
+@Collection(name = "deleteJobs")
+public class DeleteJobResource {
+  @GET
+  @Path("/{id}")
+  @Operation(
+      summary = "Get a delete job",
+      tags = "deleteJobs",
+      description =
+          "Get the progress of deleting an entity and its children in the background. Jobs are reported by the "
+              + "server running them.",
+      responses = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "The delete job",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = DeleteJob.class))),
+        @ApiResponse(responseCode = "404", description = "Delete job for instance {id} is not found")
+      })
+  public DeleteJob get(
+      @Parameter(description = "Id of the delete job", schema = @Schema(type = "string")) @PathParam("id") String id) {
+    return CascadeDelete.getJob(UUID.fromString(id));
+  }
+}
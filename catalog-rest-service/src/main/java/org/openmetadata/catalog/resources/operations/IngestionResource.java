@@ -14,6 +14,7 @@
 package org.openmetadata.catalog.resources.operations;
 
 import com.google.inject.Inject;
+import io.dropwizard.lifecycle.Managed;
 import io.swagger.annotations.Api;
 import io.swagger.v3.oas.annotations.ExternalDocumentation;
 import io.swagger.v3.oas.annotations.Operation;
@@ -24,6 +25,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
 import java.security.GeneralSecurityException;
 import java.text.ParseException;
@@ -38,6 +40,7 @@ import javax.json.JsonPatch;
 import javax.validation.Valid;
 import javax.validation.constraints.Max;
 import javax.validation.constraints.Min;
+import javax.ws.rs.BeanParam;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
 import javax.ws.rs.DefaultValue;
@@ -58,14 +61,19 @@ import org.openmetadata.catalog.CatalogApplicationConfig;
 import org.openmetadata.catalog.Entity;
 import org.openmetadata.catalog.api.operations.workflows.CreateIngestion;
 import org.openmetadata.catalog.ingestion.AirflowRESTClient;
+import org.openmetadata.catalog.ingestion.IngestionStatusCache;
 import org.openmetadata.catalog.jdbi3.CollectionDAO;
 import org.openmetadata.catalog.jdbi3.IngestionRepository;
 import org.openmetadata.catalog.operations.workflows.Ingestion;
 import org.openmetadata.catalog.resources.Collection;
+import org.openmetadata.catalog.resources.ExportParams;
+import org.openmetadata.catalog.resources.ImportParams;
+import org.openmetadata.catalog.resources.VersionsParams;
 import org.openmetadata.catalog.security.Authorizer;
 import org.openmetadata.catalog.security.SecurityUtil;
 import org.openmetadata.catalog.type.EntityHistory;
 import org.openmetadata.catalog.type.EntityReference;
+import org.openmetadata.catalog.type.ImportResult;
 import org.openmetadata.catalog.util.EntityUtil.Fields;
 import org.openmetadata.catalog.util.RestUtil;
 import org.openmetadata.catalog.util.RestUtil.PatchResponse;
@@ -79,13 +87,14 @@ import org.slf4j.LoggerFactory;
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_JSON)
 @Collection(name = "ingestion")
-public class IngestionResource {
+public class IngestionResource implements Managed {
   private static final Logger LOG = LoggerFactory.getLogger(IngestionResource.class);
 
   public static final String COLLECTION_PATH = "operations/v1/ingestion/";
   private final IngestionRepository dao;
   private final Authorizer authorizer;
   private AirflowRESTClient airflowRESTClient;
+  private IngestionStatusCache statusCache;
   private CatalogApplicationConfig config;
 
   public static void addHref(UriInfo uriInfo, EntityReference ref) {
@@ -112,9 +121,25 @@ public class IngestionResource {
 
   public void initialize(CatalogApplicationConfig config) {
     this.airflowRESTClient = new AirflowRESTClient(config);
+    this.statusCache =
+        new IngestionStatusCache(airflowRESTClient, config.getAirflowConfiguration().getStatusPollIntervalSeconds());
     this.config = config;
   }
 
+  @Override
+  public void start() {
+    if (statusCache != null) {
+      statusCache.start();
+    }
+  }
+
+  @Override
+  public void stop() throws InterruptedException {
+    if (statusCache != null) {
+      statusCache.stop();
+    }
+  }
+
   public static class IngestionList extends ResultList<Ingestion> {
     @SuppressWarnings("unused")
     IngestionList() {
@@ -196,9 +221,50 @@ public class IngestionResource {
   public EntityHistory listVersions(
       @Context UriInfo uriInfo,
       @Context SecurityContext securityContext,
-      @Parameter(description = "ingestion Id", schema = @Schema(type = "string")) @PathParam("id") String id)
+      @Parameter(description = "ingestion Id", schema = @Schema(type = "string")) @PathParam("id") String id,
+      @Valid @BeanParam VersionsParams versionsParams)
       throws IOException, ParseException {
-    return dao.listVersions(id);
+    return dao.listVersions(id, versionsParams.getLimit(), versionsParams.getBefore());
+  }
+
+  @GET
+  @Path("/export")
+  @Produces(RestUtil.NDJSON_MEDIA_TYPE)
+  @Operation(
+      summary = "Export ingestions",
+      tags = "ingestion",
+      description = "Export all the ingestions as newline delimited JSON, one ingestion per line.",
+      responses = {@ApiResponse(responseCode = "200", description = "Ingestions as newline delimited JSON")})
+  public Response export(
+      @Context UriInfo uriInfo,
+      @Context SecurityContext securityContext,
+      @Valid @BeanParam ExportParams exportParams) {
+    return dao.export(uriInfo, FIELD_LIST, exportParams);
+  }
+
+  @POST
+  @Path("/import")
+  @Consumes(RestUtil.NDJSON_MEDIA_TYPE)
+  @Operation(
+      summary = "Import ingestions",
+      tags = "ingestion",
+      description =
+          "Import ingestions from newline delimited JSON as produced by the export of ingestions. Existing ingestions "
+              + "are skipped, so a failed import is resumed from the checkpoint in the result.",
+      responses = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Result of the import",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ImportResult.class)))
+      })
+  public ImportResult importEntities(
+      @Context UriInfo uriInfo,
+      @Context SecurityContext securityContext,
+      @Valid @BeanParam ImportParams importParams,
+      InputStream input)
+      throws IOException {
+    SecurityUtil.checkAdminOrBotRole(authorizer, securityContext);
+    return dao.importEntities(input, importParams);
   }
 
   @GET
@@ -437,15 +503,15 @@ public class IngestionResource {
   }
 
   public void addStatus(List<Ingestion> ingestions) {
-    Optional.ofNullable(ingestions).orElse(Collections.emptyList()).forEach(this::addStatus);
-  }
-
-  private Ingestion addStatus(Ingestion ingestion) {
     try {
-      ingestion = airflowRESTClient.getStatus(ingestion);
+      statusCache.addStatus(Optional.ofNullable(ingestions).orElse(Collections.emptyList()));
     } catch (Exception e) {
-      LOG.error("Failed to fetch status for {}", ingestion.getName());
+      LOG.error("Failed to fetch status for ingestions", e);
     }
+  }
+
+  private Ingestion addStatus(Ingestion ingestion) {
+    addStatus(List.of(ingestion));
     return ingestion;
   }
 }
@@ -21,6 +21,7 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
 import java.security.GeneralSecurityException;
 import java.text.ParseException;
@@ -31,6 +32,7 @@ import java.util.UUID;
 import javax.validation.Valid;
 import javax.validation.constraints.Max;
 import javax.validation.constraints.Min;
+import javax.ws.rs.BeanParam;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
 import javax.ws.rs.DefaultValue;
@@ -51,9 +53,13 @@ import org.openmetadata.catalog.entity.services.MessagingService;
 import org.openmetadata.catalog.jdbi3.CollectionDAO;
 import org.openmetadata.catalog.jdbi3.MessagingServiceRepository;
 import org.openmetadata.catalog.resources.Collection;
+import org.openmetadata.catalog.resources.ExportParams;
+import org.openmetadata.catalog.resources.ImportParams;
+import org.openmetadata.catalog.resources.VersionsParams;
 import org.openmetadata.catalog.security.Authorizer;
 import org.openmetadata.catalog.security.SecurityUtil;
 import org.openmetadata.catalog.type.EntityHistory;
+import org.openmetadata.catalog.type.ImportResult;
 import org.openmetadata.catalog.util.RestUtil;
 import org.openmetadata.catalog.util.RestUtil.PutResponse;
 import org.openmetadata.catalog.util.ResultList;
@@ -123,6 +129,47 @@ public class MessagingServiceResource {
     return dao.listAfter(uriInfo, null, null, limitParam, after);
   }
 
+  @GET
+  @Path("/export")
+  @Produces(RestUtil.NDJSON_MEDIA_TYPE)
+  @Operation(
+      summary = "Export messaging services",
+      tags = "services",
+      description = "Export all the messaging services as newline delimited JSON, one messaging service per line.",
+      responses = {@ApiResponse(responseCode = "200", description = "Messaging services as newline delimited JSON")})
+  public Response export(
+      @Context UriInfo uriInfo,
+      @Context SecurityContext securityContext,
+      @Valid @BeanParam ExportParams exportParams) {
+    return dao.export(uriInfo, FIELD_LIST, exportParams);
+  }
+
+  @POST
+  @Path("/import")
+  @Consumes(RestUtil.NDJSON_MEDIA_TYPE)
+  @Operation(
+      summary = "Import messaging services",
+      tags = "services",
+      description =
+          "Import messaging services from newline delimited JSON as produced by the export of messaging services. "
+              + "Existing messaging services are skipped, so a failed import is resumed from the checkpoint in the "
+              + "result.",
+      responses = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Result of the import",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ImportResult.class)))
+      })
+  public ImportResult importEntities(
+      @Context UriInfo uriInfo,
+      @Context SecurityContext securityContext,
+      @Valid @BeanParam ImportParams importParams,
+      InputStream input)
+      throws IOException {
+    SecurityUtil.checkAdminOrBotRole(authorizer, securityContext);
+    return dao.importEntities(input, importParams);
+  }
+
   @GET
   @Path("/{id}")
   @Operation(
@@ -178,9 +225,10 @@ public class MessagingServiceResource {
   public EntityHistory listVersions(
       @Context UriInfo uriInfo,
       @Context SecurityContext securityContext,
-      @Parameter(description = "messaging service Id", schema = @Schema(type = "string")) @PathParam("id") String id)
+      @Parameter(description = "messaging service Id", schema = @Schema(type = "string")) @PathParam("id") String id,
+      @Valid @BeanParam VersionsParams versionsParams)
       throws IOException, ParseException {
-    return dao.listVersions(id);
+    return dao.listVersions(id, versionsParams.getLimit(), versionsParams.getBefore());
   }
 
   @GET
@@ -272,6 +320,7 @@ public class MessagingServiceResource {
       description = "Delete a messaging service. If topics belong the service, it can't be " + "deleted.",
       responses = {
         @ApiResponse(responseCode = "200", description = "OK"),
+        @ApiResponse(responseCode = "202", description = "Delete job running in the background"),
         @ApiResponse(responseCode = "404", description = "MessagingService service for instance {id} " + "is not found")
       })
   public Response delete(
@@ -281,11 +330,22 @@ public class MessagingServiceResource {
           @DefaultValue("false")
           @QueryParam("recursive")
           boolean recursive,
+      @Parameter(
+              description =
+                  "Delete the children in the background and return the delete job, whose progress is reported by "
+                      + "`operations/v1/deleteJobs/{jobId}`. Applies only to a recursive delete. (Default `false`)")
+          @DefaultValue("false")
+          @QueryParam("async")
+          boolean async,
       @Parameter(description = "Id of the messaging service", schema = @Schema(type = "string")) @PathParam("id")
           String id)
       throws IOException {
     SecurityUtil.checkAdminOrBotRole(authorizer, securityContext);
-    dao.delete(UUID.fromString(id), recursive);
+    String deletedBy = securityContext.getUserPrincipal().getName();
+    if (recursive && async) {
+      return Response.accepted(dao.deleteAsync(UUID.fromString(id), deletedBy)).build();
+    }
+    dao.delete(UUID.fromString(id), recursive, deletedBy);
     return Response.ok().build();
   }
 
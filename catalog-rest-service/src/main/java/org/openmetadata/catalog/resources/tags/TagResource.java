@@ -13,6 +13,7 @@
 
 package org.openmetadata.catalog.resources.tags;
 
+import com.google.common.hash.Hashing;
 import com.google.inject.Inject;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
@@ -23,6 +24,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import java.io.IOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
@@ -45,6 +47,7 @@ import javax.ws.rs.core.SecurityContext;
 import javax.ws.rs.core.UriInfo;
 import org.apache.maven.shared.utils.io.IOUtil;
 import org.openmetadata.catalog.CatalogApplicationConfig;
+import org.openmetadata.catalog.CatalogBootstrap;
 import org.openmetadata.catalog.jdbi3.CollectionDAO;
 import org.openmetadata.catalog.jdbi3.TagRepository;
 import org.openmetadata.catalog.resources.Collection;
@@ -90,29 +93,31 @@ public class TagResource {
 
   @SuppressWarnings("unused") // Method used for reflection
   public void initialize(CatalogApplicationConfig config) throws IOException {
-    // Find tag definitions and load tag categories from the json file, if necessary
+    // Find tag definitions and load tag categories from the json file, if necessary. Categories are independent of
+    // each other and are loaded in parallel in the background.
     List<String> tagFiles = getTagDefinitions();
-    tagFiles.forEach(
-        tagFile -> {
-          try {
-            LOG.info("Loading tag definitions from file {}", tagFile);
-            String tagJson = IOUtil.toString(getClass().getClassLoader().getResourceAsStream(tagFile));
-            TagCategory tagCategory = JsonUtils.readValue(tagJson, TagCategory.class);
-            // TODO hack for now
-            Date now = new Date();
-            tagCategory.withUpdatedBy("admin").withUpdatedAt(now);
-            tagCategory
-                .getChildren()
-                .forEach(
-                    t -> {
-                      t.withUpdatedBy("admin").withUpdatedAt(now);
-                      t.getChildren().forEach(c -> c.withUpdatedBy("admin").withUpdatedAt(now));
-                    });
-            dao.initCategory(tagCategory);
-          } catch (Exception e) {
-            LOG.warn("Failed to initialize the tag files {} {}", tagFile, e.getMessage());
-          }
-        });
+    for (String tagFile : tagFiles) {
+      CatalogBootstrap.submit("tag definitions " + tagFile, () -> initCategory(tagFile));
+    }
+  }
+
+  private Void initCategory(String tagFile) throws IOException {
+    LOG.info("Loading tag definitions from file {}", tagFile);
+    String tagJson = IOUtil.toString(getClass().getClassLoader().getResourceAsStream(tagFile));
+    String checksum = Hashing.sha256().hashString(tagJson, StandardCharsets.UTF_8).toString();
+    TagCategory tagCategory = JsonUtils.readValue(tagJson, TagCategory.class);
+    // TODO hack for now
+    Date now = new Date();
+    tagCategory.withUpdatedBy("admin").withUpdatedAt(now);
+    tagCategory
+        .getChildren()
+        .forEach(
+            t -> {
+              t.withUpdatedBy("admin").withUpdatedAt(now);
+              t.getChildren().forEach(c -> c.withUpdatedBy("admin").withUpdatedAt(now));
+            });
+    dao.initCategory(tagCategory, checksum);
+    return null;
   }
 
   public static List<String> getTagDefinitions() throws IOException {
@@ -392,7 +397,8 @@ public class TagResource {
             .withName(create.getName())
             .withCategoryType(create.getCategoryType())
             .withDescription(create.getDescription());
-    category = addHref(uriInfo, dao.updateCategory(categoryName, category));
+    String updatedBy = securityContext.getUserPrincipal().getName();
+    category = addHref(uriInfo, dao.updateCategory(categoryName, category, updatedBy));
     // TODO also create
     return Response.ok(category).build();
   }
@@ -425,7 +431,8 @@ public class TagResource {
             .withDescription(create.getDescription())
             .withAssociatedTags(create.getAssociatedTags());
     URI categoryHref = RestUtil.getHref(uriInfo, TAG_COLLECTION_PATH, categoryName);
-    tag = addHref(categoryHref, dao.updatePrimaryTag(categoryName, primaryTag, tag));
+    String updatedBy = securityContext.getUserPrincipal().getName();
+    tag = addHref(categoryHref, dao.updatePrimaryTag(categoryName, primaryTag, tag, updatedBy));
     return Response.ok(tag).build();
   }
 
@@ -466,7 +473,8 @@ public class TagResource {
             .withAssociatedTags(create.getAssociatedTags());
     URI categoryHref = RestUtil.getHref(uriInfo, TAG_COLLECTION_PATH, categoryName);
     URI parentHRef = RestUtil.getHref(categoryHref, primaryTag);
-    tag = addHref(parentHRef, dao.updateSecondaryTag(categoryName, primaryTag, secondaryTag, tag));
+    String updatedBy = securityContext.getUserPrincipal().getName();
+    tag = addHref(parentHRef, dao.updateSecondaryTag(categoryName, primaryTag, secondaryTag, tag, updatedBy));
     return Response.ok(tag).build();
   }
 
@@ -24,6 +24,12 @@ public class AuthenticationConfiguration {
 
   private String callbackUrl;
 
+  /** Interval after which the signing keys fetched from {@code publicKey} URL are fetched again */
+  private long jwksRefreshIntervalSeconds = 600;
+
+  /** Maximum number of verified tokens that are cached to avoid verifying the signature on every request */
+  private long verifiedTokenCacheSize = 10000;
+
   public String getProvider() {
     return provider;
   }
@@ -63,4 +69,20 @@ public class AuthenticationConfiguration {
   public void setCallbackUrl(String callbackUrl) {
     this.callbackUrl = callbackUrl;
   }
+
+  public long getJwksRefreshIntervalSeconds() {
+    return jwksRefreshIntervalSeconds;
+  }
+
+  public void setJwksRefreshIntervalSeconds(long jwksRefreshIntervalSeconds) {
+    this.jwksRefreshIntervalSeconds = jwksRefreshIntervalSeconds;
+  }
+
+  public long getVerifiedTokenCacheSize() {
+    return verifiedTokenCacheSize;
+  }
+
+  public void setVerifiedTokenCacheSize(long verifiedTokenCacheSize) {
+    this.verifiedTokenCacheSize = verifiedTokenCacheSize;
+  }
 }
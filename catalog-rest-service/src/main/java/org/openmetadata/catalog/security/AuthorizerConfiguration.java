@@ -27,6 +27,9 @@ public class AuthorizerConfiguration {
 
   @NotEmpty private String principalDomain;
 
+  /** Time for which a user is cached by the authorizer, unless a change to the user or team is seen earlier */
+  private long userCacheTtlSeconds = 300;
+
   public String getClassName() {
     return className;
   }
@@ -67,6 +70,14 @@ public class AuthorizerConfiguration {
     this.principalDomain = principalDomain;
   }
 
+  public long getUserCacheTtlSeconds() {
+    return userCacheTtlSeconds;
+  }
+
+  public void setUserCacheTtlSeconds(long userCacheTtlSeconds) {
+    this.userCacheTtlSeconds = userCacheTtlSeconds;
+  }
+
   @Override
   public String toString() {
     return "AuthorizerConfiguration{"
@@ -15,26 +15,49 @@ package org.openmetadata.catalog.security;
 
 import static org.openmetadata.catalog.resources.teams.UserResource.FIELD_LIST;
 
+import com.google.common.base.Throwables;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.lmax.disruptor.BatchEventProcessor;
+import com.lmax.disruptor.EventHandler;
+import io.dropwizard.lifecycle.Managed;
 import java.io.IOException;
 import java.text.ParseException;
 import java.util.Date;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.jdbi.v3.core.Jdbi;
 import org.openmetadata.catalog.Entity;
 import org.openmetadata.catalog.entity.teams.User;
+import org.openmetadata.catalog.events.CacheInvalidation;
+import org.openmetadata.catalog.events.ClusterEventBus;
+import org.openmetadata.catalog.events.EventPubSub;
+import org.openmetadata.catalog.events.EventPubSub.ChangeEventHolder;
 import org.openmetadata.catalog.exception.DuplicateEntityException;
 import org.openmetadata.catalog.exception.EntityNotFoundException;
 import org.openmetadata.catalog.jdbi3.CollectionDAO;
 import org.openmetadata.catalog.jdbi3.UserRepository;
+import org.openmetadata.catalog.type.ChangeEvent;
 import org.openmetadata.catalog.type.EntityReference;
 import org.openmetadata.catalog.util.EntityUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class DefaultAuthorizer implements Authorizer {
+/**
+ * Authorizer that checks the permissions of a principal using the user entity with the same name. Users are cached
+ * for {@code userCacheTtlSeconds} and removed from the cache when a change event for a user or team is published, or
+ * is broadcast by the {@link ClusterEventBus} for a change made through another server, so that authorizing a request
+ * doesn't need to read the user and the teams from the database.
+ */
+public class DefaultAuthorizer implements Authorizer, Managed, EventHandler<ChangeEventHolder> {
   private static final Logger LOG = LoggerFactory.getLogger(DefaultAuthorizer.class);
 
   private Set<String> adminUsers;
@@ -43,6 +66,10 @@ public class DefaultAuthorizer implements Authorizer {
   private String principalDomain;
   private UserRepository userRepository;
   private static final String fieldsParam = "teams";
+  private LoadingCache<String, AuthorizedUser> userCache;
+  private BatchEventProcessor<ChangeEventHolder> processor;
+  private final Consumer<CacheInvalidation> clusterSubscriber =
+      invalidation -> invalidate(invalidation.getEntityType(), invalidation.getEntityId());
 
   @Override
   public void init(AuthorizerConfiguration config, Jdbi dbi) {
@@ -53,10 +80,44 @@ public class DefaultAuthorizer implements Authorizer {
     LOG.debug("Admin users: {}", adminUsers);
     CollectionDAO repo = dbi.onDemand(CollectionDAO.class);
     this.userRepository = new UserRepository(repo);
+    this.userCache =
+        CacheBuilder.newBuilder()
+            .maximumSize(10000)
+            .expireAfterWrite(config.getUserCacheTtlSeconds(), TimeUnit.SECONDS)
+            .build(new UserLoader());
     mayBeAddAdminUsers();
     mayBeAddBotUsers();
   }
 
+  @Override
+  public void start() {
+    processor = EventPubSub.addEventHandler(this);
+    ClusterEventBus.subscribe(clusterSubscriber);
+  }
+
+  @Override
+  public void stop() {
+    ClusterEventBus.unsubscribe(clusterSubscriber);
+    if (processor != null) {
+      EventPubSub.removeProcessor(processor);
+    }
+  }
+
+  @Override
+  public void onEvent(ChangeEventHolder changeEventHolder, long sequence, boolean endOfBatch) {
+    ChangeEvent changeEvent = changeEventHolder.get();
+    invalidate(changeEvent.getEntityType(), changeEvent.getEntityId());
+  }
+
+  private void invalidate(String entityType, UUID entityId) {
+    if (Entity.USER.equals(entityType)) {
+      userCache.asMap().values().removeIf(user -> user.id.equals(entityId));
+    } else if (Entity.TEAM.equals(entityType)) {
+      // Team membership of any user may have changed
+      userCache.invalidateAll();
+    }
+  }
+
   private void mayBeAddAdminUsers() {
     LOG.debug("Checking user entries for admin users");
     EntityUtil.Fields fields = new EntityUtil.Fields(FIELD_LIST, fieldsParam);
@@ -104,54 +165,47 @@ public class DefaultAuthorizer implements Authorizer {
     if (owner == null) {
       return true;
     }
-    String userName = SecurityUtil.getUserName(ctx);
-    EntityUtil.Fields fields = new EntityUtil.Fields(FIELD_LIST, fieldsParam);
-    try {
-      User user = userRepository.getByName(null, userName, fields);
-      if (owner.getType().equals(Entity.TEAM)) {
-        for (EntityReference team : user.getTeams()) {
-          if (team.getName().equals(owner.getName())) {
-            return true;
-          }
-        }
-      } else if (owner.getType().equals(Entity.USER)) {
-        return user.getName().equals(owner.getName());
-      }
-      return false;
-    } catch (IOException | EntityNotFoundException | ParseException ex) {
+    AuthorizedUser user = getUser(SecurityUtil.getUserName(ctx));
+    if (user == null) {
       return false;
     }
+    if (owner.getType().equals(Entity.TEAM)) {
+      return user.teams.contains(owner.getName());
+    } else if (owner.getType().equals(Entity.USER)) {
+      return user.name.equals(owner.getName());
+    }
+    return false;
   }
 
   @Override
   public boolean isAdmin(AuthenticationContext ctx) {
     validateAuthenticationContext(ctx);
-    String userName = SecurityUtil.getUserName(ctx);
-    EntityUtil.Fields fields = new EntityUtil.Fields(FIELD_LIST, fieldsParam);
-    try {
-      User user = userRepository.getByName(null, userName, fields);
-      if (user.getIsAdmin() == null) {
-        return false;
-      }
-      return user.getIsAdmin();
-    } catch (IOException | EntityNotFoundException | ParseException ex) {
-      return false;
-    }
+    AuthorizedUser user = getUser(SecurityUtil.getUserName(ctx));
+    return user != null && user.isAdmin;
   }
 
   @Override
   public boolean isBot(AuthenticationContext ctx) {
     validateAuthenticationContext(ctx);
-    String userName = SecurityUtil.getUserName(ctx);
-    EntityUtil.Fields fields = new EntityUtil.Fields(FIELD_LIST, fieldsParam);
+    AuthorizedUser user = getUser(SecurityUtil.getUserName(ctx));
+    return user != null && user.isBot;
+  }
+
+  /**
+   * Returns the user with the given name from the cache, loading it when not cached. Returns null if not found. Other
+   * failures to load the user, such as a database error, fail the request instead of denying it.
+   */
+  private AuthorizedUser getUser(String userName) {
     try {
-      User user = userRepository.getByName(null, userName, fields);
-      if (user.getIsBot() == null) {
-        return false;
+      return userCache.get(userName);
+    } catch (UncheckedExecutionException ex) {
+      if (ex.getCause() instanceof EntityNotFoundException) {
+        return null;
       }
-      return user.getIsBot();
-    } catch (IOException | EntityNotFoundException | ParseException ex) {
-      return false;
+      Throwables.throwIfUnchecked(ex.getCause());
+      throw ex;
+    } catch (ExecutionException ex) {
+      throw new RuntimeException("Failed to load user " + userName, ex.getCause());
     }
   }
 
@@ -200,4 +254,33 @@ public class DefaultAuthorizer implements Authorizer {
       LOG.debug("Bot user entry: {} already exists.", user);
     }
   }
+
+  private class UserLoader extends CacheLoader<String, AuthorizedUser> {
+    @Override
+    public AuthorizedUser load(String userName) throws IOException, ParseException {
+      // Users that are not found are not cached, as the user may be created later
+      User user = userRepository.getByName(null, userName, new EntityUtil.Fields(FIELD_LIST, fieldsParam));
+      return new AuthorizedUser(user);
+    }
+  }
+
+  /** Attributes of a user needed for authorization */
+  private static class AuthorizedUser {
+    private final UUID id;
+    private final String name;
+    private final boolean isAdmin;
+    private final boolean isBot;
+    private final Set<String> teams;
+
+    AuthorizedUser(User user) {
+      this.id = user.getId();
+      this.name = user.getName();
+      this.isAdmin = Boolean.TRUE.equals(user.getIsAdmin());
+      this.isBot = Boolean.TRUE.equals(user.getIsBot());
+      this.teams =
+          user.getTeams() == null
+              ? Set.of()
+              : user.getTeams().stream().map(EntityReference::getName).collect(Collectors.toUnmodifiableSet());
+    }
+  }
 }
@@ -14,16 +14,27 @@
 package org.openmetadata.catalog.security;
 
 import com.auth0.jwk.Jwk;
-import com.auth0.jwk.UrlJwkProvider;
+import com.auth0.jwk.JwkException;
+import com.auth0.jwk.JwkProvider;
+import com.auth0.jwk.JwkProviderBuilder;
 import com.auth0.jwt.JWT;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import com.fasterxml.jackson.databind.node.TextNode;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
 import io.dropwizard.util.Strings;
 import java.lang.invoke.MethodHandles;
+import java.net.MalformedURLException;
 import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.security.interfaces.RSAPublicKey;
 import java.util.Calendar;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
 import javax.ws.rs.container.ContainerRequestContext;
 import javax.ws.rs.container.ContainerRequestFilter;
 import javax.ws.rs.core.Context;
@@ -41,13 +52,35 @@ public class JwtFilter implements ContainerRequestFilter {
   @Context private UriInfo uriInfo;
 
   public static final String TOKEN_HEADER = "X-Catalog-Source";
-  private String publicKeyUri;
+  private JwkProvider jwkProvider;
+  private Cache<String, VerifiedToken> verifiedTokens; // SHA-256 of the token to its user and expiry
 
   @SuppressWarnings("unused")
   private JwtFilter() {}
 
   public JwtFilter(AuthenticationConfiguration authenticationConfiguration) {
-    this.publicKeyUri = authenticationConfiguration.getPublicKey();
+    // Signing keys are cached until the refresh interval expires. A token signed with a key that is not in the cache
+    // after the keys are rotated fetches the keys again, at most 10 times a minute.
+    this.jwkProvider =
+        new JwkProviderBuilder(getPublicKeyUrl(authenticationConfiguration.getPublicKey()))
+            .cached(10, authenticationConfiguration.getJwksRefreshIntervalSeconds(), TimeUnit.SECONDS)
+            .rateLimited(10, 1, TimeUnit.MINUTES)
+            .build();
+    this.verifiedTokens =
+        CacheBuilder.newBuilder().maximumSize(authenticationConfiguration.getVerifiedTokenCacheSize()).build();
+  }
+
+  /** URL of the JWKS document of the identity provider, set as the {@code publicKey} of the configuration */
+  private static URL getPublicKeyUrl(String publicKey) {
+    if (Strings.isNullOrEmpty(publicKey)) {
+      throw new IllegalArgumentException("authenticationConfiguration.publicKey must be set to the URL of the JWKS");
+    }
+    try {
+      return new URI(publicKey).normalize().toURL();
+    } catch (URISyntaxException | MalformedURLException | IllegalArgumentException e) {
+      throw new IllegalArgumentException(
+          "authenticationConfiguration.publicKey " + publicKey + " is not a valid URL of the JWKS", e);
+    }
   }
 
   @SneakyThrows
@@ -63,17 +96,35 @@ public class JwtFilter implements ContainerRequestFilter {
     String tokenFromHeader = extractToken(headers);
     LOG.debug("Token from header:{}", tokenFromHeader);
 
+    String userName = validateToken(tokenFromHeader);
+
+    // Setting Security Context
+    CatalogPrincipal catalogPrincipal = new CatalogPrincipal(userName);
+    String scheme = requestContext.getUriInfo().getRequestUri().getScheme();
+    CatalogSecurityContext catalogSecurityContext =
+        new CatalogSecurityContext(catalogPrincipal, scheme, CatalogSecurityContext.DIGEST_AUTH);
+    LOG.debug("SecurityContext {}", catalogSecurityContext);
+    requestContext.setSecurityContext(catalogSecurityContext);
+  }
+
+  /** Verify the token and return the user name from it. Tokens already verified are cached until they expire. */
+  String validateToken(String token) throws JwkException {
+    String tokenHash = Hashing.sha256().hashString(token, StandardCharsets.UTF_8).toString();
+    VerifiedToken verifiedToken = verifiedTokens.getIfPresent(tokenHash);
+    if (verifiedToken != null && verifiedToken.expiresAt.after(Calendar.getInstance().getTime())) {
+      return verifiedToken.userName;
+    }
+
     // Decode JWT Token
-    DecodedJWT jwt = JWT.decode(tokenFromHeader);
+    DecodedJWT jwt = JWT.decode(token);
 
     // Check if expired
     if (jwt.getExpiresAt().before(Calendar.getInstance().getTime())) {
+      verifiedTokens.invalidate(tokenHash);
       throw new AuthenticationException("Expired token!");
     }
     // Validate JWT with public key
-    final URI uri = new URI(publicKeyUri).normalize();
-    UrlJwkProvider urlJwkProvider = new UrlJwkProvider(uri.toURL());
-    Jwk jwk = urlJwkProvider.get(jwt.getKeyId());
+    Jwk jwk = jwkProvider.get(jwt.getKeyId());
     Algorithm algorithm = Algorithm.RSA256((RSAPublicKey) jwk.getPublicKey(), null);
     try {
       algorithm.verify(jwt);
@@ -94,13 +145,8 @@ public class JwtFilter implements ContainerRequestFilter {
     } else {
       userName = authorizedEmail;
     }
-    // Setting Security Context
-    CatalogPrincipal catalogPrincipal = new CatalogPrincipal(userName);
-    String scheme = requestContext.getUriInfo().getRequestUri().getScheme();
-    CatalogSecurityContext catalogSecurityContext =
-        new CatalogSecurityContext(catalogPrincipal, scheme, CatalogSecurityContext.DIGEST_AUTH);
-    LOG.debug("SecurityContext {}", catalogSecurityContext);
-    requestContext.setSecurityContext(catalogSecurityContext);
+    verifiedTokens.put(tokenHash, new VerifiedToken(userName, jwt.getExpiresAt()));
+    return userName;
   }
 
   protected static String extractToken(MultivaluedMap<String, String> headers) {
@@ -111,4 +157,14 @@ public class JwtFilter implements ContainerRequestFilter {
     }
     return source;
   }
+
+  private static class VerifiedToken {
+    private final String userName;
+    private final Date expiresAt;
+
+    VerifiedToken(String userName, Date expiresAt) {
+      this.userName = userName;
+      this.expiresAt = expiresAt;
+    }
+  }
 }
@@ -1,68 +1,198 @@
 package org.openmetadata.catalog.security.policyevaluator;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import org.jeasy.rules.api.Rule;
-import org.jeasy.rules.api.Rules;
-import org.jeasy.rules.api.RulesEngine;
-import org.jeasy.rules.api.RulesEngineParameters;
-import org.jeasy.rules.core.DefaultRulesEngine;
-import org.jeasy.rules.core.RuleBuilder;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import org.openmetadata.catalog.entity.policies.accessControl.Rule;
 import org.openmetadata.catalog.entity.teams.User;
+import org.openmetadata.catalog.type.EntityReference;
 import org.openmetadata.catalog.type.MetadataOperation;
+import org.openmetadata.catalog.type.TagLabel;
+import org.openmetadata.catalog.util.EntityInterface;
 
 /**
  * PolicyEvaluator for {@link MetadataOperation metadata operations} based on OpenMetadata's internal {@link
  * org.openmetadata.catalog.entity.policies.Policy} format to make access decisions.
  *
- * <p>This class uses {@link DefaultRulesEngine} provided by <a
- * href="https://github.com/j-easy/easy-rules">j-easy/easy-rules</a> package.
+ * <p>The rules defined as {@link Rule} are to be fetched from OpenMetadata's {@link
+ * org.openmetadata.catalog.jdbi3.PolicyRepository} and compiled into an index of rules by operation and entity type.
+ * The rules of an index entry are sorted by priority and the first rule that matches makes the access decision.
  *
- * <p>The rules defined as {@link org.openmetadata.catalog.entity.policies.accessControl.Rule} are to be fetched from
- * OpenMetadata's {@link org.openmetadata.catalog.jdbi3.PolicyRepository} and converted into type {@link Rule} to be
- * used within the {@link DefaultRulesEngine}
- *
- * <p>The facts are constructed based on 3 inputs for the PolicyEvaluator:
+ * <p>The decision is made based on 3 inputs for the PolicyEvaluator:
  *
  * <p>- {@link MetadataOperation operation} to be performed
  *
  * <p>- {@link User} (subject) who performs the operation
  *
- * <p>- {@link org.openmetadata.catalog.Entity} (object) on which to operate on.
+ * <p>- {@link EntityInterface} of the {@link org.openmetadata.catalog.Entity} (object) on which to operate on.
+ *
+ * <p>Tags and roles used in the rules are given ids, so that the tags of an entity and the roles of a user are
+ * matched with the rules as bitsets. Decisions are cached by the operation, entity type and these bitsets.
  */
 public class PolicyEvaluator {
+  // By default, if no rule matches, do not grant access.
+  private static final boolean DEFAULT_ACCESS = false;
+  private static final int ANY = -1; // Rule has no condition on the attribute
+  private static final Comparator<Rule> RULE_ORDER =
+      Comparator.comparing(Rule::getPriority).thenComparing(Rule::getName);
 
-  private final Rules rules;
-  private final RulesEngine rulesEngine;
+  private final Map<String, Integer> tagIds = new HashMap<>();
+  private final Map<String, Integer> roleIds = new HashMap<>();
+  private final Map<MetadataOperation, OperationRules> index = new EnumMap<>(MetadataOperation.class);
+  private final Cache<DecisionKey, Boolean> decisions = CacheBuilder.newBuilder().maximumSize(10000).build();
 
-  public PolicyEvaluator(List<org.openmetadata.catalog.entity.policies.accessControl.Rule> rules) {
-    this.rules = new Rules();
+  public PolicyEvaluator(List<Rule> rules) {
+    Map<MetadataOperation, List<Rule>> rulesByOperation = new EnumMap<>(MetadataOperation.class);
     rules.stream()
-        .filter(org.openmetadata.catalog.entity.policies.accessControl.Rule::getEnabled)
-        .map(this::convertRule)
-        .forEach(this.rules::register);
-    RulesEngineParameters parameters =
-        new RulesEngineParameters().skipOnFirstAppliedRule(true); // When first rule applies, stop the matching.
-    this.rulesEngine = new DefaultRulesEngine(parameters);
+        .filter(Rule::getEnabled)
+        .filter(rule -> rule.getOperation() != null)
+        .sorted(RULE_ORDER)
+        .forEach(rule -> rulesByOperation.computeIfAbsent(rule.getOperation(), op -> new ArrayList<>()).add(rule));
+    rulesByOperation.forEach((operation, operationRules) -> index.put(operation, new OperationRules(operationRules)));
+  }
+
+  public boolean hasPermission(User user, EntityInterface<?> entity, MetadataOperation operation) {
+    OperationRules operationRules = index.get(operation);
+    if (operationRules == null) {
+      return DEFAULT_ACCESS;
+    }
+
+    // Entity types without rules of their own share the decisions of the rules that apply to any entity type
+    String entityType = entity.getEntityReference().getType();
+    entityType = operationRules.rulesByEntityType.containsKey(entityType) ? entityType : null;
+
+    // TODO: Fix this to use user's roles when roles is added as entity reference list from user schema.
+    BitSet userRoles = new BitSet();
+    for (EntityReference team : listOrEmpty(user.getTeams())) {
+      setBit(userRoles, roleIds.get(team.getName()));
+    }
+    BitSet entityTags = new BitSet();
+    for (TagLabel tag : listOrEmpty(entity.getTags())) {
+      setBit(entityTags, tagIds.get(tag.getTagFQN()));
+    }
+
+    DecisionKey key = new DecisionKey(operation, entityType, userRoles, entityTags);
+    Boolean decision = decisions.getIfPresent(key);
+    if (decision == null) {
+      decision = operationRules.evaluate(entityType, userRoles, entityTags);
+      decisions.put(key, decision);
+    }
+    return decision;
+  }
+
+  private static void setBit(BitSet bitSet, Integer id) {
+    if (id != null) { // Tags and roles not used in any rule are ignored
+      bitSet.set(id);
+    }
   }
 
-  public boolean hasPermission(User user, Object entity, MetadataOperation operation) {
-    AttributeBasedFacts facts =
-        new AttributeBasedFacts.AttributeBasedFactsBuilder()
-            .withUser(user)
-            .withEntity(entity)
-            .withOperation(operation)
-            .build();
-    this.rulesEngine.fire(rules, facts.getFacts());
-    return facts.hasPermission();
+  private static <T> List<T> listOrEmpty(List<T> list) {
+    return list == null ? Collections.emptyList() : list;
   }
 
-  private Rule convertRule(org.openmetadata.catalog.entity.policies.accessControl.Rule rule) {
-    return new RuleBuilder()
-        .name(rule.getName())
-        .description(rule.getName())
-        .priority(rule.getPriority())
-        .when(new RuleCondition(rule))
-        .then(new SetPermissionAction(rule))
-        .build();
+  private int intern(Map<String, Integer> ids, String value) {
+    return value == null ? ANY : ids.computeIfAbsent(value, v -> ids.size());
+  }
+
+  /** Rules of an operation, sorted by priority, for each entity type that has rules specific to it */
+  private class OperationRules {
+    private final CompiledRule[] rulesForAnyEntityType;
+    private final Map<String, CompiledRule[]> rulesByEntityType = new HashMap<>();
+
+    OperationRules(List<Rule> rules) {
+      List<CompiledRule> anyEntityType = new ArrayList<>();
+      Set<String> entityTypes = new LinkedHashSet<>();
+      for (Rule rule : rules) {
+        if (rule.getEntityTypeAttr() == null) {
+          anyEntityType.add(new CompiledRule(rule));
+        } else {
+          entityTypes.add(rule.getEntityTypeAttr());
+        }
+      }
+      rulesForAnyEntityType = anyEntityType.toArray(new CompiledRule[0]);
+
+      // Rules of an entity type include the rules for any entity type, keeping the priority order
+      for (String entityType : entityTypes) {
+        rulesByEntityType.put(
+            entityType,
+            rules.stream()
+                .filter(rule -> rule.getEntityTypeAttr() == null || rule.getEntityTypeAttr().equals(entityType))
+                .map(CompiledRule::new)
+                .toArray(CompiledRule[]::new));
+      }
+    }
+
+    boolean evaluate(String entityType, BitSet userRoles, BitSet entityTags) {
+      CompiledRule[] rules = entityType == null ? rulesForAnyEntityType : rulesByEntityType.get(entityType);
+      for (CompiledRule rule : rules) {
+        if (rule.matches(userRoles, entityTags)) {
+          return rule.allow;
+        }
+      }
+      return DEFAULT_ACCESS;
+    }
+  }
+
+  /** Rule with the tag and role conditions replaced by their ids */
+  private class CompiledRule {
+    private final int tagId;
+    private final int roleId;
+    private final boolean allow;
+
+    CompiledRule(Rule rule) {
+      this.tagId = intern(tagIds, rule.getEntityTagAttr());
+      this.roleId = intern(roleIds, rule.getUserRoleAttr());
+      this.allow = Boolean.TRUE.equals(rule.getAllow());
+    }
+
+    boolean matches(BitSet userRoles, BitSet entityTags) {
+      return (tagId == ANY || entityTags.get(tagId)) && (roleId == ANY || userRoles.get(roleId));
+    }
+  }
+
+  private static class DecisionKey {
+    private final MetadataOperation operation;
+    private final String entityType;
+    private final BitSet userRoles;
+    private final BitSet entityTags;
+    private final int hashCode;
+
+    DecisionKey(MetadataOperation operation, String entityType, BitSet userRoles, BitSet entityTags) {
+      this.operation = operation;
+      this.entityType = entityType;
+      this.userRoles = userRoles;
+      this.entityTags = entityTags;
+      this.hashCode = Objects.hash(operation, entityType, userRoles, entityTags);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof DecisionKey)) {
+        return false;
+      }
+      DecisionKey other = (DecisionKey) o;
+      return operation == other.operation
+          && Objects.equals(entityType, other.entityType)
+          && userRoles.equals(other.userRoles)
+          && entityTags.equals(other.entityTags);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
   }
 }
@@ -0,0 +1,155 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Properties;
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.CommandLineParser;
+import org.apache.commons.cli.DefaultParser;
+import org.apache.commons.cli.HelpFormatter;
+import org.apache.commons.cli.Options;
+import org.openmetadata.catalog.type.ImportResult;
+
+/**
+ * Import a catalog exported as one newline delimited JSON file per collection, such as {@code tables.ndjson} produced
+ * by {@code GET /api/v1/tables/export}, into a running server. Collections are imported in the order of dependencies
+ * between their entities, and the progress of each collection is saved in a checkpoint file in the input directory so
+ * that running the importer again resumes a failed import.
+ */
+public final class CatalogImporter {
+  private static final String OPTION_SERVER = "server";
+  private static final String OPTION_INPUT_DIR = "input";
+  private static final String OPTION_TOKEN = "token";
+  private static final String OPTION_BATCH_SIZE = "batch-size";
+  private static final String OPTION_PARALLELISM = "parallelism";
+  private static final String OPTION_SKIP_EVENTS = "skip-events";
+  private static final String CHECKPOINT_FILE = "import.checkpoint";
+  private static final Options OPTIONS;
+
+  /** Collections ordered such that the entities an entity refers to are imported before it */
+  private static final List<String> COLLECTIONS =
+      List.of(
+          "v1/roles",
+          "v1/users",
+          "v1/teams",
+          "v1/services/databaseServices",
+          "v1/services/messagingServices",
+          "v1/services/dashboardServices",
+          "v1/services/pipelineServices",
+          "v1/services/storageServices",
+          "v1/locations",
+          "v1/policies",
+          "v1/databases",
+          "v1/tables",
+          "v1/topics",
+          "v1/charts",
+          "v1/dashboards",
+          "v1/pipelines",
+          "v1/mlmodels",
+          "operations/v1/ingestion",
+          "v1/webhook");
+
+  static {
+    OPTIONS = new Options();
+    OPTIONS.addOption("s", OPTION_SERVER, true, "Server API endpoint, default http://localhost:8585/api");
+    OPTIONS.addOption("i", OPTION_INPUT_DIR, true, "Directory with the <collection>.ndjson files to import");
+    OPTIONS.addOption("t", OPTION_TOKEN, true, "Bearer token used to authenticate with the server");
+    OPTIONS.addOption(null, OPTION_BATCH_SIZE, true, "Number of entities created per transaction, default 100");
+    OPTIONS.addOption(null, OPTION_PARALLELISM, true, "Number of threads creating the entities, default 4");
+    OPTIONS.addOption(null, OPTION_SKIP_EVENTS, false, "Don't record change events for the created entities");
+  }
+
+  private CatalogImporter() {}
+
+  public static void main(String[] args) throws Exception {
+    CommandLineParser parser = new DefaultParser();
+    CommandLine commandLine = parser.parse(OPTIONS, args);
+    if (!commandLine.hasOption(OPTION_INPUT_DIR)) {
+      usage();
+      System.exit(1);
+    }
+
+    String server = commandLine.getOptionValue(OPTION_SERVER, "http://localhost:8585/api");
+    Path inputDir = Paths.get(commandLine.getOptionValue(OPTION_INPUT_DIR));
+    String query =
+        String.format(
+            "batchSize=%s&parallelism=%s&skipEvents=%s",
+            commandLine.getOptionValue(OPTION_BATCH_SIZE, "100"),
+            commandLine.getOptionValue(OPTION_PARALLELISM, "4"),
+            commandLine.hasOption(OPTION_SKIP_EVENTS));
+
+    Path checkpointFile = inputDir.resolve(CHECKPOINT_FILE);
+    Properties checkpoints = new Properties();
+    if (Files.exists(checkpointFile)) {
+      try (InputStream in = Files.newInputStream(checkpointFile)) {
+        checkpoints.load(in);
+      }
+    }
+
+    HttpClient client = HttpClient.newHttpClient();
+    for (String collection : COLLECTIONS) {
+      Path input = inputDir.resolve(collection.substring(collection.lastIndexOf('/') + 1) + ".ndjson");
+      if (!Files.exists(input)) {
+        continue;
+      }
+      String skip = checkpoints.getProperty(collection, "0");
+      HttpRequest.Builder request =
+          HttpRequest.newBuilder(URI.create(server + "/" + collection + "/import?skip=" + skip + "&" + query))
+              .header("Content-Type", RestUtil.NDJSON_MEDIA_TYPE)
+              .POST(HttpRequest.BodyPublishers.ofFile(input));
+      if (commandLine.hasOption(OPTION_TOKEN)) {
+        request.header("Authorization", "Bearer " + commandLine.getOptionValue(OPTION_TOKEN));
+      }
+      HttpResponse<String> response = client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+      if (response.statusCode() != 200) {
+        System.err.printf("Import of %s failed with status %d : %s%n", input, response.statusCode(), response.body());
+        System.exit(1);
+      }
+
+      ImportResult result = JsonUtils.readValue(response.body(), ImportResult.class);
+      checkpoints.setProperty(collection, String.valueOf(result.getCheckpoint()));
+      saveCheckpoints(checkpointFile, checkpoints);
+      System.out.printf(
+          "Imported %s : created %d, skipped %d, checkpoint %d%n",
+          input, result.getCreated(), result.getSkipped(), result.getCheckpoint());
+      if (result.getError() != null) {
+        System.err.printf("Import of %s stopped at line %d : %s%n", input, result.getCheckpoint(), result.getError());
+        System.exit(1);
+      }
+    }
+    System.exit(0);
+  }
+
+  private static void saveCheckpoints(Path checkpointFile, Properties checkpoints) throws IOException {
+    try (OutputStream out = Files.newOutputStream(checkpointFile)) {
+      checkpoints.store(out, "Number of lines imported from each collection");
+    }
+  }
+
+  private static void usage() {
+    HelpFormatter formatter = new HelpFormatter();
+    formatter.printHelp("CatalogImporter [options]", CatalogImporter.OPTIONS);
+  }
+}
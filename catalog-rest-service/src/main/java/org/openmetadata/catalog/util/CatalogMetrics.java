@@ -0,0 +1,70 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.util;
+
+import com.codahale.metrics.MetricRegistry;
+
+/**
+ * Metrics of the hot paths of the server, such as the repository operations, the JSON documents read and written, and
+ * the calls to Elasticsearch and to the webhooks. The metrics are registered in the metric registry of the server that
+ * is exported in Prometheus format on the admin port.
+ *
+ * <p>Until {@link #initialize(MetricRegistry)} is called, such as when metrics are disabled or when the repositories
+ * are used outside of the server, recording a metric only reads a field and the metric names are not even built.
+ */
+public final class CatalogMetrics {
+  private static final Sample NOOP = () -> {};
+  private static volatile MetricRegistry registry;
+
+  private CatalogMetrics() {}
+
+  /** Time measured from when the sample is taken until it is closed */
+  public interface Sample extends AutoCloseable {
+    @Override
+    void close();
+  }
+
+  public static void initialize(MetricRegistry metricRegistry) {
+    registry = metricRegistry;
+  }
+
+  public static boolean isEnabled() {
+    return registry != null;
+  }
+
+  /** Start timing an operation recorded in the timer named by the class and the names */
+  public static Sample time(Class<?> klass, String... names) {
+    MetricRegistry metrics = registry;
+    if (metrics == null) {
+      return NOOP;
+    }
+    return metrics.timer(MetricRegistry.name(klass, names)).time()::close;
+  }
+
+  /** Add a value, such as a number of rows, to the histogram with the given name */
+  public static void update(String name, long value) {
+    MetricRegistry metrics = registry;
+    if (metrics != null) {
+      metrics.histogram(name).update(value);
+    }
+  }
+
+  /** Add to the counter with the given name */
+  public static void increment(String name, long count) {
+    MetricRegistry metrics = registry;
+    if (metrics != null) {
+      metrics.counter(name).inc(count);
+    }
+  }
+}
@@ -19,11 +19,17 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.BiPredicate;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.ws.rs.WebApplicationException;
@@ -37,22 +43,21 @@ import org.openmetadata.catalog.exception.EntityNotFoundException;
 import org.openmetadata.catalog.jdbi3.CollectionDAO.EntityRelationshipDAO;
 import org.openmetadata.catalog.jdbi3.CollectionDAO.EntityVersionPair;
 import org.openmetadata.catalog.jdbi3.CollectionDAO.TagDAO;
+import org.openmetadata.catalog.jdbi3.CollectionDAO.TagDAO.TargetTagLabel;
 import org.openmetadata.catalog.jdbi3.CollectionDAO.TeamDAO;
 import org.openmetadata.catalog.jdbi3.CollectionDAO.UsageDAO;
 import org.openmetadata.catalog.jdbi3.CollectionDAO.UserDAO;
 import org.openmetadata.catalog.jdbi3.Relationship;
+import org.openmetadata.catalog.jdbi3.TagTaxonomy;
 import org.openmetadata.catalog.resources.feeds.MessageParser.EntityLink;
 import org.openmetadata.catalog.type.Column;
 import org.openmetadata.catalog.type.EntityReference;
 import org.openmetadata.catalog.type.FailureDetails;
 import org.openmetadata.catalog.type.FieldChange;
-import org.openmetadata.catalog.type.MlFeature;
-import org.openmetadata.catalog.type.MlHyperParameter;
 import org.openmetadata.catalog.type.Schedule;
 import org.openmetadata.catalog.type.TableConstraint;
 import org.openmetadata.catalog.type.Tag;
 import org.openmetadata.catalog.type.TagLabel;
-import org.openmetadata.catalog.type.TagLabel.LabelType;
 import org.openmetadata.catalog.type.Task;
 import org.openmetadata.catalog.type.UsageDetails;
 import org.openmetadata.catalog.type.UsageStats;
@@ -84,37 +89,45 @@ public final class EntityUtil {
   public static final BiPredicate<EntityReference, EntityReference> entityReferenceMatch =
       (ref1, ref2) -> ref1.getId().equals(ref2.getId());
 
-  public static final BiPredicate<TagLabel, TagLabel> tagLabelMatch =
-      (tag1, tag2) -> tag1.getTagFQN().equals(tag2.getTagFQN());
-
-  public static final BiPredicate<Task, Task> taskMatch = (task1, task2) -> task1.getName().equals(task2.getName());
-
-  public static final BiPredicate<String, String> stringMatch = String::equals;
-
-  public static final BiPredicate<Column, Column> columnMatch =
-      (column1, column2) ->
-          column1.getName().equals(column2.getName())
-              && column1.getDataType() == column2.getDataType()
-              && column1.getArrayDataType() == column2.getArrayDataType()
-              && Objects.equals(column1.getOrdinalPosition(), column2.getOrdinalPosition());
-
   public static final BiPredicate<Column, Column> columnNameMatch =
       (column1, column2) -> column1.getName().equals(column2.getName());
 
-  public static final BiPredicate<TableConstraint, TableConstraint> tableConstraintMatch =
-      (constraint1, constraint2) ->
-          constraint1.getConstraintType() == constraint2.getConstraintType()
-              && constraint1.getColumns().equals(constraint2.getColumns());
-
-  public static final BiPredicate<MlFeature, MlFeature> mlFeatureMatch = MlFeature::equals;
-  public static final BiPredicate<MlHyperParameter, MlHyperParameter> mlHyperParameterMatch = MlHyperParameter::equals;
   public static final BiPredicate<FailureDetails, FailureDetails> failureDetailsMatch =
       (failureDetails1, failureDetails2) ->
           Objects.equals(failureDetails2.getLastFailedAt(), failureDetails1.getLastFailedAt())
               && Objects.equals(failureDetails2.getLastSuccessfulAt(), failureDetails1.getLastSuccessfulAt());
 
+  //
+  // Keys used for matching two items in a list. Items match when their keys are equal, so that the lists are compared
+  // by looking up the keys in a hash map instead of comparing every item of a list with every item of the other list.
+  //
+  public static final Function<EntityReference, Object> entityReferenceKey = EntityReference::getId;
+
+  public static final Function<TagLabel, Object> tagLabelKey = TagLabel::getTagFQN;
+
+  public static final Function<Task, Object> taskKey = Task::getName;
+
+  public static final Function<Column, Object> columnKey =
+      column ->
+          Arrays.asList(column.getName(), column.getDataType(), column.getArrayDataType(), column.getOrdinalPosition());
+
+  public static final Function<TableConstraint, Object> tableConstraintKey =
+      constraint -> Arrays.asList(constraint.getConstraintType(), constraint.getColumns());
+
   private EntityUtil() {}
 
+  /** Index the items of a list by their match key. Items with the same key are kept in the order of the list. */
+  public static <K> Map<Object, List<K>> indexByKey(List<K> list, Function<K, ?> matchKey) {
+    if (list == null) {
+      return Collections.emptyMap();
+    }
+    Map<Object, List<K>> index = new LinkedHashMap<>(list.size() * 2);
+    for (K item : list) {
+      index.computeIfAbsent(matchKey.apply(item), key -> new ArrayList<>(1)).add(item);
+    }
+    return index;
+  }
+
   /** Validate Ingestion Schedule */
   public static void validateIngestionSchedule(Schedule ingestion) {
     if (ingestion == null) {
@@ -282,11 +295,19 @@ public final class EntityUtil {
     return details;
   }
 
+  /**
+   * Escape the wildcards {@code %} and {@code _} of a name matched as a prefix with {@code LIKE ... ESCAPE '!'} or
+   * {@code JSON_SEARCH(..., '!', ...)}, so that tag category {@code a_b} doesn't match the tags of category
+   * {@code aXb}.
+   */
+  public static String escapeLikePattern(String value) {
+    return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+  }
+
   /** Apply tags {@code tagLabels} to the entity or field identified by {@code targetFQN} */
   public static void applyTags(TagDAO tagDAO, List<TagLabel> tagLabels, String targetFQN) {
     for (TagLabel tagLabel : Optional.ofNullable(tagLabels).orElse(Collections.emptyList())) {
-      String json = tagDAO.findTag(tagLabel.getTagFQN());
-      if (json == null) {
+      if (!TagTaxonomy.tagExists(tagDAO, tagLabel.getTagFQN())) {
         // Invalid TagLabel
         throw EntityNotFoundException.byMessage(
             CatalogExceptionMessage.entityNotFound(Tag.class.getSimpleName(), tagLabel.getTagFQN()));
@@ -298,40 +319,46 @@ public final class EntityUtil {
     }
   }
 
-  public static List<TagLabel> getDerivedTags(TagDAO tagDAO, TagLabel tagLabel, Tag tag) throws IOException {
-    List<TagLabel> derivedTags = new ArrayList<>();
-    for (String fqn : Optional.ofNullable(tag.getAssociatedTags()).orElse(Collections.emptyList())) {
-      String json = tagDAO.findTag(fqn);
-      if (json == null) {
-        // Invalid TagLabel
-        throw EntityNotFoundException.byMessage(CatalogExceptionMessage.entityNotFound(Tag.class.getSimpleName(), fqn));
+  /**
+   * Tags applied to the entity or field identified by {@code fqnPrefix} and to the fields under it, such as the columns
+   * of a table, by the fully qualified name of the entity or field. The tags are read with a single range scan and
+   * their descriptions are taken from the {@link TagTaxonomy} instead of the tag table.
+   */
+  public static Map<String, List<TagLabel>> getTagsByTargetPrefix(TagDAO tagDAO, String fqnPrefix) {
+    return groupByTarget(tagDAO, tagDAO.getTagsByTargetPrefix(fqnPrefix));
+  }
+
+  /** Tags applied to the entities or fields {@code targetFQNs}, read with a single query, by target */
+  public static Map<String, List<TagLabel>> getTagsByTargets(TagDAO tagDAO, List<String> targetFQNs) {
+    return targetFQNs.isEmpty() ? new HashMap<>() : groupByTarget(tagDAO, tagDAO.getTagsByTargets(targetFQNs));
+  }
+
+  private static Map<String, List<TagLabel>> groupByTarget(TagDAO tagDAO, List<TargetTagLabel> targetTagLabels) {
+    Map<String, List<TagLabel>> tags = new HashMap<>();
+    for (TargetTagLabel targetTagLabel : targetTagLabels) {
+      TagLabel tagLabel = targetTagLabel.getTagLabel();
+      if (!TagTaxonomy.tagExists(tagDAO, tagLabel.getTagFQN())) {
+        continue; // Like the join with the tag table, ignore the labels of tags that don't exist
       }
-      Tag tempTag = JsonUtils.readValue(json, Tag.class);
-      derivedTags.add(
-          new TagLabel()
-              .withTagFQN(fqn)
-              .withState(tagLabel.getState())
-              .withDescription(tempTag.getDescription())
-              .withLabelType(LabelType.DERIVED));
+      tagLabel.setDescription(TagTaxonomy.get(tagDAO).getDescription(tagLabel.getTagFQN()));
+      tags.computeIfAbsent(targetTagLabel.getTargetFQN(), fqn -> new ArrayList<>()).add(tagLabel);
     }
-    return derivedTags;
+    return tags;
   }
 
   /** Validate given list of tags and add derived tags to it */
-  public static List<TagLabel> addDerivedTags(TagDAO tagDAO, List<TagLabel> tagLabels) throws IOException {
+  public static List<TagLabel> addDerivedTags(TagDAO tagDAO, List<TagLabel> tagLabels) {
     List<TagLabel> updatedTagLabels = new ArrayList<>();
     for (TagLabel tagLabel : Optional.ofNullable(tagLabels).orElse(Collections.emptyList())) {
-      String json = tagDAO.findTag(tagLabel.getTagFQN());
-      if (json == null) {
+      if (!TagTaxonomy.tagExists(tagDAO, tagLabel.getTagFQN())) {
         // Invalid TagLabel
         throw EntityNotFoundException.byMessage(
             CatalogExceptionMessage.entityNotFound(Tag.class.getSimpleName(), tagLabel.getTagFQN()));
       }
-      Tag tag = JsonUtils.readValue(json, Tag.class);
       updatedTagLabels.add(tagLabel);
 
       // Apply derived tags
-      List<TagLabel> derivedTags = getDerivedTags(tagDAO, tagLabel, tag);
+      List<TagLabel> derivedTags = TagTaxonomy.get(tagDAO).getDerivedTags(tagLabel);
       updatedTagLabels = mergeTags(updatedTagLabels, derivedTags);
     }
     updatedTagLabels.sort(compareTagLabel);
@@ -342,10 +369,20 @@ public final class EntityUtil {
     tagDAO.deleteTags(fullyQualifiedName);
   }
 
+  /** Remove the tags of the entity or field and of the fields under it, such as the nested fields of a column */
   public static void removeTagsByPrefix(TagDAO tagDAO, String fullyQualifiedName) {
     tagDAO.deleteTagsByPrefix(fullyQualifiedName);
   }
 
+  /** Tags applied with their label type and state, for checking whether the tags stored in the database must change */
+  public static Set<List<Object>> tagUsages(List<TagLabel> tagLabels) {
+    Set<List<Object>> usages = new HashSet<>();
+    for (TagLabel tagLabel : Optional.ofNullable(tagLabels).orElse(Collections.emptyList())) {
+      usages.add(Arrays.asList(tagLabel.getTagFQN(), tagLabel.getLabelType(), tagLabel.getState()));
+    }
+    return usages;
+  }
+
   public static List<TagLabel> mergeTags(List<TagLabel> list1, List<TagLabel> list2) {
     List<TagLabel> mergedTags =
         Stream.concat(
@@ -420,6 +457,12 @@ public final class EntityUtil {
     return refList.stream().sorted(compareEntityReference).map(EntityReference::getId).collect(Collectors.toList());
   }
 
+  /**
+   * Value of {@code jsonSchema} for entity versions stored in {@code entity_extension} as a JSON patch relative to the
+   * next newer stored version instead of the full entity JSON document.
+   */
+  public static final String VERSION_DELTA_SCHEMA = "jsonPatch";
+
   public static String getVersionExtension(String entityName, Double version) {
     return String.format("%s.%s.%s", entityName, "version", version.toString());
   }
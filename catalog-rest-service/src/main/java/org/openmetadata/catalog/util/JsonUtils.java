@@ -13,21 +13,31 @@
 
 package org.openmetadata.catalog.util;
 
+import com.codahale.metrics.MetricRegistry;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 import com.fasterxml.jackson.datatype.jsr353.JSR353Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
 import java.io.IOException;
 import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import javax.json.Json;
-import javax.json.JsonArray;
-import javax.json.JsonArrayBuilder;
+import javax.json.JsonException;
 import javax.json.JsonObject;
 import javax.json.JsonPatch;
 import javax.json.JsonReader;
@@ -39,12 +49,26 @@ public final class JsonUtils {
   public static final MediaType DEFAULT_MEDIA_TYPE = MediaType.APPLICATION_JSON_TYPE;
   private static final ObjectMapper OBJECT_MAPPER;
 
+  /** Readers and writers are immutable and thread-safe. Reusing them per class skips the lookups done by the mapper */
+  private static final ConcurrentMap<Class<?>, ObjectReader> READERS = new ConcurrentHashMap<>();
+
+  private static final ConcurrentMap<Class<?>, ObjectWriter> WRITERS = new ConcurrentHashMap<>();
+
+  private static final Comparator<String> POINTER_ORDER = JsonUtils::comparePointers;
+
+  /** Counters of the size of the JSON documents written and read, in characters */
+  private static final String SERIALIZED_CHARS = MetricRegistry.name(JsonUtils.class, "serializedChars");
+
+  private static final String DESERIALIZED_CHARS = MetricRegistry.name(JsonUtils.class, "deserializedChars");
+
   static {
     OBJECT_MAPPER = new ObjectMapper();
     // Ensure the date-time fields are serialized in ISO-8601 format
     OBJECT_MAPPER.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
     OBJECT_MAPPER.setDateFormat(RestUtil.DATE_TIME_FORMAT);
     OBJECT_MAPPER.registerModule(new JSR353Module());
+    // Access the properties of the POJOs using generated lambdas instead of reflection
+    OBJECT_MAPPER.registerModule(new BlackbirdModule());
   }
 
   private JsonUtils() {}
@@ -57,9 +81,12 @@ public final class JsonUtils {
   }
 
   public static String pojoToJson(Object o, boolean prettyPrint) throws JsonProcessingException {
-    return prettyPrint
-        ? OBJECT_MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(o)
-        : OBJECT_MAPPER.writeValueAsString(o);
+    String json =
+        prettyPrint
+            ? OBJECT_MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(o)
+            : WRITERS.computeIfAbsent(o.getClass(), OBJECT_MAPPER::writerFor).writeValueAsString(o);
+    CatalogMetrics.increment(SERIALIZED_CHARS, json.length());
+    return json;
   }
 
   public static JsonStructure getJsonStructure(Object o) {
@@ -74,7 +101,8 @@ public final class JsonUtils {
     if (json == null) {
       return null;
     }
-    return OBJECT_MAPPER.readValue(json, clz);
+    CatalogMetrics.increment(DESERIALIZED_CHARS, json.length());
+    return READERS.computeIfAbsent(clz, OBJECT_MAPPER::readerFor).readValue(json);
   }
 
   /** Read an array of objects of type {@code T} from json */
@@ -82,6 +110,7 @@ public final class JsonUtils {
     if (json == null) {
       return null;
     }
+    CatalogMetrics.increment(DESERIALIZED_CHARS, json.length());
     TypeFactory typeFactory = OBJECT_MAPPER.getTypeFactory();
     return OBJECT_MAPPER.readValue(json, typeFactory.constructCollectionType(List.class, clz));
   }
@@ -99,11 +128,22 @@ public final class JsonUtils {
   }
 
   /** Applies the patch on original object and returns the updated object */
-  public static <T> T applyPatch(T original, JsonPatch patch, Class<T> clz) {
-    JsonStructure targetJson = JsonUtils.getJsonStructure(original);
+  public static <T> T applyPatch(T original, JsonPatch patch, Class<T> clz) throws IOException {
+    return applyPatch(original, patch, clz, new HashSet<>());
+  }
+
+  /**
+   * Applies the patch on original object and returns the updated object. JSON pointers of the values changed by the
+   * patch are added to {@code changedPaths}. The patch is applied on a Jackson tree of the original object, which is
+   * read back into the updated object without going through any other JSON representation.
+   */
+  public static <T> T applyPatch(T original, JsonPatch patch, Class<T> clz, Set<String> changedPaths)
+      throws IOException {
+    JsonNode target = OBJECT_MAPPER.valueToTree(original);
 
     //
-    // JsonPatch array operations are not handled correctly by johnzon libraries. Example, the following operation:
+    // Array operations in the patches generated by the clients are not ordered the way they must be applied. Example,
+    // the following operation:
     // {"op":"replace","path":"/tags/0/tagFQN","value":"User.BankAccount"}
     // {"op":"replace","path":"/tags/0/labelType","value":"MANUAL"}
     // {"op":"remove","path":"/tags/1"}
@@ -120,41 +160,209 @@ public final class JsonUtils {
     // "contains no element for index 1" error.
     //
     // Reverse sorting the remove operations and sorting all the other operations including "add" by "path" fields
-    // before applying the patch as a workaround.
+    // before applying the patch as a workaround. Array indexes in the paths are compared as numbers so that, for
+    // example, /tags/10 is ordered after /tags/9.
     //
-    JsonArray array = patch.toJsonArray();
     List<JsonObject> removeOperations = new ArrayList<>();
     List<JsonObject> otherOperations = new ArrayList<>();
+    for (JsonValue entry : patch.toJsonArray()) {
+      JsonObject operation = entry.asJsonObject();
+      if (operation.getString("op").equals("remove")) {
+        removeOperations.add(operation);
+      } else {
+        otherOperations.add(operation);
+      }
+    }
+    Comparator<JsonObject> pathOrder = Comparator.comparing(operation -> operation.getString("path"), POINTER_ORDER);
+    otherOperations.sort(pathOrder);
+    removeOperations.sort(pathOrder.reversed());
+
+    for (JsonObject operation : otherOperations) {
+      applyOperation(target, operation, changedPaths);
+    }
+    for (JsonObject operation : removeOperations) {
+      applyOperation(target, operation, changedPaths);
+    }
+    return READERS.computeIfAbsent(clz, OBJECT_MAPPER::readerFor).readValue(target);
+  }
+
+  private static void applyOperation(JsonNode root, JsonObject operation, Set<String> changedPaths) {
+    String op = operation.getString("op");
+    String path = operation.getString("path");
+    switch (op) {
+      case "add":
+        addValue(root, path, toJsonNode(operation.get("value")));
+        break;
+      case "remove":
+        removeValue(root, path);
+        break;
+      case "replace":
+        replaceValue(root, path, toJsonNode(operation.get("value")));
+        break;
+      case "move":
+        addValue(root, path, removeValue(root, operation.getString("from")));
+        changedPaths.add(operation.getString("from"));
+        break;
+      case "copy":
+        addValue(root, path, getValue(root, operation.getString("from")).deepCopy());
+        break;
+      case "test":
+        if (!getValue(root, path).equals(toJsonNode(operation.get("value")))) {
+          throw new JsonException(String.format("Test operation failed for '%s'", path));
+        }
+        return;
+      default:
+        throw new JsonException(String.format("Invalid patch operation '%s'", op));
+    }
+    changedPaths.add(path);
+  }
+
+  private static JsonNode toJsonNode(JsonValue value) {
+    if (value == null) {
+      throw new JsonException("Patch operation has no value");
+    }
+    return OBJECT_MAPPER.valueToTree(value);
+  }
+
+  private static JsonNode getValue(JsonNode root, String path) {
+    JsonNode node = root;
+    for (String token : parsePointer(path)) {
+      node = getChild(node, token, path);
+    }
+    return node;
+  }
+
+  private static void addValue(JsonNode root, String path, JsonNode value) {
+    List<String> tokens = parsePointer(path);
+    JsonNode parent = getParent(root, tokens, path);
+    String name = tokens.get(tokens.size() - 1);
+    if (parent.isObject()) {
+      ((ObjectNode) parent).set(name, value);
+    } else if (name.equals("-")) {
+      ((ArrayNode) parent).add(value);
+    } else {
+      int index = getArrayIndex(name, path);
+      if (index > parent.size()) {
+        throw new JsonException(String.format("'%s' contains no element for index %d", path, index));
+      }
+      ((ArrayNode) parent).insert(index, value);
+    }
+  }
 
-    array.forEach(
-        entry -> {
-          JsonObject jsonObject = entry.asJsonObject();
-          if (jsonObject.getString("op").equals("remove")) {
-            removeOperations.add(jsonObject);
-          } else {
-            otherOperations.add(jsonObject);
-          }
-        });
+  private static JsonNode removeValue(JsonNode root, String path) {
+    List<String> tokens = parsePointer(path);
+    JsonNode parent = getParent(root, tokens, path);
+    String name = tokens.get(tokens.size() - 1);
+    if (parent.isObject()) {
+      JsonNode removed = ((ObjectNode) parent).remove(name);
+      if (removed == null) {
+        throw new JsonException(String.format("'%s' contains no value for name '%s'", path, name));
+      }
+      return removed;
+    }
+    int index = getArrayIndex(name, path);
+    if (index >= parent.size()) {
+      throw new JsonException(String.format("'%s' contains no element for index %d", path, index));
+    }
+    return ((ArrayNode) parent).remove(index);
+  }
+
+  private static void replaceValue(JsonNode root, String path, JsonNode value) {
+    List<String> tokens = parsePointer(path);
+    JsonNode parent = getParent(root, tokens, path);
+    String name = tokens.get(tokens.size() - 1);
+    if (parent.isObject()) {
+      if (!parent.has(name)) {
+        throw new JsonException(String.format("'%s' contains no value for name '%s'", path, name));
+      }
+      ((ObjectNode) parent).set(name, value);
+      return;
+    }
+    int index = getArrayIndex(name, path);
+    if (index >= parent.size()) {
+      throw new JsonException(String.format("'%s' contains no element for index %d", path, index));
+    }
+    ((ArrayNode) parent).set(index, value);
+  }
+
+  private static JsonNode getParent(JsonNode root, List<String> tokens, String path) {
+    if (tokens.isEmpty()) {
+      throw new JsonException(String.format("Patching the entire document with '%s' is not supported", path));
+    }
+    JsonNode node = root;
+    for (String token : tokens.subList(0, tokens.size() - 1)) {
+      node = getChild(node, token, path);
+    }
+    if (!node.isContainerNode()) {
+      throw new JsonException(String.format("'%s' refers to a value that is neither an object nor an array", path));
+    }
+    return node;
+  }
 
-    // sort the operations by path
-    if (!otherOperations.isEmpty()) {
-      otherOperations.sort(Comparator.comparing(jsonObject -> jsonObject.getString("path")));
+  private static JsonNode getChild(JsonNode node, String token, String path) {
+    JsonNode child;
+    if (node.isObject()) {
+      child = node.get(token);
+      if (child == null) {
+        throw new JsonException(String.format("'%s' contains no value for name '%s'", path, token));
+      }
+    } else if (node.isArray()) {
+      int index = getArrayIndex(token, path);
+      if (index >= node.size()) {
+        throw new JsonException(String.format("'%s' contains no element for index %d", path, index));
+      }
+      child = node.get(index);
+    } else {
+      throw new JsonException(String.format("'%s' refers to a value that is neither an object nor an array", path));
     }
-    if (!removeOperations.isEmpty()) {
-      removeOperations.sort(Comparator.comparing(jsonObject -> jsonObject.getString("path")));
-      // reverse sort only the remove operations
-      Collections.reverse(removeOperations);
+    return child;
+  }
+
+  private static int getArrayIndex(String token, String path) {
+    if (!isArrayIndex(token)) {
+      throw new JsonException(String.format("'%s' contains an invalid array index '%s'", path, token));
     }
+    return Integer.parseInt(token);
+  }
 
-    // Build new sorted patch
-    JsonArrayBuilder arrayBuilder = Json.createArrayBuilder();
-    otherOperations.forEach(arrayBuilder::add);
-    removeOperations.forEach(arrayBuilder::add);
-    JsonPatch sortedPatch = Json.createPatch(arrayBuilder.build());
+  private static boolean isArrayIndex(String token) {
+    return !token.isEmpty() && token.length() < 10 && token.chars().allMatch(Character::isDigit);
+  }
+
+  /** Reference tokens of a JSON pointer, with escaped {@code ~1} and {@code ~0} restored to {@code /} and {@code ~} */
+  private static List<String> parsePointer(String path) {
+    if (path.isEmpty()) {
+      return Collections.emptyList();
+    }
+    if (path.charAt(0) != '/') {
+      throw new JsonException(String.format("Invalid JSON pointer '%s'", path));
+    }
+    List<String> tokens = new ArrayList<>();
+    for (String token : path.substring(1).split("/", -1)) {
+      tokens.add(token.replace("~1", "/").replace("~0", "~"));
+    }
+    return tokens;
+  }
 
-    // Apply sortedPatch
-    JsonValue patchedJson = sortedPatch.apply(targetJson);
-    return OBJECT_MAPPER.convertValue(patchedJson, clz);
+  /** Order of JSON pointers where array indexes are compared as numbers and appending with {@code -} comes last */
+  private static int comparePointers(String path1, String path2) {
+    List<String> tokens1 = parsePointer(path1);
+    List<String> tokens2 = parsePointer(path2);
+    for (int i = 0; i < Math.min(tokens1.size(), tokens2.size()); i++) {
+      String token1 = tokens1.get(i);
+      String token2 = tokens2.get(i);
+      if (token1.equals(token2)) {
+        continue;
+      }
+      if (isArrayIndex(token1) && isArrayIndex(token2)) {
+        return Integer.compare(Integer.parseInt(token1), Integer.parseInt(token2));
+      }
+      if (token1.equals("-") != token2.equals("-")) {
+        return token1.equals("-") ? 1 : -1;
+      }
+      return token1.compareTo(token2);
+    }
+    return Integer.compare(tokens1.size(), tokens2.size());
   }
 
   public static JsonPatch getJsonPatch(String v1, String v2) {
@@ -163,6 +371,15 @@ public final class JsonUtils {
     return Json.createDiff(source.asJsonObject(), dest.asJsonObject());
   }
 
+  /**
+   * Applies a JSON patch, such as the one returned by {@link #getJsonPatch(String, String)}, to a JSON object. A
+   * {@link JsonException} is thrown when the patch doesn't apply to the object.
+   */
+  public static JsonValue applyJsonPatch(JsonValue json, String patch) {
+    JsonPatch jsonPatch = Json.createPatch(readJson(patch).asJsonArray());
+    return jsonPatch.apply(json.asJsonObject());
+  }
+
   public static JsonValue readJson(String s) {
     try (JsonReader reader = Json.createReader(new StringReader(s))) {
       return reader.readValue();
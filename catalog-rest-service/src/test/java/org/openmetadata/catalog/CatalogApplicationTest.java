@@ -16,11 +16,13 @@ package org.openmetadata.catalog;
 import io.dropwizard.testing.ResourceHelpers;
 import io.dropwizard.testing.junit5.DropwizardAppExtension;
 import io.dropwizard.testing.junit5.DropwizardExtensionsSupport;
+import java.util.concurrent.TimeUnit;
 import javax.ws.rs.client.Client;
 import javax.ws.rs.client.ClientBuilder;
 import javax.ws.rs.client.WebTarget;
 import org.glassfish.jersey.client.ClientProperties;
 import org.glassfish.jersey.client.HttpUrlConnectorProvider;
+import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.openmetadata.catalog.resources.CollectionRegistry;
 import org.openmetadata.catalog.resources.EmbeddedMySqlSupport;
@@ -48,6 +50,12 @@ public abstract class CatalogApplicationTest {
     client.property(HttpUrlConnectorProvider.SET_METHOD_WORKAROUND, true);
   }
 
+  @BeforeAll
+  public static void waitForBootstrap() throws Exception {
+    // Tests use the bundled tags that are loaded in the background after the application starts
+    CatalogBootstrap.awaitCompletion(2, TimeUnit.MINUTES);
+  }
+
   public static WebTarget getResource(String collection) {
     String targetURI = "http://localhost:" + APP.getLocalPort() + "/api/v1/" + collection;
     return client.target(targetURI);
@@ -0,0 +1,181 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.ingestion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.catalog.operations.workflows.Ingestion;
+
+/** Runs the client against a stub Airflow server that counts the logins and the requests in flight */
+public class AirflowRESTClientTest {
+  private static final int PARALLELISM = 4;
+  private static final String LIST_RUN_RESPONSE =
+      "{\"status\": \"success\", \"next_run\": \"2021-12-01\", \"dag_runs\": [{\"state\": \"success\"}]}";
+
+  private HttpServer server;
+  private ExecutorService serverExecutor;
+  private final AtomicInteger logins = new AtomicInteger();
+  private final AtomicInteger statusRequests = new AtomicInteger();
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final AtomicInteger maxInFlight = new AtomicInteger();
+  private final AtomicInteger unauthorizedResponses = new AtomicInteger();
+  private final AtomicBoolean failing = new AtomicBoolean();
+  private AirflowRESTClient client;
+
+  @BeforeEach
+  void startServer() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    serverExecutor = Executors.newFixedThreadPool(4 * PARALLELISM);
+    server.setExecutor(serverExecutor);
+    server.createContext("/api/v1/security/login", this::login);
+    server.createContext("/rest_api/api", this::listRun);
+    server.start();
+
+    AirflowConfiguration config = new AirflowConfiguration();
+    config.setApiEndpoint("http://localhost:" + server.getAddress().getPort());
+    config.setUsername("admin");
+    config.setPassword("admin");
+    config.setStatusFetchParallelism(PARALLELISM);
+    client = new AirflowRESTClient(config);
+  }
+
+  @AfterEach
+  void stopServer() {
+    server.stop(0);
+    serverExecutor.shutdownNow();
+  }
+
+  @Test
+  void getStatuses_logsInOnceWithBoundedParallelism() {
+    List<Ingestion> ingestions = ingestions(20);
+    List<Ingestion> fetched = client.getStatuses(ingestions).join();
+
+    assertEquals(20, fetched.size());
+    assertEquals(20, statusRequests.get());
+    assertEquals(1, logins.get());
+    assertTrue(maxInFlight.get() <= PARALLELISM, "Requests in flight " + maxInFlight.get());
+    for (Ingestion ingestion : ingestions) {
+      assertEquals("2021-12-01", ingestion.getNextExecutionDate());
+      assertEquals("success", ingestion.getIngestionStatuses().get(0).getState());
+    }
+  }
+
+  @Test
+  void getStatus_logsInAgainWhenTokenIsRejected() {
+    unauthorizedResponses.set(1);
+    Ingestion ingestion = client.getStatus(new Ingestion().withName("ingestion"));
+
+    assertEquals("success", ingestion.getIngestionStatuses().get(0).getState());
+    assertEquals(2, logins.get());
+    assertEquals(2, statusRequests.get());
+  }
+
+  @Test
+  void statusCache_servesListedIngestionsFromCache() throws InterruptedException {
+    IngestionStatusCache cache = new IngestionStatusCache(client, 3600);
+    cache.start();
+    try {
+      cache.addStatus(ingestions(5));
+      assertEquals(5, statusRequests.get());
+
+      List<Ingestion> ingestions = ingestions(5);
+      cache.addStatus(ingestions);
+      assertEquals(5, statusRequests.get());
+      ingestions.forEach(i -> assertEquals("success", i.getIngestionStatuses().get(0).getState()));
+    } finally {
+      cache.stop();
+    }
+  }
+
+  @Test
+  void statusCache_doesNotFetchFailedIngestionsAgain() throws InterruptedException {
+    failing.set(true);
+    IngestionStatusCache cache = new IngestionStatusCache(client, 3600);
+    cache.start();
+    try {
+      List<Ingestion> ingestions = ingestions(5);
+      cache.addStatus(ingestions);
+      assertEquals(5, statusRequests.get());
+      ingestions.forEach(i -> assertNull(i.getIngestionStatuses()));
+
+      // Left to the poller instead of waiting on Airflow again
+      cache.addStatus(ingestions(5));
+      assertEquals(5, statusRequests.get());
+    } finally {
+      cache.stop();
+    }
+  }
+
+  private static List<Ingestion> ingestions(int count) {
+    List<Ingestion> ingestions = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      ingestions.add(new Ingestion().withName("ingestion" + i));
+    }
+    return ingestions;
+  }
+
+  private void login(HttpExchange exchange) throws IOException {
+    logins.incrementAndGet();
+    String token =
+        JWT.create().withExpiresAt(new Date(System.currentTimeMillis() + 3600_000)).sign(Algorithm.HMAC256("secret"));
+    respond(exchange, 200, "{\"access_token\": \"" + token + "\"}");
+  }
+
+  private void listRun(HttpExchange exchange) throws IOException {
+    statusRequests.incrementAndGet();
+    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+    try {
+      Thread.sleep(20);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      inFlight.decrementAndGet();
+    }
+    if (unauthorizedResponses.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+      respond(exchange, 401, "{}");
+    } else if (failing.get()) {
+      respond(exchange, 500, "{}");
+    } else {
+      respond(exchange, 200, LIST_RUN_RESPONSE);
+    }
+  }
+
+  private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+    byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+    exchange.sendResponseHeaders(status, bytes.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(bytes);
+    }
+  }
+}
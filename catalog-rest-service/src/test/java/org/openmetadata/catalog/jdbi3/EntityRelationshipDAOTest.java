@@ -0,0 +1,86 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.jdbi3;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.UUID;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.sqlobject.SqlObjectPlugin;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.openmetadata.catalog.Entity;
+import org.openmetadata.catalog.jdbi3.CollectionDAO.EntityRelationshipDAO;
+import org.openmetadata.catalog.resources.EmbeddedMySqlSupport;
+
+@ExtendWith(EmbeddedMySqlSupport.class)
+class EntityRelationshipDAOTest {
+  private static Jdbi jdbi;
+  private static EntityRelationshipDAO dao;
+
+  /** Id shared by a table and a dashboard, the relationships of the dashboard must survive deleting the table */
+  private String id;
+
+  @BeforeAll
+  static void setup() {
+    jdbi =
+        Jdbi.create("jdbc:mysql://localhost:3307/openmetadata_test_db?useSSL=false&serverTimezone=UTC", "test", "");
+    jdbi.installPlugin(new SqlObjectPlugin());
+    dao = jdbi.onDemand(CollectionDAO.class).relationshipDAO();
+  }
+
+  @BeforeEach
+  void addRelationships() {
+    id = UUID.randomUUID().toString();
+    int contains = Relationship.CONTAINS.ordinal();
+    dao.insert(UUID.randomUUID().toString(), id, Entity.DATABASE, Entity.TABLE, contains);
+    dao.insert(id, UUID.randomUUID().toString(), Entity.TABLE, Entity.LOCATION, contains);
+    dao.insert(UUID.randomUUID().toString(), id, Entity.DATABASE_SERVICE, Entity.DASHBOARD, contains);
+    dao.insert(id, UUID.randomUUID().toString(), Entity.DASHBOARD, Entity.CHART, contains);
+  }
+
+  @Test
+  void deleteAll_keepsRelationshipsOfOtherEntityTypes() {
+    dao.deleteAll(id, Entity.TABLE);
+    assertEquals(List.of("dashboard -> chart", "databaseService -> dashboard"), relationships());
+  }
+
+  @Test
+  void softDeleteAll_keepsRelationshipsOfOtherEntityTypes() {
+    dao.softDeleteAll(id, Entity.TABLE);
+    assertEquals(
+        List.of(
+            "dashboard -> chart",
+            "database -> table deleted",
+            "databaseService -> dashboard",
+            "table -> location deleted"),
+        relationships());
+  }
+
+  /** Relationships from and to {@link #id}, whether deleted or not */
+  private List<String> relationships() {
+    return jdbi.withHandle(
+        handle ->
+            handle
+                .createQuery(
+                    "SELECT CONCAT(fromEntity, ' -> ', toEntity, IF(deleted, ' deleted', '')) "
+                        + "FROM entity_relationship WHERE fromId = :id OR toId = :id ORDER BY 1")
+                .bind("id", id)
+                .mapTo(String.class)
+                .list());
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.jdbi3;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.sqlobject.SqlObjectPlugin;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.openmetadata.catalog.jdbi3.CollectionDAO.TagDAO;
+import org.openmetadata.catalog.jdbi3.CollectionDAO.TagDAO.TargetTagLabel;
+import org.openmetadata.catalog.resources.EmbeddedMySqlSupport;
+import org.openmetadata.catalog.type.TagLabel.LabelType;
+import org.openmetadata.catalog.type.TagLabel.State;
+
+@ExtendWith(EmbeddedMySqlSupport.class)
+class TagDAOTest {
+  private static TagDAO dao;
+
+  /** Database of the tables tagged by a test, so that the tests don't see the tags of each other */
+  private String database;
+
+  @BeforeAll
+  static void setup() {
+    Jdbi jdbi =
+        Jdbi.create("jdbc:mysql://localhost:3307/openmetadata_test_db?useSSL=false&serverTimezone=UTC", "test", "");
+    jdbi.installPlugin(new SqlObjectPlugin());
+    dao = jdbi.onDemand(CollectionDAO.class).tagDAO();
+  }
+
+  @BeforeEach
+  void setDatabase() {
+    database = "db" + UUID.randomUUID().toString().substring(0, 8);
+  }
+
+  @Test
+  void getTagsByTargetPrefix_tableAndItsColumns() {
+    applyTags("t1", "t1.c1", "t1.c1.nested", "t10", "t10.c1", "t1x");
+    assertEquals(List.of("t1", "t1.c1", "t1.c1.nested"), getTargets("t1"));
+    assertEquals(List.of("t10", "t10.c1"), getTargets("t10"));
+  }
+
+  @Test
+  void getTagsByTargetPrefix_wildcardsInName() {
+    // _ matches any character and % any characters in a LIKE pattern, unless escaped
+    applyTags("t_1", "t_1.c1", "tx1", "tx1.c1", "t%", "t%.c1", "tab", "tab.c1", "t!1", "t!1.c1", "t1.c1");
+    assertEquals(List.of("t_1", "t_1.c1"), getTargets("t_1"));
+    assertEquals(List.of("t%", "t%.c1"), getTargets("t%"));
+    assertEquals(List.of("t!1", "t!1.c1"), getTargets("t!1"));
+  }
+
+  private void applyTags(String... targets) {
+    for (String target : targets) {
+      dao.applyTag("PII.Sensitive", database + "." + target, LabelType.MANUAL.ordinal(), State.CONFIRMED.ordinal());
+    }
+  }
+
+  /** Targets of the tags applied to {@code prefix} and the fields under it, relative to the database */
+  private List<String> getTargets(String prefix) {
+    return dao.getTagsByTargetPrefix(database + "." + prefix).stream()
+        .map(TargetTagLabel::getTargetFQN)
+        .map(targetFQN -> targetFQN.substring(database.length() + 1))
+        .collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.jdbi3;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.catalog.exception.EntityNotFoundException;
+import org.openmetadata.catalog.jdbi3.CollectionDAO.TagDAO;
+import org.openmetadata.catalog.type.Tag;
+import org.openmetadata.catalog.type.TagCategory;
+import org.openmetadata.catalog.type.TagLabel;
+import org.openmetadata.catalog.type.TagLabel.LabelType;
+import org.openmetadata.catalog.type.TagLabel.State;
+import org.openmetadata.catalog.util.JsonUtils;
+
+class TagTaxonomyTest {
+  private final Map<String, String> tags = new TreeMap<>();
+  private final AtomicInteger loads = new AtomicInteger();
+
+  /** TagDAO serving the tags of this test, counting the number of times all the tags are loaded */
+  private final TagDAO dao =
+      (TagDAO)
+          Proxy.newProxyInstance(
+              TagDAO.class.getClassLoader(),
+              new Class<?>[] {TagDAO.class},
+              (proxy, method, args) -> {
+                switch (method.getName()) {
+                  case "listCategories":
+                    return List.of(JsonUtils.pojoToJson(new TagCategory().withName("Cat")));
+                  case "listAllTags":
+                    loads.incrementAndGet();
+                    return new ArrayList<>(tags.values());
+                  case "tagExists":
+                    return tags.containsKey((String) args[0]);
+                  default:
+                    throw new UnsupportedOperationException(method.getName());
+                }
+              });
+
+  @BeforeEach
+  void setUp() throws JsonProcessingException {
+    TagTaxonomy.invalidate();
+    addTag("Cat.A", "Cat.B");
+    addTag("Cat.B", "Cat.C");
+    addTag("Cat.C", "Cat.A"); // Cycle back to the first tag
+    addTag("Cat.C.D");
+    addTag("Cat.E", "Cat.Missing");
+  }
+
+  @AfterEach
+  void tearDown() {
+    // Don't leave the snapshot of this test for the other tests
+    TagTaxonomy.invalidate();
+  }
+
+  @Test
+  void derivedTags_transitiveClosure() {
+    TagLabel label = new TagLabel().withTagFQN("Cat.A").withState(State.CONFIRMED).withLabelType(LabelType.MANUAL);
+    List<TagLabel> derived = TagTaxonomy.get(dao).getDerivedTags(label);
+    assertEquals(List.of("Cat.B", "Cat.C"), derived.stream().map(TagLabel::getTagFQN).collect(Collectors.toList()));
+    for (TagLabel derivedLabel : derived) {
+      assertEquals(LabelType.DERIVED, derivedLabel.getLabelType());
+      assertEquals(State.CONFIRMED, derivedLabel.getState());
+      assertEquals("description of " + derivedLabel.getTagFQN(), derivedLabel.getDescription());
+    }
+
+    // Tags without associated tags have no derived tags
+    assertTrue(TagTaxonomy.get(dao).getDerivedTags(new TagLabel().withTagFQN("Cat.C.D")).isEmpty());
+  }
+
+  @Test
+  void derivedTags_missingAssociatedTag_notFound() {
+    TagTaxonomy taxonomy = TagTaxonomy.get(dao);
+    assertThrows(EntityNotFoundException.class, () -> taxonomy.getDerivedTags(new TagLabel().withTagFQN("Cat.E")));
+  }
+
+  @Test
+  void childrenTags_listedUnderEachAncestor() {
+    TagTaxonomy taxonomy = TagTaxonomy.get(dao);
+    assertEquals(5, taxonomy.listChildrenTags("Cat").size());
+    assertEquals(List.of(tags.get("Cat.C.D")), taxonomy.listChildrenTags("Cat.C"));
+    assertTrue(taxonomy.listChildrenTags("Cat.C.D").isEmpty());
+  }
+
+  @Test
+  void snapshot_reloadedOnlyAfterChange() throws JsonProcessingException {
+    TagTaxonomy taxonomy = TagTaxonomy.get(dao);
+    assertSame(taxonomy, TagTaxonomy.get(dao));
+    assertEquals(1, loads.get());
+
+    // Tag added by another server is found in the database and the snapshot is reloaded
+    addTag("Cat.F");
+    assertTrue(TagTaxonomy.tagExists(dao, "Cat.F"));
+    assertEquals(2, loads.get());
+    assertFalse(TagTaxonomy.tagExists(dao, "Cat.G"));
+    assertEquals(2, loads.get());
+
+    TagTaxonomy.invalidate();
+    assertEquals(tags.get("Cat.F"), TagTaxonomy.get(dao).findTag("Cat.F"));
+    assertEquals(3, loads.get());
+  }
+
+  private void addTag(String fqn, String... associatedTags) throws JsonProcessingException {
+    Tag tag =
+        new Tag()
+            .withName(fqn.substring(fqn.lastIndexOf('.') + 1))
+            .withFullyQualifiedName(fqn)
+            .withDescription("description of " + fqn)
+            .withAssociatedTags(associatedTags.length == 0 ? null : List.of(associatedTags));
+    tags.put(fqn, JsonUtils.pojoToJson(tag));
+  }
+}
@@ -0,0 +1,311 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.openmetadata.catalog.load;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.dropwizard.db.DataSourceFactory;
+import io.dropwizard.testing.ConfigOverride;
+import io.dropwizard.testing.ResourceHelpers;
+import io.dropwizard.testing.junit5.DropwizardAppExtension;
+import io.dropwizard.testing.junit5.DropwizardExtensionsSupport;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import javax.json.JsonPatch;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+import org.glassfish.jersey.client.HttpUrlConnectorProvider;
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Jdbi;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.openmetadata.catalog.CatalogApplication;
+import org.openmetadata.catalog.CatalogApplicationConfig;
+import org.openmetadata.catalog.CatalogBootstrap;
+import org.openmetadata.catalog.api.data.CreateTable;
+import org.openmetadata.catalog.api.lineage.AddLineage;
+import org.openmetadata.catalog.entity.data.Database;
+import org.openmetadata.catalog.entity.data.Table;
+import org.openmetadata.catalog.resources.EmbeddedMySqlSupport;
+import org.openmetadata.catalog.resources.databases.TableResource;
+import org.openmetadata.catalog.resources.databases.TableResource.TableList;
+import org.openmetadata.catalog.security.SecurityUtil;
+import org.openmetadata.catalog.type.EntityLineage;
+import org.openmetadata.catalog.util.JsonUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Load test of the server, for sizing the hardware and validating performance changes. The server runs against an
+ * embedded MySQL and a mock Elastic Search. A synthetic catalog is generated at the scale set by {@link LoadScale},
+ * then a mix of reads and writes is replayed from several threads. The throughput and the p50 and p99 latencies of each
+ * endpoint are logged and written to {@code target/load-test-result.json}. The tables are then deleted while
+ * entity_relationship is padded up to a size, the results being written to {@code target/load-test-delete-result.json}.
+ *
+ * <p>Not run by the build. Run it with {@code make load_test}, or with {@code mvn test -Dtest=CatalogLoadTest} in
+ * catalog-rest-service, adding {@code -Dload.*} properties to change the scale. For example {@code make load_test
+ * LOAD_OPTS="-Dload.tables=100 -Dload.relationshipRows=1000000,10000000,50000000"} measures the deletes up to 50M
+ * relationship rows.
+ */
+@ExtendWith(EmbeddedMySqlSupport.class)
+@ExtendWith(DropwizardExtensionsSupport.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class CatalogLoadTest {
+  private static final Logger LOG = LoggerFactory.getLogger(CatalogLoadTest.class);
+  private static final Path RESULT_PATH = Path.of("target", "load-test-result.json");
+  private static final Path DELETE_RESULT_PATH = Path.of("target", "load-test-delete-result.json");
+  private static final String TABLE_FIELDS = String.join(",", TableResource.FIELD_LIST);
+
+  private static final MockElasticSearch ELASTIC_SEARCH = MockElasticSearch.start();
+  static final DropwizardAppExtension<CatalogApplicationConfig> APP =
+      new DropwizardAppExtension<>(
+          CatalogApplication.class,
+          ResourceHelpers.resourceFilePath("openmetadata-load-test.yaml"),
+          ConfigOverride.config("elasticsearch.port", String.valueOf(ELASTIC_SEARCH.getPort())));
+
+  /** Requests of the workload, each sent with the probability of its weight */
+  private enum Operation {
+    LIST_TABLES(20),
+    GET_TABLE(30),
+    PUT_TABLE(20),
+    PATCH_TABLE(15),
+    GET_LINEAGE(10),
+    PUT_LINEAGE(5);
+
+    private final int weight;
+
+    Operation(int weight) {
+      this.weight = weight;
+    }
+  }
+
+  private static final int TOTAL_WEIGHT = 100;
+
+  /** Type of the relationships padding entity_relationship in the delete scenario, which is not an entity type */
+  private static final String FILLER_ENTITY = "loadFiller";
+
+  private static final int FILLER_BATCH_SIZE = 1_000_000;
+
+  private final LoadScale scale = new LoadScale();
+  private LoadClient client;
+  private SyntheticCatalog catalog;
+  private LoadReport generateReport;
+
+  @BeforeAll
+  void generateCatalog() throws Exception {
+    // Columns are tagged with the bundled tags that are loaded in the background after the application starts
+    CatalogBootstrap.awaitCompletion(2, TimeUnit.MINUTES);
+
+    Client jerseyClient = ClientBuilder.newClient();
+    jerseyClient.property(HttpUrlConnectorProvider.SET_METHOD_WORKAROUND, true);
+    client = new LoadClient(jerseyClient, APP.getLocalPort(), SecurityUtil.authHeaders("admin@open-metadata.org"));
+
+    LOG.info("Generating a synthetic catalog of {}", scale);
+    generateReport = new LoadReport("generate");
+    client.setReport(generateReport);
+    generateReport.start();
+    catalog = SyntheticCatalog.generate(client, scale);
+    generateReport.stop();
+    int tables = 0;
+    for (int d = 0; d < catalog.getDatabases().size(); d++) {
+      tables += catalog.getTables(d).size();
+    }
+    assertEquals(scale.totalTables(), tables, "Failed to create some of the tables, see the warnings logged");
+  }
+
+  @AfterAll
+  static void stopElasticSearch() {
+    ELASTIC_SEARCH.stop();
+  }
+
+  @Test
+  @Order(1)
+  void replayMixedWorkload() throws Exception {
+    LOG.info("Replaying the workload for {} s", scale.durationSeconds);
+    LoadReport workloadReport = new LoadReport("workload");
+    client.setReport(workloadReport);
+    workloadReport.start();
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(scale.durationSeconds);
+    ExecutorService executor = Executors.newFixedThreadPool(scale.threads);
+    try {
+      List<Future<?>> workers = new ArrayList<>();
+      for (int i = 0; i < scale.threads; i++) {
+        Random random = new Random(scale.seed + i);
+        workers.add(executor.submit(() -> replay(random, deadline)));
+      }
+      for (Future<?> worker : workers) {
+        worker.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+    workloadReport.stop();
+
+    LOG.info(
+        "Load test of {}, {} Elastic Search requests{}{}",
+        scale,
+        ELASTIC_SEARCH.getRequests(),
+        generateReport.format(),
+        workloadReport.format());
+    LoadReport.write(RESULT_PATH, scale, List.of(generateReport, workloadReport));
+    LOG.info("Results written to {}", RESULT_PATH.toAbsolutePath());
+  }
+
+  /**
+   * Delete tables as entity_relationship grows to each size of {@code load.relationshipRows}. The relationships of a
+   * deleted entity are removed with a lookup on fromIdx and one on toIdx, so the latency of the deletes should stay
+   * flat as the table grows. A scan of the table would show as a latency growing with the number of rows.
+   */
+  @Test
+  @Order(2) // The workload reads and updates the tables deleted here
+  void deleteTablesAsRelationshipsGrow() throws Exception {
+    List<Table> tables = new ArrayList<>();
+    for (int d = 0; d < catalog.getDatabases().size(); d++) {
+      tables.addAll(catalog.getTables(d));
+    }
+    int deletes = scale.deletes * scale.relationshipRows.size();
+    assertTrue(deletes <= tables.size(), "Not enough tables for " + deletes + " deletes, increase load.tables");
+    Iterator<Table> deleted = tables.iterator();
+
+    DataSourceFactory database = APP.getConfiguration().getDataSourceFactory();
+    Jdbi jdbi = Jdbi.create(database.getUrl(), database.getUser(), database.getPassword());
+    List<LoadReport> reports = new ArrayList<>();
+    try (Handle handle = jdbi.open()) {
+      long rows = handle.createQuery("SELECT count(*) FROM entity_relationship").mapTo(Long.class).one();
+      for (long size : scale.relationshipRows) {
+        LOG.info("Padding entity_relationship from {} to {} rows", rows, size);
+        rows = padRelationships(handle, rows, size);
+        LoadReport report = new LoadReport(rows + " rows");
+        client.setReport(report);
+        report.start();
+        for (int i = 0; i < scale.deletes; i++) {
+          client.delete("deleteTable", client.target("tables/" + deleted.next().getId()));
+        }
+        report.stop();
+        reports.add(report);
+      }
+    }
+
+    StringBuilder formatted = new StringBuilder();
+    reports.forEach(report -> formatted.append(report.format()));
+    LOG.info("Deletes of {}{}", scale, formatted);
+    LoadReport.write(DELETE_RESULT_PATH, scale, reports);
+    LOG.info("Results written to {}", DELETE_RESULT_PATH.toAbsolutePath());
+  }
+
+  /**
+   * Add relationships between entities of {@link #FILLER_ENTITY} type until entity_relationship has {@code size} rows.
+   * The filler rows are copied with new random ids, doubling them a batch at a time, which is much faster than
+   * inserting them one by one. Returns the number of rows of the table.
+   */
+  private static long padRelationships(Handle handle, long rows, long size) {
+    if (rows < size) {
+      rows +=
+          handle.execute(
+              "INSERT INTO entity_relationship(fromId, toId, fromEntity, toEntity, relation) "
+                  + "VALUES (UUID(), UUID(), ?, ?, 0)",
+              FILLER_ENTITY,
+              FILLER_ENTITY);
+    }
+    while (rows < size) {
+      rows +=
+          handle
+              .createUpdate(
+                  "INSERT INTO entity_relationship(fromId, toId, fromEntity, toEntity, relation) "
+                      + "SELECT UUID(), UUID(), fromEntity, toEntity, relation FROM entity_relationship "
+                      + "WHERE fromEntity = :filler LIMIT :limit")
+              .bind("filler", FILLER_ENTITY)
+              .bind("limit", (int) Math.min(FILLER_BATCH_SIZE, size - rows))
+              .execute();
+    }
+    return rows;
+  }
+
+  private Void replay(Random random, long deadline) throws Exception {
+    while (System.nanoTime() < deadline) {
+      int d = random.nextInt(catalog.getDatabases().size());
+      Database database = catalog.getDatabases().get(d);
+      List<Table> tables = catalog.getTables(d);
+      int t = random.nextInt(tables.size());
+      Table table = tables.get(t);
+      switch (next(random)) {
+        case LIST_TABLES:
+          client.get(
+              "listTables",
+              client
+                  .target("tables")
+                  .queryParam("database", database.getFullyQualifiedName())
+                  .queryParam("fields", "columns,tags,owner")
+                  .queryParam("limit", 10),
+              TableList.class);
+          break;
+        case GET_TABLE:
+          client.get(
+              "getTable", client.target("tables/" + table.getId()).queryParam("fields", TABLE_FIELDS), Table.class);
+          break;
+        case PUT_TABLE: // Ingestion of the table with updated column descriptions
+          int index = Integer.parseInt(table.getName().substring("loadTable".length()));
+          CreateTable createTable = catalog.createTable(database, index, random.nextInt());
+          client.put("putTable", client.target("tables"), createTable, Table.class);
+          break;
+        case PATCH_TABLE: // Description updated from the UI
+          Table updated = JsonUtils.readValue(JsonUtils.pojoToJson(table), Table.class);
+          updated.setDescription("Description updated by the load test " + random.nextInt());
+          JsonPatch patch = JsonUtils.getJsonPatch(JsonUtils.pojoToJson(table), JsonUtils.pojoToJson(updated));
+          client.patch("patchTable", client.target("tables/" + table.getId()), patch, Table.class);
+          break;
+        case GET_LINEAGE:
+          client.get(
+              "getLineage",
+              client
+                  .target("lineage/table/" + table.getId())
+                  .queryParam("upstreamDepth", 2)
+                  .queryParam("downstreamDepth", 2),
+              EntityLineage.class);
+          break;
+        case PUT_LINEAGE: // Lineage already added, as sent again by each run of the pipelines
+          List<Table> next = catalog.getTables((d + 1) % catalog.getDatabases().size());
+          AddLineage addLineage = SyntheticCatalog.addLineage(table, next.get(t % next.size()));
+          client.put("putLineage", client.target("lineage"), addLineage, null);
+          break;
+      }
+    }
+    return null;
+  }
+
+  private static Operation next(Random random) {
+    int value = random.nextInt(TOTAL_WEIGHT);
+    for (Operation operation : Operation.values()) {
+      value -= operation.weight;
+      if (value < 0) {
+        return operation;
+      }
+    }
+    throw new IllegalStateException("Weights of the operations do not add up to " + TOTAL_WEIGHT);
+  }
+}
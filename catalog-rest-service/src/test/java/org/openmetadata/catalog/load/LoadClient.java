@@ -0,0 +1,95 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.openmetadata.catalog.load;
+
+import java.util.Map;
+import java.util.function.Supplier;
+import javax.json.JsonPatch;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.Status.Family;
+import org.openmetadata.catalog.resources.QueryDiagnosticsFilter;
+import org.openmetadata.catalog.security.SecurityUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/** Sends the requests of the load test and records them in the report of the current phase */
+final class LoadClient {
+  private static final Logger LOG = LoggerFactory.getLogger(LoadClient.class);
+
+  private final Client client;
+  private final String baseUri;
+  private final Map<String, String> authHeaders;
+  private volatile LoadReport report;
+
+  LoadClient(Client client, int port, Map<String, String> authHeaders) {
+    this.client = client;
+    this.baseUri = "http://localhost:" + port + "/api/v1/";
+    this.authHeaders = authHeaders;
+  }
+
+  void setReport(LoadReport report) {
+    this.report = report;
+  }
+
+  WebTarget target(String path) {
+    return client.target(baseUri + path);
+  }
+
+  <T> T get(String endpoint, WebTarget target, Class<T> clz) {
+    return call(endpoint, clz, () -> SecurityUtil.addHeaders(target, authHeaders).get());
+  }
+
+  <T> T post(String endpoint, WebTarget target, Object request, Class<T> clz) {
+    return call(
+        endpoint,
+        clz,
+        () -> SecurityUtil.addHeaders(target, authHeaders).post(Entity.entity(request, MediaType.APPLICATION_JSON)));
+  }
+
+  <T> T put(String endpoint, WebTarget target, Object request, Class<T> clz) {
+    return call(
+        endpoint,
+        clz,
+        () -> SecurityUtil.addHeaders(target, authHeaders).put(Entity.entity(request, MediaType.APPLICATION_JSON)));
+  }
+
+  <T> T patch(String endpoint, WebTarget target, JsonPatch patch, Class<T> clz) {
+    Entity<String> body = Entity.entity(patch.toJsonArray().toString(), MediaType.APPLICATION_JSON_PATCH_JSON_TYPE);
+    return call(endpoint, clz, () -> SecurityUtil.addHeaders(target, authHeaders).method("PATCH", body));
+  }
+
+  void delete(String endpoint, WebTarget target) {
+    call(endpoint, null, () -> SecurityUtil.addHeaders(target, authHeaders).delete());
+  }
+
+  /** Send a request and read its response, returning null if the request failed */
+  private <T> T call(String endpoint, Class<T> clz, Supplier<Response> request) {
+    long start = System.nanoTime();
+    Response response = request.get();
+    boolean success = response.getStatusInfo().getFamily() == Family.SUCCESSFUL;
+    T entity = success && clz != null ? response.readEntity(clz) : null;
+    long nanos = System.nanoTime() - start;
+
+    String queryCount = response.getHeaderString(QueryDiagnosticsFilter.QUERY_COUNT_HEADER);
+    report.record(endpoint, nanos, success, queryCount == null ? -1 : Integer.parseInt(queryCount));
+    if (!success) {
+      LOG.warn("{} failed with {}: {}", endpoint, response.getStatus(), response.readEntity(String.class));
+    }
+    response.close();
+    return entity;
+  }
+}
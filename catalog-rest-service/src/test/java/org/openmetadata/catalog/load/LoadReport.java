@@ -0,0 +1,145 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.openmetadata.catalog.load;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.openmetadata.catalog.util.JsonUtils;
+
+/**
+ * Latency, errors and SQL statements of the requests sent to each endpoint during a phase of the load test. Latencies
+ * are kept in full, rather than in a histogram, as a load test sends at most a few million requests.
+ */
+final class LoadReport {
+  private final String phase;
+  private final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+  private long startNanos;
+  private long endNanos;
+
+  LoadReport(String phase) {
+    this.phase = phase;
+  }
+
+  void start() {
+    startNanos = System.nanoTime();
+  }
+
+  void stop() {
+    endNanos = System.nanoTime();
+  }
+
+  /** Record a request; queryCount is the number of SQL statements it ran, or -1 if not known */
+  void record(String endpoint, long nanos, boolean success, int queryCount) {
+    endpoints.computeIfAbsent(endpoint, e -> new EndpointStats()).record(nanos, success, queryCount);
+  }
+
+  /** One row for each endpoint with the throughput, the p50 and p99 latencies and the statements per request */
+  List<Map<String, Object>> summary() {
+    double seconds = (endNanos - startNanos) / (double) TimeUnit.SECONDS.toNanos(1);
+    List<Map<String, Object>> rows = new ArrayList<>();
+    endpoints.entrySet().stream()
+        .sorted(Map.Entry.comparingByKey())
+        .forEach(entry -> rows.add(entry.getValue().summary(phase, entry.getKey(), seconds)));
+    return rows;
+  }
+
+  String format() {
+    StringBuilder report =
+        new StringBuilder(
+            String.format(
+                "%n%-14s %-22s %9s %9s %10s %10s %10s %9s",
+                "phase",
+                "endpoint",
+                "requests",
+                "errors",
+                "req/s",
+                "p50 ms",
+                "p99 ms",
+                "queries"));
+    for (Map<String, Object> row : summary()) {
+      report.append(
+          String.format(
+              "%n%-14s %-22s %9d %9d %10.1f %10.2f %10.2f %9.1f",
+              row.get("phase"),
+              row.get("endpoint"),
+              row.get("requests"),
+              row.get("errors"),
+              row.get("throughput"),
+              row.get("p50Ms"),
+              row.get("p99Ms"),
+              row.get("queriesPerRequest")));
+    }
+    return report.toString();
+  }
+
+  static void write(Path path, LoadScale scale, List<LoadReport> reports) throws IOException {
+    Map<String, Object> result = new LinkedHashMap<>();
+    result.put("scale", scale.toString());
+    List<Map<String, Object>> rows = new ArrayList<>();
+    reports.forEach(report -> rows.addAll(report.summary()));
+    result.put("endpoints", rows);
+    Files.createDirectories(path.getParent());
+    Files.writeString(path, JsonUtils.pojoToJson(result, true));
+  }
+
+  private static final class EndpointStats {
+    private long[] latencies = new long[1024];
+    private int requests;
+    private int errors;
+    private long queries;
+    private int queriesCounted;
+
+    synchronized void record(long nanos, boolean success, int queryCount) {
+      if (requests == latencies.length) {
+        latencies = Arrays.copyOf(latencies, requests * 2);
+      }
+      latencies[requests++] = nanos;
+      errors += success ? 0 : 1;
+      if (queryCount >= 0) {
+        queries += queryCount;
+        queriesCounted++;
+      }
+    }
+
+    synchronized Map<String, Object> summary(String phase, String endpoint, double seconds) {
+      long[] sorted = Arrays.copyOf(latencies, requests);
+      Arrays.sort(sorted);
+      Map<String, Object> row = new LinkedHashMap<>();
+      row.put("phase", phase);
+      row.put("endpoint", endpoint);
+      row.put("requests", requests);
+      row.put("errors", errors);
+      row.put("throughput", requests / seconds);
+      row.put("p50Ms", percentileMillis(sorted, 0.50));
+      row.put("p99Ms", percentileMillis(sorted, 0.99));
+      row.put("queriesPerRequest", queriesCounted == 0 ? 0.0 : queries / (double) queriesCounted);
+      return row;
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+      if (sorted.length == 0) {
+        return 0;
+      }
+      int index = (int) Math.ceil(percentile * sorted.length) - 1;
+      return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+  }
+}
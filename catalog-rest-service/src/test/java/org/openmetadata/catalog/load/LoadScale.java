@@ -0,0 +1,83 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.openmetadata.catalog.load;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Size of the synthetic catalog and of the workload replayed by {@link CatalogLoadTest}, set with {@code -Dload.*}
+ * system properties. The defaults generate a catalog small enough to check the harness in a couple of minutes.
+ */
+final class LoadScale {
+  /** Database services */
+  final int services = Integer.getInteger("load.services", 2);
+
+  /** Databases in each service */
+  final int databases = Integer.getInteger("load.databases", 5);
+
+  /** Tables in each database */
+  final int tables = Integer.getInteger("load.tables", 20);
+
+  /** Columns in each table */
+  final int columns = Integer.getInteger("load.columns", 50);
+
+  /** Tags on each column */
+  final int tags = Integer.getInteger("load.tags", 2);
+
+  /** Lineage edges from each table to the tables of the next database */
+  final int lineageEdges = Integer.getInteger("load.lineageEdges", 1);
+
+  /** Threads replaying the workload, each sending one request at a time */
+  final int threads = Integer.getInteger("load.threads", 8);
+
+  /** Time the workload is replayed for, after the catalog is generated */
+  final int durationSeconds = Integer.getInteger("load.durationSeconds", 60);
+
+  /**
+   * Sizes of entity_relationship the delete scenario deletes tables at, the table being padded with the relationships
+   * of entities of another type up to each size
+   */
+  final List<Long> relationshipRows =
+      Arrays.stream(System.getProperty("load.relationshipRows", "100000,1000000").split(","))
+          .map(rows -> Long.valueOf(rows.trim()))
+          .collect(Collectors.toList());
+
+  /** Tables deleted at each size of {@link #relationshipRows} */
+  final int deletes = Integer.getInteger("load.deletes", 20);
+
+  /** Seed of the random choices of the workload, for replaying the same requests */
+  final long seed = Long.getLong("load.seed", 42L);
+
+  int totalTables() {
+    return services * databases * tables;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "%d services x %d databases x %d tables x %d columns x %d tags, %d lineage edges per table, "
+            + "%d threads for %d s, %d deletes at %s relationship rows",
+        services,
+        databases,
+        tables,
+        columns,
+        tags,
+        lineageEdges,
+        threads,
+        durationSeconds,
+        deletes,
+        relationshipRows);
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.openmetadata.catalog.load;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Elastic Search endpoint accepting the requests of the search event handler without indexing anything, so that the
+ * load test measures the cost of building and sending the search documents but not the cost of Elastic Search.
+ */
+final class MockElasticSearch {
+  private static final String UPDATE_RESPONSE =
+      "{\"_index\":\"%s\",\"_type\":\"_doc\",\"_id\":\"%s\",\"_version\":1,\"result\":\"updated\","
+          + "\"_shards\":{\"total\":1,\"successful\":1,\"failed\":0},\"_seq_no\":0,\"_primary_term\":1}";
+  private static final String UPDATE_BY_QUERY_RESPONSE =
+      "{\"took\":1,\"timed_out\":false,\"total\":0,\"updated\":0,\"deleted\":0,\"batches\":0,"
+          + "\"version_conflicts\":0,\"noops\":0,\"retries\":{\"bulk\":0,\"search\":0},\"throttled_millis\":0,"
+          + "\"requests_per_second\":-1.0,\"throttled_until_millis\":0,\"failures\":[]}";
+
+  private final HttpServer server;
+  private final AtomicLong requests = new AtomicLong();
+
+  private MockElasticSearch(HttpServer server) {
+    this.server = server;
+  }
+
+  static MockElasticSearch start() {
+    try {
+      HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+      MockElasticSearch elasticSearch = new MockElasticSearch(server);
+      server.createContext("/", elasticSearch::handle);
+      server.setExecutor(Executors.newCachedThreadPool());
+      server.start();
+      return elasticSearch;
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to start the mock Elastic Search", e);
+    }
+  }
+
+  int getPort() {
+    return server.getAddress().getPort();
+  }
+
+  long getRequests() {
+    return requests.get();
+  }
+
+  void stop() {
+    server.stop(0);
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    requests.incrementAndGet();
+    try (InputStream body = exchange.getRequestBody()) {
+      body.readAllBytes();
+    }
+    // Paths are /<index>, checked with HEAD, /<index>/_update/<id> and /<indexes>/_update_by_query
+    String[] path = exchange.getRequestURI().getPath().split("/");
+    String response = "{}";
+    if (path.length == 4 && path[2].equals("_update")) {
+      response = String.format(UPDATE_RESPONSE, path[1], path[3]);
+    } else if (path.length == 3 && path[2].equals("_update_by_query")) {
+      response = UPDATE_BY_QUERY_RESPONSE;
+    }
+    exchange.getResponseHeaders().add("Content-Type", "application/json");
+    if (exchange.getRequestMethod().equals("HEAD")) {
+      exchange.sendResponseHeaders(200, -1);
+      exchange.close();
+      return;
+    }
+    byte[] bytes = response.getBytes(StandardCharsets.UTF_8);
+    exchange.sendResponseHeaders(200, bytes.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(bytes);
+    }
+  }
+}
@@ -0,0 +1,170 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.openmetadata.catalog.load;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import org.openmetadata.catalog.Entity;
+import org.openmetadata.catalog.api.data.CreateDatabase;
+import org.openmetadata.catalog.api.data.CreateTable;
+import org.openmetadata.catalog.api.lineage.AddLineage;
+import org.openmetadata.catalog.api.services.CreateDatabaseService;
+import org.openmetadata.catalog.api.services.CreateDatabaseService.DatabaseServiceType;
+import org.openmetadata.catalog.entity.data.Database;
+import org.openmetadata.catalog.entity.data.Table;
+import org.openmetadata.catalog.entity.services.DatabaseService;
+import org.openmetadata.catalog.type.Column;
+import org.openmetadata.catalog.type.ColumnDataType;
+import org.openmetadata.catalog.type.EntitiesEdge;
+import org.openmetadata.catalog.type.EntityReference;
+import org.openmetadata.catalog.type.JdbcInfo;
+import org.openmetadata.catalog.type.TagLabel;
+
+/**
+ * Catalog of database services, databases and tables with tagged columns and lineage between the tables, created
+ * through the API at the scale set by {@link LoadScale}. The same scale always generates the same catalog.
+ */
+final class SyntheticCatalog {
+  /** Tags bundled with the server, spread over the columns */
+  private static final String[] COLUMN_TAGS = {
+    "User.Address",
+    "User.BankAccount",
+    "User.CreditCardNumber",
+    "User.Email",
+    "User.Name",
+    "User.Phone",
+    "PII.Sensitive",
+    "PII.NonSensitive",
+    "PersonalData.Personal",
+    "PersonalData.SpecialCategory"
+  };
+
+  private final LoadScale scale;
+  private final List<Database> databases = new ArrayList<>();
+
+  /** Tables of each database, in the order of {@link #databases} */
+  private final List<List<Table>> tables = new ArrayList<>();
+
+  private SyntheticCatalog(LoadScale scale) {
+    this.scale = scale;
+  }
+
+  List<Database> getDatabases() {
+    return databases;
+  }
+
+  List<Table> getTables(int database) {
+    return tables.get(database);
+  }
+
+  /** Create the catalog, sending the requests creating the tables and the lineage from {@code scale.threads} threads */
+  static SyntheticCatalog generate(LoadClient client, LoadScale scale) throws InterruptedException, ExecutionException {
+    SyntheticCatalog catalog = new SyntheticCatalog(scale);
+    for (int s = 0; s < scale.services; s++) {
+      CreateDatabaseService createService =
+          new CreateDatabaseService()
+              .withName("loadService" + s)
+              .withServiceType(DatabaseServiceType.Snowflake)
+              .withJdbc(new JdbcInfo().withConnectionUrl("snowflake://load" + s).withDriverClass("driverClass"));
+      DatabaseService service =
+          client.post("postService", client.target("services/databaseServices"), createService, DatabaseService.class);
+      EntityReference serviceReference =
+          new EntityReference().withId(service.getId()).withType(Entity.DATABASE_SERVICE);
+      for (int d = 0; d < scale.databases; d++) {
+        CreateDatabase createDatabase = new CreateDatabase().withName("loadDatabase" + d).withService(serviceReference);
+        catalog.databases.add(client.post("postDatabase", client.target("databases"), createDatabase, Database.class));
+      }
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(scale.threads);
+    try {
+      List<List<Future<Table>>> tableFutures = new ArrayList<>();
+      for (Database database : catalog.databases) {
+        List<Future<Table>> futures = new ArrayList<>();
+        for (int t = 0; t < scale.tables; t++) {
+          CreateTable createTable = catalog.createTable(database, t, 0);
+          futures.add(executor.submit(() -> client.put("putTable", client.target("tables"), createTable, Table.class)));
+        }
+        tableFutures.add(futures);
+      }
+      for (List<Future<Table>> futures : tableFutures) {
+        List<Table> databaseTables = new ArrayList<>();
+        for (Future<Table> future : futures) {
+          databaseTables.add(future.get());
+        }
+        catalog.tables.add(databaseTables.stream().filter(Objects::nonNull).collect(Collectors.toList()));
+      }
+
+      // Lineage from the tables of each database to the tables of the next one, as done by an ETL pipeline
+      List<Future<?>> lineageFutures = new ArrayList<>();
+      for (int d = 0; d < catalog.tables.size(); d++) {
+        List<Table> from = catalog.tables.get(d);
+        List<Table> to = catalog.tables.get((d + 1) % catalog.tables.size());
+        for (int t = 0; t < from.size() && !to.isEmpty(); t++) {
+          for (int e = 0; e < scale.lineageEdges; e++) {
+            AddLineage addLineage = addLineage(from.get(t), to.get((t + e) % to.size()));
+            lineageFutures.add(
+                executor.submit(() -> client.put("putLineage", client.target("lineage"), addLineage, null)));
+          }
+        }
+      }
+      for (Future<?> future : lineageFutures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+    return catalog;
+  }
+
+  /**
+   * Request creating or updating a table as sent by the ingestion. The descriptions of the columns change with the
+   * version, so that sending the request for a new version updates the table.
+   */
+  CreateTable createTable(Database database, int index, int version) {
+    List<Column> columns = new ArrayList<>(scale.columns);
+    for (int c = 0; c < scale.columns; c++) {
+      List<TagLabel> tags = new ArrayList<>(scale.tags);
+      for (int t = 0; t < scale.tags; t++) {
+        tags.add(new TagLabel().withTagFQN(COLUMN_TAGS[(c + t) % COLUMN_TAGS.length]));
+      }
+      boolean varchar = c % 2 == 0;
+      columns.add(
+          new Column()
+              .withName("column" + c)
+              .withDataType(varchar ? ColumnDataType.VARCHAR : ColumnDataType.BIGINT)
+              .withDataLength(varchar ? 256 : null)
+              .withDescription("Column " + c + " of version " + version)
+              .withTags(tags));
+    }
+    return new CreateTable()
+        .withName("loadTable" + index)
+        .withDescription("Table " + index + " of " + database.getName())
+        .withDatabase(database.getId())
+        .withColumns(columns);
+  }
+
+  static AddLineage addLineage(Table from, Table to) {
+    EntitiesEdge edge =
+        new EntitiesEdge()
+            .withFromEntity(new EntityReference().withId(from.getId()).withType(Entity.TABLE))
+            .withToEntity(new EntityReference().withId(to.getId()).withType(Entity.TABLE));
+    return new AddLineage().withEdge(edge);
+  }
+}
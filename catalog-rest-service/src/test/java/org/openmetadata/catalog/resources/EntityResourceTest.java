@@ -58,6 +58,7 @@ import java.util.UUID;
 import java.util.function.BiConsumer;
 import javax.json.JsonPatch;
 import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
 import org.apache.http.client.HttpResponseException;
 import org.junit.jupiter.api.AfterAll;
@@ -93,12 +94,14 @@ import org.openmetadata.catalog.resources.services.StorageServiceResourceTest;
 import org.openmetadata.catalog.resources.tags.TagResourceTest;
 import org.openmetadata.catalog.resources.teams.TeamResourceTest;
 import org.openmetadata.catalog.resources.teams.UserResourceTest;
+import org.openmetadata.catalog.security.SecurityUtil;
 import org.openmetadata.catalog.type.ChangeDescription;
 import org.openmetadata.catalog.type.ChangeEvent;
 import org.openmetadata.catalog.type.EntityHistory;
 import org.openmetadata.catalog.type.EntityReference;
 import org.openmetadata.catalog.type.EventType;
 import org.openmetadata.catalog.type.FieldChange;
+import org.openmetadata.catalog.type.ImportResult;
 import org.openmetadata.catalog.type.StorageServiceType;
 import org.openmetadata.catalog.type.Tag;
 import org.openmetadata.catalog.type.TagLabel;
@@ -373,6 +376,68 @@ public abstract class EntityResourceTest<T> extends CatalogApplicationTest {
     }
   }
 
+  @Test
+  void get_entityExport_200_ok(TestInfo test) throws IOException, URISyntaxException {
+    for (int i = 0; i < 5; i++) {
+      createEntity(createRequest(getEntityName(test, i), null, null, null), adminAuthHeaders());
+    }
+
+    // Export with a batch size smaller than the number of entities and compare with the list of all the entities
+    ResultList<T> allEntities = listEntities(null, 1000000, null, null, adminAuthHeaders());
+    List<T> exported = exportEntities(2, adminAuthHeaders());
+    assertEquals(allEntities.getData().size(), exported.size());
+    for (int i = 0; i < exported.size(); i++) {
+      UUID expectedId = getEntityInterface(allEntities.getData().get(i)).getId();
+      assertEquals(expectedId, getEntityInterface(exported.get(i)).getId());
+    }
+  }
+
+  @Test
+  void get_entityExportWithOwner_200_ok(TestInfo test) throws IOException, URISyntaxException {
+    if (!supportsOwner) {
+      return;
+    }
+    // The owners of the entities in a batch are read together, whether they are users or teams
+    T userOwned = createEntity(createRequest(getEntityName(test, 0), null, null, USER_OWNER1), adminAuthHeaders());
+    T teamOwned = createEntity(createRequest(getEntityName(test, 1), null, null, TEAM_OWNER1), adminAuthHeaders());
+    T notOwned = createEntity(createRequest(getEntityName(test, 2), null, null, null), adminAuthHeaders());
+
+    Map<UUID, EntityReference> owners = new HashMap<>();
+    for (T entity : exportEntities("owner", 100, adminAuthHeaders())) {
+      EntityInterface<T> entityInterface = getEntityInterface(entity);
+      owners.put(entityInterface.getId(), entityInterface.getOwner());
+    }
+    for (T entity : List.of(userOwned, teamOwned, notOwned)) {
+      UUID id = getEntityInterface(entity).getId();
+      EntityReference expected = getEntityInterface(getEntity(id, "owner", adminAuthHeaders())).getOwner();
+      assertTrue(owners.containsKey(id));
+      EntityReference owner = owners.get(id);
+      assertEquals(expected == null ? null : expected.getId(), owner == null ? null : owner.getId());
+      assertEquals(expected == null ? null : expected.getName(), owner == null ? null : owner.getName());
+    }
+  }
+
+  @Test
+  void post_entityImport_200_ok(TestInfo test) throws IOException, URISyntaxException {
+    for (int i = 0; i < 3; i++) {
+      createEntity(createRequest(getEntityName(test, i), null, null, null), adminAuthHeaders());
+    }
+    String ndjson = exportEntitiesAsJson(100, adminAuthHeaders());
+    int lines = ndjson.split("\n").length;
+
+    // Importing the exported entities skips all of them as they already exist
+    ImportResult result = importEntities(ndjson, 0, adminAuthHeaders());
+    assertEquals(0, result.getCreated());
+    assertEquals(lines, result.getSkipped());
+    assertEquals(lines, result.getCheckpoint());
+    assertNull(result.getError());
+
+    // Resuming an import from a checkpoint skips the lines before the checkpoint
+    result = importEntities(ndjson, lines - 1, adminAuthHeaders());
+    assertEquals(1, result.getSkipped());
+    assertEquals(lines, result.getCheckpoint());
+  }
+
   /** At the end of test for an entity, delete the parent container to test recursive delete functionality */
   private void delete_recursiveTest() throws URISyntaxException, HttpResponseException {
     // Finally, delete the container that contains the entities created for this test
@@ -768,6 +833,63 @@ public abstract class EntityResourceTest<T> extends CatalogApplicationTest {
     patchEntityAndCheck(entity, origJson, adminAuthHeaders(), MINOR_UPDATE, change);
   }
 
+  @Test
+  void patch_entityVersionHistory_200_ok(TestInfo test) throws IOException, URISyntaxException {
+    if (!supportsPatch) {
+      return;
+    }
+    // Create enough versions for the version history to have both full snapshots and deltas
+    T entity = createEntity(createRequest(getEntityName(test), "description0", null, null), adminAuthHeaders());
+    EntityInterface<T> entityInterface = getEntityInterface(entity);
+    List<Double> versions = new ArrayList<>();
+    List<String> patchedJsons = new ArrayList<>();
+    versions.add(entityInterface.getVersion());
+    patchedJsons.add(null);
+    int versionCount = 25;
+    for (int i = 1; i < versionCount; i++) {
+      String origJson = JsonUtils.pojoToJson(entity);
+      entityInterface.setDescription("description" + i);
+      entity = patchEntity(entityInterface.getId(), origJson, entity, adminAuthHeaders());
+      entityInterface = getEntityInterface(entity);
+      versions.add(entityInterface.getVersion());
+      patchedJsons.add(JsonUtils.pojoToJson(entityInterface.withHref(null)));
+    }
+
+    // Get each version of the entity. The older versions are rebuilt from snapshots and deltas, across several
+    // snapshots, and must be the whole entity as it was returned by the PATCH creating the version
+    UUID id = entityInterface.getId();
+    for (int i = 0; i < versionCount; i++) {
+      T version = getVersion(id, versions.get(i), adminAuthHeaders());
+      assertEquals(versions.get(i), getEntityInterface(version).getVersion());
+      assertEquals("description" + i, getEntityInterface(version).getDescription());
+      if (i > 0 && i < versionCount - 1) {
+        String versionJson = JsonUtils.pojoToJson(getEntityInterface(version).withHref(null));
+        assertEquals(JsonUtils.readJson(patchedJsons.get(i)), JsonUtils.readJson(versionJson));
+      }
+    }
+
+    // List all the versions in pages from the latest to the oldest
+    List<Object> allVersions = new ArrayList<>();
+    List<Object> page = getVersionList(id, 7, null, adminAuthHeaders()).getVersions();
+    while (!page.isEmpty() && allVersions.size() <= versionCount) {
+      assertTrue(page.size() <= 7);
+      allVersions.addAll(page);
+      T oldest = JsonUtils.readValue((String) page.get(page.size() - 1), entityClass);
+      String before = getEntityInterface(oldest).getVersion().toString();
+      page = getVersionList(id, 7, before, adminAuthHeaders()).getVersions();
+    }
+
+    assertEquals(versionCount, allVersions.size());
+    for (int i = 0; i < versionCount; i++) {
+      T version = JsonUtils.readValue((String) allVersions.get(i), entityClass);
+      assertEquals("description" + (versionCount - 1 - i), getEntityInterface(version).getDescription());
+    }
+    assertEquals(allVersions, getVersionList(id, versionCount, null, adminAuthHeaders()).getVersions());
+
+    // Without a limit, only the first page of the latest versions is listed
+    assertEquals(allVersions.subList(0, 10), getVersionList(id, adminAuthHeaders()).getVersions());
+  }
+
   ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
   // Common entity tests for DELETE operations
   ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -828,6 +950,41 @@ public abstract class EntityResourceTest<T> extends CatalogApplicationTest {
     return getResource(collectionName + "/" + id + "/followers/" + userId);
   }
 
+  protected final List<T> exportEntities(int batchSize, Map<String, String> authHeaders) throws IOException {
+    return exportEntities(null, batchSize, authHeaders);
+  }
+
+  protected final List<T> exportEntities(String fields, int batchSize, Map<String, String> authHeaders)
+      throws IOException {
+    List<T> entities = new ArrayList<>();
+    for (String line : exportEntitiesAsJson(fields, batchSize, authHeaders).split("\n")) {
+      entities.add(JsonUtils.readValue(line, entityClass));
+    }
+    return entities;
+  }
+
+  protected final String exportEntitiesAsJson(int batchSize, Map<String, String> authHeaders)
+      throws HttpResponseException {
+    return exportEntitiesAsJson(null, batchSize, authHeaders);
+  }
+
+  protected final String exportEntitiesAsJson(String fields, int batchSize, Map<String, String> authHeaders)
+      throws HttpResponseException {
+    WebTarget target = getCollection().path("/export").queryParam("batchSize", batchSize);
+    target = fields != null ? target.queryParam("fields", fields) : target;
+    Response response = SecurityUtil.addHeaders(target, authHeaders).get();
+    return TestUtils.readResponse(response, String.class, OK.getStatusCode());
+  }
+
+  protected final ImportResult importEntities(String ndjson, int skip, Map<String, String> authHeaders)
+      throws HttpResponseException {
+    WebTarget target = getCollection().path("/import").queryParam("skip", skip);
+    Response response =
+        SecurityUtil.addHeaders(target, authHeaders)
+            .post(javax.ws.rs.client.Entity.entity(ndjson, RestUtil.NDJSON_MEDIA_TYPE));
+    return TestUtils.readResponse(response, ImportResult.class, OK.getStatusCode());
+  }
+
   protected final T getEntity(UUID id, Map<String, String> authHeaders) throws HttpResponseException {
     WebTarget target = getResource(id);
     target = target.queryParam("fields", allFields);
@@ -1126,6 +1283,13 @@ public abstract class EntityResourceTest<T> extends CatalogApplicationTest {
     return TestUtils.get(target, EntityHistory.class, authHeaders);
   }
 
+  protected EntityHistory getVersionList(UUID id, int limit, String before, Map<String, String> authHeaders)
+      throws HttpResponseException {
+    WebTarget target = getResource(id).path("/versions").queryParam("limit", limit);
+    target = before == null ? target : target.queryParam("before", before);
+    return TestUtils.get(target, EntityHistory.class, authHeaders);
+  }
+
   protected ResultList<ChangeEvent> getChangeEvents(
       String entityCreated, String entityUpdated, String entityDeleted, Date date, Map<String, String> authHeaders)
       throws HttpResponseException {
@@ -0,0 +1,35 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.resources;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.openmetadata.catalog.util.TestUtils.adminAuthHeaders;
+
+import org.apache.http.client.HttpResponseException;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.catalog.CatalogApplicationTest;
+import org.openmetadata.catalog.resources.databases.TableResource.TableList;
+import org.openmetadata.catalog.util.TestUtils;
+
+class PrometheusMetricsTest extends CatalogApplicationTest {
+  @Test
+  void get_prometheusMetrics_200() throws HttpResponseException {
+    // List the tables to record the time taken by the repository
+    TestUtils.get(getResource("tables"), TableList.class, adminAuthHeaders());
+
+    String metrics =
+        APP.client().target("http://localhost:" + APP.getAdminPort() + "/prometheus").request().get(String.class);
+    assertTrue(metrics.contains("org_openmetadata_catalog_jdbi3_EntityRepository_table_list"));
+  }
+}
@@ -13,11 +13,14 @@
 
 package org.openmetadata.catalog.resources.databases;
 
+import static javax.ws.rs.core.Response.Status.ACCEPTED;
 import static javax.ws.rs.core.Response.Status.BAD_REQUEST;
 import static javax.ws.rs.core.Response.Status.FORBIDDEN;
+import static javax.ws.rs.core.Response.Status.NOT_FOUND;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.openmetadata.catalog.exception.CatalogExceptionMessage.entityNotFound;
 import static org.openmetadata.catalog.security.SecurityUtil.authHeaders;
 import static org.openmetadata.catalog.util.TestUtils.adminAuthHeaders;
 import static org.openmetadata.catalog.util.TestUtils.assertListNotNull;
@@ -26,8 +29,15 @@ import static org.openmetadata.catalog.util.TestUtils.assertResponse;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.Response;
 import org.apache.http.client.HttpResponseException;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -35,10 +45,16 @@ import org.junit.jupiter.api.TestInfo;
 import org.junit.jupiter.api.TestInstance;
 import org.openmetadata.catalog.Entity;
 import org.openmetadata.catalog.api.data.CreateDatabase;
+import org.openmetadata.catalog.api.data.CreateTable;
 import org.openmetadata.catalog.entity.data.Database;
+import org.openmetadata.catalog.entity.data.Table;
 import org.openmetadata.catalog.jdbi3.DatabaseRepository.DatabaseEntityInterface;
+import org.openmetadata.catalog.operations.DeleteJob;
+import org.openmetadata.catalog.operations.DeleteJobStatus;
 import org.openmetadata.catalog.resources.EntityResourceTest;
 import org.openmetadata.catalog.resources.databases.DatabaseResource.DatabaseList;
+import org.openmetadata.catalog.security.SecurityUtil;
+import org.openmetadata.catalog.type.ChangeEvent;
 import org.openmetadata.catalog.type.EntityReference;
 import org.openmetadata.catalog.util.EntityInterface;
 import org.openmetadata.catalog.util.ResultList;
@@ -137,6 +153,61 @@ public class DatabaseResourceTest extends EntityResourceTest<Database> {
     // TODO
   }
 
+  @Test
+  void delete_nonEmptyDatabaseInBackground_202(TestInfo test) throws IOException, InterruptedException {
+    Database database = createDatabase(create(test), adminAuthHeaders());
+    TableResourceTest tableResourceTest = new TableResourceTest();
+    List<Table> tables = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      CreateTable create =
+          new CreateTable()
+              .withName(getEntityName(test, i))
+              .withDatabase(database.getId())
+              .withColumns(TableResourceTest.COLUMNS);
+      tables.add(tableResourceTest.createEntity(create, adminAuthHeaders()));
+    }
+
+    // Delete the database along with its tables in the background and wait for the delete job to complete
+    Date deleteTime = new Date(System.currentTimeMillis() - 1000);
+    WebTarget target = getResource(database.getId()).queryParam("recursive", true).queryParam("async", true);
+    Response response = SecurityUtil.addHeaders(target, adminAuthHeaders()).delete();
+    DeleteJob job = TestUtils.readResponse(response, DeleteJob.class, ACCEPTED.getStatusCode());
+    assertEquals(database.getId(), job.getEntity().getId());
+    for (int i = 0; i < 100 && job.getStatus() == DeleteJobStatus.RUNNING; i++) {
+      Thread.sleep(100);
+      job = TestUtils.get(getOperationsResource("deleteJobs/" + job.getId()), DeleteJob.class, adminAuthHeaders());
+    }
+    assertEquals(DeleteJobStatus.COMPLETED, job.getStatus());
+    assertEquals(tables.size(), job.getTotal());
+    assertEquals(tables.size(), job.getDeleted());
+
+    assertResponse(
+        () -> getEntity(database.getId(), adminAuthHeaders()),
+        NOT_FOUND,
+        entityNotFound(Entity.DATABASE, database.getId()));
+    for (Table table : tables) {
+      assertResponse(
+          () -> tableResourceTest.getEntity(table.getId(), "owner", adminAuthHeaders()),
+          NOT_FOUND,
+          entityNotFound(Entity.TABLE, table.getId()));
+    }
+
+    // The deleted tables are listed by a change event of the database, along with the change event of the database
+    List<ChangeEvent> changeEvents =
+        getChangeEvents(null, null, Entity.DATABASE, deleteTime, adminAuthHeaders()).getData().stream()
+            .filter(changeEvent -> changeEvent.getEntityId().equals(database.getId()))
+            .collect(Collectors.toList());
+    assertEquals(2, changeEvents.size());
+    List<UUID> deletedIds =
+        changeEvents.stream()
+            .filter(changeEvent -> changeEvent.getDeletedEntities() != null)
+            .flatMap(changeEvent -> changeEvent.getDeletedEntities().stream())
+            .map(EntityReference::getId)
+            .sorted()
+            .collect(Collectors.toList());
+    assertEquals(tables.stream().map(Table::getId).sorted().collect(Collectors.toList()), deletedIds);
+  }
+
   public static Database createDatabase(CreateDatabase create, Map<String, String> authHeaders)
       throws HttpResponseException {
     return TestUtils.post(getResource("databases"), create, Database.class, authHeaders);
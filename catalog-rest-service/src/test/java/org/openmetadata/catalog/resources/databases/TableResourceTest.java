@@ -23,6 +23,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.openmetadata.catalog.resources.locations.LocationResourceTest.createLocation;
 import static org.openmetadata.catalog.resources.locations.LocationResourceTest.getLocationName;
 import static org.openmetadata.catalog.security.SecurityUtil.authHeaders;
@@ -57,7 +58,9 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
 import org.apache.http.client.HttpResponseException;
 import org.junit.jupiter.api.BeforeAll;
@@ -78,9 +81,11 @@ import org.openmetadata.catalog.entity.services.DatabaseService;
 import org.openmetadata.catalog.exception.CatalogExceptionMessage;
 import org.openmetadata.catalog.jdbi3.TableRepository.TableEntityInterface;
 import org.openmetadata.catalog.resources.EntityResourceTest;
+import org.openmetadata.catalog.resources.QueryDiagnosticsFilter;
 import org.openmetadata.catalog.resources.databases.TableResource.TableList;
 import org.openmetadata.catalog.resources.services.DatabaseServiceResourceTest;
 import org.openmetadata.catalog.resources.tags.TagResourceTest;
+import org.openmetadata.catalog.security.SecurityUtil;
 import org.openmetadata.catalog.type.ChangeDescription;
 import org.openmetadata.catalog.type.Column;
 import org.openmetadata.catalog.type.ColumnConstraint;
@@ -197,6 +202,76 @@ public class TableResourceTest extends EntityResourceTest<Table> {
     assertEquals(expectedFQN, table.getFullyQualifiedName());
   }
 
+  @Test
+  void get_tableWithManyColumns_sameQueryCount(TestInfo test) throws HttpResponseException {
+    // Getting a table must not run a statement for each of its columns
+    Table table = createEntity(create(test, 1), adminAuthHeaders());
+    List<Column> columns = new ArrayList<>();
+    for (int i = 0; i < 30; i++) {
+      columns.add(getColumn("c" + i, BIGINT, USER_ADDRESS_TAG_LABEL));
+    }
+    Table tableWithManyColumns = createEntity(create(test, 2).withColumns(columns), adminAuthHeaders());
+
+    getQueryCount(table.getId()); // Warm up the caches, such as the cache of the users of the authorizer
+    assertEquals(getQueryCount(table.getId()), getQueryCount(tableWithManyColumns.getId()));
+  }
+
+  private int getQueryCount(UUID id) {
+    WebTarget target = CatalogApplicationTest.getResource("tables/" + id).queryParam("fields", TableResource.FIELDS);
+    Response response = SecurityUtil.addHeaders(target, adminAuthHeaders()).get();
+    assertEquals(OK.getStatusCode(), response.getStatus());
+    return Integer.parseInt(response.getHeaderString(QueryDiagnosticsFilter.QUERY_COUNT_HEADER));
+  }
+
+  @Test
+  void put_tableSentAgain_noChangeWithSameQueryCount(TestInfo test) throws IOException {
+    // Sending the same request again must not run a statement for each of the columns of the table
+    CreateTable create = create(test, 1);
+    List<Column> columns = new ArrayList<>();
+    for (int i = 0; i < 30; i++) {
+      columns.add(getColumn("c" + i, BIGINT, USER_ADDRESS_TAG_LABEL));
+    }
+    CreateTable createWithManyColumns = create(test, 2).withColumns(columns);
+    Table table = updateEntity(create, CREATED, adminAuthHeaders());
+    Table tableWithManyColumns = updateEntity(createWithManyColumns, CREATED, adminAuthHeaders());
+
+    putQueryCount(create); // Warm up the caches, such as the cache of the users of the authorizer
+    assertEquals(putQueryCount(create), putQueryCount(createWithManyColumns));
+    assertEquals(table.getVersion(), getEntity(table.getId(), adminAuthHeaders()).getVersion());
+    Table unchanged = updateEntity(createWithManyColumns, OK, adminAuthHeaders());
+    assertEquals(tableWithManyColumns.getVersion(), unchanged.getVersion());
+    assertEquals(30, unchanged.getColumns().size());
+  }
+
+  @Test
+  void put_tableSentAgainAfterPatch_200(TestInfo test) throws IOException {
+    // Sending the same request again after the table was patched updates the table instead of skipping the request
+    CreateTable create = create(test).withTags(List.of(USER_ADDRESS_TAG_LABEL));
+    Table table = updateEntity(create, CREATED, adminAuthHeaders());
+    String originalJson = JsonUtils.pojoToJson(table);
+    table.setTags(new ArrayList<>());
+    Table patched = patchEntity(table.getId(), originalJson, table, adminAuthHeaders());
+    assertTrue(patched.getTags().isEmpty());
+
+    Table updated = updateEntity(create, OK, adminAuthHeaders());
+    assertTrue(updated.getVersion() > patched.getVersion());
+    assertEquals(List.of(USER_ADDRESS_TAG_LABEL.getTagFQN()), getTagFQNs(updated.getTags()));
+  }
+
+  private int putQueryCount(CreateTable create) {
+    WebTarget target = CatalogApplicationTest.getResource("tables");
+    Response response =
+        SecurityUtil.addHeaders(target, adminAuthHeaders())
+            .put(javax.ws.rs.client.Entity.entity(create, JsonUtils.DEFAULT_MEDIA_TYPE));
+    assertEquals(OK.getStatusCode(), response.getStatus());
+    assertEquals(RestUtil.ENTITY_NO_CHANGE, response.getHeaderString(RestUtil.CHANGE_CUSTOM_HEADER));
+    return Integer.parseInt(response.getHeaderString(QueryDiagnosticsFilter.QUERY_COUNT_HEADER));
+  }
+
+  private static List<String> getTagFQNs(List<TagLabel> tags) {
+    return tags.stream().map(TagLabel::getTagFQN).collect(Collectors.toList());
+  }
+
   private static Column getColumn(String name, ColumnDataType columnDataType, TagLabel tag) {
     return getColumn(name, columnDataType, null, tag);
   }
@@ -18,6 +18,8 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.openmetadata.catalog.util.TestUtils.adminAuthHeaders;
 
+import io.dropwizard.db.DataSourceFactory;
+import io.dropwizard.jdbi3.JdbiFactory;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -26,13 +28,21 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import javax.ws.rs.core.Response;
 import org.apache.http.client.HttpResponseException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInfo;
+import org.openmetadata.catalog.ClusterConfiguration;
 import org.openmetadata.catalog.Entity;
 import org.openmetadata.catalog.api.events.CreateWebhook;
+import org.openmetadata.catalog.events.CacheInvalidation;
+import org.openmetadata.catalog.events.ChangeEventPollingBus;
+import org.openmetadata.catalog.events.ClusterEventBus;
 import org.openmetadata.catalog.jdbi3.WebhookRepository.WebhookEntityInterface;
 import org.openmetadata.catalog.resources.EntityResourceTest;
 import org.openmetadata.catalog.resources.events.WebhookCallbackResource.EventDetails;
@@ -176,6 +186,46 @@ public class WebhookResourceTest extends EntityResourceTest<Webhook> {
     deleteEntity(webhook.getId(), adminAuthHeaders());
   }
 
+  @Test
+  void webhookChanges_deliveredOnceByClusterEventBus(TestInfo test) throws Exception {
+    // Another server of the cluster polls the change events recorded by this server
+    ClusterConfiguration config = new ClusterConfiguration();
+    config.setPollIntervalMs(50);
+    DataSourceFactory database = APP.getConfiguration().getDataSourceFactory();
+    ChangeEventPollingBus bus = new ChangeEventPollingBus();
+    bus.init(config, new JdbiFactory().build(APP.getEnvironment(), database, "clusterEventBusTest"));
+    List<CacheInvalidation> received = new CopyOnWriteArrayList<>();
+    Consumer<CacheInvalidation> subscriber = received::add;
+    ClusterEventBus.subscribe(subscriber);
+    bus.start();
+    try {
+      Webhook webhook = createEntity(createRequest(getEntityName(test), "", "", null), adminAuthHeaders());
+      deleteEntity(webhook.getId(), adminAuthHeaders());
+
+      int iteration = 0;
+      while (getEventTypes(received, webhook.getId()).size() < 2 && iteration++ < 100) {
+        Thread.sleep(50);
+      }
+      Thread.sleep(500); // The following polls read the same change events again
+      List<String> expected = List.of(EventType.ENTITY_CREATED.value(), EventType.ENTITY_DELETED.value());
+      assertEquals(expected, getEventTypes(received, webhook.getId()));
+      CacheInvalidation created =
+          received.stream().filter(i -> i.getEntityId().equals(webhook.getId())).findFirst().orElseThrow();
+      assertEquals(Entity.WEBHOOK, created.getEntityType());
+      assertEquals(webhook.getVersion(), created.getVersion());
+    } finally {
+      bus.stop();
+      ClusterEventBus.unsubscribe(subscriber);
+    }
+  }
+
+  private static List<String> getEventTypes(List<CacheInvalidation> invalidations, UUID entityId) {
+    return invalidations.stream()
+        .filter(invalidation -> invalidation.getEntityId().equals(entityId))
+        .map(CacheInvalidation::getEventType)
+        .collect(Collectors.toList());
+  }
+
   @Override
   public CreateWebhook createRequest(String name, String description, String displayName, EntityReference owner)
       throws URISyntaxException {
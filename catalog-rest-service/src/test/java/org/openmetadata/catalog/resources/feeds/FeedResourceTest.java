@@ -16,18 +16,25 @@ package org.openmetadata.catalog.resources.feeds;
 import static javax.ws.rs.core.Response.Status.BAD_REQUEST;
 import static javax.ws.rs.core.Response.Status.NOT_FOUND;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.openmetadata.catalog.exception.CatalogExceptionMessage.entityNotFound;
 import static org.openmetadata.catalog.security.SecurityUtil.authHeaders;
 import static org.openmetadata.catalog.util.TestUtils.adminAuthHeaders;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import javax.ws.rs.client.WebTarget;
 import org.apache.http.client.HttpResponseException;
 import org.junit.jupiter.api.BeforeAll;
@@ -45,9 +52,13 @@ import org.openmetadata.catalog.entity.teams.Team;
 import org.openmetadata.catalog.entity.teams.User;
 import org.openmetadata.catalog.resources.databases.TableResourceTest;
 import org.openmetadata.catalog.resources.feeds.FeedResource.ThreadList;
+import org.openmetadata.catalog.resources.feeds.FeedResource.TimelineList;
+import org.openmetadata.catalog.resources.teams.UserResourceTest;
 import org.openmetadata.catalog.type.Column;
 import org.openmetadata.catalog.type.ColumnDataType;
 import org.openmetadata.catalog.type.Post;
+import org.openmetadata.catalog.type.TimelineItem;
+import org.openmetadata.catalog.type.TimelineReason;
 import org.openmetadata.catalog.util.TestUtils;
 
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
@@ -149,10 +160,10 @@ public class FeedResourceTest extends CatalogApplicationTest {
 
   @Test
   void post_validThreadAndList_200(TestInfo test) throws HttpResponseException {
-    int totalThreadCount = listThreads(null, adminAuthHeaders()).getData().size();
-    int userThreadCount = listThreads(USER_LINK, adminAuthHeaders()).getData().size();
-    int teamThreadCount = listThreads(TEAM_LINK, adminAuthHeaders()).getData().size();
-    int tableThreadCount = listThreads(TABLE_LINK, adminAuthHeaders()).getData().size();
+    int totalThreadCount = listThreads(null, adminAuthHeaders()).getPaging().getTotal();
+    int userThreadCount = listThreads(USER_LINK, adminAuthHeaders()).getPaging().getTotal();
+    int teamThreadCount = listThreads(TEAM_LINK, adminAuthHeaders()).getPaging().getTotal();
+    int tableThreadCount = listThreads(TABLE_LINK, adminAuthHeaders()).getPaging().getTotal();
 
     CreateThread create =
         create()
@@ -165,13 +176,107 @@ public class FeedResourceTest extends CatalogApplicationTest {
     for (int i = 0; i < 10; i++) {
       createAndCheck(create, userAuthHeaders);
       // List all the threads and make sure the number of threads increased by 1
-      assertEquals(++userThreadCount, listThreads(USER_LINK, userAuthHeaders).getData().size()); // Mentioned user
-      assertEquals(++teamThreadCount, listThreads(TEAM_LINK, userAuthHeaders).getData().size()); // Mentioned team
-      assertEquals(++tableThreadCount, listThreads(TABLE_LINK, userAuthHeaders).getData().size()); // About TABLE
-      assertEquals(++totalThreadCount, listThreads(null, userAuthHeaders).getData().size()); // Overall threads
+      assertEquals(++userThreadCount, listThreads(USER_LINK, userAuthHeaders).getPaging().getTotal()); // Mentioned user
+      assertEquals(++teamThreadCount, listThreads(TEAM_LINK, userAuthHeaders).getPaging().getTotal()); // Mentioned team
+      assertEquals(++tableThreadCount, listThreads(TABLE_LINK, userAuthHeaders).getPaging().getTotal()); // About TABLE
+      assertEquals(++totalThreadCount, listThreads(null, userAuthHeaders).getPaging().getTotal()); // Overall threads
     }
   }
 
+  @Test
+  void get_threadListWithPagination_200(TestInfo test) throws HttpResponseException {
+    Map<String, String> userAuthHeaders = authHeaders(USER.getEmail());
+    CreateThread create =
+        create().withMessage(String.format("%s mentions table %s", test.getDisplayName(), TABLE_LINK));
+    for (int i = 0; i < 5; i++) {
+      createAndCheck(create, userAuthHeaders);
+    }
+
+    for (String link : Arrays.asList(null, TABLE_LINK)) {
+      ThreadList allThreads = listThreads(link, 1000000, null, null, userAuthHeaders);
+      int total = allThreads.getPaging().getTotal();
+      assertEquals(total, allThreads.getData().size());
+      for (int limit = 1; limit < 6; limit++) {
+        // Page forward through the threads, latest first
+        List<Thread> forwardThreads = new ArrayList<>();
+        String after = null;
+        ThreadList page;
+        do {
+          page = listThreads(link, limit, null, after, userAuthHeaders);
+          assertEquals(total, page.getPaging().getTotal());
+          assertTrue(page.getData().size() <= limit);
+          forwardThreads.addAll(page.getData());
+          after = page.getPaging().getAfter();
+        } while (after != null);
+        assertThreadIds(allThreads.getData(), forwardThreads);
+
+        // Page backward from the last page
+        List<Thread> backwardThreads = new ArrayList<>(page.getData());
+        String before = page.getPaging().getBefore();
+        while (before != null) {
+          page = listThreads(link, limit, before, null, userAuthHeaders);
+          backwardThreads.addAll(0, page.getData());
+          before = page.getPaging().getBefore();
+        }
+        assertThreadIds(allThreads.getData(), backwardThreads);
+      }
+    }
+  }
+
+  @Test
+  void get_userTimeline_200(TestInfo test) throws HttpResponseException {
+    UserResourceTest userResourceTest = new UserResourceTest();
+    User mentionedUser =
+        UserResourceTest.createUser(userResourceTest.create(test), authHeaders("test@open-metadata.org"));
+    String mentionedLink = String.format("<#E/user/%s>", mentionedUser.getName());
+    Map<String, String> userAuthHeaders = authHeaders(USER.getEmail());
+
+    // Threads are added to the timelines of their author and of the users mentioned in them
+    List<UUID> threadIds = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      Thread thread = createAndCheck(create().withMessage("mentions " + mentionedLink), userAuthHeaders);
+      threadIds.add(thread.getId());
+    }
+    TimelineList timeline = listTimeline(mentionedUser.getId(), 1000, null, userAuthHeaders);
+    assertEquals(5, timeline.getPaging().getTotal());
+    assertEquals(new HashSet<>(threadIds), timelineThreadIds(timeline.getData()));
+    for (TimelineItem item : timeline.getData()) {
+      assertEquals(TimelineReason.MENTIONED, item.getReason());
+    }
+
+    TimelineList authorTimeline = listTimeline(USER.getId(), 1000, null, userAuthHeaders);
+    for (TimelineItem item : authorTimeline.getData()) {
+      if (item.getThread() != null && threadIds.contains(item.getThread().getId())) {
+        assertEquals(TimelineReason.AUTHOR, item.getReason());
+      }
+    }
+
+    // Page through the timeline, latest first
+    List<TimelineItem> pagedItems = new ArrayList<>();
+    String after = null;
+    do {
+      TimelineList page = listTimeline(mentionedUser.getId(), 2, after, userAuthHeaders);
+      assertTrue(page.getData().size() <= 2);
+      pagedItems.addAll(page.getData());
+      after = page.getPaging().getAfter();
+    } while (after != null);
+    assertEquals(timelineThreadIds(timeline.getData()), timelineThreadIds(pagedItems));
+    assertEquals(5, pagedItems.size());
+    for (int i = 1; i < pagedItems.size(); i++) {
+      assertFalse(pagedItems.get(i).getTimestamp().after(pagedItems.get(i - 1).getTimestamp()));
+    }
+  }
+
+  private static Set<UUID> timelineThreadIds(List<TimelineItem> items) {
+    return items.stream().map(item -> item.getThread().getId()).collect(Collectors.toSet());
+  }
+
+  private static void assertThreadIds(List<Thread> expected, List<Thread> actual) {
+    assertEquals(
+        expected.stream().map(Thread::getId).collect(Collectors.toList()),
+        actual.stream().map(Thread::getId).collect(Collectors.toList()));
+  }
+
   @Test
   void post_addPostWithoutMessage_4xx() {
     // Add post to a thread without message field
@@ -250,6 +355,7 @@ public class FeedResourceTest extends CatalogApplicationTest {
 
     // Ensure post count increased
     assertEquals(expected.getPosts().size() + 1, actual.getPosts().size());
+    assertEquals(actual.getPosts().size(), (int) actual.getPostCount());
   }
 
   public static Thread createThread(CreateThread create, Map<String, String> authHeaders) throws HttpResponseException {
@@ -274,10 +380,27 @@ public class FeedResourceTest extends CatalogApplicationTest {
     return TestUtils.get(target, Thread.class, authHeaders);
   }
 
+  public static TimelineList listTimeline(UUID userId, Integer limit, String after, Map<String, String> authHeaders)
+      throws HttpResponseException {
+    WebTarget target = getResource("feed/timeline/" + userId);
+    target = limit != null ? target.queryParam("limit", limit) : target;
+    target = after != null ? target.queryParam("after", after) : target;
+    return TestUtils.get(target, TimelineList.class, authHeaders);
+  }
+
   public static ThreadList listThreads(String entityLink, Map<String, String> authHeaders)
       throws HttpResponseException {
+    return listThreads(entityLink, null, null, null, authHeaders);
+  }
+
+  public static ThreadList listThreads(
+      String entityLink, Integer limit, String before, String after, Map<String, String> authHeaders)
+      throws HttpResponseException {
     WebTarget target = getResource("feed");
     target = entityLink != null ? target.queryParam("entity", entityLink) : target;
+    target = limit != null ? target.queryParam("limit", limit) : target;
+    target = before != null ? target.queryParam("before", before) : target;
+    target = after != null ? target.queryParam("after", after) : target;
     return TestUtils.get(target, ThreadList.class, authHeaders);
   }
 }
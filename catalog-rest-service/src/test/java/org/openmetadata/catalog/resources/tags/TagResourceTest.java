@@ -30,6 +30,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import javax.ws.rs.client.WebTarget;
 import javax.ws.rs.core.Response.Status;
 import org.apache.http.client.HttpResponseException;
@@ -40,12 +41,18 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInfo;
 import org.junit.jupiter.api.TestMethodOrder;
 import org.openmetadata.catalog.CatalogApplicationTest;
+import org.openmetadata.catalog.api.data.CreateMlModel;
+import org.openmetadata.catalog.entity.data.MlModel;
+import org.openmetadata.catalog.resources.mlmodels.MlModelResourceTest;
 import org.openmetadata.catalog.resources.tags.TagResource.CategoryList;
 import org.openmetadata.catalog.type.CreateTag;
 import org.openmetadata.catalog.type.CreateTagCategory;
 import org.openmetadata.catalog.type.CreateTagCategory.TagCategoryType;
+import org.openmetadata.catalog.type.MlFeature;
+import org.openmetadata.catalog.type.MlFeatureDataType;
 import org.openmetadata.catalog.type.Tag;
 import org.openmetadata.catalog.type.TagCategory;
+import org.openmetadata.catalog.type.TagLabel;
 import org.openmetadata.catalog.util.JsonUtils;
 import org.openmetadata.catalog.util.TestUtils;
 
@@ -278,6 +285,59 @@ public class TagResourceTest extends CatalogApplicationTest {
     updateSecondaryTag("User", "PrimaryTag", "SecondaryTag1", create, adminAuthHeaders());
   }
 
+  @Test
+  void put_tagCategoryRename_tagsRenamed_200(TestInfo test) throws IOException {
+    // Category Rename_Tags has a name with a LIKE wildcard matching category RenameXTags
+    CreateTagCategory createCategory =
+        new CreateTagCategory()
+            .withName("Rename_Tags")
+            .withDescription("description")
+            .withCategoryType(TagCategoryType.Descriptive);
+    createAndCheckCategory(createCategory, adminAuthHeaders());
+    createAndCheckCategory(createCategory.withName("RenameXTags"), adminAuthHeaders());
+    CreateTag createTag = new CreateTag().withName("Primary").withDescription("description");
+    createPrimaryTag("Rename_Tags", createTag, adminAuthHeaders());
+    createPrimaryTag("RenameXTags", createTag, adminAuthHeaders());
+    createTag.withName("Associated").withAssociatedTags(List.of("Rename_Tags.Primary", "RenameXTags.Primary"));
+    createPrimaryTag("RenameXTags", createTag, adminAuthHeaders());
+
+    // Apply the tags to an ML model and to one of its features, whose tags are stored in the json of the model
+    TagLabel renamedLabel = new TagLabel().withTagFQN("Rename_Tags.Primary");
+    TagLabel otherLabel = new TagLabel().withTagFQN("RenameXTags.Primary");
+    MlFeature feature =
+        new MlFeature().withName("age").withDataType(MlFeatureDataType.Numerical).withTags(List.of(renamedLabel));
+    CreateMlModel createMlModel =
+        new CreateMlModel()
+            .withName(test.getDisplayName())
+            .withAlgorithm(MlModelResourceTest.ALGORITHM)
+            .withMlFeatures(List.of(feature))
+            .withTags(List.of(renamedLabel, otherLabel));
+    // Created with PUT, which records the fingerprint of the request
+    WebTarget mlModels = getResource("mlmodels");
+    MlModel mlModel = TestUtils.put(mlModels, createMlModel, MlModel.class, Status.CREATED, adminAuthHeaders());
+
+    // Renaming the category renames its tags wherever they are used, and not the tags of category RenameXTags
+    createCategory.withName("Renamed_Tags");
+    updateCategory("Rename_Tags", createCategory, adminAuthHeaders());
+    assertEquals(1, (int) getTag("Renamed_Tags.Primary", "usageCount", adminAuthHeaders()).getUsageCount());
+    assertEquals(1, (int) getTag("RenameXTags.Primary", "usageCount", adminAuthHeaders()).getUsageCount());
+    Tag associated = getTag("RenameXTags.Associated", adminAuthHeaders());
+    assertEquals(List.of("Renamed_Tags.Primary", "RenameXTags.Primary"), associated.getAssociatedTags());
+
+    mlModel = new MlModelResourceTest().getEntity(mlModel.getId(), "mlFeatures,tags", adminAuthHeaders());
+    assertEquals(
+        List.of("RenameXTags.Primary", "Renamed_Tags.Primary"),
+        mlModel.getTags().stream().map(TagLabel::getTagFQN).sorted().collect(Collectors.toList()));
+    assertEquals("Renamed_Tags.Primary", mlModel.getMlFeatures().get(0).getTags().get(0).getTagFQN());
+
+    // Sending the request that created the ML model again is not skipped as unchanged, its tag does not exist anymore
+    HttpResponseException exception =
+        assertThrows(
+            HttpResponseException.class,
+            () -> TestUtils.put(mlModels, createMlModel, MlModel.class, Status.OK, adminAuthHeaders()));
+    TestUtils.assertResponse(exception, NOT_FOUND, entityNotFound(Tag.class.getSimpleName(), "Rename_Tags.Primary"));
+  }
+
   @Test
   void put_tagInvalidRequest_404() {
     // Primary tag with missing description
@@ -0,0 +1,202 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.Date;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.statement.SqlLogger;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.sqlobject.SqlObjectPlugin;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.openmetadata.catalog.Entity;
+import org.openmetadata.catalog.entity.teams.Team;
+import org.openmetadata.catalog.entity.teams.User;
+import org.openmetadata.catalog.events.EventPubSub.ChangeEventHolder;
+import org.openmetadata.catalog.jdbi3.CollectionDAO;
+import org.openmetadata.catalog.jdbi3.Relationship;
+import org.openmetadata.catalog.jdbi3.TeamRepository;
+import org.openmetadata.catalog.jdbi3.UserRepository;
+import org.openmetadata.catalog.resources.EmbeddedMySqlSupport;
+import org.openmetadata.catalog.type.ChangeEvent;
+import org.openmetadata.catalog.type.EntityReference;
+import org.openmetadata.catalog.type.EventType;
+import org.openmetadata.catalog.util.JsonUtils;
+
+@ExtendWith(EmbeddedMySqlSupport.class)
+class DefaultAuthorizerTest {
+  /** Number of SQL statements run, to tell the users served from the cache from the users loaded */
+  private static final AtomicInteger queries = new AtomicInteger();
+
+  private static CollectionDAO dao;
+  private static DefaultAuthorizer authorizer;
+
+  private User user;
+  private Team team;
+  private AuthenticationContext context;
+
+  @BeforeAll
+  static void setup() {
+    Jdbi jdbi =
+        Jdbi.create("jdbc:mysql://localhost:3307/openmetadata_test_db?useSSL=false&serverTimezone=UTC", "test", "");
+    jdbi.installPlugin(new SqlObjectPlugin());
+    jdbi.setSqlLogger(
+        new SqlLogger() {
+          @Override
+          public void logBeforeExecution(StatementContext context) {
+            queries.incrementAndGet();
+          }
+        });
+    dao = jdbi.onDemand(CollectionDAO.class);
+
+    AuthorizerConfiguration config = new AuthorizerConfiguration();
+    config.setAdminPrincipals(Set.of("authorizerTestAdmin"));
+    config.setBotPrincipals(Set.of("authorizerTestBot"));
+    config.setPrincipalDomain("open-metadata.org");
+    config.setUserCacheTtlSeconds(3600);
+    authorizer = new DefaultAuthorizer();
+    authorizer.init(config, jdbi);
+  }
+
+  @BeforeEach
+  void createUserAndTeam() throws IOException {
+    String name = "authorizerTest" + UUID.randomUUID().toString().substring(0, 8);
+    user =
+        new UserRepository(dao)
+            .create(
+                null,
+                new User()
+                    .withId(UUID.randomUUID())
+                    .withName(name)
+                    .withEmail(name + "@open-metadata.org")
+                    .withUpdatedBy("test")
+                    .withUpdatedAt(new Date()));
+    team =
+        new TeamRepository(dao)
+            .create(
+                null,
+                new Team()
+                    .withId(UUID.randomUUID())
+                    .withName(name + "Team")
+                    .withUpdatedBy("test")
+                    .withUpdatedAt(new Date()));
+    context = new AuthenticationContext();
+    context.setPrincipal(new CatalogPrincipal(name));
+  }
+
+  @Test
+  void user_servedFromCache() {
+    assertFalse(authorizer.isAdmin(context)); // Loads the user
+
+    queries.set(0);
+    assertFalse(authorizer.isAdmin(context));
+    assertFalse(authorizer.isBot(context));
+    assertTrue(authorizer.hasPermissions(context, userReference()));
+    assertFalse(authorizer.hasPermissions(context, teamReference()));
+    assertEquals(0, queries.get());
+  }
+
+  @Test
+  void unknownUser_deniedAndNotCached() {
+    AuthenticationContext unknown = new AuthenticationContext();
+    unknown.setPrincipal(new CatalogPrincipal("authorizerTestUnknown"));
+    assertFalse(authorizer.isAdmin(unknown));
+
+    // The user may be created later, so it is looked up again
+    queries.set(0);
+    assertFalse(authorizer.isAdmin(unknown));
+    assertTrue(queries.get() > 0);
+  }
+
+  @Test
+  void userRolesChanged_userInvalidated() {
+    assertFalse(authorizer.isAdmin(context));
+
+    // Roles assigned to the user, along with the admin role
+    dao.relationshipDAO()
+        .insert(
+            user.getId().toString(),
+            UUID.randomUUID().toString(),
+            Entity.USER,
+            Entity.ROLE,
+            Relationship.HAS.ordinal());
+    user.setIsAdmin(true);
+    dao.userDAO().update(user.getId(), JsonUtils.pojoToJson(user));
+
+    // The change event of another user keeps the user cached
+    publish(Entity.USER, UUID.randomUUID());
+    queries.set(0);
+    assertFalse(authorizer.isAdmin(context));
+    assertEquals(0, queries.get());
+
+    publish(Entity.USER, user.getId());
+    assertTrue(authorizer.isAdmin(context));
+    assertTrue(queries.get() > 0);
+  }
+
+  @Test
+  void userTeamsChanged_userInvalidated() {
+    assertFalse(authorizer.hasPermissions(context, teamReference()));
+
+    addUserToTeam();
+    assertFalse(authorizer.hasPermissions(context, teamReference())); // Cached until the change event is seen
+
+    publish(Entity.USER, user.getId());
+    assertTrue(authorizer.hasPermissions(context, teamReference()));
+  }
+
+  @Test
+  void teamUsersChanged_allUsersInvalidated() {
+    assertFalse(authorizer.hasPermissions(context, teamReference()));
+
+    // Users added to the team are recorded by a change event of the team, not of each user
+    addUserToTeam();
+    publish(Entity.TEAM, team.getId());
+    assertTrue(authorizer.hasPermissions(context, teamReference()));
+  }
+
+  private void addUserToTeam() {
+    dao.relationshipDAO()
+        .insert(team.getId().toString(), user.getId().toString(), Entity.TEAM, Entity.USER, Relationship.HAS.ordinal());
+  }
+
+  private EntityReference userReference() {
+    return new EntityReference().withId(user.getId()).withType(Entity.USER).withName(user.getName());
+  }
+
+  private EntityReference teamReference() {
+    return new EntityReference().withId(team.getId()).withType(Entity.TEAM).withName(team.getName());
+  }
+
+  private static void publish(String entityType, UUID entityId) {
+    ChangeEventHolder holder = new ChangeEventHolder();
+    holder.set(
+        new ChangeEvent()
+            .withEventType(EventType.ENTITY_UPDATED)
+            .withEntityType(entityType)
+            .withEntityId(entityId)
+            .withDateTime(new Date()));
+    authorizer.onEvent(holder, 0, true);
+  }
+}
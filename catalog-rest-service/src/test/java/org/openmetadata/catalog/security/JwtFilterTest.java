@@ -0,0 +1,186 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.catalog.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class JwtFilterTest {
+  private static final String EMAIL = "alice@open-metadata.org";
+
+  private final KeyPair key1 = generateKeyPair();
+  private final KeyPair key2 = generateKeyPair();
+
+  /** JWKS endpoint of the identity provider, serving {@link #jwks} and counting the times it is fetched */
+  private HttpServer server;
+
+  private volatile String jwks;
+  private final AtomicInteger jwksFetches = new AtomicInteger();
+  private JwtFilter filter;
+
+  @BeforeEach
+  void startIdentityProvider() throws IOException {
+    jwks = jwks("key1", key1);
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext("/jwks.json", this::serveJwks);
+    server.start();
+
+    AuthenticationConfiguration config = new AuthenticationConfiguration();
+    config.setPublicKey("http://localhost:" + server.getAddress().getPort() + "/jwks.json");
+    config.setJwksRefreshIntervalSeconds(3600);
+    filter = new JwtFilter(config);
+  }
+
+  @AfterEach
+  void stopIdentityProvider() {
+    server.stop(0);
+  }
+
+  @Test
+  void validToken_verifiedOnce() throws Exception {
+    String token = token("key1", key1, EMAIL, secondsFromNow(3600));
+    assertEquals("alice", filter.validateToken(token));
+    assertEquals("alice", filter.validateToken(token));
+    assertEquals(1, jwksFetches.get());
+  }
+
+  @Test
+  void cachedToken_rejectedOnceExpired() throws Exception {
+    Date expiresAt = secondsFromNow(2);
+    String token = token("key1", key1, EMAIL, expiresAt);
+    assertEquals("alice", filter.validateToken(token));
+
+    // The token is cached when verified, but only until it expires
+    Thread.sleep(expiresAt.getTime() - System.currentTimeMillis() + 500);
+    AuthenticationException exception = assertThrows(AuthenticationException.class, () -> filter.validateToken(token));
+    assertEquals("Expired token!", exception.getMessage());
+  }
+
+  @Test
+  void unknownKeyId_jwksFetchedAgain() throws Exception {
+    assertEquals("alice", filter.validateToken(token("key1", key1, EMAIL, secondsFromNow(3600))));
+    assertEquals(1, jwksFetches.get());
+
+    // The identity provider rotates its signing key before the refresh interval of the cached keys expires
+    jwks = jwks("key2", key2);
+    assertEquals("alice", filter.validateToken(token("key2", key2, EMAIL, secondsFromNow(3600))));
+    assertEquals(2, jwksFetches.get());
+  }
+
+  @Test
+  void tamperedToken_rejected() throws Exception {
+    String token = token("key1", key1, EMAIL, secondsFromNow(3600));
+    assertEquals("alice", filter.validateToken(token)); // The original token is cached
+
+    // Claims changed without signing the token again
+    String[] parts = token.split("\\.");
+    String claims = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8);
+    String tamperedClaims = claims.replace(EMAIL, "admin@open-metadata.org");
+    String tampered =
+        String.join(
+            ".",
+            parts[0],
+            Base64.getUrlEncoder().withoutPadding().encodeToString(tamperedClaims.getBytes(StandardCharsets.UTF_8)),
+            parts[2]);
+    AuthenticationException exception =
+        assertThrows(AuthenticationException.class, () -> filter.validateToken(tampered));
+    assertEquals("Invalid token", exception.getMessage());
+
+    // Signed with another key than the one of its key id
+    String forged = token("key1", key2, "admin@open-metadata.org", secondsFromNow(3600));
+    exception = assertThrows(AuthenticationException.class, () -> filter.validateToken(forged));
+    assertEquals("Invalid token", exception.getMessage());
+  }
+
+  @Test
+  void invalidPublicKey_rejected() {
+    AuthenticationConfiguration config = new AuthenticationConfiguration();
+    IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> new JwtFilter(config));
+    assertTrue(exception.getMessage().contains("must be set"));
+
+    config.setPublicKey("localhost:8080 jwks");
+    exception = assertThrows(IllegalArgumentException.class, () -> new JwtFilter(config));
+    assertTrue(exception.getMessage().contains("localhost:8080 jwks"));
+  }
+
+  private void serveJwks(HttpExchange exchange) throws IOException {
+    jwksFetches.incrementAndGet();
+    byte[] body = jwks.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().add("Content-Type", "application/json");
+    exchange.sendResponseHeaders(200, body.length);
+    try (OutputStream output = exchange.getResponseBody()) {
+      output.write(body);
+    }
+  }
+
+  private static String token(String keyId, KeyPair keyPair, String email, Date expiresAt) {
+    Algorithm algorithm = Algorithm.RSA256((RSAPublicKey) keyPair.getPublic(), (RSAPrivateKey) keyPair.getPrivate());
+    return JWT.create().withKeyId(keyId).withClaim("email", email).withExpiresAt(expiresAt).sign(algorithm);
+  }
+
+  private static String jwks(String keyId, KeyPair keyPair) {
+    RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+    return String.format(
+        "{\"keys\":[{\"kty\":\"RSA\",\"use\":\"sig\",\"alg\":\"RS256\",\"kid\":\"%s\",\"n\":\"%s\",\"e\":\"%s\"}]}",
+        keyId, base64Url(publicKey.getModulus()), base64Url(publicKey.getPublicExponent()));
+  }
+
+  /** Unsigned big-endian bytes of the number, encoded as in a JWK */
+  private static String base64Url(BigInteger value) {
+    byte[] bytes = value.toByteArray();
+    if (bytes[0] == 0) {
+      bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+    }
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+  }
+
+  /** Expiry of a token, which is in seconds */
+  private static Date secondsFromNow(long seconds) {
+    return new Date(TimeUnit.SECONDS.toMillis(TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) + seconds));
+  }
+
+  private static KeyPair generateKeyPair() {
+    try {
+      KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+      generator.initialize(2048);
+      return generator.generateKeyPair();
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -13,10 +13,13 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.openmetadata.catalog.entity.data.Table;
+import org.openmetadata.catalog.entity.data.Topic;
 import org.openmetadata.catalog.entity.policies.accessControl.Rule;
 import org.openmetadata.catalog.entity.teams.Team;
 import org.openmetadata.catalog.entity.teams.User;
+import org.openmetadata.catalog.jdbi3.TableRepository.TableEntityInterface;
 import org.openmetadata.catalog.jdbi3.TeamRepository;
+import org.openmetadata.catalog.jdbi3.TopicRepository.TopicEntityInterface;
 import org.openmetadata.catalog.type.EntityReference;
 import org.openmetadata.catalog.type.MetadataOperation;
 import org.openmetadata.catalog.type.TagLabel;
@@ -64,7 +67,7 @@ public class PolicyEvaluatorTest {
   @Test
   void dataConsumer_cannot_update_owner() {
     User dataConsumer = createUser(ImmutableList.of(DATA_CONSUMER));
-    Table table = createTable();
+    TableEntityInterface table = createTable();
     boolean hasPermission = policyEvaluator.hasPermission(dataConsumer, table, MetadataOperation.UpdateOwner);
     assertFalse(hasPermission);
   }
@@ -72,15 +75,32 @@ public class PolicyEvaluatorTest {
   @Test
   void dataSteward_can_update_owner() {
     User dataConsumer = createUser(ImmutableList.of(DATA_STEWARD));
-    Table table = createTable();
+    TableEntityInterface table = createTable();
     boolean hasPermission = policyEvaluator.hasPermission(dataConsumer, table, MetadataOperation.UpdateOwner);
     assertTrue(hasPermission);
   }
 
+  @Test
+  void dataSteward_cannot_update_owner_of_topic() {
+    User dataSteward = createUser(ImmutableList.of(DATA_STEWARD));
+    TopicEntityInterface topic = createTopic();
+    boolean hasPermission = policyEvaluator.hasPermission(dataSteward, topic, MetadataOperation.UpdateOwner);
+    assertFalse(hasPermission);
+  }
+
+  @Test
+  void legal_can_update_tags_for_pii_topics() {
+    User legal = createUser(ImmutableList.of(LEGAL));
+    // Evaluate twice to check that the cached decision is the same
+    assertTrue(policyEvaluator.hasPermission(legal, createTopic(), MetadataOperation.UpdateTags));
+    assertTrue(policyEvaluator.hasPermission(legal, createTopic(), MetadataOperation.UpdateTags));
+    assertTrue(policyEvaluator.hasPermission(legal, createTable(), MetadataOperation.UpdateTags));
+  }
+
   @Test
   void dataConsumer_can_suggest_description() {
     User dataConsumer = createUser(ImmutableList.of(DATA_CONSUMER));
-    Table table = createTable();
+    TableEntityInterface table = createTable();
     boolean hasPermission = policyEvaluator.hasPermission(dataConsumer, table, MetadataOperation.SuggestDescription);
     assertTrue(hasPermission);
   }
@@ -88,7 +108,7 @@ public class PolicyEvaluatorTest {
   @Test
   void legal_can_update_tags_for_pii_tables() {
     User dataConsumer = createUser(ImmutableList.of(LEGAL));
-    Table table = createTable();
+    TableEntityInterface table = createTable();
     boolean hasPermission = policyEvaluator.hasPermission(dataConsumer, table, MetadataOperation.UpdateTags);
     assertTrue(hasPermission);
   }
@@ -96,7 +116,7 @@ public class PolicyEvaluatorTest {
   @Test
   void auditor_cannot_update_tags_for_pii_tables() {
     User dataConsumer = createUser(ImmutableList.of(AUDITOR));
-    Table table = createTable();
+    TableEntityInterface table = createTable();
     boolean hasPermission = policyEvaluator.hasPermission(dataConsumer, table, MetadataOperation.UpdateTags);
     assertFalse(hasPermission);
   }
@@ -104,7 +124,7 @@ public class PolicyEvaluatorTest {
   @Test
   void devops_can_suggest_description() {
     User dataConsumer = createUser(ImmutableList.of(DEV_OPS));
-    Table table = createTable();
+    TableEntityInterface table = createTable();
     boolean hasPermission = policyEvaluator.hasPermission(dataConsumer, table, MetadataOperation.SuggestDescription);
     assertTrue(hasPermission);
   }
@@ -112,7 +132,7 @@ public class PolicyEvaluatorTest {
   @Test
   void devops_cannot_update_description() {
     User dataConsumer = createUser(ImmutableList.of(DEV_OPS));
-    Table table = createTable();
+    TableEntityInterface table = createTable();
     boolean hasPermission = policyEvaluator.hasPermission(dataConsumer, table, MetadataOperation.UpdateDescription);
     assertFalse(hasPermission);
   }
@@ -120,7 +140,7 @@ public class PolicyEvaluatorTest {
   @Test
   void devops_cannot_update_tags() {
     User dataConsumer = createUser(ImmutableList.of(DEV_OPS));
-    Table table = createTable();
+    TableEntityInterface table = createTable();
     boolean hasPermission = policyEvaluator.hasPermission(dataConsumer, table, MetadataOperation.UpdateTags);
     assertFalse(hasPermission);
   }
@@ -134,9 +154,15 @@ public class PolicyEvaluatorTest {
     return new User().withName("John Doe").withTeams(teams);
   }
 
-  private Table createTable() {
+  private TableEntityInterface createTable() {
+    List<TagLabel> tags = new ArrayList<>();
+    tags.add(new TagLabel().withTagFQN(PII_SENSITIVE));
+    return new TableEntityInterface(new Table().withName("random-table").withTags(tags));
+  }
+
+  private TopicEntityInterface createTopic() {
     List<TagLabel> tags = new ArrayList<>();
     tags.add(new TagLabel().withTagFQN(PII_SENSITIVE));
-    return new Table().withName("random-table").withTags(tags);
+    return new TopicEntityInterface(new Topic().withName("random-topic").withTags(tags));
   }
 }
@@ -18,6 +18,8 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.UUID;
 import javax.json.Json;
 import javax.json.JsonArrayBuilder;
@@ -95,4 +97,32 @@ public class JsonUtilsTest {
         assertThrows(JsonException.class, () -> JsonUtils.applyPatch(original, jsonPatchBuilder2.build(), Team.class));
     assertTrue(jsonException.getMessage().contains("contains no element for index 3"));
   }
+
+  /** Test that array indexes are ordered as numbers and the paths changed by the patch are returned. */
+  @Test
+  void applyPatchChangedPaths() throws IOException {
+    String teamId = UUID.randomUUID().toString();
+    JsonArrayBuilder users = Json.createArrayBuilder();
+    for (int i = 0; i < 12; i++) {
+      users.add(Json.createObjectBuilder().add("id", UUID.randomUUID().toString()).add("name", "user" + i));
+    }
+    JsonObjectBuilder teamJson =
+        Json.createObjectBuilder().add("id", teamId).add("name", "finance").add("users", users);
+    Team original = EntityUtil.validate(teamId, teamJson.build().toString(), Team.class);
+
+    // Remove /users/9 and /users/10. Removing /users/9 first shifts the element removed by /users/10
+    JsonPatchBuilder patchBuilder = Json.createPatchBuilder();
+    patchBuilder.remove("/users/9");
+    patchBuilder.remove("/users/10");
+    patchBuilder.add("/description", "Finance team");
+    Set<String> changedPaths = new HashSet<>();
+    Team updated = JsonUtils.applyPatch(original, patchBuilder.build(), Team.class, changedPaths);
+
+    assertEquals(10, updated.getUsers().size());
+    assertTrue(updated.getUsers().stream().noneMatch(user -> user.getName().equals("user9")));
+    assertTrue(updated.getUsers().stream().noneMatch(user -> user.getName().equals("user10")));
+    assertEquals("user11", updated.getUsers().get(9).getName());
+    assertEquals("Finance team", updated.getDescription());
+    assertEquals(Set.of("/users/9", "/users/10", "/description"), changedPaths);
+  }
 }
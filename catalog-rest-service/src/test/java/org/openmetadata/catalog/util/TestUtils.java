@@ -21,11 +21,15 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import javax.json.JsonObject;
@@ -244,21 +248,28 @@ public final class TestUtils {
     }
     actualList = Optional.ofNullable(actualList).orElse(Collections.emptyList());
     // When tags from the expected list is added to an entity, the derived tags for those tags are automatically added
-    // So add to the expectedList, the derived tags before validating the tags
+    // So add to the expectedList, the derived tags before validating the tags. The derived tags are the associated tags
+    // of a tag, their associated tags, and so on.
     List<TagLabel> updatedExpectedList = new ArrayList<>(expectedList);
     for (TagLabel expected : expectedList) {
       Tag tag = TagResourceTest.getTag(expected.getTagFQN(), adminAuthHeaders());
-      List<TagLabel> derived = new ArrayList<>();
-      for (String fqn : Optional.ofNullable(tag.getAssociatedTags()).orElse(Collections.emptyList())) {
+      Set<String> visited = new HashSet<>(Set.of(expected.getTagFQN()));
+      Deque<String> pending =
+          new ArrayDeque<>(Optional.ofNullable(tag.getAssociatedTags()).orElse(Collections.emptyList()));
+      while (!pending.isEmpty()) {
+        String fqn = pending.poll();
+        if (!visited.add(fqn)) {
+          continue;
+        }
         Tag associatedTag = TagResourceTest.getTag(fqn, adminAuthHeaders());
-        derived.add(
+        pending.addAll(Optional.ofNullable(associatedTag.getAssociatedTags()).orElse(Collections.emptyList()));
+        updatedExpectedList.add(
             new TagLabel()
                 .withTagFQN(fqn)
                 .withState(expected.getState())
                 .withDescription(associatedTag.getDescription())
                 .withLabelType(TagLabel.LabelType.DERIVED));
       }
-      updatedExpectedList.addAll(derived);
     }
     updatedExpectedList = updatedExpectedList.stream().distinct().collect(Collectors.toList());
     updatedExpectedList.sort(EntityUtil.compareTagLabel);
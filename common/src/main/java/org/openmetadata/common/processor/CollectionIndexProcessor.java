@@ -0,0 +1,112 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.common.processor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Set;
+import java.util.TreeSet;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor that writes the names of the REST resource classes marked with the {@code @Collection}
+ * annotation to {@link #INDEX_FILE}, so that the collections are known at startup without scanning the classpath.
+ *
+ * <p>An incremental compile only processes the classes compiled again. The collections listed in the existing index
+ * are kept when their class still exists with the annotation, so the index written lists all the collections.
+ */
+@SupportedAnnotationTypes(CollectionIndexProcessor.COLLECTION_ANNOTATION)
+public class CollectionIndexProcessor extends AbstractProcessor {
+  public static final String COLLECTION_ANNOTATION = "org.openmetadata.catalog.resources.Collection";
+  public static final String INDEX_FILE = "META-INF/openmetadata/collections.idx";
+
+  private final Set<String> collections = new TreeSet<>();
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    for (TypeElement annotation : annotations) {
+      for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+        if (element.getKind() == ElementKind.CLASS) {
+          collections.add(processingEnv.getElementUtils().getBinaryName((TypeElement) element).toString());
+        }
+      }
+    }
+    if (roundEnv.processingOver() && !collections.isEmpty()) {
+      writeIndex();
+    }
+    return false;
+  }
+
+  /** Add the collections of the index written by a previous compile that are still annotated */
+  private void mergeExistingIndex() {
+    Elements elements = processingEnv.getElementUtils();
+    try {
+      FileObject file = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", INDEX_FILE);
+      try (BufferedReader reader = new BufferedReader(file.openReader(true))) {
+        String line;
+        while ((line = reader.readLine()) != null) {
+          String className = line.trim();
+          TypeElement element = className.isEmpty() ? null : elements.getTypeElement(className);
+          if (element != null && isCollection(element)) {
+            collections.add(className);
+          }
+        }
+      }
+    } catch (IOException | IllegalArgumentException e) {
+      // No index was written by a previous compile
+    }
+  }
+
+  private static boolean isCollection(TypeElement element) {
+    for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+      TypeElement type = (TypeElement) annotation.getAnnotationType().asElement();
+      if (type.getQualifiedName().contentEquals(COLLECTION_ANNOTATION)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void writeIndex() {
+    mergeExistingIndex();
+    try {
+      FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_FILE);
+      try (Writer writer = file.openWriter()) {
+        for (String collection : collections) {
+          writer.write(collection);
+          writer.write('\n');
+        }
+      }
+    } catch (IOException e) {
+      processingEnv.getMessager().printMessage(Kind.ERROR, "Failed to write " + INDEX_FILE + " : " + e.getMessage());
+    }
+  }
+}
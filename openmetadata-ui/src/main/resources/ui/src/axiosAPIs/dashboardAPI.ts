@@ -15,13 +15,14 @@ import { AxiosResponse } from 'axios';
 import { Dashboard } from '../generated/entity/data/dashboard';
 import { getURLWithQueryFields } from '../utils/APIUtils';
 import APIClient from './index';
+import { getAllEntityVersions } from './miscAPI';
 
 export const getDashboardVersions: Function = (
   id: string
 ): Promise<AxiosResponse> => {
   const url = `/dashboards/${id}/versions`;
 
-  return APIClient.get(url);
+  return getAllEntityVersions(url);
 };
 export const getDashboardVersion: Function = (
   id: string,
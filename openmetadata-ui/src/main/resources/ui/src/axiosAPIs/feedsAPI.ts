@@ -15,8 +15,23 @@ import { AxiosResponse } from 'axios';
 import { Feed, FeedById } from 'Models';
 import APIClient from './index';
 
-export const getAllFeeds: Function = (): Promise<AxiosResponse> => {
-  return APIClient.get('/feed');
+const FEEDS_PAGE_SIZE = 100;
+
+// Threads are listed a page at a time, follow the after cursor until all the threads are listed
+export const getAllFeeds: Function = async (): Promise<AxiosResponse> => {
+  const response = await APIClient.get('/feed', {
+    params: { limit: FEEDS_PAGE_SIZE },
+  });
+  let after = response.data.paging?.after;
+  while (after) {
+    const page = await APIClient.get('/feed', {
+      params: { limit: FEEDS_PAGE_SIZE, after },
+    });
+    response.data.data.push(...page.data.data);
+    after = page.data.paging?.after;
+  }
+
+  return response;
 };
 
 export const postFeed: Function = (data: Feed): Promise<AxiosResponse> => {
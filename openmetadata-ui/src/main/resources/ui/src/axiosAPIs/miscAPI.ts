@@ -63,3 +63,25 @@ export const getSuggestions: Function = (
 export const getVersion: Function = () => {
   return APIClient.get('/version');
 };
+
+const VERSIONS_PAGE_SIZE = 100;
+
+// Versions are listed a page at a time from the latest, fetch pages until all the versions are listed
+export const getAllEntityVersions = async (
+  url: string
+): Promise<AxiosResponse> => {
+  const response = await APIClient.get(url, {
+    params: { limit: VERSIONS_PAGE_SIZE },
+  });
+  let versions: string[] = response.data.versions;
+  while (versions.length === VERSIONS_PAGE_SIZE) {
+    const before = JSON.parse(versions[versions.length - 1]).version;
+    const page = await APIClient.get(url, {
+      params: { limit: VERSIONS_PAGE_SIZE, before },
+    });
+    versions = page.data.versions;
+    response.data.versions.push(...versions);
+  }
+
+  return response;
+};
@@ -15,13 +15,14 @@ import { AxiosResponse } from 'axios';
 import { Pipeline } from '../generated/entity/data/pipeline';
 import { getURLWithQueryFields } from '../utils/APIUtils';
 import APIClient from './index';
+import { getAllEntityVersions } from './miscAPI';
 
 export const getPipelineVersions: Function = (
   id: string
 ): Promise<AxiosResponse> => {
   const url = `/pipelines/${id}/versions`;
 
-  return APIClient.get(url);
+  return getAllEntityVersions(url);
 };
 export const getPipelineVersion: Function = (
   id: string,
@@ -15,6 +15,7 @@ import { AxiosResponse } from 'axios';
 import { Table } from 'Models';
 import { getURLWithQueryFields } from '../utils/APIUtils';
 import APIClient from './index';
+import { getAllEntityVersions } from './miscAPI';
 
 export const getTableDetails: Function = (
   id: string,
@@ -30,7 +31,7 @@ export const getTableVersions: Function = (
 ): Promise<AxiosResponse> => {
   const url = `/tables/${id}/versions`;
 
-  return APIClient.get(url);
+  return getAllEntityVersions(url);
 };
 export const getTableVersion: Function = (
   id: string,
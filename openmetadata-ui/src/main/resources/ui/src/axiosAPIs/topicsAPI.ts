@@ -15,13 +15,14 @@ import { AxiosResponse } from 'axios';
 import { Topic } from 'Models';
 import { getURLWithQueryFields } from '../utils/APIUtils';
 import APIClient from './index';
+import { getAllEntityVersions } from './miscAPI';
 
 export const getTopicVersions: Function = (
   id: string
 ): Promise<AxiosResponse> => {
   const url = `/topics/${id}/versions`;
 
-  return APIClient.get(url);
+  return getAllEntityVersions(url);
 };
 export const getTopicVersion: Function = (
   id: string,